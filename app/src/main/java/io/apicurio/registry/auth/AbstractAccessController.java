@@ -2,9 +2,6 @@ package io.apicurio.registry.auth;
 
 import io.apicurio.registry.rest.headers.Headers;
 import io.apicurio.registry.storage.RegistryStorage;
-import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
-import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
-import io.apicurio.registry.storage.dto.GroupMetaDataDto;
 import io.apicurio.registry.storage.error.NotFoundException;
 import io.apicurio.registry.cdi.Current;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -29,6 +26,9 @@ public abstract class AbstractAccessController implements IAccessController {
     @Context
     HttpServletRequest request;
 
+    @Inject
+    AuthorizationCache authorizationCache;
+
     protected boolean isOwner(InvocationContext context) {
         Authorized annotation = context.getMethod().getAnnotation(Authorized.class);
         AuthorizedStyle style = annotation.style();
@@ -65,8 +65,8 @@ public abstract class AbstractAccessController implements IAccessController {
 
     private boolean verifyGroupOwner(String groupId) {
         try {
-            GroupMetaDataDto dto = storage.getGroupMetaData(groupId);
-            String owner = dto.getOwner();
+            String owner = authorizationCache.getGroupOwner(groupId,
+                    () -> storage.getGroupMetaData(groupId).getOwner());
             return owner == null || owner.equals(securityIdentity.getPrincipal().getName());
         } catch (NotFoundException nfe) {
             // If the group is not found, then return true and let the operation proceed.
@@ -76,8 +76,8 @@ public abstract class AbstractAccessController implements IAccessController {
 
     private boolean verifyArtifactOwner(String groupId, String artifactId) {
         try {
-            ArtifactMetaDataDto dto = storage.getArtifactMetaData(groupId, artifactId);
-            String owner = dto.getOwner();
+            String owner = authorizationCache.getArtifactOwner(groupId, artifactId,
+                    () -> storage.getArtifactMetaData(groupId, artifactId).getOwner());
             return owner == null || owner.equals(securityIdentity.getPrincipal().getName());
         } catch (NotFoundException nfe) {
             // If the artifact is not found, then return true and let the operation proceed
@@ -89,10 +89,9 @@ public abstract class AbstractAccessController implements IAccessController {
 
     private boolean verifyArtifactOwner(long globalId) {
         try {
-            ArtifactVersionMetaDataDto versionMetaData = storage.getArtifactVersionMetaData(globalId);
-            ArtifactMetaDataDto dto = storage.getArtifactMetaData(versionMetaData.getGroupId(),
-                    versionMetaData.getArtifactId());
-            String owner = dto.getOwner();
+            String owner = authorizationCache.getArtifactOwner(globalId,
+                    () -> storage.getArtifactVersionMetaData(globalId),
+                    (groupId, artifactId) -> storage.getArtifactMetaData(groupId, artifactId).getOwner());
             return owner == null || owner.equals(securityIdentity.getPrincipal().getName());
         } catch (NotFoundException nfe) {
             // If the artifact is not found, then return true and let the operation proceed
@@ -0,0 +1,301 @@
+package io.apicurio.registry.auth;
+
+import com.google.common.cache.Cache;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.EditableGroupMetaDataDto;
+import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.GroupNotFoundException;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_AUTH;
+
+/**
+ * Caches the data needed to make authorization decisions: the role mapped to a principal (storage based RBAC)
+ * and the owner of a group or artifact (owner based authorization).
+ * <p>
+ * Entries are shared between requests for a short period, and are invalidated when role mappings or group and
+ * artifact metadata change, see {@link RegistryStorageCacheDecoratorBase}. Within a single request, lookups are
+ * always deduplicated by {@link AuthorizationRequestCache}.
+ * <p>
+ * The expiration period is kept short since it is also how long a revoked role can keep granting access
+ * through nodes that did not apply the change, e.g. nodes sharing the same SQL database.
+ */
+@ApplicationScoped
+public class AuthorizationCache extends RegistryStorageCacheDecoratorBase {
+
+    private static final String DEFAULT_GROUP = "default";
+
+    @ConfigProperty(name = "apicurio.auth.authorization-cache.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_AUTH, description = "Share role mapping and ownership lookups between requests for a short period", availableSince = "3.2.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.auth.authorization-cache.expire-after-write.ms", defaultValue = "5000")
+    @Info(category = CATEGORY_AUTH, description = "Time during which a role mapping or owner is shared between requests before being read again", availableSince = "3.2.0")
+    long expireAfterWrite;
+
+    @ConfigProperty(name = "apicurio.auth.authorization-cache.max-size", defaultValue = "10000")
+    @Info(category = CATEGORY_AUTH, description = "Maximum number of cached role mappings and owners", availableSince = "3.2.0")
+    long maxSize;
+
+    @Inject
+    Instance<AuthorizationRequestCache> requestCache;
+
+    private Cache<Key, Optional<String>> cache;
+    private Cache<Long, Pair<String, String>> globalIds;
+
+    private enum KeyType {
+        ROLE, GROUP_OWNER, ARTIFACT_OWNER, GLOBAL_ID
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final KeyType type;
+        private final String groupId;
+        private final String id;
+    }
+
+    @PostConstruct
+    void init() {
+        cache = cacheBuilder(expireAfterWrite).maximumSize(maxSize).build();
+        // The artifact of a version never changes, but a global ID can be given to another version when data is
+        // deleted and imported again
+        globalIds = cacheBuilder(expireAfterWrite).maximumSize(maxSize).build();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.AUTHORIZATION_CACHE_DECORATOR;
+    }
+
+    /**
+     * @return the role mapped to the given principal, or null
+     */
+    public String getRoleForPrincipal(String principalId, Supplier<String> loader) {
+        return get(new Key(KeyType.ROLE, null, principalId), loader);
+    }
+
+    /**
+     * @return the owner of the given group, or null
+     */
+    public String getGroupOwner(String groupId, Supplier<String> loader) {
+        return get(new Key(KeyType.GROUP_OWNER, normalize(groupId), null), loader);
+    }
+
+    /**
+     * @return the owner of the given artifact, or null
+     */
+    public String getArtifactOwner(String groupId, String artifactId, Supplier<String> loader) {
+        return get(new Key(KeyType.ARTIFACT_OWNER, normalize(groupId), artifactId), loader);
+    }
+
+    /**
+     * @param versionLoader loads the metadata of the artifact version
+     * @param ownerLoader loads the owner of an artifact, given its groupId and artifactId
+     * @return the owner of the artifact the given version belongs to, or null
+     */
+    public String getArtifactOwner(long globalId, Supplier<ArtifactVersionMetaDataDto> versionLoader,
+            BiFunction<String, String, String> ownerLoader) {
+        Supplier<Pair<String, String>> gaLoader = () -> memoize(
+                new Key(KeyType.GLOBAL_ID, null, String.valueOf(globalId)), () -> {
+                    ArtifactVersionMetaDataDto dto = versionLoader.get();
+                    return Pair.of(dto.getGroupId(), dto.getArtifactId());
+                });
+        Pair<String, String> ga = enabled ? load(globalIds, globalId, gaLoader::get) : gaLoader.get();
+        String groupId = ga.getLeft();
+        String artifactId = ga.getRight();
+        return getArtifactOwner(groupId, artifactId, () -> ownerLoader.apply(groupId, artifactId));
+    }
+
+    private String get(Key key, Supplier<String> loader) {
+        Supplier<Optional<String>> optionalLoader = () -> Optional.ofNullable(loader.get());
+        if (!enabled) {
+            return memoize(key, optionalLoader).orElse(null);
+        }
+        return load(cache, key, () -> memoize(key, optionalLoader)).orElse(null);
+    }
+
+    /**
+     * Deduplicates the lookup within the current request, if any.
+     */
+    private <V> V memoize(Key key, Supplier<V> loader) {
+        if (isRequestActive()) {
+            return requestCache.get().computeIfAbsent(key, k -> loader.get());
+        }
+        return loader.get();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#invalidationFor(io.apicurio.registry.storage.StorageEventType,
+     *      org.json.JSONObject)
+     */
+    @Override
+    protected Runnable invalidationFor(StorageEventType type, JSONObject payload) {
+        String groupId = payload.optString("groupId", null);
+        String artifactId = payload.optString("artifactId", null);
+        return switch (type) {
+            case GROUP_METADATA_UPDATED, GROUP_DELETED -> () -> invalidateGroup(groupId);
+            case ARTIFACT_METADATA_UPDATED, ARTIFACT_DELETED -> () -> invalidateArtifact(groupId, artifactId);
+            default -> null;
+        };
+    }
+
+    private void invalidateArtifact(String groupId, String artifactId) {
+        invalidate(() -> {
+            cache.invalidate(new Key(KeyType.ARTIFACT_OWNER, normalize(groupId), artifactId));
+            clearRequestCache();
+        });
+    }
+
+    private void invalidateGroup(String groupId) {
+        String normalized = normalize(groupId);
+        invalidate(() -> {
+            cache.asMap().keySet()
+                    .removeIf(key -> key.type != KeyType.ROLE && Objects.equals(key.groupId, normalized));
+            clearRequestCache();
+        });
+    }
+
+    private void invalidateRoles() {
+        invalidate(() -> {
+            cache.asMap().keySet().removeIf(key -> key.type == KeyType.ROLE);
+            clearRequestCache();
+        });
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#clear()
+     */
+    @Override
+    protected void clear() {
+        cache.invalidateAll();
+        globalIds.invalidateAll();
+        clearRequestCache();
+    }
+
+    private void clearRequestCache() {
+        if (isRequestActive()) {
+            requestCache.get().clear();
+        }
+    }
+
+    /**
+     * The container is null when it is not running, e.g. in unit tests.
+     */
+    private static boolean isRequestActive() {
+        ArcContainer container = Arc.container();
+        return container != null && container.requestContext().isActive();
+    }
+
+    private static String normalize(String groupId) {
+        return groupId == null ? DEFAULT_GROUP : groupId;
+    }
+
+    @Override
+    public void createRoleMapping(String principalId, String role, String principalName)
+            throws RegistryStorageException {
+        try {
+            super.createRoleMapping(principalId, role, principalName);
+        } finally {
+            invalidateRoles();
+        }
+    }
+
+    @Override
+    public void updateRoleMapping(String principalId, String role) throws RegistryStorageException {
+        try {
+            super.updateRoleMapping(principalId, role);
+        } finally {
+            invalidateRoles();
+        }
+    }
+
+    @Override
+    public void deleteRoleMapping(String principalId) throws RegistryStorageException {
+        try {
+            super.deleteRoleMapping(principalId);
+        } finally {
+            invalidateRoles();
+        }
+    }
+
+    @Override
+    public void updateGroupMetaData(String groupId, EditableGroupMetaDataDto dto) {
+        try {
+            super.updateGroupMetaData(groupId, dto);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws GroupNotFoundException, RegistryStorageException {
+        try {
+            super.deleteGroup(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void updateArtifactMetaData(String groupId, String artifactId,
+            EditableArtifactMetaDataDto metaData) throws ArtifactNotFoundException, RegistryStorageException {
+        try {
+            super.updateArtifactMetaData(groupId, artifactId, metaData);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        try {
+            return super.deleteArtifact(groupId, artifactId);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        try {
+            super.deleteArtifacts(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+}
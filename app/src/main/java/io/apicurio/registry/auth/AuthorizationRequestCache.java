@@ -0,0 +1,31 @@
+package io.apicurio.registry.auth;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Deduplicates authorization lookups (role of a principal, owner of a group or artifact) within a single
+ * request, even when {@link AuthorizationCache} is disabled.
+ */
+@RequestScoped
+public class AuthorizationRequestCache {
+
+    private final Map<Object, Object> values = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <K, V> V computeIfAbsent(K key, Function<K, V> loader) {
+        if (values.containsKey(key)) {
+            return (V) values.get(key);
+        }
+        V value = loader.apply(key);
+        values.put(key, value);
+        return value;
+    }
+
+    void clear() {
+        values.clear();
+    }
+}
@@ -25,16 +25,24 @@ public class StorageRoleProvider implements RoleProvider {
     @Current
     RegistryStorage storage;
 
+    @Inject
+    AuthorizationCache authorizationCache;
+
     private boolean hasRole(String role) {
-        String role4principal = storage.getRoleForPrincipal(securityIdentity.getPrincipal().getName());
+        String role4principal = getRoleForPrincipal(securityIdentity.getPrincipal().getName());
         boolean hasRole = role.equals(role4principal);
         // Check for Keycloak service accounts since they're prefixed with service-account.
         if (!hasRole && tokenHasAzpClaim()) {
-            hasRole = role.equals(storage.getRoleForPrincipal(identityToken.get().getClaim(AZP_CLAIM)));
+            hasRole = role.equals(getRoleForPrincipal(identityToken.get().getClaim(AZP_CLAIM)));
         }
         return hasRole;
     }
 
+    private String getRoleForPrincipal(String principalId) {
+        return authorizationCache.getRoleForPrincipal(principalId,
+                () -> storage.getRoleForPrincipal(principalId));
+    }
+
     private boolean tokenHasAzpClaim() {
         return identityToken.isResolvable() && identityToken.get().getClaim(AZP_CLAIM) != null;
     }
@@ -54,6 +54,12 @@ import java.util.stream.Collectors;
 
 public abstract class AbstractResource {
 
+    /**
+     * The artifact types exposed through the Confluent compatible API.
+     */
+    protected static final List<String> CCOMPAT_MANAGED_TYPES = List.of(ArtifactType.AVRO,
+            ArtifactType.PROTOBUF, ArtifactType.JSON);
+
     @Inject
     Logger log;
 
@@ -346,11 +352,6 @@ public abstract class AbstractResource {
         }
     }
 
-    protected boolean isCcompatManagedType(String artifactType) {
-        return artifactType.equals(ArtifactType.AVRO) || artifactType.equals(ArtifactType.PROTOBUF)
-                || artifactType.equals(ArtifactType.JSON);
-    }
-
     /**
      * Given a version string: - if it's a <b>non-negative integer</b>, use that; - if it's a string "latest",
      * find out and use the subject's (artifact's) latest version; - if it's <b>-1</b>, do the same as
@@ -11,6 +11,7 @@ import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.logging.Logged;
 import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
+import io.apicurio.registry.storage.RegistryStorage.RetrievalBehavior;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
@@ -125,9 +126,17 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
         final boolean flatestOnly = latestOnly == null ? Boolean.FALSE : latestOnly;
 
         Set<SearchFilter> filters = new HashSet<>();
+        filters.add(SearchFilter.ofArtifactTypes(CCOMPAT_MANAGED_TYPES));
         if (!fdeleted) {
             filters.add(SearchFilter.ofState(VersionState.DISABLED).negated());
         }
+        if (subjectPrefix != null && !subjectPrefix.isEmpty()) {
+            filters.add(SearchFilter.ofArtifactIdPrefix(subjectPrefix));
+        }
+        if (flatestOnly) {
+            filters.add(SearchFilter.ofLatestVersion(fdeleted ? RetrievalBehavior.NON_DRAFT_STATES
+                    : RetrievalBehavior.ACTIVE_STATES));
+        }
 
         // Handle pagination
         int effectiveOffset = offset != null ? offset.intValue() : 0;
@@ -138,26 +147,17 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
         VersionSearchResultsDto searchResults = storage.searchVersions(filters, OrderBy.createdOn,
                 OrderDirection.asc, effectiveOffset, effectiveLimit);
 
-        List<Schema> schemas = new ArrayList<>();
-        Set<Long> seenContentIds = new HashSet<>();
+        // Fetch the content of the whole page at once
+        Map<Long, ContentWrapperDto> contents = storage.getContentByIds(searchResults.getVersions().stream()
+                .map(SearchedVersionDto::getContentId).collect(Collectors.toSet()));
 
+        List<Schema> schemas = new ArrayList<>();
         for (SearchedVersionDto version : searchResults.getVersions()) {
-            // Filter by subject prefix if provided
-            if (subjectPrefix != null && !version.getArtifactId().startsWith(subjectPrefix)) {
+            ContentWrapperDto contentWrapper = contents.get(version.getContentId());
+            if (contentWrapper == null) {
                 continue;
             }
-
-            // If latestOnly, skip non-latest versions (we'd need to track per-artifact)
-            // For now, just return all matching schemas
-
-            long contentId = version.getContentId();
-            if (flatestOnly && seenContentIds.contains(contentId)) {
-                continue;
-            }
-            seenContentIds.add(contentId);
-
             try {
-                ContentWrapperDto contentWrapper = storage.getContentById(contentId);
                 Schema schema = converter.convert(contentWrapper.getContent(),
                         version.getArtifactType(), contentWrapper.getReferences());
                 schemas.add(schema);
@@ -84,6 +84,7 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
         if (!cconfig.groupConcatEnabled) {
             filters.add(SearchFilter.ofGroupId(groupId));
         }
+        filters.add(SearchFilter.ofArtifactTypes(CCOMPAT_MANAGED_TYPES));
         if (fdeletedOnly) {
             // Only return deleted subjects
             filters.add(SearchFilter.ofState(VersionState.DISABLED));
@@ -103,9 +104,7 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
             toSubject = (dto) -> toSubjectWithGroupConcat(dto);
         }
 
-        return searchResults.getArtifacts().stream()
-                .filter(saDto -> isCcompatManagedType(saDto.getArtifactType())).map(toSubject)
-                .collect(Collectors.toList());
+        return searchResults.getArtifacts().stream().map(toSubject).collect(Collectors.toList());
     }
 
     @Override
@@ -0,0 +1,37 @@
+package io.apicurio.registry.events;
+
+import io.apicurio.registry.storage.dto.OutboxEvent;
+import org.json.JSONObject;
+
+import java.util.UUID;
+
+import static io.apicurio.registry.storage.StorageEventType.ARTIFACT_BRANCH_UPDATED;
+
+public class ArtifactBranchUpdated extends OutboxEvent {
+
+    private final JSONObject eventPayload;
+
+    private ArtifactBranchUpdated(String id, String aggregateId, JSONObject eventPayload) {
+        super(id, aggregateId);
+        this.eventPayload = eventPayload;
+    }
+
+    public static ArtifactBranchUpdated of(String groupId, String artifactId, String branchId) {
+        String id = UUID.randomUUID().toString();
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("id", id).put("groupId", groupId).put("artifactId", artifactId).put("branchId", branchId)
+                .put("eventType", ARTIFACT_BRANCH_UPDATED.name());
+
+        return new ArtifactBranchUpdated(id, groupId + "-" + artifactId + "-" + branchId, jsonObject);
+    }
+
+    @Override
+    public String getType() {
+        return ARTIFACT_BRANCH_UPDATED.name();
+    }
+
+    @Override
+    public JSONObject getPayload() {
+        return eventPayload;
+    }
+}
@@ -0,0 +1,454 @@
+package io.apicurio.registry.events;
+
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.dto.OutboxEvent;
+import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_REST;
+
+/**
+ * Publishes the registry change events (the same events written to the outbox table) to Server-Sent Events
+ * subscribers, so that clients can invalidate their caches as soon as something changes instead of polling.
+ * <p>
+ * Events are published once the transaction that produced them has been committed, and are numbered with a
+ * sequence number that is local to this node. Each event id sent to subscribers is made of a random epoch,
+ * generated when the node starts, and the sequence number of the last event of the batch. A subscriber
+ * reconnecting with the <code>Last-Event-ID</code> of the last batch it received gets the events it missed,
+ * as long as they are still buffered. Otherwise (unknown epoch, e.g. after a restart or when connecting to
+ * another node, or events no longer buffered), it receives a <code>reset</code> and must drop everything it
+ * has cached.
+ * <p>
+ * Events are sent in batches: events committed within the batch window are sent together as a JSON array in
+ * a single <code>changes</code> event. Bulk changes (data imported or deleted), for which the storage does not
+ * produce an event per change, are sent as a <code>reset</code> event.
+ * <p>
+ * Only the changes applied by the storage of this node are published. With KafkaSQL every node applies the
+ * whole journal, so every node publishes every change. With a SQL database shared by several nodes, the
+ * changes made through the other nodes are not published: subscribers must keep relying on the expiration of
+ * their cache entries, the stream only shortens staleness for the changes made through this node.
+ */
+@ApplicationScoped
+public class ChangeEventStream {
+
+    public static final String EVENT_CONNECTED = "connected";
+    public static final String EVENT_CHANGES = "changes";
+    public static final String EVENT_RESET = "reset";
+
+    private static final long HEARTBEAT_PERIOD_SECONDS = 30;
+
+    @Inject
+    Logger log;
+
+    @Inject
+    HandleFactory handles;
+
+    @ConfigProperty(name = "apicurio.events.stream.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_REST, description = "Enable the Server-Sent Events stream of registry changes "
+            + "at /apis/registry/v3/events", availableSince = "3.2.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.events.stream.buffer-size", defaultValue = "1024")
+    @Info(category = CATEGORY_REST, description = "Number of recent change events kept in memory so that "
+            + "reconnecting subscribers can resume without a reset", availableSince = "3.2.0")
+    int bufferSize;
+
+    @ConfigProperty(name = "apicurio.events.stream.batch-window.ms", defaultValue = "50")
+    @Info(category = CATEGORY_REST, description = "Time during which change events are collected before being "
+            + "sent to subscribers as a single batch", availableSince = "3.2.0")
+    long batchWindow;
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final Deque<JSONObject> buffer = new ArrayDeque<>();
+    private final List<JSONObject> pending = new ArrayList<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long sequence;
+    /**
+     * Sequence number of the last change or reset sent to the subscribers.
+     */
+    private long flushedSequence;
+    /**
+     * Sequence number of the reset waiting to be sent, or -1.
+     */
+    private long pendingReset = -1;
+    private boolean flushScheduled;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("Change Event Stream Thread");
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_PERIOD_SECONDS, HEARTBEAT_PERIOD_SECONDS,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        subscribers.forEach(Subscriber::complete);
+        subscribers.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void onOutboxEvent(@Observes SqlOutboxEvent event) {
+        if (!enabled) {
+            return;
+        }
+        OutboxEvent outboxEvent = event.getOutboxEvent();
+        handles.afterCommit(() -> append(outboxEvent));
+    }
+
+    public void onStorageEvent(@Observes SqlStorageEvent event) {
+        if (enabled && event.getType() == SqlStorageEventType.USER_DATA_REPLACED) {
+            handles.afterCommit(this::reset);
+        }
+    }
+
+    synchronized void append(OutboxEvent outboxEvent) {
+        JSONObject payload = outboxEvent.getPayload();
+        JSONObject change = new JSONObject();
+        change.put("sequence", ++sequence);
+        change.put("type", outboxEvent.getType());
+        for (String key : payload.keySet()) {
+            if (!"id".equals(key) && !"eventType".equals(key)) {
+                change.put(key, payload.get(key));
+            }
+        }
+        buffer.addLast(change);
+        while (buffer.size() > bufferSize) {
+            buffer.removeFirst();
+        }
+        pending.add(change);
+        scheduleFlush();
+    }
+
+    /**
+     * Tells every subscriber to drop everything it has cached. The changes that are not sent yet, and the
+     * buffered ones, are superseded by the reset: a subscriber reconnecting with the id of an event sent
+     * before the reset is told to reset as well.
+     */
+    synchronized void reset() {
+        pending.clear();
+        buffer.clear();
+        pendingReset = ++sequence;
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            executor.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends the pending reset and changes to the subscribers. The events are delivered outside of the lock of
+     * the stream, so that a slow subscriber does not hold up the writers appending changes. Flushes only run
+     * on the executor thread, so events are still delivered in order.
+     */
+    void flush() {
+        List<OutboundSseEvent> events = new ArrayList<>(2);
+        List<Subscriber> recipients;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pendingReset >= 0) {
+                JSONObject reset = new JSONObject();
+                reset.put("sequence", pendingReset);
+                events.add(jsonEvent(EVENT_RESET, eventId(pendingReset), reset.toString()));
+                pendingReset = -1;
+            }
+            if (!pending.isEmpty()) {
+                events.add(changesEvent(new JSONArray(pending)));
+                pending.clear();
+            }
+            flushedSequence = sequence;
+            // Subscribers registered from now on get these events as part of their initial events
+            recipients = List.copyOf(subscribers);
+        }
+        for (OutboundSseEvent event : events) {
+            recipients.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    /**
+     * Returns the stream of events of a new subscriber. If the last event id it received is given and the
+     * events following it are still buffered, they are sent right away, otherwise the subscriber is told to
+     * reset.
+     */
+    public Publisher<OutboundSseEvent> subscribe(String lastEventId) {
+        return downstream -> {
+            Subscriber subscriber = new Subscriber(downstream);
+            downstream.onSubscribe(subscriber);
+            register(subscriber, lastEventId);
+            subscriber.drain();
+        };
+    }
+
+    /**
+     * Queues the initial events of a new subscriber and adds it to the subscribers, atomically with respect to
+     * {@link #flush()} so that it neither misses nor receives twice the changes being flushed. The events are
+     * delivered by the caller, outside of the lock.
+     */
+    private synchronized void register(Subscriber subscriber, String lastEventId) {
+        long resumeFrom = resumePosition(lastEventId);
+        boolean reset = resumeFrom < 0;
+
+        JSONObject connected = new JSONObject();
+        connected.put("epoch", epoch);
+        connected.put("sequence", flushedSequence);
+        connected.put("reset", reset);
+        boolean resumeMissed = !reset && resumeFrom < flushedSequence;
+        // When resuming, the id is only advanced by the batch of missed events
+        subscriber.enqueue(jsonEvent(EVENT_CONNECTED, resumeMissed ? null : eventId(flushedSequence),
+                connected.toString()));
+
+        if (resumeMissed) {
+            JSONArray missed = new JSONArray();
+            for (JSONObject change : buffer) {
+                long changeSequence = change.getLong("sequence");
+                if (changeSequence > resumeFrom && changeSequence <= flushedSequence) {
+                    missed.put(change);
+                }
+            }
+            subscriber.enqueue(changesEvent(missed));
+        }
+        // Events not sent yet are sent to the new subscriber with the next batch
+        subscribers.add(subscriber);
+        log.debug("Change event subscriber added (reset: {}), {} subscribers.", reset, subscribers.size());
+    }
+
+    /**
+     * @return the sequence number after which events must be sent to a resuming subscriber, or -1 if the
+     *         subscriber cannot resume
+     */
+    private long resumePosition(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + ":")) {
+            return -1;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        if (lastSequence > flushedSequence) {
+            return -1;
+        }
+        long oldestBuffered = buffer.isEmpty() ? sequence + 1 : buffer.getFirst().getLong("sequence");
+        // Every event the subscriber missed must still be buffered
+        return lastSequence + 1 >= oldestBuffered ? lastSequence : -1;
+    }
+
+    private String eventId(long eventSequence) {
+        return epoch + ":" + eventSequence;
+    }
+
+    private OutboundSseEvent changesEvent(JSONArray batch) {
+        long last = batch.getJSONObject(batch.length() - 1).getLong("sequence");
+        return jsonEvent(EVENT_CHANGES, eventId(last), batch.toString());
+    }
+
+    private static OutboundSseEvent jsonEvent(String name, String id, String data) {
+        return new StreamEvent(name, id, null, data);
+    }
+
+    private void heartbeat() {
+        OutboundSseEvent heartbeat = new StreamEvent(null, null, "heartbeat", null);
+        subscribers.forEach(subscriber -> subscriber.offer(heartbeat));
+    }
+
+    /**
+     * Subscription of a single stream. Events are queued until the subscriber requests them. A subscriber that
+     * does not keep up is disconnected: it resumes from its last event id when it reconnects.
+     */
+    private class Subscriber implements Subscription {
+
+        private final org.reactivestreams.Subscriber<? super OutboundSseEvent> downstream;
+        private final Deque<OutboundSseEvent> queue = new ArrayDeque<>();
+        private long demand;
+        private boolean draining;
+        private boolean done;
+
+        private Subscriber(org.reactivestreams.Subscriber<? super OutboundSseEvent> downstream) {
+            this.downstream = downstream;
+        }
+
+        void offer(OutboundSseEvent event) {
+            if (enqueue(event)) {
+                drain();
+            }
+        }
+
+        /**
+         * Queues an event without delivering it.
+         *
+         * @return false if the subscriber is done, or has just been disconnected for not keeping up
+         */
+        synchronized boolean enqueue(OutboundSseEvent event) {
+            if (done) {
+                return false;
+            }
+            if (queue.size() >= bufferSize) {
+                log.debug("Disconnecting a change event subscriber that does not keep up.");
+                complete();
+                return false;
+            }
+            queue.addLast(event);
+            return true;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (n <= 0) {
+                    done = true;
+                    queue.clear();
+                    subscribers.remove(this);
+                    downstream.onError(new IllegalArgumentException("Requested " + n + " events"));
+                    return;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+
+        synchronized void complete() {
+            if (!done) {
+                done = true;
+                queue.clear();
+                subscribers.remove(this);
+                downstream.onComplete();
+            }
+        }
+
+        void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                OutboundSseEvent next;
+                synchronized (this) {
+                    if (done || demand == 0 || queue.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                    demand--;
+                    next = queue.pollFirst();
+                }
+                downstream.onNext(next);
+            }
+        }
+    }
+
+    private static class StreamEvent implements OutboundSseEvent {
+
+        private final String name;
+        private final String id;
+        private final String comment;
+        private final String data;
+
+        private StreamEvent(String name, String id, String comment, String data) {
+            this.name = name;
+            this.id = id;
+            this.comment = comment;
+            this.data = data;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return String.class;
+        }
+
+        @Override
+        public Type getGenericType() {
+            return String.class;
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return MediaType.APPLICATION_JSON_TYPE;
+        }
+
+        @Override
+        public Object getData() {
+            return data;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getComment() {
+            return comment;
+        }
+
+        @Override
+        public long getReconnectDelay() {
+            return SseEvent.RECONNECT_NOT_SET;
+        }
+
+        @Override
+        public boolean isReconnectDelaySet() {
+            return false;
+        }
+    }
+}
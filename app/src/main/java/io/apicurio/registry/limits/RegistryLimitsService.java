@@ -47,7 +47,7 @@ public class RegistryLimitsService {
             return LimitsCheckResult.ok();
         }
 
-        long currentTotalSchemas = storageMetricsStore.getOrInitializeTotalSchemasCounter();
+        long currentTotalSchemas = storageMetricsStore.getTotalSchemasCount();
 
         if (currentTotalSchemas < registryLimitsConfiguration.getMaxTotalSchemasCount()) {
             return LimitsCheckResult.ok();
@@ -90,7 +90,7 @@ public class RegistryLimitsService {
             return LimitsCheckResult.ok();
         }
 
-        long currentArtifacts = storageMetricsStore.getOrInitializeArtifactsCounter();
+        long currentArtifacts = storageMetricsStore.getArtifactsCount();
 
         if (currentArtifacts < registryLimitsConfiguration.getMaxArtifactsCount()) {
             return LimitsCheckResult.ok();
@@ -139,8 +139,7 @@ public class RegistryLimitsService {
             return LimitsCheckResult.ok();
         }
 
-        long currentArtifactVersions = storageMetricsStore.getOrInitializeArtifactVersionsCounter(groupId,
-                artifactId);
+        long currentArtifactVersions = storageMetricsStore.getArtifactVersionsCount(groupId, artifactId);
 
         if (currentArtifactVersions < registryLimitsConfiguration.getMaxVersionsPerArtifactCount()) {
             return LimitsCheckResult.ok();
@@ -153,26 +152,6 @@ public class RegistryLimitsService {
         }
     }
 
-    public void artifactCreated() {
-        storageMetricsStore.incrementTotalSchemasCounter();
-        storageMetricsStore.incrementArtifactsCounter();
-    }
-
-    public void artifactVersionCreated(String groupId, String artifactId) {
-        storageMetricsStore.incrementTotalSchemasCounter();
-        storageMetricsStore.incrementArtifactVersionsCounter(groupId, artifactId);
-    }
-
-    public void artifactDeleted() {
-        storageMetricsStore.resetTotalSchemasCounter();
-        storageMetricsStore.resetArtifactsCounter();
-    }
-
-    public void artifactVersionDeleted(String groupId, String artifactId) {
-        storageMetricsStore.resetTotalSchemasCounter();
-        storageMetricsStore.resetArtifactVersionsCounter(groupId, artifactId);
-    }
-
     public LimitsCheckResult checkMetaData(EditableArtifactMetaDataDto meta) {
         if (meta == null || registryLimitsConfiguration == null) {
             return LimitsCheckResult.ok();
@@ -62,13 +62,11 @@ public class RegistryStorageLimitsEnforcer extends RegistryStorageDecoratorBase
             String version, ContentWrapperDto versionContent, EditableVersionMetaDataDto versionMetaData,
             List<String> versionBranches, boolean versionIsDraft, boolean dryRun, String owner)
             throws RegistryStorageException {
-        Pair<ArtifactMetaDataDto, ArtifactVersionMetaDataDto> rval = withLimitsCheck(
+        return withLimitsCheck(
                 () -> limitsService.canCreateArtifact(artifactMetaData, versionContent, versionMetaData))
                 .execute(() -> super.createArtifact(groupId, artifactId, artifactType, artifactMetaData,
                         version, versionContent, versionMetaData, versionBranches, versionIsDraft, dryRun,
                         owner));
-        limitsService.artifactCreated();
-        return rval;
     }
 
     @Override
@@ -76,12 +74,10 @@ public class RegistryStorageLimitsEnforcer extends RegistryStorageDecoratorBase
             String artifactType, ContentWrapperDto content, EditableVersionMetaDataDto metaData,
             List<String> branches, boolean isDraft, boolean dryRun, String owner)
             throws RegistryStorageException {
-        ArtifactVersionMetaDataDto dto = withLimitsCheck(
+        return withLimitsCheck(
                 () -> limitsService.canCreateArtifactVersion(groupId, artifactId, null, content.getContent()))
                 .execute(() -> super.createArtifactVersion(groupId, artifactId, version, artifactType,
                         content, metaData, branches, isDraft, dryRun, owner));
-        limitsService.artifactVersionCreated(groupId, artifactId);
-        return dto;
     }
 
     /**
@@ -112,38 +108,6 @@ public class RegistryStorageLimitsEnforcer extends RegistryStorageDecoratorBase
         });
     }
 
-    /**
-     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#deleteArtifact(java.lang.String,
-     *      java.lang.String)
-     */
-    @Override
-    public List<String> deleteArtifact(String groupId, String artifactId)
-            throws ArtifactNotFoundException, RegistryStorageException {
-        List<String> ids = super.deleteArtifact(groupId, artifactId);
-        limitsService.artifactDeleted();
-        return ids;
-    }
-
-    /**
-     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#deleteArtifacts(java.lang.String)
-     */
-    @Override
-    public void deleteArtifacts(String groupId) throws RegistryStorageException {
-        super.deleteArtifacts(groupId);
-        limitsService.artifactDeleted();
-    }
-
-    /**
-     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#deleteArtifactVersion(java.lang.String,
-     *      java.lang.String, java.lang.String)
-     */
-    @Override
-    public void deleteArtifactVersion(String groupId, String artifactId, String version)
-            throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
-        super.deleteArtifactVersion(groupId, artifactId, version);
-        limitsService.artifactVersionDeleted(groupId, artifactId);
-    }
-
     /**
      * Notice the "threadContext.withContextCapture" because of using CompletionStage it's possible that
      * certain operations may be executed in different threads. We need context propagation to move the
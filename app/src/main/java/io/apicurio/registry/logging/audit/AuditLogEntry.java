@@ -0,0 +1,50 @@
+package io.apicurio.registry.logging.audit;
+
+import lombok.Getter;
+import org.slf4j.MDC;
+
+import java.util.Map;
+
+/**
+ * A single audit log entry. Entries capture everything they need from the request (e.g. the source IP) when
+ * they are created, so that they can be formatted and written later, outside the request thread.
+ */
+@Getter
+public class AuditLogEntry {
+
+    private final String invoker;
+    private final String action;
+    private final String result;
+    private final String sourceIp;
+    private final String forwardedFor;
+    private final Map<String, String> metadata;
+    /**
+     * The logging context (MDC) of the request, e.g. its trace id, or null if there is none.
+     */
+    private final Map<String, String> loggingContext;
+
+    public AuditLogEntry(String invoker, String action, String result, String sourceIp, String forwardedFor,
+            Map<String, String> metadata) {
+        this.invoker = invoker;
+        this.action = action;
+        this.result = result;
+        this.sourceIp = sourceIp;
+        this.forwardedFor = forwardedFor;
+        this.metadata = metadata;
+        this.loggingContext = MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * Appends the log line of this entry to the given builder.
+     */
+    public void format(StringBuilder m) {
+        m.append(invoker).append(" ").append("action=\"").append(action).append("\" ").append("result=\"")
+                .append(result).append("\" ").append("src_ip=\"").append(sourceIp).append("\" ");
+        if (forwardedFor != null) {
+            m.append("x_forwarded_for=\"").append(forwardedFor).append("\" ");
+        }
+        for (Map.Entry<String, String> e : metadata.entrySet()) {
+            m.append(e.getKey()).append("=\"").append(e.getValue()).append("\" ");
+        }
+    }
+}
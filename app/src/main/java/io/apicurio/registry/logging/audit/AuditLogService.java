@@ -19,19 +19,26 @@ package io.apicurio.registry.logging.audit;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.control.ActivateRequestContext;
 import jakarta.inject.Inject;
-import org.slf4j.Logger;
 
 import java.util.Map;
 
+/**
+ * Creates audit log entries and hands them to the {@link AuditLogWriter}. Only the information that depends on
+ * the current request is captured on the calling thread; formatting and writing the entries can happen later.
+ */
 @ApplicationScoped
 public class AuditLogService {
 
     @Inject
-    Logger log;
+    AuditHttpRequestContext context;
 
     @Inject
-    AuditHttpRequestContext context;
+    AuditLogWriter writer;
 
+    /**
+     * Logs an audit entry. The metadata map is owned by the audit log after this call and must not be modified
+     * by the caller.
+     */
     @ActivateRequestContext
     public void log(String invoker, String action, String result, Map<String, String> metadata,
             AuditHttpRequestInfo requestInfo) {
@@ -46,16 +53,7 @@ public class AuditLogService {
             forwardedRemoteAddress = context.getForwardedFor();
         }
 
-        StringBuilder m = new StringBuilder();
-        m.append(invoker).append(" ").append("action=\"").append(action).append("\" ").append("result=\"")
-                .append(result).append("\" ").append("src_ip=\"").append(remoteAddress).append("\" ");
-        if (forwardedRemoteAddress != null) {
-            m.append("x_forwarded_for=\"").append(forwardedRemoteAddress).append("\" ");
-        }
-        for (Map.Entry<String, String> e : metadata.entrySet()) {
-            m.append(e.getKey()).append("=\"").append(e.getValue()).append("\" ");
-        }
-        log.info(m.toString());
+        writer.submit(new AuditLogEntry(invoker, action, result, remoteAddress, forwardedRemoteAddress, metadata));
         // mark in the context that we already generated an audit entry for this request
         context.setAuditEntryGenerated(true);
     }
@@ -0,0 +1,23 @@
+package io.apicurio.registry.logging.audit;
+
+import java.util.List;
+
+/**
+ * Destination of audit log entries. Implementations are CDI beans and are discovered by the
+ * {@link AuditLogWriter}, which calls them with batches of entries, from a single thread when the audit log is
+ * asynchronous.
+ */
+public interface AuditLogSink {
+
+    /**
+     * @return false if this sink is not configured and should not receive entries
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Writes a batch of entries, in the order they were logged.
+     */
+    void write(List<AuditLogEntry> entries) throws Exception;
+}
@@ -0,0 +1,198 @@
+package io.apicurio.registry.logging.audit;
+
+import io.apicurio.common.apps.config.Info;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_LOG;
+import static io.apicurio.registry.metrics.MetricsConstants.AUDIT_LOG_DROPPED;
+import static io.apicurio.registry.metrics.MetricsConstants.AUDIT_LOG_DROPPED_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.AUDIT_LOG_QUEUE_SIZE;
+import static io.apicurio.registry.metrics.MetricsConstants.AUDIT_LOG_QUEUE_SIZE_DESCRIPTION;
+
+/**
+ * Writes audit log entries to all the enabled {@link AuditLogSink}s.
+ * <p>
+ * When the audit log is asynchronous (the default), entries are put in a bounded queue and written in batches
+ * by a background thread, so that request threads do not pay for formatting and I/O. When the queue is full,
+ * the overflow policy decides whether the request thread waits for space, so that no entry is lost, or the
+ * entry is dropped and counted in the <code>audit.log.dropped</code> metric. Remaining entries are written on
+ * shutdown, and by the request threads if the background thread stopped unexpectedly.
+ */
+@ApplicationScoped
+public class AuditLogWriter {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private static final long POLL_TIMEOUT_MS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    @Any
+    Instance<AuditLogSink> sinkBeans;
+
+    @ConfigProperty(name = "apicurio.audit.async.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_LOG, description = "Write audit log entries from a background thread instead of "
+            + "the request thread", availableSince = "3.2.0")
+    boolean async;
+
+    @ConfigProperty(name = "apicurio.audit.async.queue-size", defaultValue = "8192")
+    @Info(category = CATEGORY_LOG, description = "Maximum number of audit log entries waiting to be written", availableSince = "3.2.0")
+    int queueSize;
+
+    @ConfigProperty(name = "apicurio.audit.async.batch-size", defaultValue = "256")
+    @Info(category = CATEGORY_LOG, description = "Maximum number of audit log entries written to the sinks at once", availableSince = "3.2.0")
+    int batchSize;
+
+    @ConfigProperty(name = "apicurio.audit.async.overflow-policy", defaultValue = "block")
+    @Info(category = CATEGORY_LOG, description = "What to do when the audit log queue is full: 'block' the "
+            + "request until there is space, or 'drop' the entry. Dropped entries are counted in the "
+            + "audit.log.dropped metric", availableSince = "3.2.0")
+    OverflowPolicy overflowPolicy;
+
+    private final List<AuditLogSink> sinks = new ArrayList<>();
+    private BlockingQueue<AuditLogEntry> queue;
+    private Counter dropped;
+    Thread writerThread;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    void init() {
+        sinkBeans.forEach(sink -> {
+            if (sink.isEnabled()) {
+                sinks.add(sink);
+            }
+        });
+        dropped = Counter.builder(AUDIT_LOG_DROPPED).description(AUDIT_LOG_DROPPED_DESCRIPTION)
+                .register(registry);
+        if (!async) {
+            return;
+        }
+        batchSize = Math.max(batchSize, 1);
+        queue = new ArrayBlockingQueue<>(Math.max(queueSize, 1));
+        Gauge.builder(AUDIT_LOG_QUEUE_SIZE, queue, BlockingQueue::size)
+                .description(AUDIT_LOG_QUEUE_SIZE_DESCRIPTION).register(registry);
+        writerThread = new Thread(this::run);
+        writerThread.setDaemon(true);
+        writerThread.setName("Audit Log Writer Thread");
+        writerThread.start();
+    }
+
+    /**
+     * Writes the given entry, or queues it to be written by the background thread.
+     */
+    public void submit(AuditLogEntry entry) {
+        if (queue == null || stopped) {
+            write(List.of(entry));
+            return;
+        }
+        if (!writerThread.isAlive()) {
+            // Nothing would take the entries from the queue anymore
+            writeQueued(entry);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(entry)) {
+                dropped.increment();
+                return;
+            }
+        } else {
+            try {
+                while (!queue.offer(entry, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    if (stopped || !writerThread.isAlive()) {
+                        writeQueued(entry);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeQueued(entry);
+                return;
+            }
+        }
+        if (stopped) {
+            // Queued after the remaining entries may have been written on shutdown
+            writeQueued(null);
+        }
+    }
+
+    /**
+     * Writes the queued entries, followed by the given one if any, on the calling thread.
+     */
+    private void writeQueued(AuditLogEntry entry) {
+        List<AuditLogEntry> entries = new ArrayList<>();
+        queue.drainTo(entries);
+        if (entry != null) {
+            entries.add(entry);
+        }
+        if (!entries.isEmpty()) {
+            write(entries);
+        }
+    }
+
+    private void run() {
+        List<AuditLogEntry> batch = new ArrayList<>(batchSize);
+        try {
+            while (!stopped) {
+                AuditLogEntry first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Stopped
+        } finally {
+            if (!stopped) {
+                log.error("The audit log writer thread stopped unexpectedly, audit log entries are now written "
+                        + "by the request threads.");
+            }
+        }
+    }
+
+    private void write(List<AuditLogEntry> entries) {
+        for (AuditLogSink sink : sinks) {
+            try {
+                sink.write(entries);
+            } catch (Exception e) {
+                log.error("Failed to write {} audit log entries to {}.", entries.size(),
+                        sink.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        stopped = true;
+        if (writerThread != null) {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+            writeQueued(null);
+        }
+    }
+}
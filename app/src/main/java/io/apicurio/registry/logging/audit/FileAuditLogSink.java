@@ -0,0 +1,59 @@
+package io.apicurio.registry.logging.audit;
+
+import io.apicurio.common.apps.config.Info;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_LOG;
+
+/**
+ * Appends audit log entries to a dedicated file, one line per entry. The file is flushed once per batch.
+ */
+@ApplicationScoped
+public class FileAuditLogSink implements AuditLogSink {
+
+    @ConfigProperty(name = "apicurio.audit.file.path")
+    @Info(category = CATEGORY_LOG, description = "Path of a file to which audit log entries are appended, "
+            + "in addition to the application log", availableSince = "3.2.0")
+    Optional<String> path;
+
+    private Writer writer;
+
+    @Override
+    public boolean isEnabled() {
+        return path.isPresent() && !path.get().isBlank();
+    }
+
+    @Override
+    public synchronized void write(List<AuditLogEntry> entries) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(Path.of(path.get()), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        StringBuilder m = new StringBuilder();
+        for (AuditLogEntry entry : entries) {
+            entry.format(m);
+            m.append(System.lineSeparator());
+        }
+        writer.write(m.toString());
+        writer.flush();
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.apicurio.registry.logging.audit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes audit log entries to the application log, one line per entry. Each line is logged with the logging
+ * context (MDC) of the request that produced the entry, also when written from the background thread.
+ */
+@ApplicationScoped
+public class LogAuditLogSink implements AuditLogSink {
+
+    // Keep the logger category audit entries have always been written to, so existing log configuration applies
+    private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
+
+    @Override
+    public void write(List<AuditLogEntry> entries) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        Map<String, String> current = MDC.getCopyOfContextMap();
+        StringBuilder m = new StringBuilder();
+        try {
+            for (AuditLogEntry entry : entries) {
+                setLoggingContext(entry.getLoggingContext());
+                m.setLength(0);
+                entry.format(m);
+                log.info(m.toString());
+            }
+        } finally {
+            setLoggingContext(current);
+        }
+    }
+
+    private static void setLoggingContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
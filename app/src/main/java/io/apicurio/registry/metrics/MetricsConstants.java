@@ -32,4 +32,27 @@ public interface MetricsConstants {
 
     String STORAGE_METHOD_CALL_TAG_METHOD = "method";
     String STORAGE_METHOD_CALL_TAG_SUCCESS = "success";
+
+    // SQL storage
+
+    String STORAGE_SQL_STATEMENT = STORAGE_PREFIX + "sql.statement";
+    String STORAGE_SQL_STATEMENT_DESCRIPTION = "Timing and results of SQL statements executions, including reading the results";
+    String STORAGE_SQL_STATEMENT_ROWS = STORAGE_PREFIX + "sql.statement.rows";
+    String STORAGE_SQL_STATEMENT_ROWS_DESCRIPTION = "Number of rows read or updated by SQL statements";
+    String STORAGE_SQL_CONNECTION_ACQUIRE = STORAGE_PREFIX + "sql.connection.acquire";
+    String STORAGE_SQL_CONNECTION_ACQUIRE_DESCRIPTION = "Time spent waiting for a connection from the datasource pool";
+
+    // SQL storage tags/labels
+
+    String STORAGE_SQL_STATEMENT_TAG_STATEMENT = "statement";
+    String STORAGE_SQL_STATEMENT_TAG_SUCCESS = "success";
+    String STORAGE_SQL_CONNECTION_ACQUIRE_TAG_DATASOURCE = "datasource";
+
+    // Audit log
+
+    String AUDIT_LOG_PREFIX = "audit.log.";
+    String AUDIT_LOG_DROPPED = AUDIT_LOG_PREFIX + "dropped";
+    String AUDIT_LOG_DROPPED_DESCRIPTION = "Number of audit log entries dropped because the audit log queue was full";
+    String AUDIT_LOG_QUEUE_SIZE = AUDIT_LOG_PREFIX + "queue.size";
+    String AUDIT_LOG_QUEUE_SIZE_DESCRIPTION = "Number of audit log entries waiting to be written";
 }
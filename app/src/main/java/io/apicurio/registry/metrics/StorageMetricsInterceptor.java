@@ -9,7 +9,9 @@ import jakarta.interceptor.InvocationContext;
 import org.eclipse.microprofile.context.ThreadContext;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_METHOD_CALL;
 import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_METHOD_CALL_DESCRIPTION;
@@ -29,6 +31,26 @@ public class StorageMetricsInterceptor {
     @Inject
     ThreadContext threadContext;
 
+    // Meters are resolved once per method instead of on every call
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    private static class MethodTimers {
+        private final Timer success;
+        private final Timer failure;
+
+        private MethodTimers(Method method, MeterRegistry registry) {
+            String methodString = getMethodString(method);
+            this.success = timer(methodString, true, registry);
+            this.failure = timer(methodString, false, registry);
+        }
+
+        private static Timer timer(String methodString, boolean success, MeterRegistry registry) {
+            return Timer.builder(STORAGE_METHOD_CALL).description(STORAGE_METHOD_CALL_DESCRIPTION)
+                    .tag(STORAGE_METHOD_CALL_TAG_METHOD, methodString)
+                    .tag(STORAGE_METHOD_CALL_TAG_SUCCESS, String.valueOf(success)).register(registry);
+        }
+    }
+
     @AroundInvoke
     public Object intercept(InvocationContext context) throws Exception {
 
@@ -60,10 +82,8 @@ public class StorageMetricsInterceptor {
     }
 
     private void record(Timer.Sample sample, Method method, boolean success) {
-        Timer timer = Timer.builder(STORAGE_METHOD_CALL).description(STORAGE_METHOD_CALL_DESCRIPTION)
-                .tag(STORAGE_METHOD_CALL_TAG_METHOD, getMethodString(method))
-                .tag(STORAGE_METHOD_CALL_TAG_SUCCESS, String.valueOf(success)).register(registry);
-        sample.stop(timer);
+        MethodTimers methodTimers = timers.computeIfAbsent(method, m -> new MethodTimers(m, registry));
+        sample.stop(success ? methodTimers.success : methodTimers.failure);
     }
 
     private static String getMethodString(Method method) {
@@ -20,6 +20,19 @@ public class RestConfig {
     @Info(category = CATEGORY_REST, description = "Max size of the labels (in bytes) per item from within search results", availableSince = "3.0.3")
     int labelsInSearchResultsMaxSize;
 
+    @ConfigProperty(name = "apicurio.rest.ids.batch.max-size", defaultValue = "100")
+    @Info(category = CATEGORY_REST, description = "Max number of identifiers (global IDs, content IDs and content hashes) in a single request to the /ids/batch endpoint", availableSince = "3.2.0")
+    int idsBatchMaxSize;
+
+    @ConfigProperty(name = "apicurio.rest.artifacts.batch.max-size", defaultValue = "500")
+    @Info(category = CATEGORY_REST, description = "Max number of artifacts in a single request to the /batch/artifacts endpoint", availableSince = "3.2.0")
+    int artifactsBatchMaxSize;
+
+    @ConfigProperty(name = "apicurio.rest.artifacts.batch.chunk-size", defaultValue = "50")
+    @Info(category = CATEGORY_REST, description = "Max number of artifacts of a request to the /batch/artifacts endpoint created in a single database transaction (SQL storage only). " +
+            "If set to 1, each artifact is created in its own transaction.", availableSince = "3.2.0")
+    int artifactsBatchChunkSize;
+
     @ConfigProperty(name = "apicurio.rest.artifact.download.ssl-validation.disabled", defaultValue = "false")
     @Info(category = CATEGORY_REST, description = "Skip SSL validation when downloading artifacts from URL", availableSince = "2.2.6")
     boolean downloadSkipSSLValidation;
@@ -57,6 +70,18 @@ public class RestConfig {
         return this.labelsInSearchResultsMaxSize;
     }
 
+    public int getIdsBatchMaxSize() {
+        return this.idsBatchMaxSize;
+    }
+
+    public int getArtifactsBatchMaxSize() {
+        return this.artifactsBatchMaxSize;
+    }
+
+    public int getArtifactsBatchChunkSize() {
+        return this.artifactsBatchChunkSize;
+    }
+
     public boolean getDownloadSkipSSLValidation() {
         return this.downloadSkipSSLValidation;
     }
@@ -0,0 +1,135 @@
+package io.apicurio.registry.rest.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+
+/**
+ * Caches the gzip encoding of immutable content, so that the same bytes are compressed once instead of on
+ * every request. Used by {@link ImmutableCacheInterceptor} for clients that accept the gzip content coding.
+ * <p>
+ * Entries are keyed by the stored content hash of the content (see {@link ServedContentContext}), so that a
+ * cache hit does not read the content, and not by the entity tag of the response: the same id means
+ * different content on different endpoints (e.g. a contentId and a globalId), and a draft served by globalId
+ * can change. Stored content never changes, so no invalidation is required, an entry is only evicted when
+ * the cache is full. Content that is not identified is not compressed.
+ */
+@ApplicationScoped
+public class CompressedContentCache {
+
+    public static final String GZIP = "gzip";
+
+    @ConfigProperty(name = "apicurio.http-caching.compression.enabled", defaultValue = "false")
+    @Info(category = CATEGORY_CACHE, description = "Serve highly cacheable content gzip-encoded to clients "
+            + "accepting it, compressing each content once", availableSince = "3.2.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.http-caching.compression.min-size.bytes", defaultValue = "1024")
+    @Info(category = CATEGORY_CACHE, description = "Minimum size (in bytes) of content to serve gzip-encoded", availableSince = "3.2.0")
+    int minSizeBytes;
+
+    @ConfigProperty(name = "apicurio.http-caching.compression.cache.max-size.bytes", defaultValue = "33554432")
+    @Info(category = CATEGORY_CACHE, description = "Maximum total size of the cached gzip-encoded content, in bytes", availableSince = "3.2.0")
+    long maxSizeBytes;
+
+    private Cache<String, byte[]> cache;
+
+    @PostConstruct
+    void init() {
+        cache = CacheBuilder.newBuilder().maximumWeight(maxSizeBytes)
+                .<String, byte[]> weigher((key, value) -> value.length).build();
+    }
+
+    /**
+     * Returns true if content can be gzip-encoded for a request with the given <code>Accept-Encoding</code>
+     * header.
+     */
+    public boolean isAccepted(String acceptEncoding) {
+        return enabled && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * Returns the gzip encoding of the given content, compressing it on a cache miss.
+     *
+     * @param key identifies the bytes of the content, see {@link ServedContentContext}
+     * @return null if the content is too small to be worth compressing
+     */
+    public byte[] getGzip(String key, ContentHandle content) {
+        byte[] gzip = cache.getIfPresent(key);
+        if (gzip != null) {
+            return gzip;
+        }
+        if (content.getSizeBytes() < minSizeBytes) {
+            return null;
+        }
+        try {
+            return cache.get(key, () -> gzip(content));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new RegistryStorageException(ex.getCause());
+        }
+    }
+
+    private static byte[] gzip(ContentHandle content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.getSizeBytes() / 4);
+        try (InputStream in = content.stream(); GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            in.transferTo(gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Parses an <code>Accept-Encoding</code> header, e.g. <code>gzip, deflate;q=0.5</code>. A coding with a
+     * quality value of 0 is not acceptable, and an explicit gzip coding takes precedence over <code>*</code>.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean any = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (GZIP.equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                gzip = isAcceptable(parts);
+            } else if ("*".equals(name)) {
+                any = isAcceptable(parts);
+            }
+        }
+        return gzip != null ? gzip : any;
+    }
+
+    private static boolean isAcceptable(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            String param = codingParts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,15 @@
 package io.apicurio.registry.rest.cache;
 
 import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.rest.MethodMetadataInterceptor;
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
@@ -23,6 +27,9 @@ import static io.apicurio.registry.rest.MethodParameterKeys.MPK_ENTITY_ID;
  * of the HTTP caching strategy. It adds aggressive caching headers to responses for content
  * that never changes once created (globalId, contentId, contentHash endpoints).
  * <p>
+ * Content is served gzip-encoded to clients accepting it, using the {@link CompressedContentCache} so that
+ * the same content is only compressed once.
+ * <p>
  * The interceptor reads extracted method parameters from the invocation context (populated by
  * {@link MethodMetadataInterceptor}) to get the entity ID for the ETag header.
  * <p>
@@ -49,6 +56,15 @@ public class ImmutableCacheInterceptor {
             "If set to 0, caching is disabled.", availableSince = "3.1.8")
     Long expirationSeconds;
 
+    @Inject
+    CompressedContentCache compressedContentCache;
+
+    @Inject
+    ServedContentContext servedContent;
+
+    @Inject
+    HttpServletRequest request;
+
     private static final String CACHE_CONTROL_IMMUTABLE = "public, immutable, max-age=%s";
 
     // Vary header to ensure cache variations by content negotiation
@@ -75,18 +91,39 @@ public class ImmutableCacheInterceptor {
             return result;
         }
 
-        // Extract the entity tag using MethodMetadata annotation
-        var entityTag = extractEntityTag(context);
+        // Build a new Response with the same entity and status, but with added cache headers
+        Response.ResponseBuilder builder = Response.fromResponse(response);
+        // The method may have returned a representation that is not immutable, e.g. a rendition of the content
+        if (response.getHeaderString("Cache-Control") == null) {
+            builder.header("Cache-Control", CACHE_CONTROL_IMMUTABLE.formatted(expirationSeconds));
+            builder.header("Vary", VARY_HEADERS);
+        }
+
+        // The method may have set a more specific ETag
+        Object entityTag = response.getHeaderString("ETag");
         if (entityTag == null) {
-            throw new IllegalArgumentException("Could not extract entity tag from method %s"
-                    .formatted(context.getMethod().getName()));
+            // Extract the entity tag using MethodMetadata annotation
+            entityTag = extractEntityTag(context);
+            if (entityTag == null) {
+                throw new IllegalArgumentException("Could not extract entity tag from method %s"
+                        .formatted(context.getMethod().getName()));
+            }
+            builder.header("ETag", "\"" + entityTag + "\"");
         }
 
-        // Build a new Response with the same entity and status, but with added cache headers
-        Response.ResponseBuilder builder = Response.fromResponse(response);
-        builder.header("Cache-Control", CACHE_CONTROL_IMMUTABLE.formatted(expirationSeconds));
-        builder.header("ETag", "\"" + entityTag + "\"");
-        builder.header("Vary", VARY_HEADERS);
+        String contentKey = servedContent.getContentKey();
+        if (response.getEntity() instanceof ContentHandle content && contentKey != null
+                && compressedContentCache.isAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            byte[] gzip = compressedContentCache.getGzip(contentKey, content);
+            if (gzip != null) {
+                String tag = entityTag.toString().replace("\"", "");
+                builder.entity(gzip);
+                builder.header("Content-Encoding", CompressedContentCache.GZIP);
+                // The encoded representation must not share the entity tag of the content
+                builder.header("ETag", null);
+                builder.header("ETag", "\"" + tag + "-" + CompressedContentCache.GZIP + "\"");
+            }
+        }
 
         log.debug("Added immutable cache headers with ETag: {}", entityTag);
 
@@ -0,0 +1,121 @@
+package io.apicurio.registry.rest.cache;
+
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.BranchMetaDataDto;
+import io.apicurio.registry.types.VersionState;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Date;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+
+/**
+ * Adds HTTP caching headers and answers conditional requests for moderately cacheable endpoints, i.e.
+ * endpoints returning the content of a version resolved from a branch (e.g. <code>branch=latest</code>), or
+ * content with dereferenced or rewritten references (see {@link RenditionCache}).
+ * <p>
+ * Unlike highly cacheable endpoints (see {@link ImmutableCache}), the response changes whenever the branch
+ * tip changes, so it is only cached for a short time, and validators are derived from the resolved version:
+ * <ul>
+ * <li><code>ETag</code>: the global ID and modification time of the resolved version, so that it changes
+ * with the branch tip and with updates of draft content</li>
+ * <li><code>Last-Modified</code>: the latest modification time of the branch and of the resolved version</li>
+ * </ul>
+ * Both are known before the content is loaded, so a request with a matching <code>If-None-Match</code> or
+ * <code>If-Modified-Since</code> header is answered with <code>304 Not Modified</code> without reading the
+ * content.
+ * <p>
+ * A rendition changes with the referenced versions, which the modification times do not cover: its
+ * <code>ETag</code> includes the tag of the rendition, and it has no <code>Last-Modified</code> header.
+ */
+@ApplicationScoped
+public class ModeratelyCacheableHeaders {
+
+    @ConfigProperty(name = "apicurio.http-caching.moderately-cacheable.max-age-seconds", defaultValue = "600")
+    @Info(category = CATEGORY_CACHE, description = "HTTP cache expiration for moderately cacheable REST API endpoints, in seconds. " +
+            "If set to 0, caching is disabled.", availableSince = "3.2.0")
+    long expirationSeconds;
+
+    private static final String CACHE_CONTROL = "public, max-age=%s";
+
+    private static final String NO_CACHE = "no-cache";
+
+    // Vary header to ensure cache variations by content negotiation
+    private static final String VARY_HEADERS = "Accept, Accept-Encoding";
+
+    /**
+     * Validators of a response, see {@link #validators(ArtifactVersionMetaDataDto, BranchMetaDataDto, String)}.
+     *
+     * @param lastModified null if the response has no meaningful modification time
+     */
+    public record Validators(EntityTag entityTag, Date lastModified) {
+    }
+
+    public boolean isEnabled() {
+        return expirationSeconds > 0;
+    }
+
+    /**
+     * Returns the validators of the content of the given version, resolved from the given branch.
+     *
+     * @param rendition the tag of the rendition of the content, null if the content is returned as is
+     */
+    public Validators validators(ArtifactVersionMetaDataDto version, BranchMetaDataDto branch,
+            String rendition) {
+        StringBuilder tag = new StringBuilder();
+        tag.append(version.getGlobalId()).append("-").append(version.getModifiedOn());
+        if (version.getState() == VersionState.DEPRECATED) {
+            // The response has a deprecation header
+            tag.append("-deprecated");
+        }
+        if (rendition != null) {
+            tag.append("-").append(rendition);
+            return new Validators(new EntityTag(tag.toString()), null);
+        }
+
+        // HTTP dates have a precision of one second
+        long lastModified = Math.max(version.getModifiedOn(), branch.getModifiedOn());
+        return new Validators(new EntityTag(tag.toString()), new Date(lastModified / 1000 * 1000));
+    }
+
+    /**
+     * Returns the validators of the given rendition of the content of the version with the given global ID.
+     */
+    public Validators validators(long globalId, String rendition) {
+        return new Validators(new EntityTag(globalId + "-" + rendition), null);
+    }
+
+    /**
+     * Evaluates the conditional headers of the request.
+     *
+     * @return a <code>304 Not Modified</code> response with the caching headers if the client has the current
+     *         representation, or null if the response has to be built
+     */
+    public Response evaluatePreconditions(Request request, Validators validators) {
+        Response.ResponseBuilder builder = validators.lastModified() == null
+            ? request.evaluatePreconditions(validators.entityTag())
+            : request.evaluatePreconditions(validators.lastModified(), validators.entityTag());
+        if (builder == null) {
+            return null;
+        }
+        return addHeaders(builder, validators).build();
+    }
+
+    /**
+     * Adds the caching headers to the given response. If caching is disabled, the response must be
+     * revalidated, so that it is not cached as immutable content.
+     */
+    public Response.ResponseBuilder addHeaders(Response.ResponseBuilder builder, Validators validators) {
+        builder.header("Cache-Control", isEnabled() ? CACHE_CONTROL.formatted(expirationSeconds) : NO_CACHE)
+                .header("Vary", VARY_HEADERS).tag(validators.entityTag());
+        if (validators.lastModified() != null) {
+            builder.lastModified(validators.lastModified());
+        }
+        return builder;
+    }
+}
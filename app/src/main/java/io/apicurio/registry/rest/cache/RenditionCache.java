@@ -0,0 +1,220 @@
+package io.apicurio.registry.rest.cache;
+
+import com.google.common.cache.Cache;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
+import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+
+/**
+ * Caches renditions of content, i.e. content whose references have been dereferenced or rewritten, so that
+ * the reference tree does not have to be resolved and the content parsed and re-serialized on every request
+ * for the same content.
+ * <p>
+ * A rendition is keyed by the content ID (content and references are stored together, so the content ID
+ * identifies both), the way references are handled, the artifact type and content type, and for rewritten
+ * references the base URL used in the rewritten references.
+ * <p>
+ * The referenced versions are resolved by GAV, so a rendition can change when a referenced version is deleted,
+ * disabled or has its draft content updated. All renditions are therefore invalidated on such changes, see
+ * {@link RegistryStorageCacheDecoratorBase}. Such changes are rare compared to reads of dereferenced content,
+ * hence the long default expiration period. A rendition can also change when a referenced version that did not
+ * exist is created: renditions with unresolved references are not cached.
+ */
+@ApplicationScoped
+public class RenditionCache extends RegistryStorageCacheDecoratorBase {
+
+    private static final int TAG_DIGEST_LENGTH = 16;
+
+    @ConfigProperty(name = "apicurio.rendition.cache.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_CACHE, description = "Cache content with dereferenced or rewritten references", availableSince = "3.2.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.rendition.cache.expire-after-write.ms", defaultValue = "600000")
+    @Info(category = CATEGORY_CACHE, description = "Time after which a cached rendition is computed again", availableSince = "3.2.0")
+    long expireAfterWrite;
+
+    @ConfigProperty(name = "apicurio.rendition.cache.max-size.bytes", defaultValue = "67108864")
+    @Info(category = CATEGORY_CACHE, description = "Maximum total size of the cached renditions, in bytes", availableSince = "3.2.0")
+    long maxSizeBytes;
+
+    private Cache<RenditionKey, Rendition> cache;
+
+    /**
+     * The base href is only set for rewritten references, since it is part of the rewritten content.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class RenditionKey {
+        private final long contentId;
+        private final HandleReferencesType referencesType;
+        private final String artifactType;
+        private final String contentType;
+        private final String baseHref;
+    }
+
+    @PostConstruct
+    void init() {
+        cache = cacheBuilder(expireAfterWrite).maximumWeight(maxSizeBytes)
+                .<RenditionKey, Rendition> weigher((key, value) -> value.content().getContent().getSizeBytes())
+                .build();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.RENDITION_CACHE_DECORATOR;
+    }
+
+    /**
+     * Renders content, resolving its references with the given loader.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        TypedContent render(Function<ArtifactReferenceDto, ContentWrapperDto> referenceLoader);
+    }
+
+    /**
+     * Content with dereferenced or rewritten references.
+     *
+     * @param tag identifies the rendition among the renditions of the same content: made of the way references
+     *            are handled and of a digest of what the rendition was computed from, i.e. the content of the
+     *            references that were resolved (and which ones were not) and the base URL of rewritten
+     *            references. Suitable for an entity tag, together with an identifier of the content.
+     */
+    public record Rendition(TypedContent content, String tag) {
+    }
+
+    /**
+     * Returns the rendition of the given content, using the renderer on a cache miss. The rendition is not
+     * cached if one of the references could not be resolved by the reference loader.
+     *
+     * @param baseHref base URL of the rewritten references, null unless references are rewritten
+     * @param referenceLoader loads the content of a reference, returns null if the reference cannot be resolved
+     */
+    public Rendition getRendition(long contentId, HandleReferencesType referencesType, String artifactType,
+            String contentType, String baseHref, Function<ArtifactReferenceDto, ContentWrapperDto> referenceLoader,
+            Renderer renderer) {
+        if (!enabled) {
+            return render(referencesType, baseHref, referenceLoader, renderer, null);
+        }
+        RenditionKey key = new RenditionKey(contentId, referencesType, artifactType, contentType, baseHref);
+        Rendition rendition = cache.getIfPresent(key);
+        if (rendition != null) {
+            return rendition;
+        }
+        long loadGeneration = generation();
+        AtomicBoolean unresolved = new AtomicBoolean();
+        rendition = render(referencesType, baseHref, referenceLoader, renderer, unresolved);
+        if (!unresolved.get()) {
+            put(cache, key, rendition, loadGeneration);
+        }
+        return rendition;
+    }
+
+    /**
+     * @param unresolved set if a reference could not be resolved, may be null
+     */
+    private static Rendition render(HandleReferencesType referencesType, String baseHref,
+            Function<ArtifactReferenceDto, ContentWrapperDto> referenceLoader, Renderer renderer,
+            AtomicBoolean unresolved) {
+        StringBuilder resolved = new StringBuilder();
+        if (baseHref != null) {
+            resolved.append(baseHref);
+        }
+        TypedContent content = renderer.render(reference -> {
+            // Renderers skip the references that fail to resolve
+            ContentWrapperDto referenced = null;
+            try {
+                referenced = referenceLoader.apply(reference);
+                return referenced;
+            } finally {
+                resolved.append('\n').append(reference.getGroupId()).append('/')
+                        .append(reference.getArtifactId()).append('/').append(reference.getVersion())
+                        .append('=');
+                if (referenced == null) {
+                    resolved.append('-');
+                    if (unresolved != null) {
+                        unresolved.set(true);
+                    }
+                } else {
+                    resolved.append(referenced.getContentHash());
+                }
+            }
+        });
+        // Keep the bytes, not whatever the content handle was created from
+        content = TypedContent.create(ContentHandle.create(content.getContent().bytes()),
+                content.getContentType());
+        String tag = referencesType.name().toLowerCase() + "-"
+                + DigestUtils.sha256Hex(resolved.toString()).substring(0, TAG_DIGEST_LENGTH);
+        return new Rendition(content, tag);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#invalidationFor(io.apicurio.registry.storage.StorageEventType,
+     *      org.json.JSONObject)
+     */
+    @Override
+    protected Runnable invalidationFor(StorageEventType type, JSONObject payload) {
+        return switch (type) {
+            case ARTIFACT_VERSION_STATE_CHANGED, ARTIFACT_VERSION_DELETED, ARTIFACT_DELETED, GROUP_DELETED ->
+                this::invalidateAll;
+            default -> null;
+        };
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#clear()
+     */
+    @Override
+    protected void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void updateArtifactVersionContent(String groupId, String artifactId, String version,
+            String artifactType, ContentWrapperDto content) throws RegistryStorageException {
+        try {
+            super.updateArtifactVersionContent(groupId, artifactId, version, artifactType, content);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        try {
+            super.deleteArtifacts(groupId);
+        } finally {
+            invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.apicurio.registry.rest.cache;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Identifies the content returned by the current request, so that its gzip encoding can be cached without
+ * reading the content, see {@link CompressedContentCache}.
+ */
+@RequestScoped
+public class ServedContentContext {
+
+    private String contentKey;
+
+    /**
+     * @return the key of the returned content, or null if it is not known
+     */
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    /**
+     * Called with a key identifying the bytes of the returned content, e.g. its stored content hash.
+     */
+    public void setContentKey(String contentKey) {
+        this.contentKey = contentKey;
+    }
+}
@@ -60,7 +60,7 @@ public class IdsResourceImpl implements IdsResource {
     @Override
     @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
     public Response getContentById(long contentId) {
-        ContentHandle content = storage.getContentById(contentId).getContent();
+        ContentHandle content = storage.getStreamedContentById(contentId).getContent();
         Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
         return builder.build();
     }
@@ -80,7 +80,7 @@ public class IdsResourceImpl implements IdsResource {
             dereference = Boolean.FALSE;
         }
 
-        StoredArtifactVersionDto artifact = storage.getArtifactVersionContent(globalId);
+        ContentWrapperDto artifact = storage.getStreamedContentById(metaData.getContentId());
 
         TypedContent contentToReturn = TypedContent.create(artifact.getContent(), artifact.getContentType());
 
@@ -114,7 +114,7 @@ public class IdsResourceImpl implements IdsResource {
     @Override
     @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
     public Response getContentByHash(String contentHash) {
-        ContentHandle content = storage.getContentByHash(contentHash).getContent();
+        ContentHandle content = storage.getStreamedContentByHash(contentHash).getContent();
         Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
         return builder.build();
     }
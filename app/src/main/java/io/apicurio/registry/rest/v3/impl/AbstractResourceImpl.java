@@ -4,9 +4,11 @@ import io.apicurio.common.apps.config.Info;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.dereference.ContentDereferencer;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
+import io.apicurio.registry.rest.cache.RenditionCache;
 import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.cdi.Current;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
@@ -25,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_API;
 
@@ -40,6 +43,9 @@ public abstract class AbstractResourceImpl {
     @Inject
     ArtifactTypeUtilProviderFactory factory;
 
+    @Inject
+    RenditionCache renditionCache;
+
     @Context
     HttpServletRequest request;
 
@@ -47,12 +53,40 @@ public abstract class AbstractResourceImpl {
     @Info(category = CATEGORY_API, description = "API base href (URI)", availableSince = "2.5.0.Final")
     String apiBaseHref;
 
+    /**
+     * Same as {@link #handleContentReferences(HandleReferencesType, String, TypedContent, List)}, but the
+     * result is cached, see {@link RenditionCache}.
+     *
+     * @return the rendition, with a null tag if the content is returned as is
+     */
+    protected RenditionCache.Rendition handleContentReferences(HandleReferencesType referencesType,
+            String artifactType, long contentId, TypedContent content, List<ArtifactReferenceDto> references) {
+        if (references.isEmpty() || referencesType == null || referencesType == HandleReferencesType.PRESERVE) {
+            return new RenditionCache.Rendition(content, null);
+        }
+        String baseHref = null;
+        if (referencesType == HandleReferencesType.REWRITE) {
+            URI apiBaseHref = resolveApiBaseHref();
+            baseHref = apiBaseHref == null ? null : apiBaseHref.toString();
+        }
+        return renditionCache.getRendition(contentId, referencesType, artifactType, content.getContentType(),
+                baseHref, storage::getContentByReference, referenceLoader -> handleContentReferences(
+                        referencesType, artifactType, content, references, referenceLoader));
+    }
+
     /**
      * Handle the content references based on the value of "HandleReferencesType" - this can either mean we
      * need to fully dereference the content, or we need to rewrite the references, or we do nothing.
      */
     protected TypedContent handleContentReferences(HandleReferencesType referencesType, String artifactType,
             TypedContent content, List<ArtifactReferenceDto> references) {
+        return handleContentReferences(referencesType, artifactType, content, references,
+                storage::getContentByReference);
+    }
+
+    private TypedContent handleContentReferences(HandleReferencesType referencesType, String artifactType,
+            TypedContent content, List<ArtifactReferenceDto> references,
+            Function<ArtifactReferenceDto, ContentWrapperDto> referenceLoader) {
         if (!references.isEmpty()) {
             if (referencesType == HandleReferencesType.DEREFERENCE) {
                 ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
@@ -60,14 +94,13 @@ public abstract class AbstractResourceImpl {
                 if (artifactTypeProvider.supportsReferencesWithContext()) {
                     RegistryContentUtils.RewrittenContentHolder rewrittenContent = RegistryContentUtils
                             .recursivelyResolveReferencesWithContext(factory, content, artifactType, references,
-                                    storage::getContentByReference);
+                                    referenceLoader);
 
                     content = artifactTypeProvider.getContentDereferencer().dereference(
                             rewrittenContent.getRewrittenContent(), rewrittenContent.getResolvedReferences());
                 } else {
                     content = artifactTypeProvider.getContentDereferencer().dereference(content,
-                            RegistryContentUtils.recursivelyResolveReferences(references,
-                                    storage::getContentByReference));
+                            RegistryContentUtils.recursivelyResolveReferences(references, referenceLoader));
                 }
             } else if (referencesType == HandleReferencesType.REWRITE) {
                 ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
@@ -108,6 +141,24 @@ public abstract class AbstractResourceImpl {
      * @param reference
      */
     protected String resolveReferenceUrl(ArtifactReferenceDto reference) {
+        URI baseHref = resolveApiBaseHref();
+        if (baseHref == null) {
+            return null;
+        }
+
+        String path = String.format("/apis/registry/v3/groups/%s/artifacts/%s/versions/%s/content?references=REWRITE",
+                URLEncoder.encode(reference.getGroupId(), StandardCharsets.UTF_8),
+                URLEncoder.encode(reference.getArtifactId(), StandardCharsets.UTF_8),
+                URLEncoder.encode(reference.getVersion(), StandardCharsets.UTF_8));
+        return baseHref.resolve(path).toString();
+    }
+
+    /**
+     * Determine the base href of the REST API, either from configuration or from the current request.
+     *
+     * @return the base href, or null if it could not be determined
+     */
+    private URI resolveApiBaseHref() {
         URI baseHref = null;
         try {
             if (!"_".equals(apiBaseHref)) {
@@ -125,14 +176,8 @@ public abstract class AbstractResourceImpl {
 
         if (baseHref == null) {
             this.log.warn("Failed to determine baseHref for the REST API.");
-            return null;
         }
-
-        String path = String.format("/apis/registry/v3/groups/%s/artifacts/%s/versions/%s/content?references=REWRITE",
-                URLEncoder.encode(reference.getGroupId(), StandardCharsets.UTF_8),
-                URLEncoder.encode(reference.getArtifactId(), StandardCharsets.UTF_8),
-                URLEncoder.encode(reference.getVersion(), StandardCharsets.UTF_8));
-        return baseHref.resolve(path).toString();
+        return baseHref;
     }
 
     /**
@@ -0,0 +1,330 @@
+package io.apicurio.registry.rest.v3.impl;
+
+import io.apicurio.registry.auth.Authorized;
+import io.apicurio.registry.auth.AuthorizedLevel;
+import io.apicurio.registry.auth.AuthorizedStyle;
+import io.apicurio.registry.logging.Logged;
+import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
+import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
+import io.apicurio.registry.model.GroupId;
+import io.apicurio.registry.rest.ParameterValidationUtils;
+import io.apicurio.registry.rest.RestConfig;
+import io.apicurio.registry.rest.v3.BatchResource;
+import io.apicurio.registry.rest.v3.GroupsResource;
+import io.apicurio.registry.rest.v3.beans.ArtifactReference;
+import io.apicurio.registry.rest.v3.beans.CreateArtifact;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactResponse;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatch;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatchItem;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatchResult;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatchResults;
+import io.apicurio.registry.rest.v3.beans.IfArtifactExists;
+import io.apicurio.registry.rest.v3.beans.ProblemDetails;
+import io.apicurio.registry.services.http.CoreRegistryExceptionMapperService;
+import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptors;
+import jakarta.ws.rs.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Creates several artifacts in a single request. Each artifact is created by the <code>createArtifact</code>
+ * operation of {@link GroupsResource} (so that the same validation, rules, authorization and auditing apply),
+ * in dependency order: artifacts referenced by other artifacts of the batch are created first, and
+ * references to them without a version are completed with the version created by the batch.
+ * <p>
+ * With SQL storage, the artifacts are created in chunks, each in a single database transaction (see
+ * {@link RestConfig#getArtifactsBatchChunkSize()}). If an artifact of a chunk cannot be created, the
+ * transaction is rolled back and the artifacts of the chunk are created again one by one, so that the result
+ * of each artifact is the same as without chunks.
+ */
+@ApplicationScoped
+@Interceptors({ResponseErrorLivenessCheck.class, ResponseTimeoutReadinessCheck.class})
+@Logged
+public class BatchResourceImpl implements BatchResource {
+
+    private static final int HTTP_FAILED_DEPENDENCY = 424;
+
+    @Inject
+    GroupsResource groupsResource;
+
+    @Inject
+    RestConfig restConfig;
+
+    @Inject
+    CoreRegistryExceptionMapperService exceptionMapper;
+
+    @Inject
+    HandleFactory handles;
+
+    @ConfigProperty(name = "apicurio.storage.kind")
+    String storageType;
+
+    /**
+     * @see io.apicurio.registry.rest.v3.BatchResource#createArtifacts(IfArtifactExists, Boolean, Boolean,
+     *      CreateArtifactsBatch)
+     */
+    @Override
+    @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Write)
+    public CreateArtifactsBatchResults createArtifacts(IfArtifactExists ifExists, Boolean canonical,
+            Boolean dryRun, CreateArtifactsBatch data) {
+        List<CreateArtifactsBatchItem> items = data.getArtifacts() == null ? List.of() : data.getArtifacts();
+        if (items.size() > restConfig.getArtifactsBatchMaxSize()) {
+            throw new BadRequestException("Too many artifacts in the batch: " + items.size() + " (max "
+                    + restConfig.getArtifactsBatchMaxSize() + ").");
+        }
+        for (int i = 0; i < items.size(); i++) {
+            ParameterValidationUtils.requireParameter("body.artifacts[" + i + "].artifact",
+                    items.get(i).getArtifact());
+        }
+
+        Batch batch = new Batch(items, ifExists, canonical, dryRun);
+        List<Integer> order = sortByDependencies(items, batch.dependencies);
+        int chunkSize = isChunked(ifExists, dryRun) ? Math.max(1, restConfig.getArtifactsBatchChunkSize()) : 1;
+        for (int from = 0; from < order.size(); from += chunkSize) {
+            List<Integer> chunk = order.subList(from, Math.min(from + chunkSize, order.size()));
+            if (chunk.size() == 1 || !createInTransaction(batch, chunk)) {
+                chunk.forEach(batch::create);
+            }
+        }
+
+        return CreateArtifactsBatchResults.builder().results(Arrays.asList(batch.results)).build();
+    }
+
+    /**
+     * The artifacts of the batch are created in chunks, each in a single database transaction, when using
+     * SQL storage. Not in a dry run, which already rolls back the transaction of each artifact, and not when
+     * the artifacts may exist, since an existing artifact rolls back the transaction in which it is found.
+     */
+    private boolean isChunked(IfArtifactExists ifExists, Boolean dryRun) {
+        return "sql".equals(storageType) && !Boolean.TRUE.equals(dryRun)
+                && (ifExists == null || ifExists == IfArtifactExists.FAIL);
+    }
+
+    /**
+     * Creates the given artifacts of the batch in a single transaction, which is only committed if all of
+     * them are created.
+     *
+     * @return false if the transaction was rolled back, in which case the artifacts have to be created again
+     *         (one by one) to get the result of each of them
+     */
+    private boolean createInTransaction(Batch batch, List<Integer> chunk) {
+        return handles.withHandleNoException(handle -> {
+            for (int index : chunk) {
+                if (!batch.create(index)) {
+                    handle.setRollback(true);
+                    break;
+                }
+            }
+            return !handle.isRollback();
+        });
+    }
+
+    /**
+     * Returns, for each artifact of the batch, the indexes of the other artifacts of the batch it references.
+     * A reference without a version, or to an artifact created without an explicit version, may refer to the
+     * version created by the batch.
+     */
+    private static List<List<Integer>> findDependencies(List<CreateArtifactsBatchItem> items) {
+        Map<String, List<Integer>> byArtifact = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String artifactId = items.get(i).getArtifact().getArtifactId();
+            if (artifactId != null) {
+                byArtifact.computeIfAbsent(artifactKey(groupId(items.get(i)), artifactId),
+                        k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<List<Integer>> dependencies = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            List<Integer> itemDependencies = new ArrayList<>();
+            for (ArtifactReference reference : references(items.get(i).getArtifact())) {
+                String key = artifactKey(new GroupId(reference.getGroupId()).getRawGroupIdWithDefaultString(),
+                        reference.getArtifactId());
+                for (int candidate : byArtifact.getOrDefault(key, List.of())) {
+                    String candidateVersion = version(items.get(candidate).getArtifact());
+                    if (candidate != i && !itemDependencies.contains(candidate)
+                            && (reference.getVersion() == null || candidateVersion == null
+                                    || reference.getVersion().equals(candidateVersion))) {
+                        itemDependencies.add(candidate);
+                    }
+                }
+            }
+            dependencies.add(itemDependencies);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Orders the artifacts of the batch so that each artifact comes after the artifacts it references, and
+     * otherwise keeps the order of the request.
+     */
+    private static List<Integer> sortByDependencies(List<CreateArtifactsBatchItem> items,
+            List<List<Integer>> dependencies) {
+        int[] pending = new int[items.size()];
+        List<List<Integer>> dependents = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            dependents.add(new ArrayList<>());
+        }
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < items.size(); i++) {
+            pending[i] = dependencies.get(i).size();
+            for (int dependency : dependencies.get(i)) {
+                dependents.get(dependency).add(i);
+            }
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(items.size());
+        while (!ready.isEmpty()) {
+            int index = ready.poll();
+            order.add(index);
+            for (int dependent : dependents.get(index)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < items.size()) {
+            String cycle = IntStream.range(0, items.size()).filter(i -> pending[i] > 0)
+                    .mapToObj(i -> groupId(items.get(i)) + "/" + items.get(i).getArtifact().getArtifactId())
+                    .collect(Collectors.joining(", "));
+            throw new BadRequestException(
+                    "The references between the artifacts of the batch form a cycle: " + cycle);
+        }
+        return order;
+    }
+
+    private static ProblemDetails failedDependencyError(CreateArtifactsBatchItem dependency) {
+        ProblemDetails error = new ProblemDetails();
+        error.setStatus(HTTP_FAILED_DEPENDENCY);
+        error.setName("FailedDependency");
+        error.setTitle("The artifact was not created because an artifact of the batch it references could "
+                + "not be created: " + groupId(dependency) + "/" + dependency.getArtifact().getArtifactId());
+        return error;
+    }
+
+    private static List<ArtifactReference> references(CreateArtifact artifact) {
+        if (artifact.getFirstVersion() == null || artifact.getFirstVersion().getContent() == null
+                || artifact.getFirstVersion().getContent().getReferences() == null) {
+            return List.of();
+        }
+        return artifact.getFirstVersion().getContent().getReferences().stream().filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static String version(CreateArtifact artifact) {
+        return artifact.getFirstVersion() == null ? null : artifact.getFirstVersion().getVersion();
+    }
+
+    private static String groupId(CreateArtifactsBatchItem item) {
+        return new GroupId(item.getGroupId()).getRawGroupIdWithDefaultString();
+    }
+
+    private static String artifactKey(String groupId, String artifactId) {
+        return groupId + "/" + artifactId;
+    }
+
+    /**
+     * The artifacts of a request and their results.
+     */
+    private class Batch {
+
+        final List<CreateArtifactsBatchItem> items;
+        final IfArtifactExists ifExists;
+        final Boolean canonical;
+        final Boolean dryRun;
+        final List<List<Integer>> dependencies;
+        final CreateArtifactsBatchResult[] results;
+        /**
+         * References of the request without a version, completed when the artifact is created.
+         */
+        final Set<ArtifactReference> unversionedReferences = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Batch(List<CreateArtifactsBatchItem> items, IfArtifactExists ifExists, Boolean canonical,
+                Boolean dryRun) {
+            this.items = items;
+            this.ifExists = ifExists;
+            this.canonical = canonical;
+            this.dryRun = dryRun;
+            this.dependencies = findDependencies(items);
+            this.results = new CreateArtifactsBatchResult[items.size()];
+            items.forEach(item -> references(item.getArtifact()).stream()
+                    .filter(reference -> reference.getVersion() == null).forEach(unversionedReferences::add));
+        }
+
+        /**
+         * Creates the artifact with the given index, once the artifacts it depends on are created, and sets
+         * its result (replacing the result of a previous attempt).
+         *
+         * @return true if the artifact was created
+         */
+        boolean create(int index) {
+            CreateArtifactsBatchItem item = items.get(index);
+            CreateArtifact artifact = item.getArtifact();
+            CreateArtifactsBatchResult result = CreateArtifactsBatchResult.builder().groupId(groupId(item))
+                    .artifactId(artifact.getArtifactId()).build();
+            results[index] = result;
+
+            Integer failedDependency = dependencies.get(index).stream()
+                    .filter(dependency -> results[dependency].getError() != null).findFirst().orElse(null);
+            if (failedDependency != null) {
+                result.setError(failedDependencyError(items.get(failedDependency)));
+                return false;
+            }
+
+            completeReferences(artifact, dependencies.get(index));
+            try {
+                CreateArtifactResponse response = groupsResource.createArtifact(groupId(item), ifExists,
+                        canonical, dryRun, artifact);
+                result.setArtifactId(response.getArtifact().getArtifactId());
+                result.setArtifact(response.getArtifact());
+                result.setVersion(response.getVersion());
+                return true;
+            } catch (Exception e) {
+                result.setError(exceptionMapper.toProblemDetails(e));
+                return false;
+            }
+        }
+
+        /**
+         * Sets the version of the references (without a version) to artifacts of the batch that were already
+         * created.
+         */
+        private void completeReferences(CreateArtifact artifact, List<Integer> artifactDependencies) {
+            for (ArtifactReference reference : references(artifact)) {
+                if (!unversionedReferences.contains(reference)) {
+                    continue;
+                }
+                // Possibly completed by a previous attempt, with a version that was rolled back
+                reference.setVersion(null);
+                String key = artifactKey(new GroupId(reference.getGroupId()).getRawGroupIdWithDefaultString(),
+                        reference.getArtifactId());
+                for (int dependency : artifactDependencies) {
+                    CreateArtifactsBatchResult result = results[dependency];
+                    if (result.getVersion() != null && key.equals(
+                            artifactKey(groupId(items.get(dependency)), result.getArtifactId()))) {
+                        reference.setVersion(result.getVersion().getVersion());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.apicurio.registry.rest.v3.impl;
+
+import io.apicurio.registry.auth.Authorized;
+import io.apicurio.registry.auth.AuthorizedLevel;
+import io.apicurio.registry.auth.AuthorizedStyle;
+import io.apicurio.registry.events.ChangeEventStream;
+import io.apicurio.registry.logging.Logged;
+import io.apicurio.registry.rest.v3.EventsResource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import org.reactivestreams.Publisher;
+
+/**
+ * Server-Sent Events stream of registry changes, see {@link ChangeEventStream}.
+ */
+@ApplicationScoped
+@Logged
+public class ChangeEventsResourceImpl implements EventsResource {
+
+    @Inject
+    ChangeEventStream changeEventStream;
+
+    /**
+     * @see io.apicurio.registry.rest.v3.EventsResource#streamChanges(java.lang.String)
+     */
+    @Override
+    @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
+    public Publisher<OutboundSseEvent> streamChanges(String lastEventID) {
+        if (!changeEventStream.isEnabled()) {
+            throw new NotFoundException();
+        }
+        return changeEventStream.subscribe(lastEventID);
+    }
+}
@@ -20,9 +20,12 @@ import io.apicurio.registry.rest.MethodMetadata;
 import io.apicurio.registry.rest.MissingRequiredParameterException;
 import io.apicurio.registry.rest.ParameterValidationUtils;
 import io.apicurio.registry.rest.RestConfig;
+import io.apicurio.registry.rest.cache.ModeratelyCacheableHeaders;
+import io.apicurio.registry.rest.cache.RenditionCache;
 import io.apicurio.registry.rest.v3.GroupsResource;
 import io.apicurio.registry.rest.v3.beans.*;
 import io.apicurio.registry.rest.v3.impl.shared.ProtobufExporter;
+import io.apicurio.registry.rest.v3.impl.shared.ReferenceContentResolver;
 import io.apicurio.registry.rules.RuleApplicationType;
 import io.apicurio.registry.rules.RulesService;
 import io.apicurio.registry.storage.RegistryStorage.RetrievalBehavior;
@@ -53,6 +56,8 @@ import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.NotAllowedException;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -111,6 +116,15 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
     @Inject
     ProtobufExporter protobufExporter;
 
+    @Inject
+    ModeratelyCacheableHeaders moderatelyCacheableHeaders;
+
+    @Inject
+    ReferenceContentResolver referenceContentResolver;
+
+    @Context
+    Request jaxrsRequest;
+
     public enum RegistryHashAlgorithm {
         SHA256, MD5
     }
@@ -834,21 +848,48 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         if (VersionState.DISABLED.equals(metaData.getState())) {
             throw new VersionNotFoundException(groupId, artifactId, versionExpression);
         }
-        StoredArtifactVersionDto artifact = storage.getArtifactVersionContent(gav.getRawGroupIdWithNull(),
-                gav.getRawArtifactId(), gav.getRawVersionId());
+
+        // Content resolved from a branch is moderately cacheable, answer conditional requests before
+        // loading the content, unless its references are handled: the rendition has to be computed first
+        BranchMetaDataDto branch = null;
+        ModeratelyCacheableHeaders.Validators validators = null;
+        if (!VersionId.isValid(versionExpression) && moderatelyCacheableHeaders.isEnabled()) {
+            BranchId branchId = new BranchId(versionExpression.substring(versionExpression.indexOf('=') + 1));
+            branch = storage.getBranchMetaData(new GA(groupId, artifactId), branchId);
+            if (references == HandleReferencesType.PRESERVE) {
+                validators = moderatelyCacheableHeaders.validators(metaData, branch, null);
+                Response notModified = moderatelyCacheableHeaders.evaluatePreconditions(jaxrsRequest,
+                        validators);
+                if (notModified != null) {
+                    return notModified;
+                }
+            }
+        }
+
+        ContentWrapperDto artifact = storage.getStreamedContentById(metaData.getContentId());
 
         // Throw 404 if the version actually has "no content" based on the content-type
         if (ContentTypes.isEmptyContentType(artifact.getContentType())) {
-            throw new ContentNotFoundException(artifact.getContentId());
+            throw new ContentNotFoundException(metaData.getContentId());
         }
 
-        TypedContent contentToReturn = TypedContent.create(artifact.getContent(), artifact.getContentType());
-        contentToReturn = handleContentReferences(references, metaData.getArtifactType(), contentToReturn,
+        RenditionCache.Rendition rendition = handleContentReferences(references, metaData.getArtifactType(),
+                metaData.getContentId(), TypedContent.create(artifact.getContent(), artifact.getContentType()),
                 artifact.getReferences());
+        if (branch != null && validators == null) {
+            validators = moderatelyCacheableHeaders.validators(metaData, branch, rendition.tag());
+            Response notModified = moderatelyCacheableHeaders.evaluatePreconditions(jaxrsRequest, validators);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
 
-        Response.ResponseBuilder builder = Response.ok(contentToReturn.getContent(),
+        Response.ResponseBuilder builder = Response.ok(rendition.content().getContent(),
                 artifact.getContentType());
         checkIfDeprecated(metaData::getState, groupId, artifactId, versionExpression, builder);
+        if (validators != null) {
+            moderatelyCacheableHeaders.addHeaders(builder, validators);
+        }
         return builder.build();
     }
 
@@ -1296,7 +1337,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
 
                 // Try to resolve the references
                 final Map<String, TypedContent> resolvedReferences = RegistryContentUtils
-                        .recursivelyResolveReferences(referencesAsDtos, storage::getContentByReference);
+                        .recursivelyResolveReferences(referencesAsDtos,
+                                referenceContentResolver::getContentByReference);
 
                 // Apply any configured rules unless it is a DRAFT version (unless draft production mode is enabled)
                 if (!firstVersionIsDraft || restConfig.isDraftProductionModeEnabled()) {
@@ -1396,7 +1438,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         if (!isDraft || restConfig.isDraftProductionModeEnabled()) {
             // Try to resolve the new artifact references and the nested ones (if any)
             final Map<String, TypedContent> resolvedReferences = RegistryContentUtils
-                    .recursivelyResolveReferences(referencesAsDtos, storage::getContentByReference);
+                    .recursivelyResolveReferences(referencesAsDtos,
+                            referenceContentResolver::getContentByReference);
 
             TypedContent typedContent = TypedContent.create(content, ct);
             rulesService.applyRules(new GroupId(groupId).getRawGroupIdWithNull(), artifactId, artifactType,
@@ -1669,7 +1712,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         // Apply rules only if not a draft version (unless draft production mode is enabled)
         if (!isDraftVersion || restConfig.isDraftProductionModeEnabled()) {
             final Map<String, TypedContent> resolvedReferences = RegistryContentUtils
-                    .recursivelyResolveReferences(referencesAsDtos, storage::getContentByReference);
+                    .recursivelyResolveReferences(referencesAsDtos,
+                            referenceContentResolver::getContentByReference);
             final TypedContent typedContent = TypedContent.create(content, contentType);
             rulesService.applyRules(new GroupId(groupId).getRawGroupIdWithNull(), artifactId, artifactType,
                     typedContent, RuleApplicationType.UPDATE, references, resolvedReferences);
@@ -1769,16 +1813,15 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
                     "Artifact type must be PROMPT_TEMPLATE, but was: " + artifactType);
         }
 
-        // Get the content
-        StoredArtifactVersionDto storedArtifact = storage.getArtifactVersionContent(
-                gav.getRawGroupIdWithNull(), gav.getRawArtifactId(), gav.getRawVersionId());
-
         // Convert variables map - Variables bean uses additionalProperties for dynamic keys
         Map<String, Object> variables = data.getVariables().getAdditionalProperties();
 
-        // Render the template
+        // Render the template, the content is only loaded if the compiled template is not cached. It is loaded
+        // by content ID, the cache key, since the content of a draft version can change in the meantime
+        long contentId = versionMetaData.getContentId();
         return promptRenderingService.render(
-                storedArtifact.getContent(),
+                contentId,
+                () -> storage.getContentById(contentId).getContent(),
                 variables,
                 gav.getRawGroupIdWithNull() != null ? gav.getRawGroupIdWithNull() : "default",
                 gav.getRawArtifactId(),
@@ -12,8 +12,14 @@ import io.apicurio.registry.rest.HeadersHack;
 import io.apicurio.registry.rest.MethodMetadata;
 import io.apicurio.registry.rest.RestConfig;
 import io.apicurio.registry.rest.cache.ImmutableCache;
+import io.apicurio.registry.rest.cache.ModeratelyCacheableHeaders;
+import io.apicurio.registry.rest.cache.RenditionCache;
+import io.apicurio.registry.rest.cache.ServedContentContext;
 import io.apicurio.registry.rest.v3.IdsResource;
 import io.apicurio.registry.rest.v3.beans.ArtifactReference;
+import io.apicurio.registry.rest.v3.beans.ContentBatch;
+import io.apicurio.registry.rest.v3.beans.ContentBatchItem;
+import io.apicurio.registry.rest.v3.beans.ContentBatchRequest;
 import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
 import io.apicurio.registry.rest.v3.impl.shared.CommonResourceOperations;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
@@ -28,9 +34,16 @@ import io.apicurio.registry.types.VersionState;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptors;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -47,6 +60,15 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @Inject
     RestConfig restConfig;
 
+    @Inject
+    ModeratelyCacheableHeaders moderatelyCacheableHeaders;
+
+    @Inject
+    ServedContentContext servedContent;
+
+    @Context
+    Request jaxrsRequest;
+
     private void checkIfDeprecated(Supplier<VersionState> stateSupplier, String artifactId, String version,
                                    Response.ResponseBuilder builder) {
         HeadersHack.checkIfDeprecated(stateSupplier, null, artifactId, version, builder);
@@ -60,13 +82,14 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @ImmutableCache
     @MethodMetadata(extractParameters = {"0", MPK_ENTITY_ID})
     public Response getContentById(long contentId) {
-        ContentWrapperDto dto = storage.getContentById(contentId);
+        ContentWrapperDto dto = storage.getStreamedContentById(contentId);
         boolean isEmptyContent = ContentTypes.isEmptyContentType(dto.getContentType());
         boolean isDraft = dto.getContentHash() != null && dto.getContentHash().startsWith("draft:");
         if (isEmptyContent || (isDraft && !restConfig.isDraftProductionModeEnabled())) {
             throw new ContentNotFoundException(contentId);
         }
         ContentHandle content = dto.getContent();
+        servedContent.setContentKey(dto.getContentHash());
         Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
         return builder.build();
     }
@@ -92,18 +115,31 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
             references = HandleReferencesType.PRESERVE;
         }
 
-        StoredArtifactVersionDto artifact = storage.getArtifactVersionContent(globalId);
+        ContentWrapperDto artifact = storage.getStreamedContentById(metaData.getContentId());
         boolean isEmptyContent = ContentTypes.isEmptyContentType(artifact.getContentType());
         if (isEmptyContent) {
-            throw new ContentNotFoundException(artifact.getContentId());
+            throw new ContentNotFoundException(metaData.getContentId());
         }
 
-        TypedContent contentToReturn = TypedContent.create(artifact.getContent(), artifact.getContentType());
-        contentToReturn = handleContentReferences(references, metaData.getArtifactType(), contentToReturn,
+        RenditionCache.Rendition rendition = handleContentReferences(references, metaData.getArtifactType(),
+                metaData.getContentId(), TypedContent.create(artifact.getContent(), artifact.getContentType()),
                 artifact.getReferences());
+        TypedContent contentToReturn = rendition.content();
+        servedContent.setContentKey(rendition.tag() == null ? artifact.getContentHash()
+            : artifact.getContentHash() + "-" + rendition.tag());
 
         Response.ResponseBuilder builder = Response.ok(contentToReturn.getContent(),
                 contentToReturn.getContentType());
+        if (rendition.tag() != null) {
+            // Unlike the content, a rendition changes with the referenced versions
+            ModeratelyCacheableHeaders.Validators validators = moderatelyCacheableHeaders.validators(globalId,
+                    rendition.tag());
+            Response notModified = moderatelyCacheableHeaders.evaluatePreconditions(jaxrsRequest, validators);
+            if (notModified != null) {
+                return notModified;
+            }
+            moderatelyCacheableHeaders.addHeaders(builder, validators);
+        }
         if (returnArtifactType != null && returnArtifactType) {
             builder.header("X-Registry-ArtifactType", metaData.getArtifactType());
         }
@@ -119,11 +155,95 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @ImmutableCache
     @MethodMetadata(extractParameters = {"0", MPK_ENTITY_ID})
     public Response getContentByHash(String contentHash) {
-        ContentHandle content = storage.getContentByHash(contentHash).getContent();
-        Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
+        ContentWrapperDto dto = storage.getStreamedContentByHash(contentHash);
+        servedContent.setContentKey(dto.getContentHash());
+        Response.ResponseBuilder builder = Response.ok(dto.getContent(), ArtifactMediaTypes.BINARY);
         return builder.build();
     }
 
+    /**
+     * @see io.apicurio.registry.rest.v3.IdsResource#getContentBatch(HandleReferencesType, ContentBatchRequest)
+     */
+    @Override
+    @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
+    public ContentBatch getContentBatch(HandleReferencesType references, ContentBatchRequest data) {
+        List<Long> globalIds = data.getGlobalIds() == null ? List.of() : data.getGlobalIds();
+        List<Long> contentIds = data.getContentIds() == null ? List.of() : data.getContentIds();
+        List<String> contentHashes = data.getContentHashes() == null ? List.of() : data.getContentHashes();
+        int count = globalIds.size() + contentIds.size() + contentHashes.size();
+        if (count > restConfig.getIdsBatchMaxSize()) {
+            throw new BadRequestException("Too many identifiers requested: " + count + " (max "
+                    + restConfig.getIdsBatchMaxSize() + ").");
+        }
+        if (references == null) {
+            references = HandleReferencesType.PRESERVE;
+        }
+
+        Map<Long, ArtifactVersionMetaDataDto> versions = globalIds.isEmpty() ? Map.of()
+            : storage.getArtifactVersionMetaDataByGlobalIds(globalIds);
+        // The content of the versions and the content requested by ID are fetched together
+        Set<Long> allContentIds = new HashSet<>(contentIds);
+        versions.values().forEach(vmd -> allContentIds.add(vmd.getContentId()));
+        Map<Long, ContentWrapperDto> contents = allContentIds.isEmpty() ? Map.of()
+            : storage.getContentByIds(allContentIds);
+        Map<String, ContentWrapperDto> contentsByHash = contentHashes.isEmpty() ? Map.of()
+            : storage.getContentByHashes(contentHashes);
+
+        List<ContentBatchItem> items = new ArrayList<>(count);
+        for (Long globalId : globalIds) {
+            ArtifactVersionMetaDataDto vmd = versions.get(globalId);
+            if (vmd == null || VersionState.DISABLED.equals(vmd.getState())
+                    || (VersionState.DRAFT.equals(vmd.getState())
+                            && !restConfig.isDraftProductionModeEnabled())) {
+                continue;
+            }
+            ContentWrapperDto content = contents.get(vmd.getContentId());
+            if (content == null || ContentTypes.isEmptyContentType(content.getContentType())) {
+                continue;
+            }
+            TypedContent contentToReturn = handleContentReferences(references, vmd.getArtifactType(),
+                    vmd.getContentId(), TypedContent.create(content.getContent(), content.getContentType()),
+                    content.getReferences()).content();
+            items.add(toBatchItem(content, contentToReturn).globalId(globalId)
+                    .artifactType(vmd.getArtifactType()).build());
+        }
+        for (Long contentId : contentIds) {
+            ContentWrapperDto content = contents.get(contentId);
+            if (isServableContent(content)) {
+                items.add(toBatchItem(content,
+                        TypedContent.create(content.getContent(), content.getContentType())).build());
+            }
+        }
+        for (String contentHash : contentHashes) {
+            ContentWrapperDto content = contentsByHash.get(contentHash);
+            if (content != null) {
+                items.add(toBatchItem(content,
+                        TypedContent.create(content.getContent(), content.getContentType())).build());
+            }
+        }
+        return ContentBatch.builder().contents(items).build();
+    }
+
+    /**
+     * Same checks as {@link #getContentById(long)}.
+     */
+    private boolean isServableContent(ContentWrapperDto content) {
+        if (content == null || ContentTypes.isEmptyContentType(content.getContentType())) {
+            return false;
+        }
+        boolean isDraft = content.getContentHash() != null && content.getContentHash().startsWith("draft:");
+        return !isDraft || restConfig.isDraftProductionModeEnabled();
+    }
+
+    private static ContentBatchItem.ContentBatchItemBuilder<?, ?> toBatchItem(ContentWrapperDto content,
+            TypedContent contentToReturn) {
+        return ContentBatchItem.builder().contentId(content.getContentId()).contentHash(content.getContentHash())
+                .contentType(contentToReturn.getContentType())
+                .content(contentToReturn.getContent().content())
+                .references(content.getReferences().stream().map(V3ApiUtil::referenceDtoToReference)
+                        .collect(Collectors.toList()));
+    }
+
     /**
      * @see io.apicurio.registry.rest.v3.IdsResource#referencesByContentHash(java.lang.String)
      */
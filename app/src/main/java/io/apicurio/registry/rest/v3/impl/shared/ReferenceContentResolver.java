@@ -0,0 +1,47 @@
+package io.apicurio.registry.rest.v3.impl.shared;
+
+import io.apicurio.registry.cdi.Current;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the content of references for the current request. The content of a referenced version is only
+ * loaded once per request, even when it is referenced by several artifacts, e.g. a shared dependency of the
+ * artifacts of a batch registration.
+ * <p>
+ * Only references to a specific version are kept, since the version a reference without a version resolves
+ * to can change during the request (e.g. when a batch creates a new version of the referenced artifact).
+ */
+@RequestScoped
+public class ReferenceContentResolver {
+
+    @Inject
+    @Current
+    RegistryStorage storage;
+
+    private final Map<String, ContentWrapperDto> contents = new HashMap<>();
+
+    /**
+     * Same as {@link RegistryStorage#getContentByReference(ArtifactReferenceDto)}.
+     */
+    public ContentWrapperDto getContentByReference(ArtifactReferenceDto reference) {
+        if (reference.getVersion() == null) {
+            return storage.getContentByReference(reference);
+        }
+        String key = reference.getGroupId() + "/" + reference.getArtifactId() + "/" + reference.getVersion();
+        ContentWrapperDto content = contents.get(key);
+        if (content == null) {
+            content = storage.getContentByReference(reference);
+            if (content != null) {
+                contents.put(key, content);
+            }
+        }
+        return content;
+    }
+}
@@ -0,0 +1,319 @@
+package io.apicurio.registry.rules;
+
+import com.google.common.cache.Cache;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.GroupNotFoundException;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.error.RuleAlreadyExistsException;
+import io.apicurio.registry.storage.error.RuleNotFoundException;
+import io.apicurio.registry.types.RuleType;
+import io.apicurio.registry.utils.impexp.v3.ArtifactRuleEntity;
+import io.apicurio.registry.utils.impexp.v3.GlobalRuleEntity;
+import io.apicurio.registry.utils.impexp.v3.GroupRuleEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+
+/**
+ * Caches the effective rules (artifact, group, global and default global rules merged together) that apply to
+ * an artifact, so that rule execution does not need several database queries per created version.
+ * <p>
+ * Entries are invalidated when rules, groups or artifacts change, see {@link RegistryStorageCacheDecoratorBase}.
+ * <p>
+ * A version accepted under outdated rules stays accepted, so the cache is only enabled by default with
+ * KafkaSQL. With a SQL database shared by several nodes, a rule added or tightened through one node would not
+ * be enforced by the others until their entries expire.
+ */
+@ApplicationScoped
+public class EffectiveRulesCache extends RegistryStorageCacheDecoratorBase {
+
+    private static final String DEFAULT_GROUP = "default";
+
+    @ConfigProperty(name = "apicurio.rules.cache.enabled")
+    @Info(category = CATEGORY_CACHE, description = "Cache the effective rules applied when creating artifact versions. "
+            + "Enabled by default with the kafkasql storage only.", availableSince = "3.2.0")
+    Optional<Boolean> enabled;
+
+    @ConfigProperty(name = "apicurio.rules.cache.expire-after-write.ms", defaultValue = "10000")
+    @Info(category = CATEGORY_CACHE, description = "Time after which the cached effective rules of an artifact are reloaded", availableSince = "3.2.0")
+    long expireAfterWrite;
+
+    @ConfigProperty(name = "apicurio.rules.cache.max-size", defaultValue = "10000")
+    @Info(category = CATEGORY_CACHE, description = "Maximum number of artifacts for which the effective rules are cached", availableSince = "3.2.0")
+    long maxSize;
+
+    private Cache<RulesKey, Map<RuleType, RuleConfigurationDto>> cache;
+
+    /**
+     * The artifactId is null when the rules are resolved for a new artifact, which cannot have artifact rules
+     * yet.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class RulesKey {
+        private final String groupId;
+        private final String artifactId;
+    }
+
+    @PostConstruct
+    void init() {
+        cache = cacheBuilder(expireAfterWrite).maximumSize(maxSize).build();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return isEnabled(enabled);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.RULES_CACHE_DECORATOR;
+    }
+
+    /**
+     * Returns the effective rules for the given artifact, using the loader on a cache miss.
+     *
+     * @param artifactId null when resolving the rules of an artifact that does not exist yet
+     */
+    public Map<RuleType, RuleConfigurationDto> getEffectiveRules(String groupId, String artifactId,
+            Supplier<Map<RuleType, RuleConfigurationDto>> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        return load(cache, new RulesKey(normalize(groupId), artifactId),
+                () -> Collections.unmodifiableMap(loader.get()));
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#invalidationFor(io.apicurio.registry.storage.StorageEventType,
+     *      org.json.JSONObject)
+     */
+    @Override
+    protected Runnable invalidationFor(StorageEventType type, JSONObject payload) {
+        String groupId = payload.optString("groupId", null);
+        String artifactId = payload.optString("artifactId", null);
+        return switch (type) {
+            case GLOBAL_RULE_CONFIGURED -> this::invalidateAll;
+            case GROUP_RULE_CONFIGURED, GROUP_CREATED, GROUP_DELETED -> () -> invalidateGroup(groupId);
+            case ARTIFACT_RULE_CONFIGURED, ARTIFACT_CREATED, ARTIFACT_DELETED ->
+                () -> invalidateArtifact(groupId, artifactId);
+            default -> null;
+        };
+    }
+
+    private void invalidateArtifact(String groupId, String artifactId) {
+        invalidate(() -> cache.invalidate(new RulesKey(normalize(groupId), artifactId)));
+    }
+
+    private void invalidateGroup(String groupId) {
+        String normalized = normalize(groupId);
+        invalidate(() -> cache.asMap().keySet().removeIf(key -> Objects.equals(key.groupId, normalized)));
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#clear()
+     */
+    @Override
+    protected void clear() {
+        cache.invalidateAll();
+    }
+
+    private static String normalize(String groupId) {
+        return groupId == null ? DEFAULT_GROUP : groupId;
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        try {
+            return super.deleteArtifact(groupId, artifactId);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        try {
+            super.deleteArtifacts(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws GroupNotFoundException, RegistryStorageException {
+        try {
+            super.deleteGroup(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void createArtifactRule(String groupId, String artifactId, RuleType rule,
+            RuleConfigurationDto config) throws RegistryStorageException {
+        try {
+            super.createArtifactRule(groupId, artifactId, rule, config);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void updateArtifactRule(String groupId, String artifactId, RuleType rule,
+            RuleConfigurationDto config)
+            throws ArtifactNotFoundException, RuleNotFoundException, RegistryStorageException {
+        try {
+            super.updateArtifactRule(groupId, artifactId, rule, config);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifactRule(String groupId, String artifactId, RuleType rule)
+            throws ArtifactNotFoundException, RuleNotFoundException, RegistryStorageException {
+        try {
+            super.deleteArtifactRule(groupId, artifactId, rule);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifactRules(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        try {
+            super.deleteArtifactRules(groupId, artifactId);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void createGroupRule(String groupId, RuleType rule, RuleConfigurationDto config)
+            throws RegistryStorageException {
+        try {
+            super.createGroupRule(groupId, rule, config);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void updateGroupRule(String groupId, RuleType rule, RuleConfigurationDto config)
+            throws RegistryStorageException {
+        try {
+            super.updateGroupRule(groupId, rule, config);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void deleteGroupRule(String groupId, RuleType rule) throws RegistryStorageException {
+        try {
+            super.deleteGroupRule(groupId, rule);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void deleteGroupRules(String groupId) throws RegistryStorageException {
+        try {
+            super.deleteGroupRules(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void createGlobalRule(RuleType rule, RuleConfigurationDto config)
+            throws RuleAlreadyExistsException, RegistryStorageException {
+        try {
+            super.createGlobalRule(rule, config);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void updateGlobalRule(RuleType rule, RuleConfigurationDto config)
+            throws RuleNotFoundException, RegistryStorageException {
+        try {
+            super.updateGlobalRule(rule, config);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteGlobalRule(RuleType rule) throws RuleNotFoundException, RegistryStorageException {
+        try {
+            super.deleteGlobalRule(rule);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteGlobalRules() throws RegistryStorageException {
+        try {
+            super.deleteGlobalRules();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void importGlobalRule(GlobalRuleEntity entity) {
+        try {
+            super.importGlobalRule(entity);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void importGroupRule(GroupRuleEntity entity) {
+        try {
+            super.importGroupRule(entity);
+        } finally {
+            invalidateGroup(entity.groupId);
+        }
+    }
+
+    @Override
+    public void importArtifactRule(ArtifactRuleEntity entity) {
+        try {
+            super.importArtifactRule(entity);
+        } finally {
+            invalidateArtifact(entity.groupId, entity.artifactId);
+        }
+    }
+}
@@ -14,7 +14,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +39,9 @@ public class RulesServiceImpl implements RulesService {
     @Inject
     ArtifactTypeUtilProviderFactory providerFactory;
 
+    @Inject
+    EffectiveRulesCache effectiveRulesCache;
+
     /**
      * @see io.apicurio.registry.rules.RulesService#applyRules(String, String, String, TypedContent,
      *      RuleApplicationType, List, Map)
@@ -47,11 +50,6 @@ public class RulesServiceImpl implements RulesService {
     public void applyRules(String groupId, String artifactId, String artifactType, TypedContent content,
             RuleApplicationType ruleApplicationType, List<ArtifactReference> references,
             Map<String, TypedContent> resolvedReferences) throws RuleViolationException {
-        @SuppressWarnings("unchecked")
-        Set<RuleType> artifactRules = Collections.EMPTY_SET;
-        if (ruleApplicationType == RuleApplicationType.UPDATE) {
-            artifactRules = new HashSet<>(storage.getArtifactRules(groupId, artifactId));
-        }
         LazyContentList currentContent = null;
         if (ruleApplicationType == RuleApplicationType.UPDATE) {
             currentContent = new LazyContentList(storage,
@@ -60,20 +58,39 @@ public class RulesServiceImpl implements RulesService {
             currentContent = new LazyContentList(storage, Collections.emptyList());
         }
 
-        applyAllRules(groupId, artifactId, artifactType, currentContent, content, artifactRules, references,
-                resolvedReferences);
+        // A new artifact cannot have artifact rules yet
+        boolean includeArtifactRules = ruleApplicationType == RuleApplicationType.UPDATE;
+        applyAllRules(groupId, artifactId, artifactType, currentContent, content, includeArtifactRules,
+                references, resolvedReferences);
     }
 
     private void applyAllRules(String groupId, String artifactId, String artifactType,
-            List<TypedContent> currentContent, TypedContent updatedContent, Set<RuleType> artifactRules,
+            List<TypedContent> currentContent, TypedContent updatedContent, boolean includeArtifactRules,
             List<ArtifactReference> references, Map<String, TypedContent> resolvedReferences) {
 
-        // TODO Getting the list of rules to apply results in several (admittedly fast) DB calls.
-        // Can we perhaps do a single DB call to get the map of rules to apply?
+        Map<RuleType, RuleConfigurationDto> allRules = effectiveRulesCache.getEffectiveRules(groupId,
+                includeArtifactRules ? artifactId : null,
+                () -> loadEffectiveRules(groupId, artifactId, includeArtifactRules));
 
-        Map<RuleType, RuleConfigurationDto> allRules = new HashMap<>();
+        // Apply rules
+        for (RuleType ruleType : allRules.keySet()) {
+            applyRule(groupId, artifactId, artifactType, currentContent, updatedContent, ruleType,
+                    allRules.get(ruleType).getConfiguration(), references, resolvedReferences);
+        }
+    }
 
-        // Get the group rules (we already have the artifact rules)
+    /**
+     * Builds the map of rules to apply (may be empty), artifact rules taking precedence over group rules,
+     * which take precedence over global rules and finally over the configured default global rules.
+     */
+    private Map<RuleType, RuleConfigurationDto> loadEffectiveRules(String groupId, String artifactId,
+            boolean includeArtifactRules) {
+        Map<RuleType, RuleConfigurationDto> allRules = new EnumMap<>(RuleType.class);
+
+        Set<RuleType> artifactRules = includeArtifactRules
+            ? new HashSet<>(storage.getArtifactRules(groupId, artifactId)) : Set.of();
+
+        // Get the group rules
         Set<RuleType> groupRules = storage.isGroupExists(groupId)
             ? new HashSet<>(storage.getGroupRules(groupId)) : Set.of();
         // Get the global rules
@@ -93,12 +110,7 @@ public class RulesServiceImpl implements RulesService {
                 allRules.put(rt, rulesProperties.getDefaultGlobalRuleConfiguration(rt));
             }
         });
-
-        // Apply rules
-        for (RuleType ruleType : allRules.keySet()) {
-            applyRule(groupId, artifactId, artifactType, currentContent, updatedContent, ruleType,
-                    allRules.get(ruleType).getConfiguration(), references, resolvedReferences);
-        }
+        return allRules;
     }
 
     /**
@@ -146,8 +158,7 @@ public class RulesServiceImpl implements RulesService {
                 artifactVersion);
         TypedContent typedVersionContent = TypedContent.create(versionContent.getContent(),
                 versionContent.getContentType());
-        Set<RuleType> artifactRules = new HashSet<>(storage.getArtifactRules(groupId, artifactId));
         applyAllRules(groupId, artifactId, artifactType, Collections.singletonList(typedVersionContent),
-                updatedContent, artifactRules, references, resolvedReferences);
+                updatedContent, true, references, resolvedReferences);
     }
 }
@@ -0,0 +1,298 @@
+package io.apicurio.registry.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.rest.v3.beans.RenderValidationError;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A prompt template parsed once: the template text split into literal and placeholder segments, and the
+ * validation rules of its variables. Rendering is then a single pass over the segments, without parsing the
+ * template content again.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+final class CompiledPromptTemplate {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{([^}]+)\\}\\}");
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    /**
+     * Either a literal (variableName is null) or a placeholder, kept as is when the variable is not provided.
+     */
+    private record Segment(String text, String variableName) {
+    }
+
+    private record VariableRule(String name, boolean required, String type, List<String> enumValues,
+            Double minimum, Double maximum) {
+    }
+
+    private final List<Segment> segments;
+    private final List<VariableRule> rules;
+    /**
+     * Initial capacity of the rendered text: the literals plus some room for each placeholder.
+     */
+    private final int renderCapacity;
+
+    private CompiledPromptTemplate(List<Segment> segments, List<VariableRule> rules) {
+        this.segments = segments;
+        this.rules = rules;
+        this.renderCapacity = segments.stream()
+                .mapToInt(segment -> segment.variableName == null ? segment.text.length() : 16).sum();
+    }
+
+    /**
+     * Parses the prompt template content (YAML or JSON).
+     */
+    static CompiledPromptTemplate compile(ContentHandle content) throws Exception {
+        JsonNode templateNode = parseContent(content);
+
+        JsonNode templateField = templateNode.path("template");
+        if (templateField.isMissingNode()) {
+            throw new IllegalArgumentException("Prompt template is missing 'template' field");
+        }
+
+        return new CompiledPromptTemplate(splitTemplate(templateField.asText()),
+                compileRules(templateNode.path("variables")));
+    }
+
+    /**
+     * Parse content as YAML or JSON.
+     */
+    private static JsonNode parseContent(ContentHandle content) throws Exception {
+        String text = content.content();
+
+        // Try YAML first (which also handles JSON)
+        try {
+            return YAML_MAPPER.readTree(text);
+        } catch (Exception e) {
+            // Fall back to JSON
+            return JSON_MAPPER.readTree(text);
+        }
+    }
+
+    /**
+     * Split the template text into literals and {{variable}} placeholders.
+     */
+    private static List<Segment> splitTemplate(String template) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = VARIABLE_PATTERN.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                segments.add(new Segment(template.substring(position, matcher.start()), null));
+            }
+            segments.add(new Segment(matcher.group(0), matcher.group(1).trim()));
+            position = matcher.end();
+        }
+        if (position < template.length()) {
+            segments.add(new Segment(template.substring(position), null));
+        }
+        return List.copyOf(segments);
+    }
+
+    /**
+     * Extract the validation rules from the variables schema defined in the template.
+     */
+    private static List<VariableRule> compileRules(JsonNode variablesSchema) {
+        if (variablesSchema.isMissingNode() || !variablesSchema.isObject()) {
+            // No schema to validate against
+            return List.of();
+        }
+
+        List<VariableRule> rules = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = variablesSchema.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode varSchema = field.getValue();
+            String type = varSchema.path("type").asText("string");
+
+            List<String> enumValues = null;
+            JsonNode enumNode = varSchema.path("enum");
+            if (!enumNode.isMissingNode() && enumNode.isArray()) {
+                enumValues = new ArrayList<>();
+                for (JsonNode enumValue : enumNode) {
+                    enumValues.add(enumValue.asText());
+                }
+                enumValues = List.copyOf(enumValues);
+            }
+
+            // Range constraints only apply to numeric types
+            Double minimum = null;
+            Double maximum = null;
+            if ("integer".equals(type) || "number".equals(type)) {
+                JsonNode minNode = varSchema.path("minimum");
+                minimum = minNode.isMissingNode() ? null : minNode.asDouble();
+                JsonNode maxNode = varSchema.path("maximum");
+                maximum = maxNode.isMissingNode() ? null : maxNode.asDouble();
+            }
+
+            rules.add(new VariableRule(field.getKey(), varSchema.path("required").asBoolean(false), type,
+                    enumValues, minimum, maximum));
+        }
+        return List.copyOf(rules);
+    }
+
+    /**
+     * Validate variables against the schema defined in the template.
+     */
+    List<RenderValidationError> validate(Map<String, Object> variables) {
+        List<RenderValidationError> errors = new ArrayList<>();
+
+        for (VariableRule rule : rules) {
+            // Check if required variable is present
+            if (!variables.containsKey(rule.name)) {
+                if (rule.required) {
+                    errors.add(RenderValidationError.builder()
+                            .variableName(rule.name)
+                            .message("Required variable is missing")
+                            .build());
+                }
+                continue;
+            }
+
+            Object value = variables.get(rule.name);
+            RenderValidationError typeError = validateType(rule.name, value, rule.type);
+            if (typeError != null) {
+                errors.add(typeError);
+            }
+
+            if (rule.enumValues != null) {
+                RenderValidationError enumError = validateEnum(rule.name, value, rule.enumValues);
+                if (enumError != null) {
+                    errors.add(enumError);
+                }
+            }
+
+            RenderValidationError rangeError = validateRange(rule.name, value, rule.minimum, rule.maximum);
+            if (rangeError != null) {
+                errors.add(rangeError);
+            }
+        }
+
+        return errors;
+    }
+
+    /**
+     * Validate that a value matches the expected type.
+     */
+    private static RenderValidationError validateType(String varName, Object value, String expectedType) {
+        boolean valid = switch (expectedType) {
+            case "string" -> value instanceof String;
+            case "integer" -> value instanceof Integer || value instanceof Long;
+            case "number" -> value instanceof Number;
+            case "boolean" -> value instanceof Boolean;
+            case "array" -> value instanceof List;
+            case "object" -> value instanceof Map;
+            default -> true; // Unknown types pass validation
+        };
+
+        if (!valid) {
+            String actualType = getTypeName(value);
+            return RenderValidationError.builder()
+                    .variableName(varName)
+                    .message("Type mismatch: expected " + expectedType + " but got " + actualType)
+                    .expectedType(expectedType)
+                    .actualType(actualType)
+                    .build();
+        }
+
+        return null;
+    }
+
+    /**
+     * Validate that a value is within the allowed enum values.
+     */
+    private static RenderValidationError validateEnum(String varName, Object value, List<String> enumValues) {
+        String strValue = String.valueOf(value);
+        if (enumValues.contains(strValue)) {
+            return null; // Valid
+        }
+
+        return RenderValidationError.builder()
+                .variableName(varName)
+                .message("Value '" + strValue + "' is not in allowed values: " + String.join(", ", enumValues))
+                .build();
+    }
+
+    /**
+     * Validate numeric range constraints.
+     */
+    private static RenderValidationError validateRange(String varName, Object value, Double min, Double max) {
+        if (!(value instanceof Number)) {
+            return null;
+        }
+
+        double numValue = ((Number) value).doubleValue();
+
+        if (min != null && numValue < min) {
+            return RenderValidationError.builder()
+                    .variableName(varName)
+                    .message("Value " + numValue + " is less than minimum " + min)
+                    .build();
+        }
+
+        if (max != null && numValue > max) {
+            return RenderValidationError.builder()
+                    .variableName(varName)
+                    .message("Value " + numValue + " is greater than maximum " + max)
+                    .build();
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the type name of a value.
+     */
+    private static String getTypeName(Object value) {
+        if (value == null) return "null";
+        if (value instanceof String) return "string";
+        if (value instanceof Integer || value instanceof Long) return "integer";
+        if (value instanceof Number) return "number";
+        if (value instanceof Boolean) return "boolean";
+        if (value instanceof List) return "array";
+        if (value instanceof Map) return "object";
+        return value.getClass().getSimpleName();
+    }
+
+    /**
+     * Substitute variables in the template text.
+     */
+    String render(Map<String, Object> variables) {
+        StringBuilder result = new StringBuilder(renderCapacity);
+        for (Segment segment : segments) {
+            if (segment.variableName == null) {
+                result.append(segment.text);
+            } else {
+                Object value = variables.get(segment.variableName);
+                // Keep the original placeholder if variable is not provided
+                result.append(value == null ? segment.text : formatValue(value));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Format a value for substitution into the template.
+     */
+    private static String formatValue(Object value) {
+        if (value instanceof List || value instanceof Map) {
+            try {
+                return JSON_MAPPER.writeValueAsString(value);
+            } catch (Exception e) {
+                return String.valueOf(value);
+            }
+        }
+        return String.valueOf(value);
+    }
+}
@@ -46,12 +46,36 @@ public class CoreRegistryExceptionMapperService {
     boolean includeStackTrace;
 
     public Response mapException(Throwable t) {
-        int code;
+        int code = getCode(t);
         Response response = null;
         if (t instanceof WebApplicationException) {
             WebApplicationException wae = (WebApplicationException) t;
             response = wae.getResponse();
-            code = response.getStatus();
+        }
+
+        Response.ResponseBuilder builder;
+        if (response != null) {
+            builder = Response.fromResponse(response);
+        } else {
+            builder = Response.status(code);
+        }
+
+        ProblemDetails error = toProblemDetails(t, code);
+        return builder.entity(error).type(MediaType.APPLICATION_JSON).build();
+    }
+
+    /**
+     * Maps an exception to the error returned for it, e.g. for an item of a batch operation that failed
+     * without failing the whole operation.
+     */
+    public ProblemDetails toProblemDetails(Throwable t) {
+        return toProblemDetails(t, getCode(t));
+    }
+
+    private int getCode(Throwable t) {
+        int code;
+        if (t instanceof WebApplicationException) {
+            code = ((WebApplicationException) t).getResponse().getStatus();
         } else {
             code = codeMap.getCode(t.getClass());
         }
@@ -64,16 +88,7 @@ public class CoreRegistryExceptionMapperService {
             }
             log.error("[500 ERROR DETECTED] : " + t.getMessage(), t);
         }
-
-        Response.ResponseBuilder builder;
-        if (response != null) {
-            builder = Response.fromResponse(response);
-        } else {
-            builder = Response.status(code);
-        }
-
-        ProblemDetails error = toProblemDetails(t, code);
-        return builder.entity(error).type(MediaType.APPLICATION_JSON).build();
+        return code;
     }
 
     private ProblemDetails toProblemDetails(Throwable t, int code) {
@@ -57,7 +57,9 @@ import io.apicurio.registry.utils.impexp.v3.GroupRuleEntity;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -158,6 +160,49 @@ public interface RegistryStorage extends DynamicConfigStorage {
     ContentWrapperDto getContentByHash(String contentHash)
             throws ContentNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets some artifact content by its contentId, like {@link #getContentById(long)}, but without reading
+     * large content up front where the storage allows it: the returned content is then read from storage
+     * each time it is streamed, so that it can be written to a response without holding it all in memory.
+     * Use this only when the content is streamed (read once or twice), not when its bytes are needed.
+     *
+     * @param contentId
+     * @throws ContentNotFoundException
+     * @throws RegistryStorageException
+     */
+    ContentWrapperDto getStreamedContentById(long contentId)
+            throws ContentNotFoundException, RegistryStorageException;
+
+    /**
+     * Gets some artifact content by the SHA-256 hash of that content, streamed from storage as described in
+     * {@link #getStreamedContentById(long)}.
+     *
+     * @param contentHash
+     * @throws ContentNotFoundException
+     * @throws RegistryStorageException
+     */
+    ContentWrapperDto getStreamedContentByHash(String contentHash)
+            throws ContentNotFoundException, RegistryStorageException;
+
+    /**
+     * Gets several pieces of content by their contentId at once. Content IDs that do not exist are absent
+     * from the result (no exception is thrown).
+     *
+     * @param contentIds
+     * @throws RegistryStorageException
+     */
+    Map<Long, ContentWrapperDto> getContentByIds(Collection<Long> contentIds) throws RegistryStorageException;
+
+    /**
+     * Gets several pieces of content by the SHA-256 hash of that content at once. Content hashes that do not
+     * exist are absent from the result (no exception is thrown).
+     *
+     * @param contentHashes
+     * @throws RegistryStorageException
+     */
+    Map<String, ContentWrapperDto> getContentByHashes(Collection<String> contentHashes)
+            throws RegistryStorageException;
+
     /**
      * Get a list of all artifact versions that refer to the same content.
      *
@@ -513,6 +558,16 @@ public interface RegistryStorage extends DynamicConfigStorage {
     ArtifactVersionMetaDataDto getArtifactVersionMetaData(Long globalId)
             throws VersionNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the stored meta-data for several artifact versions at once. Global IDs that do not exist are
+     * absent from the result (no exception is thrown).
+     *
+     * @param globalIds
+     * @throws RegistryStorageException
+     */
+    Map<Long, ArtifactVersionMetaDataDto> getArtifactVersionMetaDataByGlobalIds(Collection<Long> globalIds)
+            throws RegistryStorageException;
+
     /**
      * Updates the user-editable meta-data for a single version of a given artifact. Only the client-editable
      * meta-data can be updated. Client editable meta-data includes e.g. name and description.
@@ -0,0 +1,280 @@
+package io.apicurio.registry.storage.decorator;
+
+import com.google.common.cache.Cache;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.model.BranchId;
+import io.apicurio.registry.model.GA;
+import io.apicurio.registry.model.GAV;
+import io.apicurio.registry.model.GroupId;
+import io.apicurio.registry.model.VersionId;
+import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.BranchMetaDataDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
+import io.apicurio.registry.storage.error.ArtifactAlreadyExistsException;
+import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.GroupNotFoundException;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.error.VersionAlreadyExistsException;
+import io.apicurio.registry.storage.error.VersionNotFoundException;
+import io.apicurio.registry.types.VersionState;
+import io.apicurio.registry.utils.impexp.v3.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.v3.BranchEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+
+/**
+ * Caches branch tips, most importantly the <code>latest</code> version of artifacts, so that resolving
+ * <code>branch=latest</code> (or any other branch) does not need a database query on every request.
+ * <p>
+ * A tip is keyed by the artifact, the branch and the version states the tip is filtered by. All tips of an
+ * artifact are invalidated when one of its versions is created, deleted or changes state, or when one of its
+ * branches is modified, see {@link RegistryStorageCacheDecoratorBase}.
+ * <p>
+ * Tips change with every new version, and a client that just created a version expects to get it back as
+ * the <code>latest</code> one from any node. The cache is therefore only enabled by default with KafkaSQL.
+ */
+@ApplicationScoped
+public class BranchTipCache extends RegistryStorageCacheDecoratorBase {
+
+    @ConfigProperty(name = "apicurio.branch-tip.cache.enabled")
+    @Info(category = CATEGORY_CACHE, description = "Cache the tips of branches, e.g. the latest version of artifacts. "
+            + "Enabled by default with the kafkasql storage only.", availableSince = "3.2.0")
+    Optional<Boolean> enabled;
+
+    @ConfigProperty(name = "apicurio.branch-tip.cache.expire-after-write.ms", defaultValue = "10000")
+    @Info(category = CATEGORY_CACHE, description = "Time after which a cached branch tip is resolved again", availableSince = "3.2.0")
+    long expireAfterWrite;
+
+    @ConfigProperty(name = "apicurio.branch-tip.cache.max-size", defaultValue = "10000")
+    @Info(category = CATEGORY_CACHE, description = "Maximum number of cached branch tips", availableSince = "3.2.0")
+    long maxSize;
+
+    private Cache<TipKey, GAV> cache;
+
+    /**
+     * The group ID is the raw group ID, i.e. the default group has a single representation.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class TipKey {
+        private final String groupId;
+        private final String artifactId;
+        private final String branchId;
+        private final Set<VersionState> filterBy;
+    }
+
+    @PostConstruct
+    void init() {
+        cache = cacheBuilder(expireAfterWrite).maximumSize(maxSize).build();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return isEnabled(enabled);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.BRANCH_TIP_CACHE_DECORATOR;
+    }
+
+    @Override
+    public GAV getBranchTip(GA ga, BranchId branchId, Set<VersionState> filterBy) {
+        TipKey key = new TipKey(ga.getRawGroupId(), ga.getRawArtifactId(), branchId.getRawBranchId(),
+                filterBy == null ? null : Set.copyOf(filterBy));
+        // A missing tip (VersionNotFoundException) is not cached
+        return load(cache, key, () -> super.getBranchTip(ga, branchId, filterBy));
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#invalidationFor(io.apicurio.registry.storage.StorageEventType,
+     *      org.json.JSONObject)
+     */
+    @Override
+    protected Runnable invalidationFor(StorageEventType type, JSONObject payload) {
+        String groupId = payload.optString("groupId", null);
+        String artifactId = payload.optString("artifactId", null);
+        return switch (type) {
+            case GROUP_DELETED -> () -> invalidateGroup(groupId);
+            case ARTIFACT_CREATED, ARTIFACT_DELETED, ARTIFACT_VERSION_CREATED, ARTIFACT_VERSION_DELETED,
+                    ARTIFACT_VERSION_STATE_CHANGED, ARTIFACT_BRANCH_UPDATED ->
+                () -> invalidateArtifact(groupId, artifactId);
+            default -> null;
+        };
+    }
+
+    private void invalidateArtifact(String groupId, String artifactId) {
+        String rawGroupId = new GroupId(groupId).getRawGroupId();
+        invalidate(() -> cache.asMap().keySet().removeIf(
+                key -> Objects.equals(key.groupId, rawGroupId) && Objects.equals(key.artifactId, artifactId)));
+    }
+
+    private void invalidateArtifact(GA ga) {
+        invalidateArtifact(ga.getRawGroupId(), ga.getRawArtifactId());
+    }
+
+    private void invalidateGroup(String groupId) {
+        String rawGroupId = new GroupId(groupId).getRawGroupId();
+        invalidate(() -> cache.asMap().keySet().removeIf(key -> Objects.equals(key.groupId, rawGroupId)));
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase#clear()
+     */
+    @Override
+    protected void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public Pair<ArtifactMetaDataDto, ArtifactVersionMetaDataDto> createArtifact(String groupId,
+            String artifactId, String artifactType, EditableArtifactMetaDataDto artifactMetaData,
+            String version, ContentWrapperDto versionContent, EditableVersionMetaDataDto versionMetaData,
+            List<String> versionBranches, boolean versionIsDraft, boolean dryRun, String owner)
+            throws ArtifactAlreadyExistsException, RegistryStorageException {
+        try {
+            return super.createArtifact(groupId, artifactId, artifactType, artifactMetaData, version,
+                    versionContent, versionMetaData, versionBranches, versionIsDraft, dryRun, owner);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public ArtifactVersionMetaDataDto createArtifactVersion(String groupId, String artifactId, String version,
+            String artifactType, ContentWrapperDto content, EditableVersionMetaDataDto metaData,
+            List<String> branches, boolean isDraft, boolean dryRun, String owner)
+            throws ArtifactNotFoundException, VersionAlreadyExistsException, RegistryStorageException {
+        try {
+            return super.createArtifactVersion(groupId, artifactId, version, artifactType, content, metaData,
+                    branches, isDraft, dryRun, owner);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void updateArtifactVersionState(String groupId, String artifactId, String version,
+            VersionState newState, boolean dryRun) {
+        try {
+            super.updateArtifactVersionState(groupId, artifactId, version, newState, dryRun);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifactVersion(String groupId, String artifactId, String version)
+            throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
+        try {
+            super.deleteArtifactVersion(groupId, artifactId, version);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        try {
+            return super.deleteArtifact(groupId, artifactId);
+        } finally {
+            invalidateArtifact(groupId, artifactId);
+        }
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        try {
+            super.deleteArtifacts(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws GroupNotFoundException, RegistryStorageException {
+        try {
+            super.deleteGroup(groupId);
+        } finally {
+            invalidateGroup(groupId);
+        }
+    }
+
+    @Override
+    public BranchMetaDataDto createBranch(GA ga, BranchId branchId, String description,
+            List<String> versions) {
+        try {
+            return super.createBranch(ga, branchId, description, versions);
+        } finally {
+            invalidateArtifact(ga);
+        }
+    }
+
+    @Override
+    public void deleteBranch(GA ga, BranchId branchId) {
+        try {
+            super.deleteBranch(ga, branchId);
+        } finally {
+            invalidateArtifact(ga);
+        }
+    }
+
+    @Override
+    public void replaceBranchVersions(GA ga, BranchId branchId, List<VersionId> versions) {
+        try {
+            super.replaceBranchVersions(ga, branchId, versions);
+        } finally {
+            invalidateArtifact(ga);
+        }
+    }
+
+    @Override
+    public void appendVersionToBranch(GA ga, BranchId branchId, VersionId version) {
+        try {
+            super.appendVersionToBranch(ga, branchId, version);
+        } finally {
+            invalidateArtifact(ga);
+        }
+    }
+
+    @Override
+    public void importArtifactVersion(ArtifactVersionEntity entity) {
+        try {
+            super.importArtifactVersion(entity);
+        } finally {
+            invalidateArtifact(entity.groupId, entity.artifactId);
+        }
+    }
+
+    @Override
+    public void importBranch(BranchEntity entity) {
+        try {
+            super.importBranch(entity);
+        } finally {
+            invalidateArtifact(entity.groupId, entity.artifactId);
+        }
+    }
+}
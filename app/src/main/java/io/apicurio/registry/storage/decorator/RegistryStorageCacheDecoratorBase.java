@@ -0,0 +1,194 @@
+package io.apicurio.registry.storage.decorator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.dto.OutboxEvent;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEventType;
+import jakarta.enterprise.event.Observes;
+import io.apicurio.registry.utils.impexp.EntityInputStream;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.json.JSONObject;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base of the storage decorators that cache data read from the storage and invalidate it when the data
+ * changes.
+ * <p>
+ * Entries are invalidated when the data is changed through this node (by the decorator methods of the
+ * subclass), and when the storage applies a change, once the transaction that made it has been committed, so
+ * that a concurrent load cannot put the data read before the commit back into the cache. Loads that run
+ * concurrently with an invalidation are not kept, see {@link #load(Cache, Object, Callable)}.
+ * <p>
+ * With KafkaSQL, the storage of every node applies every change, so changes made through other nodes are
+ * invalidated as well. With a SQL database shared by several nodes, they are not: entries expire after a
+ * configurable period, see {@link #cacheBuilder(long)}, and caches for which that staleness is not acceptable
+ * are only enabled by default with KafkaSQL, see {@link #isEnabled(Optional)}.
+ */
+public abstract class RegistryStorageCacheDecoratorBase extends RegistryStorageDecoratorBase
+        implements RegistryStorageDecorator {
+
+    @Inject
+    protected HandleFactory handles;
+
+    @ConfigProperty(name = "apicurio.storage.kind")
+    String storageKind;
+
+    /**
+     * Incremented by every invalidation, so that an entry loaded concurrently with an invalidation can be
+     * detected and dropped.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param configured whether the cache is enabled by configuration, if set
+     * @return whether the cache is enabled, by default only with KafkaSQL, whose nodes all apply every change
+     */
+    protected boolean isEnabled(Optional<Boolean> configured) {
+        return configured.orElseGet(() -> "kafkasql".equals(storageKind));
+    }
+
+    /**
+     * @param expireAfterWrite in milliseconds, the longest time a change that is not applied by the storage of
+     *            this node can go unnoticed
+     * @return a builder of caches whose entries expire after the given time
+     */
+    protected static CacheBuilder<Object, Object> cacheBuilder(long expireAfterWrite) {
+        return CacheBuilder.newBuilder().expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the cached value, using the loader on a cache miss. The loaded value is not kept if the cache
+     * was invalidated while it was being loaded, since it may have been read before the change that caused
+     * the invalidation.
+     */
+    protected <K, V> V load(Cache<K, V> cache, K key, Callable<V> loader) {
+        long loadGeneration = generation.get();
+        V value;
+        try {
+            value = cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new RegistryStorageException(ex.getCause());
+        }
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+        return value;
+    }
+
+    /**
+     * @return the current generation, to be given to {@link #put(Cache, Object, Object, long)} when a value
+     *         is loaded without {@link #load(Cache, Object, Callable)}
+     */
+    protected long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a value loaded since the given generation, unless the cache was invalidated since.
+     */
+    protected <K, V> void put(Cache<K, V> cache, K key, V value, long loadGeneration) {
+        cache.put(key, value);
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Runs the given invalidation. Every invalidation must be run using this method, see
+     * {@link #load(Cache, Object, Callable)}.
+     */
+    protected void invalidate(Runnable invalidation) {
+        // Incremented first: a load that completes after this point must not be kept
+        generation.incrementAndGet();
+        invalidation.run();
+    }
+
+    /**
+     * Invalidates the entries affected by a change applied by the storage, once it has been committed.
+     */
+    public void onOutboxEvent(@Observes SqlOutboxEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        OutboxEvent outboxEvent = event.getOutboxEvent();
+        StorageEventType type;
+        try {
+            type = StorageEventType.valueOf(outboxEvent.getType());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        Runnable invalidation = invalidationFor(type, outboxEvent.getPayload());
+        if (invalidation != null) {
+            handles.afterCommit(invalidation);
+        }
+    }
+
+    /**
+     * Invalidates all entries when data is imported or deleted in bulk, which does not produce an outbox event
+     * for each change.
+     */
+    public void onStorageEvent(@Observes SqlStorageEvent event) {
+        if (isEnabled() && event.getType() == SqlStorageEventType.USER_DATA_REPLACED) {
+            handles.afterCommit(this::invalidateAll);
+        }
+    }
+
+    protected void invalidateAll() {
+        invalidate(this::clear);
+    }
+
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        try {
+            super.importData(entities, preserveGlobalId, preserveContentId);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void upgradeData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        try {
+            super.upgradeData(entities, preserveGlobalId, preserveContentId);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAllUserData() {
+        try {
+            super.deleteAllUserData();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * @return the invalidation of the entries affected by the given change, which must use
+     *         {@link #invalidate(Runnable)}, or null if no entries are affected
+     */
+    protected abstract Runnable invalidationFor(StorageEventType type, JSONObject payload);
+
+    /**
+     * Removes all entries, see {@link #invalidateAll()}.
+     */
+    protected abstract void clear();
+}
@@ -9,5 +9,9 @@ public interface RegistryStorageDecoratorOrderConstants {
     int AGENT_CARD_LABELS_DECORATOR = 25;
     int LIMITS_ENFORCER_DECORATOR = 30;
     int CONFIG_CACHE_DECORATOR = 40;
+    int RULES_CACHE_DECORATOR = 45;
+    int AUTHORIZATION_CACHE_DECORATOR = 46;
+    int RENDITION_CACHE_DECORATOR = 47;
+    int BRANCH_TIP_CACHE_DECORATOR = 48;
     int EVENT_SOURCED_DECORATOR = 50;
 }
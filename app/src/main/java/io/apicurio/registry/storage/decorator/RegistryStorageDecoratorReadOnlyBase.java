@@ -35,7 +35,9 @@ import io.apicurio.registry.types.VersionState;
 import io.apicurio.registry.utils.impexp.Entity;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -91,6 +93,30 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
         return delegate.getContentByHash(contentHash);
     }
 
+    @Override
+    public ContentWrapperDto getStreamedContentById(long contentId)
+            throws ContentNotFoundException, RegistryStorageException {
+        return delegate.getStreamedContentById(contentId);
+    }
+
+    @Override
+    public ContentWrapperDto getStreamedContentByHash(String contentHash)
+            throws ContentNotFoundException, RegistryStorageException {
+        return delegate.getStreamedContentByHash(contentHash);
+    }
+
+    @Override
+    public Map<Long, ContentWrapperDto> getContentByIds(Collection<Long> contentIds)
+            throws RegistryStorageException {
+        return delegate.getContentByIds(contentIds);
+    }
+
+    @Override
+    public Map<String, ContentWrapperDto> getContentByHashes(Collection<String> contentHashes)
+            throws RegistryStorageException {
+        return delegate.getContentByHashes(contentHashes);
+    }
+
     @Override
     public List<ArtifactVersionMetaDataDto> getArtifactVersionsByContentId(long contentId) {
         return delegate.getArtifactVersionsByContentId(contentId);
@@ -183,6 +209,12 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
         return delegate.getArtifactVersionMetaData(globalId);
     }
 
+    @Override
+    public Map<Long, ArtifactVersionMetaDataDto> getArtifactVersionMetaDataByGlobalIds(
+            Collection<Long> globalIds) throws RegistryStorageException {
+        return delegate.getArtifactVersionMetaDataByGlobalIds(globalIds);
+    }
+
     @Override
     public List<RuleType> getGlobalRules() throws RegistryStorageException {
         return delegate.getGlobalRules();
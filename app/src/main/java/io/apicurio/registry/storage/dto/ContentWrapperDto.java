@@ -19,4 +19,5 @@ public class ContentWrapperDto {
     private List<ArtifactReferenceDto> references;
     private String artifactType;
     private transient String contentHash;
+    private transient Long contentId;
 }
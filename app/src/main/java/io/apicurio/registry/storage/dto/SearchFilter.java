@@ -3,6 +3,10 @@ package io.apicurio.registry.storage.dto;
 import io.apicurio.registry.types.VersionState;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public class SearchFilter {
 
     private SearchFilterType type;
@@ -78,6 +82,29 @@ public class SearchFilter {
         return new SearchFilter(SearchFilterType.state, state.name());
     }
 
+    /**
+     * Matches artifacts (or versions of artifacts) whose artifactId starts with the given prefix.
+     */
+    public static SearchFilter ofArtifactIdPrefix(String prefix) {
+        return new SearchFilter(SearchFilterType.artifactIdPrefix, prefix);
+    }
+
+    /**
+     * Matches artifacts (or versions of artifacts) of any of the given types.
+     */
+    public static SearchFilter ofArtifactTypes(Collection<String> artifactTypes) {
+        return new SearchFilter(SearchFilterType.artifactTypes, List.copyOf(artifactTypes));
+    }
+
+    /**
+     * Matches versions that are the latest version of their artifact, considering only the versions in the
+     * given states (all versions if empty), like {@code RegistryStorage#getBranchTip} for the latest branch.
+     */
+    public static SearchFilter ofLatestVersion(Set<VersionState> states) {
+        return new SearchFilter(SearchFilterType.latestVersion,
+                states.stream().map(VersionState::name).sorted().toList());
+    }
+
     @SuppressWarnings("unchecked")
     public Pair<String, String> getLabelFilterValue() {
         if (value == null) {
@@ -89,6 +116,20 @@ public class SearchFilter {
         throw new IllegalStateException("value is not of type pair");
     }
 
+    /**
+     * @return the list of strings value
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getStringListValue() {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof List) {
+            return (List<String>) value;
+        }
+        throw new IllegalStateException("value is not of type list");
+    }
+
     /**
      * @return the string value
      */
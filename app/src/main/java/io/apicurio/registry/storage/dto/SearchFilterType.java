@@ -2,6 +2,7 @@ package io.apicurio.registry.storage.dto;
 
 public enum SearchFilterType {
 
-    groupId, artifactId, version, name, description, labels, contentHash, canonicalHash, globalId, contentId, state, artifactType
+    groupId, artifactId, version, name, description, labels, contentHash, canonicalHash, globalId, contentId, state, artifactType,
+    artifactIdPrefix, artifactTypes, latestVersion
 
 }
@@ -27,7 +27,9 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -209,6 +211,30 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
         return proxy(storage -> storage.getContentByHash(contentHash));
     }
 
+    /**
+     * The content is read up front: the active database may be replaced by the next load before the content
+     * is streamed.
+     */
+    @Override
+    public ContentWrapperDto getStreamedContentById(long contentId) {
+        return proxy(storage -> storage.getContentById(contentId));
+    }
+
+    @Override
+    public ContentWrapperDto getStreamedContentByHash(String contentHash) {
+        return proxy(storage -> storage.getContentByHash(contentHash));
+    }
+
+    @Override
+    public Map<Long, ContentWrapperDto> getContentByIds(Collection<Long> contentIds) {
+        return proxy(storage -> storage.getContentByIds(contentIds));
+    }
+
+    @Override
+    public Map<String, ContentWrapperDto> getContentByHashes(Collection<String> contentHashes) {
+        return proxy(storage -> storage.getContentByHashes(contentHashes));
+    }
+
     @Override
     public List<ArtifactVersionMetaDataDto> getArtifactVersionsByContentId(long contentId) {
         return proxy(storage -> storage.getArtifactVersionsByContentId(contentId));
@@ -301,6 +327,12 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
         return proxy(storage -> storage.getArtifactVersionMetaData(globalId));
     }
 
+    @Override
+    public Map<Long, ArtifactVersionMetaDataDto> getArtifactVersionMetaDataByGlobalIds(
+            Collection<Long> globalIds) {
+        return proxy(storage -> storage.getArtifactVersionMetaDataByGlobalIds(globalIds));
+    }
+
     @Override
     public List<RuleType> getGlobalRules() {
         return proxy(RegistryStorage::getGlobalRules);
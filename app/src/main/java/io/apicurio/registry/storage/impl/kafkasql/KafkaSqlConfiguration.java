@@ -74,6 +74,25 @@ public class KafkaSqlConfiguration {
         return Duration.ofMillis(responseTimeout);
     }
 
+    @ConfigProperty(name = "apicurio.kafkasql.consistency-token.enabled", defaultValue = "false")
+    @Info(category = CATEGORY_STORAGE, description = """
+            When enabled, responses to write requests contain the 'X-Registry-Consistency-Token' header, \
+            identifying the position of the write in the journal topic. A replica receiving a request with this header \
+            waits until it has consumed the journal up to that position before handling it, \
+            which provides read-your-writes consistency across replicas.""", registryAvailableSince = "3.2.0")
+    @Getter
+    boolean consistencyTokenEnabled;
+
+    @ConfigProperty(name = "apicurio.kafkasql.consistency-token.wait-timeout", defaultValue = "5000")
+    @Info(category = CATEGORY_STORAGE, description = """
+            Maximum time in milliseconds a replica waits to reach the journal position identified by a consistency token. \
+            If the position is not reached in time, the request is rejected with '503 Service Unavailable'.""", registryAvailableSince = "3.2.0")
+    Integer consistencyTokenWaitTimeout;
+
+    public Duration getConsistencyTokenWaitTimeout() {
+        return Duration.ofMillis(consistencyTokenWaitTimeout);
+    }
+
     // === Journal topic configurations ===
 
     @ConfigProperty(name = "apicurio.kafkasql.topic", defaultValue = "kafkasql-journal")
@@ -143,6 +162,25 @@ public class KafkaSqlConfiguration {
     @Getter
     String snapshotStoreLocation;
 
+    @ConfigProperty(name = "apicurio.kafkasql.snapshot.journal-compaction.enabled", defaultValue = "false")
+    @Info(category = CATEGORY_STORAGE, description = """
+            When enabled, journal records that are already contained in a newly created snapshot are deleted from the \
+            journal topic, so that replicas only need to replay the records written after the most recent snapshot marker. \
+            Records are only deleted once the consumer group of every replica, including replicas that are restarting, \
+            has consumed past the snapshot marker. Consumer groups of stopped replicas are taken into account until Kafka \
+            expires their offsets. \
+            IMPORTANT: The snapshot store location must be durable and readable by all replicas: \
+            a replica fails to start if the journal has been compacted and the most recent snapshot cannot be found.""", registryAvailableSince = "3.2.0")
+    @Getter
+    boolean journalCompactionEnabled;
+
+    @ConfigProperty(name = "apicurio.kafkasql.snapshot.journal-compaction.timeout", defaultValue = "30000")
+    @Info(category = CATEGORY_STORAGE, description = """
+            Maximum time (in milliseconds) to wait, in the background, for all replicas to consume past the marker of a \
+            new snapshot before compacting the journal. If they have not, the journal is left as-is until the next snapshot.""", registryAvailableSince = "3.2.0")
+    @Getter
+    long journalCompactionTimeout;
+
     // === Events topic and related configurations ===
 
     @ConfigProperty(name = "apicurio.events.kafka.topic", defaultValue = "registry-events")
@@ -198,6 +236,10 @@ public class KafkaSqlConfiguration {
     @RegistryProperties(prefixes = {"apicurio.kafka.common", "apicurio.kafkasql.consumer"}, defaults = {"ssl.endpoint.identification.algorithm="})
     Properties consumerProperties;
 
+    // Unique to each running replica, used in the default consumer group ID
+    @ConfigProperty(name = "quarkus.uuid")
+    String instanceUuid;
+
     public Map<String, String> getConsumerProperties() {
         // Properties are prone to bugs - they allow adding non-string values, but getProperty returns only strings (and null if the value is not a String).
         // So we convert them as soon as possible.
@@ -216,6 +258,24 @@ public class KafkaSqlConfiguration {
         return props;
     }
 
+    /**
+     * Returns the prefix shared by the consumer groups of all replicas. Each replica consumes the journal topic in
+     * its own consumer group, whose ID is the configured <code>group.id</code> (by default
+     * <code>${registry.id}-${quarkus.uuid}</code>), or the group prefix followed by a random UUID if none is
+     * configured. The prefix is the part of that ID that does not depend on the replica.
+     */
+    public String getReplicaGroupPrefix() {
+        String groupId = toMap(consumerProperties).get(ConsumerConfig.GROUP_ID_CONFIG);
+        if (groupId == null) {
+            return getGroupPrefix();
+        }
+        if (groupId.endsWith(instanceUuid)) {
+            return groupId.substring(0, groupId.length() - instanceUuid.length());
+        }
+        // The configured group ID does not depend on the replica
+        return groupId;
+    }
+
     // === Producer configurations ===
 
     @Inject
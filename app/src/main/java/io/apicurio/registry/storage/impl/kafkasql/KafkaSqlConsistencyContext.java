@@ -0,0 +1,21 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Collects the journal positions of the writes performed while handling a single request, so that they can
+ * be returned to the client as a consistency token.
+ */
+@RequestScoped
+public class KafkaSqlConsistencyContext {
+
+    private KafkaSqlConsistencyToken token = KafkaSqlConsistencyToken.empty();
+
+    public void recordWrite(int partition, long offset) {
+        token = token.with(partition, offset);
+    }
+
+    public KafkaSqlConsistencyToken getToken() {
+        return token;
+    }
+}
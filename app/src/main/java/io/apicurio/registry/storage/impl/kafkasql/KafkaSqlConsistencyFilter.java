@@ -0,0 +1,79 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.rest.headers.Headers;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+/**
+ * Provides read-your-writes consistency across KafkaSQL replicas. Responses to write requests carry a
+ * consistency token identifying the journal position of the writes, and requests carrying such a token
+ * are held until the local replica has consumed the journal up to that position.
+ */
+@Provider
+@ApplicationScoped
+public class KafkaSqlConsistencyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Inject
+    Logger log;
+
+    @ConfigProperty(name = "apicurio.storage.kind", defaultValue = "sql")
+    String storageType;
+
+    @Inject
+    Instance<KafkaSqlConfiguration> configuration;
+
+    @Inject
+    Instance<KafkaSqlRegistryStorage> storage;
+
+    @Inject
+    Instance<KafkaSqlConsistencyContext> consistencyContext;
+
+    private boolean isEnabled() {
+        return "kafkasql".equals(storageType) && configuration.get().isConsistencyTokenEnabled();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!isEnabled()) {
+            return;
+        }
+        String value = requestContext.getHeaderString(Headers.CONSISTENCY_TOKEN);
+        if (value == null || value.isBlank()) {
+            return;
+        }
+
+        KafkaSqlConsistencyToken token;
+        try {
+            token = KafkaSqlConsistencyToken.parse(value);
+        } catch (IllegalArgumentException e) {
+            requestContext.abortWith(Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build());
+            return;
+        }
+
+        if (!storage.get().waitForJournalPosition(token, configuration.get().getConsistencyTokenWaitTimeout())) {
+            log.warn("Journal position {} was not reached in time, rejecting the request.", token);
+            requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1").build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!isEnabled()) {
+            return;
+        }
+        KafkaSqlConsistencyToken token = consistencyContext.get().getToken();
+        if (!token.isEmpty()) {
+            responseContext.getHeaders().putSingle(Headers.CONSISTENCY_TOKEN, token.toString());
+        }
+    }
+}
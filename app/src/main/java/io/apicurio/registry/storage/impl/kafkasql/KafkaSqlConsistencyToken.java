@@ -0,0 +1,71 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Identifies a position in the KafkaSQL journal topic, as the offset of the last journal record written
+ * for each partition. A replica that has consumed the journal up to this position is guaranteed to observe
+ * the writes the token was issued for.
+ * <p>
+ * The textual form is a comma separated list of <code>partition:offset</code> pairs, e.g. <code>0:1532</code>.
+ */
+public class KafkaSqlConsistencyToken {
+
+    private final Map<Integer, Long> offsets;
+
+    private KafkaSqlConsistencyToken(Map<Integer, Long> offsets) {
+        this.offsets = offsets;
+    }
+
+    public static KafkaSqlConsistencyToken empty() {
+        return new KafkaSqlConsistencyToken(Collections.emptyMap());
+    }
+
+    /**
+     * Parses the textual form of a consistency token.
+     *
+     * @param value the token value
+     * @throws IllegalArgumentException if the value is not a valid consistency token
+     */
+    public static KafkaSqlConsistencyToken parse(String value) {
+        Map<Integer, Long> offsets = new TreeMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid consistency token: " + value);
+            }
+            try {
+                offsets.merge(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Math::max);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid consistency token: " + value, e);
+            }
+        }
+        return new KafkaSqlConsistencyToken(Collections.unmodifiableMap(offsets));
+    }
+
+    /**
+     * Returns a token that also covers the journal record at the given partition and offset.
+     */
+    public KafkaSqlConsistencyToken with(int partition, long offset) {
+        Map<Integer, Long> merged = new TreeMap<>(offsets);
+        merged.merge(partition, offset, Math::max);
+        return new KafkaSqlConsistencyToken(Collections.unmodifiableMap(merged));
+    }
+
+    public Map<Integer, Long> getOffsets() {
+        return offsets;
+    }
+
+    public boolean isEmpty() {
+        return offsets.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return offsets.entrySet().stream().map(e -> e.getKey() + ":" + e.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
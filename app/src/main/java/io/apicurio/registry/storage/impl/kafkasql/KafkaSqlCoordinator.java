@@ -1,6 +1,7 @@
 package io.apicurio.registry.storage.impl.kafkasql;
 
 import io.apicurio.registry.types.RegistryException;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.lookup.LookupIfProperty;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
@@ -24,9 +25,13 @@ public class KafkaSqlCoordinator {
     @Inject
     Instance<KafkaSqlConfiguration> configuration;
 
+    @Inject
+    Instance<KafkaSqlConsistencyContext> consistencyContext;
+
     private static final Object NULL = new Object();
     private Map<UUID, CountDownLatch> latches = new ConcurrentHashMap<>();
     private Map<UUID, Object> returnValues = new ConcurrentHashMap<>();
+    private Map<UUID, long[]> journalPositions = new ConcurrentHashMap<>();
 
     /**
      * Creates a UUID for a single operation.
@@ -50,6 +55,7 @@ public class KafkaSqlCoordinator {
             latches.get(uuid).await(configuration.get().getResponseTimeout().toMillis(), TimeUnit.MILLISECONDS);
 
             Object rval = returnValues.remove(uuid);
+            recordJournalPosition(journalPositions.remove(uuid));
             if (rval == NULL) {
                 return null;
             } else if (rval instanceof RuntimeException) {
@@ -63,7 +69,36 @@ public class KafkaSqlCoordinator {
                     "[KafkaSqlCoordinator] Thread interrupted waiting for a Kafka Sql response.", e);
         } finally {
             latches.remove(uuid);
+            journalPositions.remove(uuid);
+        }
+    }
+
+    /**
+     * Makes the journal position of a completed write available to the consistency token of the current
+     * request, if there is one.
+     */
+    private void recordJournalPosition(long[] position) {
+        if (position == null || !configuration.get().isConsistencyTokenEnabled()
+                || !Arc.container().requestContext().isActive()) {
+            return;
+        }
+        consistencyContext.get().recordWrite((int) position[0], position[1]);
+    }
+
+    /**
+     * Same as {@link #notifyResponse(UUID, Object)}, but also remembers the journal position (partition and
+     * offset) of the message that produced the response.
+     *
+     * @param uuid
+     * @param returnValue
+     * @param partition
+     * @param offset
+     */
+    public void notifyResponse(UUID uuid, Object returnValue, int partition, long offset) {
+        if (uuid != null && latches.containsKey(uuid)) {
+            journalPositions.put(uuid, new long[] { partition, offset });
         }
+        notifyResponse(uuid, returnValue);
     }
 
     /**
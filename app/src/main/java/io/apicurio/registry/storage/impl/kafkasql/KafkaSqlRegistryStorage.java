@@ -59,17 +59,27 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.apicurio.registry.storage.impl.kafkasql.KafkaSqlSubmitter.BOOTSTRAP_MESSAGE_TYPE;
 import static io.apicurio.registry.utils.ConcurrentUtil.blockOnResult;
@@ -139,6 +149,19 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
     // The snapshot id used to determine if this replica must process a snapshot message
     private volatile String lastTriggeredSnapshot = null;
 
+    // The offset of the last journal record consumed by this replica, for each journal partition
+    private final Map<TopicPartition, Long> consumedOffsets = new ConcurrentHashMap<>();
+
+    // Used to wake up threads waiting for this replica to consume a given journal position
+    private final Object consumedOffsetsMonitor = new Object();
+    private final AtomicInteger consumedOffsetsWaiters = new AtomicInteger();
+
+    // Journal positions captured when a snapshot triggered by this replica was created, keyed by snapshot id
+    private final Map<String, SnapshotJournalPosition> snapshotJournalPositions = new ConcurrentHashMap<>();
+
+    // Waits for the replicas to consume past a snapshot marker and compacts the journal, if enabled
+    private ScheduledExecutorService compactionExecutor;
+
     // Reference to the consumer thread for health checks
     private volatile Thread consumerThread = null;
 
@@ -173,6 +196,15 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
         sqlStore.initialize();
         setDelegate(sqlStore);
 
+        if (configuration.isJournalCompactionEnabled()) {
+            compactionExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setName("KafkaSQL Journal Compaction Thread");
+                return thread;
+            });
+        }
+
         // Once the SQL storage has been initialized, start the Kafka consumer thread.
         log.info("SQL store initialized, starting consumer thread.");
         startConsumerThread(journalConsumer, snapshotId, bootstrapStart);
@@ -193,6 +225,9 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
     @PreDestroy
     void onDestroy() {
         stopped = true;
+        if (compactionExecutor != null) {
+            compactionExecutor.shutdownNow();
+        }
         journalConsumer.close();
         snapshotsConsumer.close();
     }
@@ -200,9 +235,10 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
     /**
      * Consume the snapshots topic, looking for the most recent snapshot in the topic. Once found, it
      * restores the internal database using the snapshot's content. Polls in a loop until all messages
-     * are consumed from the topic.
+     * are consumed from the topic. Fails if the journal has been compacted and the most recent snapshot
+     * cannot be found.
      */
-    private String consumeSnapshotsTopic(KafkaConsumer<String, String> snapshotsConsumer) {
+    String consumeSnapshotsTopic(KafkaConsumer<String, String> snapshotsConsumer) {
         // Subscribe to the snapshots topic
         Collection<String> topics = Collections.singleton(configuration.getSnapshotsTopic());
         snapshotsConsumer.subscribe(topics);
@@ -227,14 +263,17 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
             snapshots.sort(Comparator.comparingLong(ConsumerRecord::timestamp));
 
             Path mostRecentSnapshotPath = null;
+            boolean latestSnapshotFound = false;
             for (ConsumerRecord<String, String> snapshotFound : snapshots) {
                 // Restore database from snapshot
+                latestSnapshotFound = false;
                 try {
                     String path = snapshotFound.value();
                     if (null != path && !path.isBlank() && Files.exists(Path.of(snapshotFound.value()))) {
                         log.debug("Snapshot with path {} found.", snapshotFound.value());
                         snapshotRecordKey = snapshotFound.key();
                         mostRecentSnapshotPath = Path.of(snapshotFound.value());
+                        latestSnapshotFound = true;
                     }
                 } catch (IllegalArgumentException ex) {
                     log.warn(
@@ -243,17 +282,44 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
                 }
             }
 
+            // An older snapshot (or none) is only enough if the journal still holds the records since then.
+            if (!latestSnapshotFound) {
+                verifyJournalNotCompacted(snapshots.get(snapshots.size() - 1).value());
+            }
+
             // Here we have the most recent snapshot that we can find, try to restore the internal database
             // from it.
             if (null != mostRecentSnapshotPath) {
                 log.info("Restoring snapshot {} to the internal database...", mostRecentSnapshotPath);
                 sqlStore.restoreFromSnapshot(mostRecentSnapshotPath.toString());
             }
+        } else {
+            verifyJournalNotCompacted(null);
         }
 
         return snapshotRecordKey;
     }
 
+    /**
+     * Fails the startup of this replica if records have been deleted from the journal (by journal compaction,
+     * or by an admin), since the journal alone can then no longer rebuild the data that was deleted with
+     * them.
+     *
+     * @param missingSnapshot the location of the most recent snapshot, which could not be found, if any
+     */
+    private void verifyJournalNotCompacted(String missingSnapshot) {
+        Map<TopicPartition, Long> earliestOffsets = kafkaAdmin.getEarliestOffsets(configuration.getTopic());
+        if (earliestOffsets.values().stream().anyMatch(offset -> offset > 0)) {
+            throw new RegistryStorageException("""
+                    Records have been deleted from the journal topic '%s' (earliest offsets: %s), but the most recent \
+                    snapshot %s. The journal alone cannot restore the deleted data: make the snapshot store location \
+                    (%s) available to this replica before starting it.""".formatted(configuration.getTopic(),
+                    earliestOffsets, missingSnapshot == null ? "is missing from the snapshots topic"
+                            : "'" + missingSnapshot + "' cannot be found",
+                    configuration.getSnapshotStoreLocation()));
+        }
+    }
+
     /**
      * Start the KSQL Kafka consumer thread which is responsible for subscribing to the kafka topic, consuming
      * JournalRecord entries found on that topic, and applying those journal entries to the internal data
@@ -298,6 +364,7 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
                                             "Discarding message with key {} as it was sent before a newer snapshot was created.",
                                             record.key());
                                 }
+                                markConsumed(record);
                             }
 
                             // If the snapshot marker has not been found, continue with message skipping until
@@ -336,6 +403,15 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
 
     private void processRecord(ConsumerRecord<KafkaSqlMessageKey, KafkaSqlMessage> record, String bootstrapId,
             long bootstrapStart) {
+        try {
+            applyRecord(record, bootstrapId, bootstrapStart);
+        } finally {
+            markConsumed(record);
+        }
+    }
+
+    private void applyRecord(ConsumerRecord<KafkaSqlMessageKey, KafkaSqlMessage> record, String bootstrapId,
+            long bootstrapStart) {
         // If the key is null, we couldn't deserialize the message
         if (record.key() == null) {
             log.warn("Discarded an unreadable/unrecognized Kafka message.");
@@ -372,6 +448,13 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
             return;
         }
 
+        // If this is the snapshot marker triggered by this replica, remember the journal position so that
+        // the records already contained in the snapshot can be removed from the journal.
+        if (record.value() instanceof CreateSnapshot1Message snapshotMessage
+                && configuration.isJournalCompactionEnabled()) {
+            snapshotJournalPositions.put(snapshotMessage.getSnapshotId(), captureJournalPosition(record));
+        }
+
         // Note: We process journal records directly on the consumer thread. Since all messages in KafkaSQL
         // are in a single partition, ordering is guaranteed and processing must be sequential. Introducing
         // a separate processing thread with a queue would add complexity without significant benefit, as
@@ -380,6 +463,80 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
         kafkaSqlSink.processMessage(record);
     }
 
+    /**
+     * Records that the given journal record has been consumed (applied or discarded) by this replica, and
+     * wakes up any threads waiting for that journal position.
+     */
+    private void markConsumed(ConsumerRecord<KafkaSqlMessageKey, KafkaSqlMessage> record) {
+        consumedOffsets.put(new TopicPartition(record.topic(), record.partition()), record.offset());
+        if (consumedOffsetsWaiters.get() > 0) {
+            synchronized (consumedOffsetsMonitor) {
+                consumedOffsetsMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until this replica has consumed all journal records up to (and including) the offsets in the
+     * given consistency token, so that a subsequent read observes the writes the token was issued for.
+     *
+     * @param token the consistency token returned by a previous write, possibly by another replica
+     * @param timeout the maximum time to wait
+     * @return true if the journal position has been reached, false if the timeout has elapsed
+     */
+    public boolean waitForJournalPosition(KafkaSqlConsistencyToken token, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        consumedOffsetsWaiters.incrementAndGet();
+        try {
+            synchronized (consumedOffsetsMonitor) {
+                while (!isConsumed(token)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(consumedOffsetsMonitor, remaining);
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            consumedOffsetsWaiters.decrementAndGet();
+        }
+    }
+
+    private boolean isConsumed(KafkaSqlConsistencyToken token) {
+        return token.getOffsets().entrySet().stream().allMatch(e -> {
+            Long consumed = consumedOffsets.get(new TopicPartition(configuration.getTopic(), e.getKey()));
+            return consumed != null && consumed >= e.getValue();
+        });
+    }
+
+    /**
+     * Captures the journal position of the given snapshot marker record. The marker itself is kept, so that
+     * replicas restoring from the snapshot can find it. All records that were consumed before the marker on
+     * the other partitions are already contained in the snapshot.
+     */
+    private SnapshotJournalPosition captureJournalPosition(
+            ConsumerRecord<KafkaSqlMessageKey, KafkaSqlMessage> marker) {
+        var markerPartition = new TopicPartition(marker.topic(), marker.partition());
+        Map<TopicPartition, Long> firstKept = new HashMap<>();
+        consumedOffsets.forEach((partition, offset) -> firstKept.put(partition, offset + 1));
+        firstKept.put(markerPartition, marker.offset());
+        Map<TopicPartition, Long> pastMarker = new HashMap<>(firstKept);
+        pastMarker.put(markerPartition, marker.offset() + 1);
+        return new SnapshotJournalPosition(firstKept, pastMarker);
+    }
+
+    /**
+     * @param firstKept the first journal offset that must be kept, for each partition
+     * @param pastMarker the offsets every running replica must have consumed before the records are deleted
+     */
+    private record SnapshotJournalPosition(Map<TopicPartition, Long> firstKept,
+            Map<TopicPartition, Long> pastMarker) {
+    }
+
     /**
      * @see io.apicurio.common.apps.config.DynamicConfigStorage#setConfigProperty(io.apicurio.common.apps.config.DynamicConfigPropertyDto)
      */
@@ -1083,9 +1240,47 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
         ProducerRecord<String, String> record = new ProducerRecord<>(configuration.getSnapshotsTopic(), 0,
                 snapshotId, snapshotLocation, Collections.emptyList());
         RecordMetadata recordMetadata = blockOnResult(snapshotsProducer.apply(record));
+
+        // Finally, if enabled, remove the journal records that are now contained in the snapshot. Replicas
+        // started from now on will restore the snapshot and only replay the journal tail after its marker.
+        // The other replicas may take a while to consume the marker, so this is done in the background.
+        SnapshotJournalPosition journalPosition = snapshotJournalPositions.remove(snapshotId);
+        if (journalPosition != null && compactionExecutor != null) {
+            long deadline = System.currentTimeMillis() + configuration.getJournalCompactionTimeout();
+            compactionExecutor.execute(() -> compactJournal(snapshotId, journalPosition, deadline));
+        }
         return snapshotLocation;
     }
 
+    /**
+     * Deletes the journal records preceding the marker of the given snapshot, once the consumer groups of all
+     * replicas have consumed past that marker, or checks again a second later. A replica that resumed reading
+     * before the marker after the records were deleted would silently skip them, so nothing is deleted if a
+     * replica is still behind after the deadline.
+     */
+    private void compactJournal(String snapshotId, SnapshotJournalPosition journalPosition, long deadline) {
+        try {
+            if (!kafkaAdmin.isConsumedByAllGroups(configuration.getReplicaGroupPrefix(),
+                    journalPosition.pastMarker())) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.info("Not compacting the journal topic after creating snapshot {}: not all replicas have "
+                            + "consumed its marker yet. It will be compacted with the next snapshot.", snapshotId);
+                } else {
+                    compactionExecutor.schedule(() -> compactJournal(snapshotId, journalPosition, deadline), 1,
+                            TimeUnit.SECONDS);
+                }
+                return;
+            }
+            log.info("Compacting the journal topic up to the marker of snapshot {}.", snapshotId);
+            kafkaAdmin.deleteRecordsBefore(journalPosition.firstKept());
+        } catch (RejectedExecutionException ex) {
+            // Stopping
+        } catch (Exception ex) {
+            // The snapshot has been created successfully, the journal will be compacted with the next one.
+            log.warn("Could not compact the journal topic after creating snapshot {}.", snapshotId, ex);
+        }
+    }
+
     @Override
     public String createSnapshot(String snapshotLocation) throws RegistryStorageException {
         throw new IllegalStateException("Directly creating a snapshot is not supported in Kafkasql");
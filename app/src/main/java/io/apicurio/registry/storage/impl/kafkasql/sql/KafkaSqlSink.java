@@ -57,7 +57,7 @@ public class KafkaSqlSink {
                     record.value() != null ? record.value().toString() : "",
                     result != null ? result.toString() : "");
             log.debug("Kafka message successfully processed. Notifying listeners of response.");
-            coordinator.get().notifyResponse(requestId, result);
+            coordinator.get().notifyResponse(requestId, result, record.partition(), record.offset());
         } catch (RuntimeException e) {
             // Pass RuntimeException (including RegistryException) directly without wrapping
             // to preserve the original exception type for proper handling by exception mappers.
@@ -5,11 +5,14 @@ import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleAction;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleCallback;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleImpl;
+import io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractHandleFactory implements HandleFactory {
@@ -22,6 +25,8 @@ public abstract class AbstractHandleFactory implements HandleFactory {
 
     private Logger log;
 
+    private volatile SqlInstrumentation instrumentation = SqlInstrumentation.NONE;
+
     protected void initialize(AgroalDataSource dataSource, String dataSourceId, Logger log) {
         // CDI error if there is no no-args constructor
         this.dataSource = dataSource;
@@ -29,16 +34,23 @@ public abstract class AbstractHandleFactory implements HandleFactory {
         this.log = log;
     }
 
+    @Override
+    public void setInstrumentation(SqlInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     @Override
     public <R, X extends Exception> R withHandle(HandleCallback<R, X> callback) throws X {
         LocalState state = state();
         try {
             // Create a new handle if necessary. Increment the "level" if a handle already exists.
             if (state.handle == null) {
-                Connection connection = dataSource.getConnection();
+                long start = System.nanoTime();
+                Connection connection = getConnection();
+                instrumentation.connectionAcquired(dataSourceId, System.nanoTime() - start);
                 // We must disable autocommit since we're managing the transactions ourselves.
                 connection.setAutoCommit(false);
-                state.handle = new HandleImpl(connection);
+                state.handle = new HandleImpl(connection, instrumentation);
                 state.level = 0;
             } else {
                 state.level++;
@@ -69,6 +81,7 @@ public abstract class AbstractHandleFactory implements HandleFactory {
                 state.level--;
             } else {
                 // Commit or rollback the transaction
+                boolean committed = false;
                 try {
                     if (state.handle != null) {
                         if (state.handle.isRollback()) {
@@ -79,6 +92,7 @@ public abstract class AbstractHandleFactory implements HandleFactory {
                             log.trace("Commit: {} #{}", state.handle.getConnection(),
                                     state.handle.getConnection().hashCode());
                             state().handle.getConnection().commit();
+                            committed = true;
                         }
                     }
                 } catch (Exception e) {
@@ -96,6 +110,50 @@ public abstract class AbstractHandleFactory implements HandleFactory {
                     // Nothing we can do
                     log.error("Could not close a database connection.", ex);
                 }
+
+                runAfterCommitActions(state, committed);
+            }
+        }
+    }
+
+    /**
+     * @return a new connection to the datasource
+     */
+    protected Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * @return true if a handle of this factory is currently open by this thread
+     */
+    public boolean isInTransaction() {
+        return state().handle != null;
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        LocalState state = state();
+        if (state.handle == null) {
+            action.run();
+        } else {
+            state.afterCommit.add(action);
+        }
+    }
+
+    private void runAfterCommitActions(LocalState state, boolean committed) {
+        if (state.afterCommit.isEmpty()) {
+            return;
+        }
+        List<Runnable> actions = new ArrayList<>(state.afterCommit);
+        state.afterCommit.clear();
+        if (!committed) {
+            return;
+        }
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Could not run an after-commit action.", e);
             }
         }
     }
@@ -126,5 +184,6 @@ public abstract class AbstractHandleFactory implements HandleFactory {
     private static class LocalState {
         HandleImpl handle;
         int level = 0;
+        final List<Runnable> afterCommit = new ArrayList<>();
     }
 }
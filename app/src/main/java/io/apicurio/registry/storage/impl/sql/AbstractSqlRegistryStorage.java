@@ -63,6 +63,7 @@ import io.apicurio.registry.storage.impl.sql.repositories.SqlEventRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlRoleMappingRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlSequenceRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlContentRepository;
+import io.apicurio.registry.storage.impl.sql.repositories.SqlCounterRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlExportRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlGroupRepository;
 import io.apicurio.registry.storage.impl.sql.repositories.SqlRuleRepository;
@@ -96,6 +97,7 @@ import org.slf4j.Logger;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -227,6 +229,12 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Inject
     SqlCleanupRepository cleanupRepository;
 
+    @Inject
+    SqlCounterRepository counterRepository;
+
+    @Inject
+    SqlStatementMetrics sqlStatementMetrics;
+
     private volatile boolean isReady = false;
     private volatile Instant isAliveLastCheck = Instant.MIN;
     private volatile boolean isAliveCached = false;
@@ -241,6 +249,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
      */
     protected void initialize(HandleFactory handleFactory, boolean emitStorageReadyEvent) {
         this.handles = handleFactory;
+        handleFactory.setInstrumentation(sqlStatementMetrics.getInstrumentation());
 
         // Configure all repositories to use the same HandleFactory
         // This is essential for GitOps storage which uses a different datasource
@@ -337,6 +346,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         exportRepository.setHandleFactory(handleFactory);
         eventRepository.setHandleFactory(handleFactory);
         cleanupRepository.setHandleFactory(handleFactory);
+        counterRepository.setHandleFactory(handleFactory);
     }
 
     /**
@@ -499,6 +509,30 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         return contentRepository.getContentByHash(contentHash);
     }
 
+    @Override
+    public ContentWrapperDto getStreamedContentById(long contentId)
+            throws ContentNotFoundException, RegistryStorageException {
+        return contentRepository.getStreamedContentById(contentId);
+    }
+
+    @Override
+    public ContentWrapperDto getStreamedContentByHash(String contentHash)
+            throws ContentNotFoundException, RegistryStorageException {
+        return contentRepository.getStreamedContentByHash(contentHash);
+    }
+
+    @Override
+    public Map<Long, ContentWrapperDto> getContentByIds(Collection<Long> contentIds)
+            throws RegistryStorageException {
+        return contentRepository.getContentByIds(contentIds);
+    }
+
+    @Override
+    public Map<String, ContentWrapperDto> getContentByHashes(Collection<String> contentHashes)
+            throws RegistryStorageException {
+        return contentRepository.getContentByHashes(contentHashes);
+    }
+
     @Override
     public List<ArtifactVersionMetaDataDto> getArtifactVersionsByContentId(long contentId) {
         return versionRepository.getArtifactVersionsByContentId(contentId);
@@ -563,6 +597,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                         .bind(6, createdOn) // modifiedOn
                         .bind(7, limitStr(amd.getName(), 512))
                         .bind(8, limitStr(amd.getDescription(), 1024, true)).bind(9, labelsStr).execute();
+                counterRepository.incrementCounterRaw(handle, SqlCounterRepository.ARTIFACTS_COUNTER, 1);
 
                 // Insert labels into the "artifact_labels" table
                 if (labels != null && !labels.isEmpty()) {
@@ -829,6 +864,12 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         return versionRepository.getArtifactVersionMetaData(globalId);
     }
 
+    @Override
+    public Map<Long, ArtifactVersionMetaDataDto> getArtifactVersionMetaDataByGlobalIds(
+            Collection<Long> globalIds) throws RegistryStorageException {
+        return versionRepository.getArtifactVersionMetaDataByGlobalIds(globalIds);
+    }
+
     @Override
     public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId,
             String version) {
@@ -1107,6 +1148,17 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Override
     public void deleteAllUserData() {
         cleanupRepository.deleteAllUserData();
+        fireUserDataReplaced();
+    }
+
+    /**
+     * Bulk changes do not fire an outbox event for each change, this lets the observers (e.g. the change
+     * event stream) know that any data they hold may be stale.
+     */
+    private void fireUserDataReplaced() {
+        SqlStorageEvent event = new SqlStorageEvent();
+        event.setType(SqlStorageEventType.USER_DATA_REPLACED);
+        sqlStorageEvent.fire(event);
     }
 
     @Override
@@ -1177,21 +1229,25 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Override
     public void importGroupRule(GroupRuleEntity entity) {
         ruleRepository.importGroupRule(entity);
+        fireUserDataReplaced();
     }
 
     @Override
     public void importArtifactRule(ArtifactRuleEntity entity) {
         ruleRepository.importArtifactRule(entity);
+        fireUserDataReplaced();
     }
 
     @Override
     public void importArtifact(ArtifactEntity entity) {
         artifactRepository.importArtifact(entity);
+        fireUserDataReplaced();
     }
 
     @Override
     public void importArtifactVersion(ArtifactVersionEntity entity) {
         versionRepository.importArtifactVersion(entity);
+        fireUserDataReplaced();
     }
 
     @Override
@@ -1202,11 +1258,13 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Override
     public void importGlobalRule(GlobalRuleEntity entity) {
         ruleRepository.importGlobalRule(entity);
+        fireUserDataReplaced();
     }
 
     @Override
     public void importGroup(GroupEntity entity) {
         groupRepository.importGroup(entity);
+        fireUserDataReplaced();
     }
 
     @Override
@@ -1316,6 +1374,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Override
     public void importBranch(BranchEntity entity) {
         branchRepository.importBranch(entity);
+        fireUserDataReplaced();
     }
 
     @Override
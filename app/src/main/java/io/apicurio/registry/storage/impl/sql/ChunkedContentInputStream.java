@@ -0,0 +1,75 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import java.io.InputStream;
+
+/**
+ * Reads a stored value in chunks, each selected by a query of its own, so that no database connection is held
+ * while the value is consumed (e.g. while a slow client reads a response).
+ */
+public class ChunkedContentInputStream extends InputStream {
+
+    /**
+     * Selects a chunk of the stored value.
+     */
+    @FunctionalInterface
+    public interface ChunkLoader {
+
+        /**
+         * @param position position of the chunk in the stored value, starting at 1
+         * @param length maximum length of the chunk
+         * @return the chunk, shorter than the given length only at the end of the value
+         */
+        byte[] load(int position, int length);
+    }
+
+    private final ChunkLoader loader;
+    private final int chunkSize;
+    private byte[] chunk = new byte[0];
+    private int index;
+    private int position = 1;
+    private boolean last;
+
+    public ChunkedContentInputStream(ChunkLoader loader, int chunkSize) {
+        this.loader = loader;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[index++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.length - index);
+        System.arraycopy(chunk, index, b, off, count);
+        index += count;
+        return count;
+    }
+
+    /**
+     * @return false at the end of the value
+     */
+    private boolean fill() {
+        while (index == chunk.length) {
+            if (last) {
+                return false;
+            }
+            byte[] next = loader.load(position, chunkSize);
+            position += next.length;
+            last = next.length < chunkSize;
+            chunk = next;
+            index = 0;
+        }
+        return true;
+    }
+}
@@ -166,6 +166,16 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "WHERE v.globalId = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByGlobalIds()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataByGlobalIds() {
+        return "SELECT v.*, a.type " + "FROM versions v "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE v.globalId IN (?)";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersions()
      */
@@ -234,7 +244,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectArtifactVersionContentByGlobalId() {
-        return "SELECT v.globalId, v.version, v.versionOrder, v.contentId, c.content, c.contentType, c.refs FROM versions v "
+        return "SELECT v.globalId, v.version, v.versionOrder, v.contentId, c.content, c.contentCodec, c.contentType, c.refs FROM versions v "
                 + "JOIN content c ON v.contentId = c.contentId " + "WHERE v.globalId = ?";
     }
 
@@ -243,7 +253,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectArtifactVersionContent() {
-        return "SELECT v.globalId, v.version, v.versionOrder, c.contentId, c.content, c.contentType, c.refs FROM versions v "
+        return "SELECT v.globalId, v.version, v.versionOrder, c.contentId, c.content, c.contentCodec, c.contentType, c.refs FROM versions v "
                 + "JOIN content c ON v.contentId = c.contentId "
                 + "WHERE v.groupId = ? AND v.artifactId = ? AND v.version = ?";
     }
@@ -269,6 +279,15 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT c.contentId FROM content c WHERE c.contentHash = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCanonicalHashByContentHash()
+     */
+    @Override
+    public String selectCanonicalHashByContentHash() {
+        return "SELECT c.canonicalHash FROM versions v JOIN content c ON v.contentId = c.contentId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND c.contentHash = ? AND c.canonicalHash IS NOT NULL";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactRules()
      */
@@ -581,6 +600,46 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT COUNT(v.globalId) FROM versions v";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactCountByGroupId()
+     */
+    @Override
+    public String selectArtifactCountByGroupId() {
+        return "SELECT COUNT(a.artifactId) FROM artifacts a WHERE a.groupId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionsCountByGroupId()
+     */
+    @Override
+    public String selectArtifactVersionsCountByGroupId() {
+        return "SELECT COUNT(v.globalId) FROM versions v WHERE v.groupId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCounterValue()
+     */
+    @Override
+    public String selectCounterValue() {
+        return "SELECT COALESCE(SUM(c.counterValue), 0) FROM counters c WHERE c.counterName = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#updateCounterValue()
+     */
+    @Override
+    public String updateCounterValue() {
+        return "UPDATE counters SET counterValue = counterValue + ? WHERE counterName = ? AND stripe = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#resetAllCounters()
+     */
+    @Override
+    public String resetAllCounters() {
+        return "UPDATE counters SET counterValue = 0";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactCountById()
      */
@@ -626,7 +685,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectContentById() {
-        return "SELECT c.content, c.contentType, c.refs, c.contentHash FROM content c "
+        return "SELECT c.content, c.contentCodec, c.contentType, c.refs, c.contentHash FROM content c "
                 + "WHERE c.contentId = ?";
     }
 
@@ -635,10 +694,56 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectContentByContentHash() {
-        return "SELECT c.content, c.contentType, c.refs, c.contentHash FROM content c "
+        return "SELECT c.content, c.contentCodec, c.contentType, c.refs, c.contentHash FROM content c "
+                + "WHERE c.contentHash = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectStreamedContentById()
+     */
+    @Override
+    public String selectStreamedContentById() {
+        return "SELECT c.contentId, c.contentCodec, c.contentType, c.refs, c.contentHash, "
+                + "CASE WHEN OCTET_LENGTH(c.content) <= ? THEN c.content END AS content FROM content c "
+                + "WHERE c.contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectStreamedContentByContentHash()
+     */
+    @Override
+    public String selectStreamedContentByContentHash() {
+        return "SELECT c.contentId, c.contentCodec, c.contentType, c.refs, c.contentHash, "
+                + "CASE WHEN OCTET_LENGTH(c.content) <= ? THEN c.content END AS content FROM content c "
                 + "WHERE c.contentHash = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentChunkById()
+     */
+    @Override
+    public String selectContentChunkById() {
+        return "SELECT SUBSTRING(c.content FROM ? FOR ?) FROM content c WHERE c.contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentByIds()
+     */
+    @Override
+    public String selectContentByIds() {
+        return "SELECT c.contentId, c.content, c.contentCodec, c.contentType, c.refs, c.contentHash FROM content c "
+                + "WHERE c.contentId IN (?)";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentByContentHashes()
+     */
+    @Override
+    public String selectContentByContentHashes() {
+        return "SELECT c.contentId, c.content, c.contentCodec, c.contentType, c.refs, c.contentHash FROM content c "
+                + "WHERE c.contentHash IN (?)";
+    }
+
     @Override
     public String deleteAllOrphanedContent() {
         // TODO This may be too slow
@@ -666,7 +771,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String insertContent() {
-        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, refs) VALUES (?, ?, ?, ?, ?, ?)";
+        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, contentCodec, refs) VALUES (?, ?, ?, ?, ?, ?, ?)";
     }
 
     /**
@@ -789,7 +894,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String exportContent() {
-        return "SELECT c.contentId, c.canonicalHash, c.contentHash, c.contentType, c.content, c.refs FROM content c ";
+        return "SELECT c.contentId, c.canonicalHash, c.contentHash, c.contentType, c.content, c.contentCodec, c.refs FROM content c ";
     }
 
     /**
@@ -840,7 +945,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String importContent() {
-        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, refs) VALUES (?, ?, ?, ?, ?, ?)";
+        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, contentCodec, refs) VALUES (?, ?, ?, ?, ?, ?, ?)";
     }
 
     /**
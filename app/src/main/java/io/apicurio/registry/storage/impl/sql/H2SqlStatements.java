@@ -20,6 +20,14 @@ public class H2SqlStatements extends CommonSqlStatements {
         return "h2";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCurrentTimeMillis()
+     */
+    @Override
+    public String selectCurrentTimeMillis() {
+        return "SELECT CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000 AS BIGINT)";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#isPrimaryKeyViolation(java.lang.Exception)
      */
@@ -2,6 +2,7 @@ package io.apicurio.registry.storage.impl.sql;
 
 import io.apicurio.registry.storage.impl.sql.jdb.HandleAction;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleCallback;
+import io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation;
 
 public interface HandleFactory {
 
@@ -28,4 +29,19 @@ public interface HandleFactory {
      * exceptions, and is suitable when no value is being returned.
      */
     <X extends Exception> void withHandleNoException(HandleAction<X> callback);
+
+    /**
+     * Set the instrumentation receiving connection acquisition and statement timings. Does nothing by default.
+     */
+    default void setInstrumentation(SqlInstrumentation instrumentation) {
+    }
+
+    /**
+     * Run the given action once the transaction of the current thread has been committed, or immediately if
+     * there is no transaction in progress. The action is discarded if the transaction is rolled back.
+     */
+    default void afterCommit(Runnable action) {
+        action.run();
+    }
+
 }
@@ -7,18 +7,28 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.slf4j.Logger;
 
+import java.sql.SQLException;
+
 public class HandleFactoryProducer {
 
     @Inject
     @Named("application")
     AgroalDataSource dataSource;
 
+    @Inject
+    ReadReplicaRouting readReplicaRouting;
+
     @Inject
     Logger logger;
 
     @Produces
     @ApplicationScoped
-    public HandleFactory produceHandleFactory() {
+    public HandleFactory produceHandleFactory() throws SQLException {
+        if (readReplicaRouting.isEnabled()) {
+            logger.info("Read-only storage operations will be served by the read replica datasource.");
+            return new RoutingHandleFactory(dataSource, readReplicaRouting.createDatasource(),
+                    readReplicaRouting, logger);
+        }
         return new DefaultHandleFactory(dataSource, logger);
     }
 }
@@ -20,6 +20,14 @@ public class MySQLSqlStatements extends CommonSqlStatements {
         return "mysql";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCurrentTimeMillis()
+     */
+    @Override
+    public String selectCurrentTimeMillis() {
+        return "SELECT CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS SIGNED)";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#isPrimaryKeyViolation(java.lang.Exception)
      */
@@ -20,6 +20,14 @@ public class PostgreSQLSqlStatements extends CommonSqlStatements {
         return "postgresql";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCurrentTimeMillis()
+     */
+    @Override
+    public String selectCurrentTimeMillis() {
+        return "SELECT CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT)";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#isPrimaryKeyViolation(java.lang.Exception)
      */
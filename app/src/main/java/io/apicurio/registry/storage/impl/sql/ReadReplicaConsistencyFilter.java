@@ -0,0 +1,61 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.rest.headers.Headers;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Provides read-your-writes consistency when reads are served by a read replica. Responses to write requests
+ * carry a consistency token holding the time of the write on the clock of the primary database, and the reads
+ * of requests carrying such a token are served by the primary datasource until the replica is expected to
+ * have caught up, see {@link ReadReplicaRouting}.
+ * <p>
+ * The header is the one used by the KafkaSQL storage for the same purpose, so that clients do not depend on
+ * the storage in use.
+ */
+@Provider
+@ApplicationScoped
+public class ReadReplicaConsistencyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Inject
+    ReadReplicaRouting routing;
+
+    @Inject
+    Instance<ReadReplicaRequestContext> requestContext;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        if (!routing.isEnabled()) {
+            return;
+        }
+        String value = request.getHeaderString(Headers.CONSISTENCY_TOKEN);
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        try {
+            requestContext.get().setLastWriteTimestamp(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            request.abortWith(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Invalid consistency token: " + value).build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (!routing.isEnabled()) {
+            return;
+        }
+        ReadReplicaRequestContext context = requestContext.get();
+        if (context.isWritten()) {
+            response.getHeaders().putSingle(Headers.CONSISTENCY_TOKEN,
+                    String.valueOf(context.getLastWriteTimestamp()));
+        }
+    }
+}
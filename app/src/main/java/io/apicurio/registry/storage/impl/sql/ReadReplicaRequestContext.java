@@ -0,0 +1,39 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Remembers whether the current request has already written to the primary database, in which case all
+ * subsequent reads of the request are routed to the primary as well (read-after-write), and the time of the
+ * last write of the client, taken from its consistency token.
+ */
+@RequestScoped
+public class ReadReplicaRequestContext {
+
+    private boolean written = false;
+
+    private long lastWriteTimestamp = 0;
+
+    public boolean isWritten() {
+        return written;
+    }
+
+    public long getLastWriteTimestamp() {
+        return lastWriteTimestamp;
+    }
+
+    /**
+     * Called when the request writes to the primary database.
+     */
+    public void recordWrite(long timestamp) {
+        written = true;
+        setLastWriteTimestamp(timestamp);
+    }
+
+    /**
+     * Called with the time of a previous write of the client.
+     */
+    public void setLastWriteTimestamp(long timestamp) {
+        lastWriteTimestamp = Math.max(lastWriteTimestamp, timestamp);
+    }
+}
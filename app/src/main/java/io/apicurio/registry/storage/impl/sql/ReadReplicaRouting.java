@@ -0,0 +1,225 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.supplier.AgroalPropertiesReader;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorReadOnlyBase;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_STORAGE;
+import static io.quarkus.scheduler.Scheduled.ConcurrentExecution.SKIP;
+
+/**
+ * Decides whether a SQL storage operation may be served by the optional read-replica datasource.
+ * <p>
+ * Only the read-only operations (the ones forwarded by {@link RegistryStorageDecoratorReadOnlyBase}) are
+ * routed to the replica. Writes, and reads performed by a request after it has written, always use the
+ * primary datasource. In addition, to tolerate replication lag, the reads of a client are routed to the
+ * primary for a configurable period after its last write, identified by the consistency token the client
+ * received in the response to that write, see {@link ReadReplicaConsistencyFilter}.
+ * <p>
+ * The time of a write is taken from the clock of the primary database (estimated from the local clock and
+ * its offset to the database clock, measured periodically), so that the consistency token of a client is
+ * interpreted the same way by all the nodes, whatever the skew between their clocks.
+ */
+@ApplicationScoped
+public class ReadReplicaRouting {
+
+    // Methods that are not read operations, even though they are forwarded by the read-only decorator base.
+    private static final Set<String> NOT_READ_ONLY = Set.of("initialize");
+
+    private static final Set<String> READ_ONLY_METHODS = Arrays
+            .stream(RegistryStorageDecoratorReadOnlyBase.class.getDeclaredMethods())
+            .filter(m -> Modifier.isPublic(m.getModifiers()) && !NOT_READ_ONLY.contains(m.getName()))
+            .map(ReadReplicaRouting::signature).collect(Collectors.toUnmodifiableSet());
+
+    private static final ThreadLocal<Boolean> useReplica = new ThreadLocal<>();
+
+    @Inject
+    Logger log;
+
+    @Inject
+    HandleFactory handles;
+
+    @Inject
+    SqlStatements sqlStatements;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.jdbc.url")
+    @Info(category = CATEGORY_STORAGE, description = "JDBC url of an optional read-only replica of the application database. "
+            + "When configured, read-only storage operations are served by the replica.", registryAvailableSince = "3.2.0")
+    Optional<String> jdbcUrl;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.username", defaultValue = "sa")
+    @Info(category = CATEGORY_STORAGE, description = "Read replica datasource username", registryAvailableSince = "3.2.0")
+    String username;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.password", defaultValue = "sa")
+    @Info(category = CATEGORY_STORAGE, description = "Read replica datasource password", registryAvailableSince = "3.2.0")
+    String password;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.jdbc.initial-size", defaultValue = "20")
+    @Info(category = CATEGORY_STORAGE, description = "Read replica datasource pool initial size", registryAvailableSince = "3.2.0")
+    String initialSize;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.jdbc.min-size", defaultValue = "20")
+    @Info(category = CATEGORY_STORAGE, description = "Read replica datasource pool minimum size", registryAvailableSince = "3.2.0")
+    String minSize;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.jdbc.max-size", defaultValue = "100")
+    @Info(category = CATEGORY_STORAGE, description = "Read replica datasource pool max size", registryAvailableSince = "3.2.0")
+    String maxSize;
+
+    @ConfigProperty(name = "apicurio.datasource.read-replica.lag-tolerance-ms", defaultValue = "1000")
+    @Info(category = CATEGORY_STORAGE, description = "After a write, the reads of the client are served by the primary datasource for this many "
+            + "milliseconds, so that replication lag is not visible to it. The client is identified by the 'X-Registry-Consistency-Token' "
+            + "header returned in the response to the write, which it must send with its subsequent requests. "
+            + "Set to 0 to only route reads of the writing request to the primary.", registryAvailableSince = "3.2.0")
+    long lagToleranceMs;
+
+    @ConfigProperty(name = "apicurio.storage.sql.kind", defaultValue = "h2")
+    String databaseType;
+
+    @ConfigProperty(name = "apicurio.storage.kind")
+    String storageType;
+
+    @Inject
+    Instance<ReadReplicaRequestContext> requestContext;
+
+    // Offset of the clock of the primary database to the local clock, in milliseconds
+    volatile long primaryClockOffset = 0;
+
+    /**
+     * Read replica routing is only supported by the SQL storage, where the database is the source of truth.
+     */
+    public boolean isEnabled() {
+        return "sql".equals(storageType) && jdbcUrl.isPresent() && !jdbcUrl.get().isBlank();
+    }
+
+    /**
+     * Creates the read replica datasource. Must only be called when routing is enabled.
+     */
+    public AgroalDataSource createDatasource() throws SQLException {
+        final RegistryDatabaseKind databaseKind = RegistryDatabaseKind.valueOf(databaseType);
+
+        Map<String, String> props = new HashMap<>();
+
+        props.put(AgroalPropertiesReader.MAX_SIZE, maxSize);
+        props.put(AgroalPropertiesReader.MIN_SIZE, minSize);
+        props.put(AgroalPropertiesReader.INITIAL_SIZE, initialSize);
+        props.put(AgroalPropertiesReader.JDBC_URL, jdbcUrl.get());
+        props.put(AgroalPropertiesReader.PRINCIPAL, username);
+        props.put(AgroalPropertiesReader.CREDENTIAL, password);
+        props.put(AgroalPropertiesReader.PROVIDER_CLASS_NAME, databaseKind.getDriverClassName());
+        props.put(AgroalPropertiesReader.AUTO_COMMIT, "false");
+
+        return AgroalDataSource.from(new AgroalPropertiesReader().readProperties(props).get());
+    }
+
+    /**
+     * Measures the offset of the clock of the primary database to the local clock.
+     */
+    @Scheduled(concurrentExecution = SKIP, every = "{apicurio.datasource.read-replica.clock-sync.every}")
+    void syncPrimaryClock() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            long before = System.currentTimeMillis();
+            // Outside of a storage operation, so served by the primary
+            long primaryTime = handles.withHandleNoException(handle -> {
+                return handle.createQuery(sqlStatements.selectCurrentTimeMillis()).mapTo(Long.class).one();
+            });
+            long after = System.currentTimeMillis();
+            primaryClockOffset = primaryTime - (before + after) / 2;
+            log.debug("Clock offset of the primary database: {} ms", primaryClockOffset);
+        } catch (Exception e) {
+            log.warn("Could not read the clock of the primary database, keeping the previous offset.", e);
+        }
+    }
+
+    /**
+     * @return the current time of the primary database, in milliseconds since the epoch
+     */
+    long primaryTime() {
+        return System.currentTimeMillis() + primaryClockOffset;
+    }
+
+    /**
+     * @return true if the storage operation currently executed by this thread may use the read replica
+     */
+    public boolean isReplicaRoute() {
+        return Boolean.TRUE.equals(useReplica.get());
+    }
+
+    /**
+     * @return true if a storage operation is currently being executed by this thread
+     */
+    boolean isRouted() {
+        return useReplica.get() != null;
+    }
+
+    /**
+     * Called when a storage operation starts, to decide which datasource it uses.
+     */
+    void enter(Method method) {
+        boolean readOnly = READ_ONLY_METHODS.contains(signature(method));
+        useReplica.set(readOnly && !isPrimaryRequired());
+    }
+
+    /**
+     * Called when a storage operation ends.
+     */
+    void exit(Method method) {
+        useReplica.remove();
+        if (!READ_ONLY_METHODS.contains(signature(method))) {
+            ReadReplicaRequestContext request = currentRequest();
+            if (request != null) {
+                request.recordWrite(primaryTime());
+            }
+        }
+    }
+
+    /**
+     * Reads outside of a request, e.g. by scheduled jobs, do not follow any client's writes.
+     */
+    private boolean isPrimaryRequired() {
+        ReadReplicaRequestContext request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        return request.isWritten()
+                || primaryTime() - request.getLastWriteTimestamp() < lagToleranceMs;
+    }
+
+    /**
+     * @return the routing state of the current request, or null outside of a request
+     */
+    ReadReplicaRequestContext currentRequest() {
+        ArcContainer container = Arc.container();
+        if (container != null && container.requestContext().isActive()) {
+            return requestContext.get();
+        }
+        return null;
+    }
+
+    private static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+}
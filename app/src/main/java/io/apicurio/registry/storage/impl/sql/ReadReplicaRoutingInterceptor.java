@@ -0,0 +1,37 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Selects the datasource (primary or read replica) used by a SQL storage operation. Nested storage
+ * operations keep the decision made for the outermost one.
+ * <p>
+ * Runs after the other interceptors of the storage (e.g. the persistence health checks), so that the decision
+ * only applies while the storage operation itself is executed.
+ */
+@Interceptor
+@ReadReplicaRoutingApply
+@Priority(Interceptor.Priority.APPLICATION + 10)
+public class ReadReplicaRoutingInterceptor {
+
+    @Inject
+    ReadReplicaRouting routing;
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        if (!routing.isEnabled() || routing.isRouted()) {
+            return context.proceed();
+        }
+
+        routing.enter(context.getMethod());
+        try {
+            return context.proceed();
+        } finally {
+            routing.exit(context.getMethod());
+        }
+    }
+}
@@ -18,10 +18,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -34,6 +36,12 @@ public class RegistryContentUtils {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    /**
+     * Maximum number of parameters in a single "IN (...)" clause, well below the limits of the supported
+     * databases.
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 500;
+
     private RegistryContentUtils() {
     }
 
@@ -337,6 +345,26 @@ public class RegistryContentUtils {
         return collection != null && !collection.isEmpty();
     }
 
+    /**
+     * Splits the given values into chunks that can each be used in an "IN (...)" clause, see
+     * {@link #expandInClause(String, int)}.
+     */
+    public static <T> List<List<T>> inClauseChunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += MAX_IN_CLAUSE_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Replaces the "(?)" placeholder of the given SQL statement with one parameter per value.
+     */
+    public static String expandInClause(String sql, int count) {
+        return sql.replace("(?)", "(" + String.join(", ", Collections.nCopies(count, "?")) + ")");
+    }
+
     public static String concatArtifactVersionCoordinatesWithRefName(String groupId, String artifactId,
             String version, String referenceName) {
         return groupId + ":" + artifactId + ":" + version + ":" + referenceName;
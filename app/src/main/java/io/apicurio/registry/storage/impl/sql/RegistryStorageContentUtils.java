@@ -1,23 +1,40 @@
 package io.apicurio.registry.storage.impl.sql;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.apicurio.common.apps.config.Info;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.types.RegistryException;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import io.apicurio.registry.util.ArtifactTypeUtil;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_STORAGE;
+
 /**
  * TODO Refactor TODO Cache calls to referenceResolver
  */
@@ -30,6 +47,44 @@ public class RegistryStorageContentUtils {
     @Inject
     Logger log;
 
+    @ConfigProperty(name = "apicurio.storage.canonical-hash.cache.max-size", defaultValue = "10000")
+    @Info(category = CATEGORY_STORAGE, description = "Maximum number of memoized canonical content hashes. Set to 0 to disable the cache.", availableSince = "3.2.0")
+    long canonicalHashCacheMaxSize;
+
+    @ConfigProperty(name = "apicurio.storage.canonical-hash.cache.expire-after-write.ms", defaultValue = "600000")
+    @Info(category = CATEGORY_STORAGE, description = "Time after which a memoized canonical content hash is recomputed", availableSince = "3.2.0")
+    long canonicalHashCacheExpiry;
+
+    /**
+     * Canonical hashes keyed by the artifact type, content type, raw content and references. Canonicalizing
+     * requires parsing the content (and its references), which is expensive compared to hashing the raw bytes.
+     * <p>
+     * The canonical form of content with references depends on the content the references resolve to, which
+     * can change for the same references (e.g. a reference to a DRAFT version, or to the latest version of an
+     * artifact). The key therefore also contains the hashes of the resolved content: a change of the
+     * referenced content is a cache miss.
+     */
+    private Cache<CanonicalHashKey, String> canonicalHashCache;
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class CanonicalHashKey {
+        private final String artifactType;
+        private final String contentType;
+        private final String contentHash;
+        private final String references;
+        private final Map<String, String> resolvedReferenceHashes;
+    }
+
+    @PostConstruct
+    void init() {
+        if (canonicalHashCacheMaxSize > 0) {
+            canonicalHashCache = CacheBuilder.newBuilder()
+                    .expireAfterWrite(canonicalHashCacheExpiry, TimeUnit.MILLISECONDS)
+                    .maximumSize(canonicalHashCacheMaxSize).build();
+        }
+    }
+
     /**
      * Canonicalize the given content.
      *
@@ -70,20 +125,64 @@ public class RegistryStorageContentUtils {
     public String getCanonicalContentHash(TypedContent content, String artifactType,
             List<ArtifactReferenceDto> references,
             Function<List<ArtifactReferenceDto>, Map<String, TypedContent>> referenceResolver) {
+        Map<String, TypedContent> resolvedReferences = notEmpty(references)
+            ? referenceResolver.apply(references) : Map.of();
+        if (canonicalHashCache == null) {
+            return computeCanonicalContentHash(content, artifactType, references, resolvedReferences);
+        }
+        String referencesSerialized = RegistryContentUtils.serializeReferences(references);
+        CanonicalHashKey key = new CanonicalHashKey(artifactType, content.getContentType(),
+                DigestUtils.sha256Hex(content.getContent().bytes()), referencesSerialized,
+                contentHashes(resolvedReferences));
         try {
-            if (notEmpty(references)) {
-                String referencesSerialized = RegistryContentUtils.serializeReferences(references);
-                TypedContent canonicalContent = canonicalizeContent(artifactType, content,
-                        referenceResolver.apply(references));
-                return DigestUtils.sha256Hex(concatContentAndReferences(canonicalContent.getContent().bytes(),
-                        referencesSerialized));
-            } else {
-                TypedContent canonicalContent = canonicalizeContent(artifactType, content, Map.of());
-                return DigestUtils.sha256Hex(canonicalContent.getContent().bytes());
+            return canonicalHashCache.get(key,
+                    () -> computeCanonicalContentHash(content, artifactType, references, resolvedReferences));
+        } catch (ExecutionException ex) {
+            throw new RegistryException("Failed to compute canonical content hash.", ex.getCause());
+        } catch (UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
             }
-        } catch (IOException ex) {
-            throw new RegistryException("Failed to compute canonical content hash.", ex);
+            throw ex;
+        }
+    }
+
+    private static Map<String, String> contentHashes(Map<String, TypedContent> resolvedReferences) {
+        Map<String, String> hashes = new HashMap<>();
+        resolvedReferences.forEach((name, resolved) -> hashes.put(name,
+                resolved == null ? null : DigestUtils.sha256Hex(resolved.getContent().bytes())));
+        return hashes;
+    }
+
+    private String computeCanonicalContentHash(TypedContent content, String artifactType,
+            List<ArtifactReferenceDto> references, Map<String, TypedContent> resolvedReferences) {
+        if (notEmpty(references)) {
+            String referencesSerialized = RegistryContentUtils.serializeReferences(references);
+            MessageDigest digest = digestCanonicalContent(artifactType, content, resolvedReferences);
+            digest.update(ContentHandle.create(referencesSerialized).bytes());
+            return Hex.encodeHexString(digest.digest());
+        } else {
+            return Hex.encodeHexString(digestCanonicalContent(artifactType, content, Map.of()).digest());
+        }
+    }
+
+    /**
+     * Digests the canonical form of the given content, which is written straight to the digest instead of
+     * being materialized, when the canonicalizer supports it.
+     */
+    private MessageDigest digestCanonicalContent(String artifactType, TypedContent content,
+            Map<String, TypedContent> resolvedReferences) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            factory.getArtifactTypeProvider(artifactType).getContentCanonicalizer().canonicalize(content,
+                    resolvedReferences, out);
+        } catch (Exception ex) {
+            // Same as canonicalizeContent, the content is used as is
+            log.debug("Failed to canonicalize content: {}", artifactType);
+            digest.reset();
+            digest.update(content.getContent().bytes());
         }
+        return digest;
     }
 
     /**
@@ -0,0 +1,120 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.agroal.api.AgroalDataSource;
+import io.apicurio.registry.storage.impl.sql.jdb.HandleAction;
+import io.apicurio.registry.storage.impl.sql.jdb.HandleCallback;
+import io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation;
+import org.slf4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A handle factory that uses the read replica datasource for the storage operations that
+ * {@link ReadReplicaRouting} allows, and the primary datasource for everything else.
+ * <p>
+ * Reads performed while this thread has a transaction open on the primary use the primary as well, so that
+ * they observe the uncommitted changes of the transaction. When no connection to the replica can be
+ * obtained, reads fall back to the primary, and the replica is not used again for a short period.
+ */
+public class RoutingHandleFactory implements HandleFactory {
+
+    static final long REPLICA_RETRY_DELAY_MS = 5000;
+
+    private final DefaultHandleFactory primary;
+    private final ReplicaHandleFactory replica;
+    private final ReadReplicaRouting routing;
+    private final Logger log;
+
+    private volatile long replicaUnavailableUntil = 0;
+
+    public RoutingHandleFactory(AgroalDataSource primaryDataSource, AgroalDataSource replicaDataSource,
+            ReadReplicaRouting routing, Logger logger) {
+        this.primary = new DefaultHandleFactory(primaryDataSource, logger);
+        this.replica = new ReplicaHandleFactory(replicaDataSource, logger);
+        this.routing = routing;
+        this.log = logger;
+    }
+
+    private boolean useReplica() {
+        return routing.isReplicaRoute() && !primary.isInTransaction()
+                && System.currentTimeMillis() >= replicaUnavailableUntil;
+    }
+
+    @Override
+    public <R, X extends Exception> R withHandle(HandleCallback<R, X> callback) throws X {
+        if (useReplica()) {
+            try {
+                return replica.withHandle(callback);
+            } catch (ReplicaUnavailableException e) {
+                replicaUnavailable(e);
+            }
+        }
+        return primary.withHandle(callback);
+    }
+
+    @Override
+    public <R, X extends Exception> R withHandleNoException(HandleCallback<R, X> callback) {
+        if (useReplica()) {
+            try {
+                return replica.withHandleNoException(callback);
+            } catch (ReplicaUnavailableException e) {
+                replicaUnavailable(e);
+            }
+        }
+        return primary.withHandleNoException(callback);
+    }
+
+    @Override
+    public <X extends Exception> void withHandleNoException(HandleAction<X> callback) {
+        withHandleNoException(handle -> {
+            callback.withHandle(handle);
+            return null;
+        });
+    }
+
+    @Override
+    public void setInstrumentation(SqlInstrumentation instrumentation) {
+        primary.setInstrumentation(instrumentation);
+        replica.setInstrumentation(instrumentation);
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        // Replica handles are read-only, so writes (and their transactions) always use the primary
+        primary.afterCommit(action);
+    }
+
+    private void replicaUnavailable(ReplicaUnavailableException e) {
+        log.warn("Could not connect to the read replica, reads are served by the primary datasource for {} ms.",
+                REPLICA_RETRY_DELAY_MS, e.getCause());
+        replicaUnavailableUntil = System.currentTimeMillis() + REPLICA_RETRY_DELAY_MS;
+    }
+
+    private static class ReplicaHandleFactory extends AbstractHandleFactory {
+        ReplicaHandleFactory(AgroalDataSource dataSource, Logger logger) {
+            initialize(dataSource, "read-replica", logger);
+        }
+
+        @Override
+        protected Connection getConnection() {
+            try {
+                return super.getConnection();
+            } catch (SQLException e) {
+                throw new ReplicaUnavailableException(e);
+            }
+        }
+    }
+
+    /**
+     * Thrown when no connection to the replica can be obtained, before any statement is executed.
+     */
+    private static class ReplicaUnavailableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ReplicaUnavailableException(SQLException cause) {
+            super(cause);
+        }
+    }
+}
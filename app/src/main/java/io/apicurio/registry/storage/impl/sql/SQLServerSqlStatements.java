@@ -20,6 +20,42 @@ public class SQLServerSqlStatements extends CommonSqlStatements {
         return "mssql";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCurrentTimeMillis()
+     */
+    @Override
+    public String selectCurrentTimeMillis() {
+        return "SELECT DATEDIFF_BIG(MILLISECOND, '1970-01-01', SYSUTCDATETIME())";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectStreamedContentById()
+     */
+    @Override
+    public String selectStreamedContentById() {
+        return "SELECT c.contentId, c.contentCodec, c.contentType, c.refs, c.contentHash, "
+                + "CASE WHEN DATALENGTH(c.content) <= ? THEN c.content END AS content FROM content c "
+                + "WHERE c.contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectStreamedContentByContentHash()
+     */
+    @Override
+    public String selectStreamedContentByContentHash() {
+        return "SELECT c.contentId, c.contentCodec, c.contentType, c.refs, c.contentHash, "
+                + "CASE WHEN DATALENGTH(c.content) <= ? THEN c.content END AS content FROM content c "
+                + "WHERE c.contentHash = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentChunkById()
+     */
+    @Override
+    public String selectContentChunkById() {
+        return "SELECT SUBSTRING(c.content, ?, ?) FROM content c WHERE c.contentId = ?";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#isPrimaryKeyViolation(java.lang.Exception)
      */
@@ -0,0 +1,267 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.types.RegistryException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes and decodes the bytes stored in the <code>content</code> column of the <code>content</code> table.
+ * <p>
+ * The codec of each stored value is recorded in the <code>contentCodec</code> column of its row, and is never
+ * inferred from the value itself. Rows written before compression was enabled (or by an older version of the
+ * registry) have the {@link #CODEC_RAW} codec and are read as-is. Compression only applies to the stored
+ * representation: content hashes are always computed from the original bytes.
+ * <p>
+ * The codec identifiers and preset dictionaries are part of the stored format. Never change an existing
+ * dictionary, add a new codec identifier instead.
+ */
+public final class SqlContentCodec {
+
+    public static final byte CODEC_RAW = 0;
+    static final byte CODEC_DEFLATE = 1;
+    static final byte CODEC_DEFLATE_JSON_DICT = 2;
+    static final byte CODEC_DEFLATE_XML_DICT = 3;
+
+    /**
+     * A value to store in the <code>content</code> column, with the codec to store in the
+     * <code>contentCodec</code> column.
+     */
+    public record Encoded(byte codec, byte[] bytes) {
+    }
+
+    // Tokens commonly found in OpenAPI, AsyncAPI, JSON Schema and Avro documents (JSON and YAML).
+    // Deflate prefers matches near the end of the dictionary, so the most frequent tokens come last.
+    private static final byte[] JSON_DICTIONARY = ("x-apicurio ,\"deprecated\": false ,\"nullable\": true "
+            + "\"externalDocs\": \"servers\": \"channels\": \"messages\": \"operationId\": \"tags\": "
+            + "\"securitySchemes\": \"parameters\": \"requestBody\": \"responses\": \"content\": "
+            + "\"application/json\": \"components\": \"schemas\": \"paths\": \"info\": \"title\": "
+            + "\"version\": \"openapi\": \"asyncapi\": \"$schema\": \"$id\": \"definitions\": \"$defs\": "
+            + "\"additionalProperties\": false \"enum\": [ \"format\": \"date-time\" \"items\": "
+            + "\"namespace\": \"fields\": \"record\" \"name\": \"default\": null \"required\": [ "
+            + "\"example\": \"description\": \"type\": \"object\" \"properties\": { \"type\": \"array\" "
+            + "\"$ref\": \"#/components/schemas/ \"type\": \"integer\" \"type\": \"boolean\" "
+            + "\"description\": \"type\": \"string\" ").getBytes(StandardCharsets.UTF_8);
+
+    // Tokens commonly found in XML Schema and WSDL documents.
+    private static final byte[] XML_DICTIONARY = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?> "
+            + "xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\" <wsdl:definitions <wsdl:message "
+            + "<wsdl:portType <wsdl:operation <wsdl:binding <wsdl:service <wsdl:port <wsdl:part "
+            + "xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" <xs:schema targetNamespace=\" "
+            + "elementFormDefault=\"qualified\" <xs:annotation><xs:documentation> </xs:documentation></xs:annotation> "
+            + "<xs:simpleType name=\" <xs:restriction base=\"xs:string\"> <xs:enumeration value=\" "
+            + "<xs:complexType name=\" <xs:sequence> </xs:sequence> </xs:complexType> minOccurs=\"0\" "
+            + "maxOccurs=\"unbounded\" <xs:element name=\" type=\"xs:string\"/> ").getBytes(StandardCharsets.UTF_8);
+
+    private SqlContentCodec() {
+    }
+
+    /**
+     * Encodes the given content for storage. The raw bytes are returned unchanged, with the
+     * {@link #CODEC_RAW} codec, when the content is smaller than <code>minSize</code> or when compressing it
+     * does not save any space.
+     *
+     * @param raw the original content bytes
+     * @param contentType the content type, used to pick a preset dictionary
+     * @param minSize the minimum size (in bytes) of content worth compressing
+     * @param useDictionary whether to use a preset dictionary matching the content type
+     */
+    public static Encoded encode(byte[] raw, String contentType, int minSize, boolean useDictionary) {
+        if (raw == null || raw.length < minSize) {
+            return new Encoded(CODEC_RAW, raw);
+        }
+
+        byte codec = useDictionary ? codecFor(contentType) : CODEC_DEFLATE;
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            byte[] dictionary = dictionaryFor(codec);
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+                if (out.size() >= raw.length) {
+                    // Not worth it (already compressed or tiny content).
+                    return new Encoded(CODEC_RAW, raw);
+                }
+            }
+            return new Encoded(codec, out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decodes bytes read from the <code>content</code> column, encoded with the given codec.
+     */
+    public static byte[] decode(byte codec, byte[] stored) {
+        if (codec == CODEC_RAW || stored == null) {
+            return stored;
+        }
+        checkCodec(codec);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+        try (InputStream in = new DecodingInputStream(codec, stored)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the content of bytes read from the <code>content</code> column, encoded with the given codec.
+     * Compressed values are only inflated while the content is streamed (e.g. written to a response), the
+     * whole decoded content is materialized only if its bytes or string are requested.
+     */
+    public static ContentHandle toContentHandle(byte codec, byte[] stored) {
+        if (codec == CODEC_RAW) {
+            return ContentHandle.create(stored);
+        }
+        checkCodec(codec);
+        return ContentHandle.create(() -> new DecodingInputStream(codec, stored));
+    }
+
+    /**
+     * Returns a stream decoding a value streamed from the <code>content</code> column, encoded with the given
+     * codec. Compressed values are inflated as they are read, raw values are passed through unchanged. Closing
+     * the returned stream closes the given one.
+     */
+    public static InputStream decodingStream(byte codec, InputStream stored) {
+        if (codec == CODEC_RAW) {
+            return stored;
+        }
+        checkCodec(codec);
+        return new DecodingInputStream(codec, stored);
+    }
+
+    private static void checkCodec(byte codec) {
+        if (codec != CODEC_DEFLATE && codec != CODEC_DEFLATE_JSON_DICT && codec != CODEC_DEFLATE_XML_DICT) {
+            throw new RegistryException("Unknown content compression codec: " + codec);
+        }
+    }
+
+    private static byte codecFor(String contentType) {
+        if (contentType == null) {
+            return CODEC_DEFLATE;
+        }
+        String ct = contentType.toLowerCase();
+        if (ct.contains("json") || ct.contains("yaml") || ct.contains("yml")) {
+            return CODEC_DEFLATE_JSON_DICT;
+        }
+        if (ct.contains("xml")) {
+            return CODEC_DEFLATE_XML_DICT;
+        }
+        return CODEC_DEFLATE;
+    }
+
+    private static byte[] dictionaryFor(byte codec) {
+        switch (codec) {
+            case CODEC_DEFLATE_JSON_DICT:
+                return JSON_DICTIONARY;
+            case CODEC_DEFLATE_XML_DICT:
+                return XML_DICTIONARY;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Inflates a compressed stored value as it is read, setting the preset dictionary of its codec when the
+     * inflater asks for it.
+     */
+    private static class DecodingInputStream extends InputStream {
+
+        private final byte codec;
+        private final Inflater inflater = new Inflater();
+        private final InputStream source;
+        private final byte[] single = new byte[1];
+        private byte[] input;
+
+        DecodingInputStream(byte codec, byte[] stored) {
+            this.codec = codec;
+            this.source = null;
+            inflater.setInput(stored);
+        }
+
+        /**
+         * @param codec the codec of the stored value
+         * @param source the stored value, read as it is inflated
+         */
+        DecodingInputStream(byte codec, InputStream source) {
+            this.codec = codec;
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                while (!inflater.finished()) {
+                    int count = inflater.inflate(b, off, len);
+                    if (count > 0) {
+                        return count;
+                    }
+                    if (inflater.finished()) {
+                        break;
+                    }
+                    if (inflater.needsDictionary()) {
+                        byte[] dictionary = dictionaryFor(codec);
+                        if (dictionary == null) {
+                            throw new RegistryException("Unknown content compression codec: " + codec);
+                        }
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput() && !fill()) {
+                        throw new RegistryException("Truncated compressed content.");
+                    }
+                }
+                return -1;
+            } catch (DataFormatException e) {
+                throw new RegistryException("Failed to decompress stored content.", e);
+            }
+        }
+
+        private boolean fill() throws IOException {
+            if (source == null) {
+                return false;
+            }
+            if (input == null) {
+                input = new byte[8192];
+            }
+            int count = source.read(input);
+            if (count <= 0) {
+                return false;
+            }
+            inflater.setInput(input, 0, count);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            if (source != null) {
+                source.close();
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.inject.Inject;
 @PersistenceTimeoutReadinessApply
 @StorageMetricsApply
 @Logged
+@ReadReplicaRoutingApply
 public class SqlRegistryStorage extends AbstractSqlRegistryStorage {
 
     @Inject
@@ -0,0 +1,172 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_STORAGE;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_CONNECTION_ACQUIRE;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_CONNECTION_ACQUIRE_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_CONNECTION_ACQUIRE_TAG_DATASOURCE;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT_ROWS;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT_ROWS_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT_TAG_STATEMENT;
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_SQL_STATEMENT_TAG_SUCCESS;
+
+/**
+ * Records statement level metrics for the SQL storage: execution time and number of rows of every statement,
+ * and the time spent waiting for a connection from the datasource pool.
+ * <p>
+ * Statements are identified by the name of the {@link SqlStatements} method that produced them, so the meters
+ * can be created once at startup. Statements that are built dynamically (e.g. searches) are recorded under a
+ * single <code>other</code> name. Optionally, statements slower than a threshold are logged, without the
+ * values of their bind parameters.
+ */
+@ApplicationScoped
+public class SqlStatementMetrics implements SqlInstrumentation {
+
+    private static final String OTHER_STATEMENT = "other";
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    SqlStatements sqlStatements;
+
+    @ConfigProperty(name = "apicurio.storage.sql.metrics.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_STORAGE, description = "Record the execution time and the number of rows of every SQL statement, "
+            + "and the time spent waiting for a database connection", availableSince = "3.2.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.storage.sql.slow-query.threshold.ms", defaultValue = "0")
+    @Info(category = CATEGORY_STORAGE, description = "Log SQL statements taking longer than this many milliseconds "
+            + "(bind parameter values are not logged). Disabled when 0.", availableSince = "3.2.0")
+    long slowQueryThreshold;
+
+    private long slowQueryThresholdNanos;
+
+    // Keyed by SQL, only written during initialization
+    private final Map<String, StatementMeters> statementMeters = new HashMap<>();
+    private StatementMeters otherStatementMeters;
+    private final Map<String, Timer> connectionTimers = new ConcurrentHashMap<>();
+
+    /**
+     * The meters are null when metrics are disabled, in which case only the name is used (for logging).
+     */
+    private static class StatementMeters {
+        private final String name;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+
+        private StatementMeters(String name, MeterRegistry registry) {
+            this.name = name;
+            this.success = registry == null ? null : timer(name, true, registry);
+            this.failure = registry == null ? null : timer(name, false, registry);
+            this.rows = registry == null ? null
+                : DistributionSummary.builder(STORAGE_SQL_STATEMENT_ROWS)
+                        .description(STORAGE_SQL_STATEMENT_ROWS_DESCRIPTION)
+                        .tag(STORAGE_SQL_STATEMENT_TAG_STATEMENT, name).register(registry);
+        }
+
+        private static Timer timer(String name, boolean success, MeterRegistry registry) {
+            return Timer.builder(STORAGE_SQL_STATEMENT).description(STORAGE_SQL_STATEMENT_DESCRIPTION)
+                    .tag(STORAGE_SQL_STATEMENT_TAG_STATEMENT, name)
+                    .tag(STORAGE_SQL_STATEMENT_TAG_SUCCESS, String.valueOf(success)).register(registry);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold);
+        if (getInstrumentation() == SqlInstrumentation.NONE) {
+            return;
+        }
+        otherStatementMeters = new StatementMeters(OTHER_STATEMENT, enabled ? registry : null);
+        for (Method method : SqlStatements.class.getMethods()) {
+            if (method.getReturnType() != String.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            Class<?>[] types = method.getParameterTypes();
+            if (types.length == 0) {
+                register(method.getName(), method);
+            } else if (types.length == 1 && types[0] == boolean.class) {
+                register(method.getName() + "(true)", method, true);
+                register(method.getName() + "(false)", method, false);
+            }
+        }
+        log.debug("Registered metrics for {} SQL statements.", statementMeters.size());
+    }
+
+    private void register(String name, Method method, Object... args) {
+        try {
+            String sql = (String) method.invoke(sqlStatements, args);
+            if (sql != null) {
+                statementMeters.putIfAbsent(sql, new StatementMeters(name, enabled ? registry : null));
+            }
+        } catch (Exception e) {
+            // Not supported by this database, ignore
+            log.trace("Skipping SQL statement {}", name, e);
+        }
+    }
+
+    /**
+     * @return the instrumentation to use for the SQL storage handles
+     */
+    public SqlInstrumentation getInstrumentation() {
+        return enabled || slowQueryThresholdNanos > 0 ? this : SqlInstrumentation.NONE;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation#connectionAcquired(java.lang.String,
+     *      long)
+     */
+    @Override
+    public void connectionAcquired(String dataSourceId, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        connectionTimers.computeIfAbsent(dataSourceId,
+                id -> Timer.builder(STORAGE_SQL_CONNECTION_ACQUIRE)
+                        .description(STORAGE_SQL_CONNECTION_ACQUIRE_DESCRIPTION)
+                        .tag(STORAGE_SQL_CONNECTION_ACQUIRE_TAG_DATASOURCE, id).register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.SqlInstrumentation#statementExecuted(java.lang.String,
+     *      int, long, long, boolean)
+     */
+    @Override
+    public void statementExecuted(String sql, int parameterCount, long durationNanos, long rows,
+            boolean success) {
+        StatementMeters meters = statementMeters.getOrDefault(sql, otherStatementMeters);
+        if (enabled) {
+            (success ? meters.success : meters.failure).record(durationNanos, TimeUnit.NANOSECONDS);
+            meters.rows.record(rows);
+        }
+        if (slowQueryThresholdNanos > 0 && durationNanos >= slowQueryThresholdNanos) {
+            log.warn("Slow SQL statement '{}' took {} ms ({} rows, {} bind parameters redacted): {}",
+                    meters.name, TimeUnit.NANOSECONDS.toMillis(durationNanos), rows, parameterCount, sql);
+        }
+    }
+}
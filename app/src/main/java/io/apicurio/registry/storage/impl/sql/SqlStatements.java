@@ -48,6 +48,11 @@ public interface SqlStatements {
      */
     public String getDatabaseVersion();
 
+    /**
+     * A statement that returns the current time of the database, in milliseconds since the epoch.
+     */
+    public String selectCurrentTimeMillis();
+
     /**
      * A statement used to insert a row into the globalrules table.
      */
@@ -105,6 +110,12 @@ public interface SqlStatements {
      */
     public String selectArtifactVersionMetaDataByGlobalId();
 
+    /**
+     * A statement used to select several rows in the versions table by globalId. The "(?)" placeholder must
+     * be replaced by one parameter per globalId.
+     */
+    public String selectArtifactVersionMetaDataByGlobalIds();
+
     /**
      * A statement used to select a single row in the versions by artifactId and content hash.
      */
@@ -160,6 +171,31 @@ public interface SqlStatements {
      */
     public String selectTotalArtifactVersionsCount();
 
+    /**
+     * A statement used to count the # of artifacts in a group.
+     */
+    public String selectArtifactCountByGroupId();
+
+    /**
+     * A statement used to count the # of versions of all artifacts in a group.
+     */
+    public String selectArtifactVersionsCountByGroupId();
+
+    /**
+     * A statement used to read the current value of a counter (the sum of all its stripes).
+     */
+    public String selectCounterValue();
+
+    /**
+     * A statement used to add a (possibly negative) delta to one stripe of a counter.
+     */
+    public String updateCounterValue();
+
+    /**
+     * A statement used to reset all stripes of all counters to zero.
+     */
+    public String resetAllCounters();
+
     /**
      * A statement used to select artifact version metadata by artifactId and version.
      */
@@ -196,6 +232,12 @@ public interface SqlStatements {
      */
     public String selectContentIdByHash();
 
+    /**
+     * A statement to select the canonicalHash of the content (by contentHash) of a version of the given
+     * artifact.
+     */
+    public String selectCanonicalHashByContentHash();
+
     /**
      * A statement used to select artifact rules by artifactId.
      */
@@ -420,6 +462,36 @@ public interface SqlStatements {
      */
     public String selectContentByContentHash();
 
+    /**
+     * A statement to select a content row (including its contentId) by contentId, with its bytes only if
+     * their stored size does not exceed the size given as first parameter. The bytes of larger content are
+     * selected as null.
+     */
+    public String selectStreamedContentById();
+
+    /**
+     * A statement to select a content row by contentHash, see {@link #selectStreamedContentById()}.
+     */
+    public String selectStreamedContentByContentHash();
+
+    /**
+     * A statement to select a chunk of the stored bytes of a content row by contentId. The parameters are the
+     * position of the chunk (starting at 1), its maximum length and the contentId.
+     */
+    public String selectContentChunkById();
+
+    /**
+     * A statement to select the bytes of several content rows by contentId. The "(?)" placeholder must be
+     * replaced by one parameter per contentId.
+     */
+    public String selectContentByIds();
+
+    /**
+     * A statement to select the bytes of several content rows by contentHash. The "(?)" placeholder must be
+     * replaced by one parameter per contentHash.
+     */
+    public String selectContentByContentHashes();
+
     /**
      * A statement to delete content that is no longer being referenced by an artifact version.
      */
@@ -2,6 +2,11 @@ package io.apicurio.registry.storage.impl.sql;
 
 public enum SqlStorageEventType {
 
-    READY
+    READY,
+
+    /**
+     * User data was deleted or imported in bulk, without an outbox event for each change.
+     */
+    USER_DATA_REPLACED
 
 }
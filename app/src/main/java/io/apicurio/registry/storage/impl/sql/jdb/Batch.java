@@ -0,0 +1,19 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+public interface Batch extends Sql<Batch> {
+
+    /**
+     * Adds the currently bound parameters to the batch, so that new parameters can be bound for the next row.
+     */
+    public Batch addBatch();
+
+    /**
+     * Executes the statement for all rows added to the batch.
+     * 
+     * @return the update counts, one for each row
+     */
+    public int[] executeBatch();
+
+    public int size();
+
+}
@@ -0,0 +1,95 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchImpl extends SqlImpl<Batch> implements Batch {
+
+    private final List<List<SqlParam>> rows = new ArrayList<>();
+
+    /**
+     * Constructor.
+     * 
+     * @param handle
+     * @param sql
+     */
+    public BatchImpl(HandleImpl handle, String sql) {
+        super(handle, sql);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#addBatch()
+     */
+    @Override
+    public Batch addBatch() {
+        rows.add(new ArrayList<>(parameters));
+        parameters.clear();
+        return this;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#size()
+     */
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#executeBatch()
+     */
+    @Override
+    public int[] executeBatch() {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        PreparedStatement statement = null;
+        long start = System.nanoTime();
+        int parameterCount = rows.get(0).size() * rows.size();
+        int batchSize = rows.size();
+        boolean success = false;
+        try {
+            statement = handle.prepareStatement(sql);
+            for (List<SqlParam> row : rows) {
+                for (SqlParam param : row) {
+                    param.bindTo(statement);
+                }
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            success = true;
+            return counts;
+        } catch (BatchUpdateException e) {
+            // Some drivers only report the underlying cause (e.g. a constraint violation) as the next exception.
+            throw new RuntimeSqlBatchException(e.getNextException() != null ? e.getNextException() : e,
+                    failedRow(e.getUpdateCounts(), batchSize));
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        } finally {
+            rows.clear();
+            handle.releaseStatement(sql, statement);
+            handle.statementExecuted(sql, parameterCount, start, batchSize, success);
+        }
+    }
+
+    /**
+     * Returns the index of the row that made the batch fail: drivers either stop at the first failure, and
+     * only report the counts of the rows executed before it, or mark the failed rows.
+     */
+    private static int failedRow(int[] counts, int batchSize) {
+        if (counts == null) {
+            return -1;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return counts.length < batchSize ? counts.length : -1;
+    }
+
+}
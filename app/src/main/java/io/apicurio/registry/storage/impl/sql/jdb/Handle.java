@@ -18,6 +18,14 @@ public interface Handle extends Closeable {
      */
     Update createUpdate(String sql);
 
+    /**
+     * Create a new Batch from the given SQL. The same statement is executed once for each set of parameters
+     * added to the batch, in a single round trip to the database.
+     * 
+     * @param sql
+     */
+    Batch createBatch(String sql);
+
     /**
      * Set the rollback status of this handle. If set to true, the database transaction will be rolled back
      * instead of commited.
@@ -25,4 +33,9 @@ public interface Handle extends Closeable {
      * @param rollback
      */
     void setRollback(boolean rollback);
+
+    /**
+     * @return true if the database transaction will be rolled back instead of commited
+     */
+    boolean isRollback();
 }
@@ -1,17 +1,34 @@
 package io.apicurio.registry.storage.impl.sql.jdb;
 
 import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 public class HandleImpl implements Handle {
 
+    private static final Logger log = LoggerFactory.getLogger(HandleImpl.class);
+
+    /**
+     * Maximum number of idle prepared statements kept by a single handle for reuse.
+     */
+    private static final int MAX_CACHED_STATEMENTS = 64;
+
     @Getter
     private final Connection connection;
     @Getter
     private boolean rollback;
+    private final SqlInstrumentation instrumentation;
+
+    // Idle prepared statements, keyed by their SQL. A statement is removed from the cache while in use, so
+    // that nested or streaming queries using the same SQL each get their own statement.
+    private final Map<String, PreparedStatement> statementCache = new HashMap<>();
 
     /**
      * Constructor.
@@ -19,7 +36,18 @@ public class HandleImpl implements Handle {
      * @param connection
      */
     public HandleImpl(Connection connection) {
+        this(connection, SqlInstrumentation.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param connection
+     * @param instrumentation receives the timings of the statements executed through this handle
+     */
+    public HandleImpl(Connection connection, SqlInstrumentation instrumentation) {
         this.connection = connection;
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -27,10 +55,33 @@ public class HandleImpl implements Handle {
      */
     @Override
     public void close() throws IOException {
+        // A statement failing to close must neither prevent the others nor the connection from being closed
+        SQLException error = null;
         try {
-            this.connection.close();
-        } catch (SQLException e) {
-            throw new IOException(e);
+            for (PreparedStatement statement : statementCache.values()) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    if (error == null) {
+                        error = e;
+                    } else {
+                        error.addSuppressed(e);
+                    }
+                }
+            }
+            statementCache.clear();
+        } finally {
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                if (error != null) {
+                    e.addSuppressed(error);
+                }
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw new IOException(error);
         }
     }
 
@@ -39,7 +90,7 @@ public class HandleImpl implements Handle {
      */
     @Override
     public Query createQuery(String sql) {
-        QueryImpl query = new QueryImpl(connection, sql);
+        QueryImpl query = new QueryImpl(this, sql);
         return query;
     }
 
@@ -48,12 +99,84 @@ public class HandleImpl implements Handle {
      */
     @Override
     public Update createUpdate(String sql) {
-        UpdateImpl update = new UpdateImpl(connection, sql);
+        UpdateImpl update = new UpdateImpl(this, sql);
         return update;
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Handle#createBatch(java.lang.String)
+     */
+    @Override
+    public Batch createBatch(String sql) {
+        BatchImpl batch = new BatchImpl(this, sql);
+        return batch;
+    }
+
     @Override
     public void setRollback(boolean rollback) {
         this.rollback = rollback;
     }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing an idle one from the cache if possible. The
+     * statement must be given back using {@link #releaseStatement(String, PreparedStatement)} once it is no
+     * longer used.
+     *
+     * @param sql
+     */
+    PreparedStatement prepareStatement(String sql) throws SQLException {
+        PreparedStatement statement = statementCache.remove(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+        }
+        return statement;
+    }
+
+    /**
+     * Reports the execution of a statement to the instrumentation.
+     *
+     * @param sql
+     * @param parameterCount
+     * @param startNanos value of {@link System#nanoTime()} when the execution started
+     * @param rows
+     * @param success
+     */
+    void statementExecuted(String sql, int parameterCount, long startNanos, long rows, boolean success) {
+        instrumentation.statementExecuted(sql, parameterCount, System.nanoTime() - startNanos, rows, success);
+    }
+
+    /**
+     * Gives back a statement obtained from {@link #prepareStatement(String)}. The statement is cached for
+     * reuse, or closed if the cache is full or already holds a statement for the same SQL.
+     * <p>
+     * Called when closing queries and updates, possibly while an exception is propagating, so it never throws:
+     * a statement that cannot be reset is discarded and the error logged.
+     *
+     * @param sql
+     * @param statement
+     */
+    void releaseStatement(String sql, PreparedStatement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            if (statement.isClosed()) {
+                return;
+            }
+            if (statementCache.size() < MAX_CACHED_STATEMENTS && !statementCache.containsKey(sql)) {
+                statement.clearParameters();
+                statement.clearBatch();
+                statementCache.put(sql, statement);
+            } else {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            try {
+                statement.close();
+            } catch (SQLException closeError) {
+                e.addSuppressed(closeError);
+            }
+            log.warn("Discarded a prepared statement that could not be released: {}", sql, e);
+        }
+    }
 }
@@ -15,19 +15,61 @@ import java.util.stream.StreamSupport;
 
 public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
 
+    final HandleImpl handle;
+    final String sql;
     final PreparedStatement statement;
     final RowMapper<T> mapper;
+    final int parameterCount;
+
+    // Execution metrics, reported when the statement is released
+    private boolean executed;
+    private long start;
+    private long rows;
+    private boolean success;
+    private boolean closed;
 
     /**
      * Constructor.
      * 
+     * @param handle
+     * @param sql
+     * @param statement
+     * @param mapper
+     * @throws SQLException
+     */
+    public MappedQueryImpl(HandleImpl handle, String sql, PreparedStatement statement, RowMapper<T> mapper)
+            throws SQLException {
+        this(handle, sql, statement, mapper, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param handle
+     * @param sql
      * @param statement
      * @param mapper
+     * @param parameterCount number of parameters bound to the statement
      * @throws SQLException
      */
-    public MappedQueryImpl(PreparedStatement statement, RowMapper<T> mapper) throws SQLException {
+    public MappedQueryImpl(HandleImpl handle, String sql, PreparedStatement statement, RowMapper<T> mapper,
+            int parameterCount) throws SQLException {
+        this.handle = handle;
+        this.sql = sql;
         this.statement = statement;
         this.mapper = mapper;
+        this.parameterCount = parameterCount;
+    }
+
+    private ResultSet executeQuery() throws SQLException {
+        executed = true;
+        start = System.nanoTime();
+        return statement.executeQuery();
+    }
+
+    private T mapRow(ResultSet resultSet) throws SQLException {
+        rows++;
+        return this.mapper.map(resultSet);
     }
 
     /**
@@ -36,15 +78,16 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public T one() {
         T rval = null;
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             if (resultSet.next()) {
-                rval = this.mapper.map(resultSet);
+                rval = mapRow(resultSet);
                 if (resultSet.next()) {
                     throw new RuntimeSqlException("SQL error: Expected only one result but got multiple.");
                 }
             } else {
                 throw new RuntimeSqlException("SQL error: Expected only one result row but got none.");
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -59,12 +102,13 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public T first() {
         T rval = null;
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             if (resultSet.next()) {
-                rval = this.mapper.map(resultSet);
+                rval = mapRow(resultSet);
             } else {
                 throw new RuntimeSqlException("SQL error: Expected AT LEAST one result row but got none.");
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -79,15 +123,16 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public Optional<T> findOne() {
         Optional<T> rval;
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             if (resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow(resultSet));
                 if (resultSet.next()) {
                     throw new RuntimeSqlException("SQL error: Expected only one result but got multiple.");
                 }
             } else {
                 rval = Optional.empty();
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -102,12 +147,13 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public Optional<T> findFirst() {
         Optional<T> rval = null;
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             if (resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow(resultSet));
             } else {
                 rval = Optional.empty();
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -122,13 +168,14 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public Optional<T> findLast() {
         Optional<T> rval = null;
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             while (resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow(resultSet));
             }
             if (rval == null) {
                 rval = Optional.empty();
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -143,11 +190,12 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public List<T> list() {
         List<T> rval = new LinkedList<>();
-        try (ResultSet resultSet = statement.executeQuery()) {
+        try (ResultSet resultSet = executeQuery()) {
             while (resultSet.next()) {
-                T t = this.mapper.map(resultSet);
+                T t = mapRow(resultSet);
                 rval.add(t);
             }
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         } finally {
@@ -162,7 +210,9 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
     @Override
     public Stream<T> stream() {
         try {
-            ResultSet resultSet = statement.executeQuery();
+            ResultSet resultSet = executeQuery();
+            // The stream may legitimately be closed before all rows are read
+            success = true;
             return StreamSupport
                     .stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.IMMUTABLE
                             | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL) {
@@ -172,10 +222,11 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
                                 if (!resultSet.next()) {
                                     return false;
                                 }
-                                T t = mapper.map(resultSet);
+                                T t = mapRow(resultSet);
                                 action.accept(t);
                                 return true;
                             } catch (SQLException e) {
+                                success = false;
                                 throw new RuntimeSqlException(e);
                             }
                         }
@@ -189,19 +240,26 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
                         }
                     });
         } catch (SQLException e) {
+            close();
             throw new RuntimeException(e);
         }
     }
 
     /**
+     * Gives the statement back to the handle. Only the first call has an effect, e.g. when a stream is closed
+     * after its statement has already been released because of an error.
+     *
      * @see java.io.Closeable#close()
      */
     @Override
     public void close() {
-        try {
-            this.statement.close();
-        } catch (SQLException e) {
-            throw new RuntimeSqlException(e);
+        if (closed) {
+            return;
+        }
+        closed = true;
+        this.handle.releaseStatement(sql, statement);
+        if (executed) {
+            this.handle.statementExecuted(sql, parameterCount, start, rows, success);
         }
     }
 
@@ -4,7 +4,6 @@ import io.apicurio.registry.storage.impl.sql.mappers.IntegerMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.LongMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.StringMapper;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -15,11 +14,11 @@ public class QueryImpl extends SqlImpl<Query> implements Query {
     /**
      * Constructor.
      * 
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public QueryImpl(Connection connection, String sql) {
-        super(connection, sql);
+    public QueryImpl(HandleImpl handle, String sql) {
+        super(handle, sql);
     }
 
     /**
@@ -37,12 +36,11 @@ public class QueryImpl extends SqlImpl<Query> implements Query {
     @Override
     public <T> MappedQuery<T> map(RowMapper<T> mapper) {
         try {
-            PreparedStatement statement = this.connection.prepareStatement(sql);
+            PreparedStatement statement = this.handle.prepareStatement(sql);
             this.bindParametersTo(statement);
-            if (this.fetchSize != -1) {
-                statement.setFetchSize(fetchSize);
-            }
-            return new MappedQueryImpl<T>(statement, mapper);
+            // The statement may be reused from the handle's cache, so always (re)set the fetch size.
+            statement.setFetchSize(this.fetchSize != -1 ? fetchSize : 0);
+            return new MappedQueryImpl<T>(handle, sql, statement, mapper, parameters.size());
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
@@ -0,0 +1,32 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+import java.sql.SQLException;
+
+/**
+ * Thrown when the execution of a {@link Batch} fails.
+ */
+public class RuntimeSqlBatchException extends RuntimeSqlException {
+
+    private static final long serialVersionUID = -4817233316735010428L;
+
+    private final int failedRow;
+
+    /**
+     * Constructor.
+     *
+     * @param cause
+     * @param failedRow index of the row that caused the failure, or -1 if the driver does not tell
+     */
+    public RuntimeSqlBatchException(SQLException cause, int failedRow) {
+        super(cause);
+        this.failedRow = failedRow;
+    }
+
+    /**
+     * @return the index of the row that caused the failure, in the order the rows were added to the batch,
+     *         or -1 if it is not known
+     */
+    public int getFailedRow() {
+        return failedRow;
+    }
+}
@@ -1,6 +1,5 @@
 package io.apicurio.registry.storage.impl.sql.jdb;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.util.Date;
 import java.util.LinkedList;
@@ -9,16 +8,16 @@ import java.util.List;
 @SuppressWarnings("unchecked")
 public abstract class SqlImpl<Q> implements Sql<Q> {
 
-    protected final Connection connection;
+    protected final HandleImpl handle;
     protected final String sql;
     protected final List<SqlParam> parameters;
 
     /**
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public SqlImpl(Connection connection, String sql) {
-        this.connection = connection;
+    public SqlImpl(HandleImpl handle, String sql) {
+        this.handle = handle;
         this.sql = sql;
         this.parameters = new LinkedList<>();
     }
@@ -0,0 +1,37 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+/**
+ * Receives timings of the database interactions performed through a {@link Handle}. Implementations are
+ * called on the hot path of every storage operation, so they must be cheap and must not throw.
+ */
+public interface SqlInstrumentation {
+
+    /**
+     * Instrumentation that records nothing.
+     */
+    SqlInstrumentation NONE = new SqlInstrumentation() {
+    };
+
+    /**
+     * Called after a connection has been obtained from a datasource (pool).
+     *
+     * @param dataSourceId
+     * @param durationNanos time spent waiting for the connection
+     */
+    default void connectionAcquired(String dataSourceId, long durationNanos) {
+    }
+
+    /**
+     * Called after a statement has been executed (and, for queries, after its results have been read).
+     *
+     * @param sql the executed SQL
+     * @param parameterCount number of bind parameters (values are never passed to the instrumentation)
+     * @param durationNanos execution time, including reading the results of a query
+     * @param rows number of rows read by a query or updated by an update, or the number of statements in a
+     *            batch
+     * @param success false if the statement failed
+     */
+    default void statementExecuted(String sql, int parameterCount, long durationNanos, long rows,
+            boolean success) {
+    }
+}
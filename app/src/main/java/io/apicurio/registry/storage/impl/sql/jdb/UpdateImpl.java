@@ -1,6 +1,5 @@
 package io.apicurio.registry.storage.impl.sql.jdb;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -9,11 +8,11 @@ public class UpdateImpl extends SqlImpl<Update> implements Update {
     /**
      * Constructor.
      * 
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public UpdateImpl(Connection connection, String sql) {
-        super(connection, sql);
+    public UpdateImpl(HandleImpl handle, String sql) {
+        super(handle, sql);
     }
 
     /**
@@ -21,11 +20,19 @@ public class UpdateImpl extends SqlImpl<Update> implements Update {
      */
     @Override
     public int execute() {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        PreparedStatement statement = null;
+        long start = System.nanoTime();
+        int rows = -1;
+        try {
+            statement = handle.prepareStatement(sql);
             bindParametersTo(statement);
-            return statement.executeUpdate();
+            rows = statement.executeUpdate();
+            return rows;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
+        } finally {
+            handle.releaseStatement(sql, statement);
+            handle.statementExecuted(sql, parameters.size(), start, Math.max(rows, 0), rows >= 0);
         }
     }
 
@@ -34,11 +41,19 @@ public class UpdateImpl extends SqlImpl<Update> implements Update {
      */
     @Override
     public void executeNoUpdate() {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        PreparedStatement statement = null;
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            statement = handle.prepareStatement(sql);
             bindParametersTo(statement);
             statement.execute();
+            success = true;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
+        } finally {
+            handle.releaseStatement(sql, statement);
+            handle.statementExecuted(sql, parameters.size(), start, 0, success);
         }
     }
 
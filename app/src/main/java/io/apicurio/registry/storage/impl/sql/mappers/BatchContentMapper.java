@@ -0,0 +1,32 @@
+package io.apicurio.registry.storage.impl.sql.mappers;
+
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps content rows selected in batches, which also include the contentId.
+ */
+public class BatchContentMapper implements RowMapper<ContentWrapperDto> {
+
+    public static final BatchContentMapper instance = new BatchContentMapper();
+
+    /**
+     * Constructor.
+     */
+    private BatchContentMapper() {
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.RowMapper#map(java.sql.ResultSet)
+     */
+    @Override
+    public ContentWrapperDto map(ResultSet rs) throws SQLException {
+        ContentWrapperDto contentWrapperDto = ContentMapper.instance.map(rs);
+        contentWrapperDto.setContentId(rs.getLong("contentId"));
+        return contentWrapperDto;
+    }
+
+}
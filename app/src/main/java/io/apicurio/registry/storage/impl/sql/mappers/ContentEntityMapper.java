@@ -1,5 +1,6 @@
 package io.apicurio.registry.storage.impl.sql.mappers;
 
+import io.apicurio.registry.storage.impl.sql.SqlContentCodec;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 import io.apicurio.registry.utils.impexp.v3.ContentEntity;
 
@@ -26,7 +27,7 @@ public class ContentEntityMapper implements RowMapper<ContentEntity> {
         entity.contentType = rs.getString("contentType");
         entity.canonicalHash = rs.getString("canonicalHash");
         entity.contentHash = rs.getString("contentHash");
-        entity.contentBytes = rs.getBytes("content");
+        entity.contentBytes = SqlContentCodec.decode(rs.getByte("contentCodec"), rs.getBytes("content"));
         try {
             entity.serializedReferences = rs.getString("refs");
         } catch (Exception e) {
@@ -3,6 +3,7 @@ package io.apicurio.registry.storage.impl.sql.mappers;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
+import io.apicurio.registry.storage.impl.sql.SqlContentCodec;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 
 import java.sql.ResultSet;
@@ -24,8 +25,8 @@ public class ContentMapper implements RowMapper<ContentWrapperDto> {
     @Override
     public ContentWrapperDto map(ResultSet rs) throws SQLException {
         final ContentWrapperDto contentWrapperDto = new ContentWrapperDto();
-        byte[] contentBytes = rs.getBytes("content");
-        ContentHandle content = ContentHandle.create(contentBytes);
+        ContentHandle content = SqlContentCodec.toContentHandle(rs.getByte("contentCodec"),
+                rs.getBytes("content"));
         contentWrapperDto.setContent(content);
         contentWrapperDto.setContentType(rs.getString("contentType"));
         contentWrapperDto.setReferences(RegistryContentUtils.deserializeReferences(rs.getString("refs")));
@@ -1,8 +1,8 @@
 package io.apicurio.registry.storage.impl.sql.mappers;
 
-import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
+import io.apicurio.registry.storage.impl.sql.SqlContentCodec;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 
 import java.sql.ResultSet;
@@ -23,7 +23,8 @@ public class StoredArtifactMapper implements RowMapper<StoredArtifactVersionDto>
      */
     @Override
     public StoredArtifactVersionDto map(ResultSet rs) throws SQLException {
-        return StoredArtifactVersionDto.builder().content(ContentHandle.create(rs.getBytes("content")))
+        return StoredArtifactVersionDto.builder()
+                .content(SqlContentCodec.toContentHandle(rs.getByte("contentCodec"), rs.getBytes("content")))
                 .contentType(rs.getString("contentType")).contentId(rs.getLong("contentId"))
                 .globalId(rs.getLong("globalId")).version(rs.getString("version"))
                 .versionOrder(rs.getInt("versionOrder"))
@@ -0,0 +1,54 @@
+package io.apicurio.registry.storage.impl.sql.mappers;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
+import io.apicurio.registry.storage.impl.sql.SqlContentCodec;
+import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps content rows selected with their bytes only if they are small enough, which also include the
+ * contentId. When the bytes were not selected, the content is provided by the given loader.
+ */
+public class StreamedContentMapper implements RowMapper<ContentWrapperDto> {
+
+    /**
+     * Provides the content of a row whose bytes were not selected.
+     */
+    @FunctionalInterface
+    public interface LargeContentLoader {
+
+        ContentHandle load(long contentId, byte codec);
+    }
+
+    private final LargeContentLoader largeContentLoader;
+
+    /**
+     * Constructor.
+     */
+    public StreamedContentMapper(LargeContentLoader largeContentLoader) {
+        this.largeContentLoader = largeContentLoader;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.RowMapper#map(java.sql.ResultSet)
+     */
+    @Override
+    public ContentWrapperDto map(ResultSet rs) throws SQLException {
+        final ContentWrapperDto contentWrapperDto = new ContentWrapperDto();
+        long contentId = rs.getLong("contentId");
+        byte codec = rs.getByte("contentCodec");
+        contentWrapperDto.setContentId(contentId);
+        byte[] stored = rs.getBytes("content");
+        contentWrapperDto.setContent(stored != null ? SqlContentCodec.toContentHandle(codec, stored)
+            : largeContentLoader.load(contentId, codec));
+        contentWrapperDto.setContentType(rs.getString("contentType"));
+        contentWrapperDto.setReferences(RegistryContentUtils.deserializeReferences(rs.getString("refs")));
+        contentWrapperDto.setContentHash(rs.getString("contentHash"));
+        return contentWrapperDto;
+    }
+
+}
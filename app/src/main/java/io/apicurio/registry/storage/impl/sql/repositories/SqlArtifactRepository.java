@@ -12,6 +12,7 @@ import io.apicurio.registry.storage.impl.sql.HandleFactory;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactMetaDataDtoMapper;
 import io.apicurio.registry.events.ArtifactDeleted;
@@ -75,6 +76,9 @@ public class SqlArtifactRepository {
     @Inject
     SqlContentRepository contentRepository;
 
+    @Inject
+    SqlCounterRepository counterRepository;
+
     /**
      * Get artifact metadata by groupId and artifactId.
      */
@@ -118,6 +122,11 @@ public class SqlArtifactRepository {
                 throw new ArtifactNotFoundException(groupId, artifactId);
             }
 
+            // The versions are deleted by cascade
+            counterRepository.incrementCounterRaw(handle, SqlCounterRepository.ARTIFACTS_COUNTER, -1);
+            counterRepository.incrementCounterRaw(handle, SqlCounterRepository.VERSIONS_COUNTER,
+                    -versions.size());
+
             contentRepository.deleteAllOrphanedContentRaw(handle);
 
             outboxEvent.fire(SqlOutboxEvent.of(ArtifactDeleted.of(groupId, artifactId)));
@@ -136,6 +145,8 @@ public class SqlArtifactRepository {
             handle.createUpdate(sqlStatements.deleteArtifactRulesByGroupId())
                     .bind(0, normalizeGroupId(groupId)).execute();
 
+            counterRepository.decrementGroupCountersRaw(handle, groupId);
+
             // Delete all artifacts
             int rowCount = handle.createUpdate(sqlStatements.deleteArtifactsByGroupId())
                     .bind(0, normalizeGroupId(groupId)).execute();
@@ -212,12 +223,13 @@ public class SqlArtifactRepository {
                 // Insert new labels
                 Map<String, String> labels = metaData.getLabels();
                 if (labels != null && !labels.isEmpty()) {
+                    Batch batch = handle.createBatch(sqlStatements.insertArtifactLabel());
                     labels.forEach((k, v) -> {
-                        handle.createUpdate(sqlStatements.insertArtifactLabel())
-                                .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
+                        batch.bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
                                 .bind(2, limitStr(k.toLowerCase(), MAX_LABEL_KEY_LENGTH))
-                                .bind(3, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).execute();
+                                .bind(3, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).addBatch();
                     });
+                    batch.executeBatch();
                 }
             }
 
@@ -274,7 +286,7 @@ public class SqlArtifactRepository {
      */
     public long countArtifacts() throws RegistryStorageException {
         return handles.withHandle(handle -> {
-            return handle.createQuery(sqlStatements.selectAllArtifactCount()).mapTo(Long.class).one();
+            return counterRepository.getCounterRaw(handle, SqlCounterRepository.ARTIFACTS_COUNTER);
         });
     }
 
@@ -299,15 +311,17 @@ public class SqlArtifactRepository {
                     .bind(8, limitStr(amd.getDescription(), MAX_ARTIFACT_DESCRIPTION_LENGTH, true))
                     .bind(9, labelsStr)
                     .execute();
+            counterRepository.incrementCounterRaw(handle, SqlCounterRepository.ARTIFACTS_COUNTER, 1);
 
             // Insert labels
             if (labels != null && !labels.isEmpty()) {
+                Batch batch = handle.createBatch(sqlStatements.insertArtifactLabel());
                 labels.forEach((k, v) -> {
-                    handle.createUpdate(sqlStatements.insertArtifactLabel())
-                            .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
+                    batch.bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
                             .bind(2, limitStr(k.toLowerCase(), MAX_LABEL_KEY_LENGTH))
-                            .bind(3, limitStr(v.toLowerCase(), MAX_LABEL_VALUE_LENGTH)).execute();
+                            .bind(3, limitStr(v.toLowerCase(), MAX_LABEL_VALUE_LENGTH)).addBatch();
                 });
+                batch.executeBatch();
             }
         } catch (Exception ex) {
             if (sqlStatements.isPrimaryKeyViolation(ex)) {
@@ -349,17 +363,19 @@ public class SqlArtifactRepository {
                         .bind(8, entity.description)
                         .bind(9, labelsStr)
                         .execute();
+                counterRepository.incrementCounterRaw(handle, SqlCounterRepository.ARTIFACTS_COUNTER, 1);
 
                 // Insert labels into the "artifact_labels" table
                 if (entity.labels != null && !entity.labels.isEmpty()) {
+                    Batch batch = handle.createBatch(sqlStatements.insertArtifactLabel());
                     entity.labels.forEach((k, v) -> {
-                        handle.createUpdate(sqlStatements.insertArtifactLabel())
-                                .bind(0, normalizeGroupId(entity.groupId))
+                        batch.bind(0, normalizeGroupId(entity.groupId))
                                 .bind(1, entity.artifactId)
                                 .bind(2, k.toLowerCase())
                                 .bind(3, v == null ? null : v.toLowerCase())
-                                .execute();
+                                .addBatch();
                     });
+                    batch.executeBatch();
                 }
             } else {
                 throw new ArtifactAlreadyExistsException(entity.groupId, entity.artifactId);
@@ -1,5 +1,6 @@
 package io.apicurio.registry.storage.impl.sql.repositories;
 
+import io.apicurio.registry.events.ArtifactBranchUpdated;
 import io.apicurio.registry.model.BranchId;
 import io.apicurio.registry.model.GA;
 import io.apicurio.registry.model.GAV;
@@ -19,8 +20,10 @@ import io.apicurio.registry.storage.error.VersionAlreadyExistsOnBranchException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
 import io.apicurio.registry.utils.impexp.v3.BranchEntity;
 import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
 import io.apicurio.registry.storage.impl.sql.SqlStatementVariableBinder;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.jdb.Query;
 import io.apicurio.registry.storage.impl.sql.mappers.BranchMetaDataDtoMapper;
@@ -33,6 +36,7 @@ import io.apicurio.registry.semver.SemVerConfigProperties;
 import io.apicurio.registry.types.VersionState;
 import io.quarkus.security.identity.SecurityIdentity;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.validation.ValidationException;
 import org.semver4j.Semver;
@@ -83,6 +87,9 @@ public class SqlBranchRepository {
     @Inject
     RestConfig restConfig;
 
+    @Inject
+    Event<SqlOutboxEvent> outboxEvent;
+
     /**
      * Create a new branch.
      */
@@ -104,6 +111,9 @@ public class SqlBranchRepository {
                     });
                 }
 
+                outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                        ga.getRawArtifactId(), branchId.getRawBranchId())));
+
                 return null;
             });
 
@@ -145,6 +155,9 @@ public class SqlBranchRepository {
 
             updateBranchModifiedTimeRaw(handle, ga, branchId);
 
+            outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                    ga.getRawArtifactId(), branchId.getRawBranchId())));
+
             return null;
         });
     }
@@ -233,6 +246,9 @@ public class SqlBranchRepository {
                 throw new BranchNotFoundException(ga.getRawGroupIdWithDefaultString(), ga.getRawArtifactId(),
                         branchId.getRawBranchId());
             }
+
+            outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                    ga.getRawArtifactId(), branchId.getRawBranchId())));
         });
     }
 
@@ -249,6 +265,8 @@ public class SqlBranchRepository {
             handles.withHandle(handle -> {
                 appendVersionToBranchRaw(handle, ga, branchId, version);
                 updateBranchModifiedTimeRaw(handle, ga, branchId);
+                outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                        ga.getRawArtifactId(), branchId.getRawBranchId())));
                 return null;
             });
         } catch (Exception ex) {
@@ -296,14 +314,19 @@ public class SqlBranchRepository {
                     .bind(1, ga.getRawArtifactId()).bind(2, branchId.getRawBranchId()).execute();
 
             int branchOrder = 0;
+            Batch batch = handle.createBatch(sqlStatements.insertBranchVersion());
             for (VersionId version : versions) {
-                handle.createUpdate(sqlStatements.insertBranchVersion()).bind(0, ga.getRawGroupId())
+                batch.bind(0, ga.getRawGroupId())
                         .bind(1, ga.getRawArtifactId()).bind(2, branchId.getRawBranchId())
-                        .bind(3, branchOrder++).bind(4, version.getRawVersionId()).execute();
+                        .bind(3, branchOrder++).bind(4, version.getRawVersionId()).addBatch();
             }
+            batch.executeBatch();
 
             updateBranchModifiedTimeRaw(handle, ga, branchId);
 
+            outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                    ga.getRawArtifactId(), branchId.getRawBranchId())));
+
             return null;
         });
     }
@@ -551,6 +574,9 @@ public class SqlBranchRepository {
                 });
             }
 
+            outboxEvent.fire(SqlOutboxEvent.of(ArtifactBranchUpdated.of(ga.getRawGroupIdWithNull(),
+                    ga.getRawArtifactId(), branchId.getRawBranchId())));
+
             return null;
         });
     }
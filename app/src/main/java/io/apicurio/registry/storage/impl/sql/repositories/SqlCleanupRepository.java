@@ -33,6 +33,9 @@ public class SqlCleanupRepository {
     @Inject
     SqlRuleRepository ruleRepository;
 
+    @Inject
+    SqlCounterRepository counterRepository;
+
     /**
      * Delete all user data from the registry.
      * This is a destructive operation that removes all artifacts, groups, rules, and content.
@@ -73,6 +76,8 @@ public class SqlCleanupRepository {
             // Delete all config properties
             handle.createUpdate(sqlStatements.deleteAllConfigProperties()).execute();
 
+            counterRepository.resetCountersRaw(handle);
+
             return null;
         });
     }
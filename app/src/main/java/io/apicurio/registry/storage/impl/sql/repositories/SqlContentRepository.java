@@ -1,5 +1,7 @@
 package io.apicurio.registry.storage.impl.sql.repositories;
 
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
@@ -11,26 +13,38 @@ import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import io.apicurio.registry.storage.impl.sql.ChunkedContentInputStream;
 import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.SqlContentCodec;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import io.apicurio.registry.storage.impl.sql.jdb.Query;
+import io.apicurio.registry.storage.impl.sql.jdb.RuntimeSqlBatchException;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactReferenceDtoMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactVersionMetaDataDtoMapper;
+import io.apicurio.registry.storage.impl.sql.mappers.BatchContentMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.ContentMapper;
+import io.apicurio.registry.storage.impl.sql.mappers.StreamedContentMapper;
 import io.apicurio.registry.rest.ConflictException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_STORAGE;
 import static io.apicurio.registry.storage.impl.sql.RegistryContentUtils.normalizeGroupId;
 import static io.apicurio.registry.storage.impl.sql.RegistryStorageContentUtils.notEmpty;
 
@@ -64,6 +78,28 @@ public class SqlContentRepository {
     @Inject
     RegistryStorageContentUtils utils;
 
+    @ConfigProperty(name = "apicurio.storage.sql.content-compression.enabled", defaultValue = "false")
+    @Info(category = CATEGORY_STORAGE, description = """
+            Compress artifact content stored in the content table. Content that was stored uncompressed \
+            remains readable, so this can be enabled on an existing database. Note that older versions \
+            of Registry cannot read compressed content.""", availableSince = "3.2.0")
+    boolean compressionEnabled;
+
+    @ConfigProperty(name = "apicurio.storage.sql.content-compression.min-size", defaultValue = "1024")
+    @Info(category = CATEGORY_STORAGE, description = "Minimum size (in bytes) of content to compress", availableSince = "3.2.0")
+    int compressionMinSize;
+
+    @ConfigProperty(name = "apicurio.storage.sql.content-compression.dictionary.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_STORAGE, description = "Compress content using a preset dictionary matching its content type (JSON/YAML or XML)", availableSince = "3.2.0")
+    boolean compressionDictionaryEnabled;
+
+    @ConfigProperty(name = "apicurio.storage.sql.content-streaming.chunk-size", defaultValue = "1048576")
+    @Info(category = CATEGORY_STORAGE, description = """
+            Content served by the content endpoints is read with the rest of its row when it is at most this \
+            size (in bytes, as stored). Larger content is streamed to the response in chunks of this size, \
+            each read with a query of its own.""", availableSince = "3.2.0")
+    int streamingChunkSize;
+
     /**
      * Get content by contentId.
      */
@@ -95,6 +131,93 @@ public class SqlContentRepository {
         });
     }
 
+    /**
+     * Get content by contentId to stream it, e.g. to a response. Content larger than the streaming chunk size
+     * is not read with the row: it is read in chunks each time it is streamed, and only read whole if its
+     * bytes or string are requested.
+     */
+    public ContentWrapperDto getStreamedContentById(long contentId)
+            throws ContentNotFoundException, RegistryStorageException {
+        return handles.withHandleNoException(handle -> {
+            Optional<ContentWrapperDto> res = handle.createQuery(sqlStatements.selectStreamedContentById())
+                    .bind(0, streamingChunkSize).bind(1, contentId)
+                    .map(new StreamedContentMapper(this::chunkedContent)).findFirst();
+            return res.orElseThrow(() -> new ContentNotFoundException(contentId));
+        });
+    }
+
+    /**
+     * Get content by content hash to stream it, see {@link #getStreamedContentById(long)}.
+     */
+    public ContentWrapperDto getStreamedContentByHash(String contentHash)
+            throws ContentNotFoundException, RegistryStorageException {
+        return handles.withHandleNoException(handle -> {
+            Optional<ContentWrapperDto> res = handle
+                    .createQuery(sqlStatements.selectStreamedContentByContentHash())
+                    .bind(0, streamingChunkSize).bind(1, contentHash)
+                    .map(new StreamedContentMapper(this::chunkedContent)).findFirst();
+            return res.orElseThrow(() -> new ContentNotFoundException(contentHash));
+        });
+    }
+
+    /**
+     * Returns the content with the given contentId, read in chunks each time it is streamed.
+     */
+    private ContentHandle chunkedContent(long contentId, byte codec) {
+        HandleFactory factory = handles;
+        String sql = sqlStatements.selectContentChunkById();
+        int chunkSize = streamingChunkSize;
+        ChunkedContentInputStream.ChunkLoader loader = (position, length) -> factory.<byte[], RuntimeException>
+                withHandleNoException(handle -> handle.createQuery(sql).bind(0, position).bind(1, length)
+                        .bind(2, contentId).map(rs -> rs.getBytes(1)).findFirst()
+                        // Deleted since the row was read
+                        .orElseThrow(() -> new ContentNotFoundException(contentId)));
+        return ContentHandle.create(
+                () -> SqlContentCodec.decodingStream(codec, new ChunkedContentInputStream(loader, chunkSize)));
+    }
+
+    /**
+     * Get several contents by contentId, using as few queries as possible. Content IDs that do not exist are
+     * absent from the result. The returned content has its contentId set.
+     */
+    public Map<Long, ContentWrapperDto> getContentByIds(Collection<Long> contentIds)
+            throws RegistryStorageException {
+        return handles.withHandleNoException(handle -> {
+            Map<Long, ContentWrapperDto> rval = new LinkedHashMap<>();
+            for (List<Long> chunk : RegistryContentUtils.inClauseChunks(contentIds)) {
+                Query query = handle.createQuery(
+                        RegistryContentUtils.expandInClause(sqlStatements.selectContentByIds(), chunk.size()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    query.bind(i, chunk.get(i));
+                }
+                query.map(BatchContentMapper.instance).list()
+                        .forEach(content -> rval.put(content.getContentId(), content));
+            }
+            return rval;
+        });
+    }
+
+    /**
+     * Get several contents by content hash, using as few queries as possible. Content hashes that do not exist
+     * are absent from the result. The returned content has its contentId set.
+     */
+    public Map<String, ContentWrapperDto> getContentByHashes(Collection<String> contentHashes)
+            throws RegistryStorageException {
+        return handles.withHandleNoException(handle -> {
+            Map<String, ContentWrapperDto> rval = new LinkedHashMap<>();
+            for (List<String> chunk : RegistryContentUtils.inClauseChunks(contentHashes)) {
+                Query query = handle.createQuery(RegistryContentUtils
+                        .expandInClause(sqlStatements.selectContentByContentHashes(), chunk.size()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    query.bind(i, chunk.get(i));
+                }
+                query.map(BatchContentMapper.instance).list()
+                        .forEach(content -> rval.put(content.getContentHash(), content));
+            }
+            return rval;
+        });
+    }
+
     /**
      * Get content by reference.
      */
@@ -161,14 +284,16 @@ public class SqlContentRepository {
      */
     public void ensureContent(Handle handle, long contentId, TypedContent content, String contentHash,
             String canonicalContentHash, List<ArtifactReferenceDto> references, String referencesSerialized) {
+        SqlContentCodec.Encoded encoded = encodeContent(content.getContent().bytes(), content.getContentType());
         try {
             handle.createUpdate(sqlStatements.insertContent())
                     .bind(0, contentId)
                     .bind(1, canonicalContentHash)
                     .bind(2, contentHash)
                     .bind(3, content.getContentType())
-                    .bind(4, content.getContent().bytes())
-                    .bind(5, referencesSerialized)
+                    .bind(4, encoded.bytes())
+                    .bind(5, (int) encoded.codec())
+                    .bind(6, referencesSerialized)
                     .execute();
         } catch (Exception e) {
             if (sqlStatements.isPrimaryKeyViolation(e)) {
@@ -188,23 +313,32 @@ public class SqlContentRepository {
      */
     public void insertReferencesRaw(Handle handle, Long contentId, List<ArtifactReferenceDto> references) {
         if (references != null && !references.isEmpty()) {
+            // References are unique by name, detect duplicates up front since a failed batch does not
+            // tell which row caused the violation.
+            Set<String> names = new HashSet<>();
+            Batch batch = handle.createBatch(sqlStatements.insertContentReference());
             references.forEach(reference -> {
-                try {
-                    handle.createUpdate(sqlStatements.insertContentReference())
-                            .bind(0, contentId)
-                            .bind(1, normalizeGroupId(reference.getGroupId()))
-                            .bind(2, reference.getArtifactId())
-                            .bind(3, reference.getVersion())
-                            .bind(4, reference.getName())
-                            .execute();
-                } catch (Exception e) {
-                    if (sqlStatements.isPrimaryKeyViolation(e)) {
-                        throw new ConflictException("Duplicate reference found: " + reference);
-                    } else {
-                        throw e;
-                    }
+                if (!names.add(reference.getName())) {
+                    throw new ConflictException("Duplicate reference found: " + reference);
                 }
+                batch.bind(0, contentId)
+                        .bind(1, normalizeGroupId(reference.getGroupId()))
+                        .bind(2, reference.getArtifactId())
+                        .bind(3, reference.getVersion())
+                        .bind(4, reference.getName())
+                        .addBatch();
             });
+            try {
+                batch.executeBatch();
+            } catch (RuntimeSqlBatchException e) {
+                if (sqlStatements.isPrimaryKeyViolation(e)) {
+                    int failedRow = e.getFailedRow();
+                    throw new ConflictException("Duplicate reference found for content " + contentId + ": "
+                            + (failedRow >= 0 ? references.get(failedRow) : "unknown reference"));
+                } else {
+                    throw e;
+                }
+            }
         }
     }
 
@@ -328,6 +462,17 @@ public class SqlContentRepository {
         }
     }
 
+    /**
+     * Converts content bytes to their stored representation, compressing them when enabled.
+     */
+    private SqlContentCodec.Encoded encodeContent(byte[] contentBytes, String contentType) {
+        if (!compressionEnabled) {
+            return new SqlContentCodec.Encoded(SqlContentCodec.CODEC_RAW, contentBytes);
+        }
+        return SqlContentCodec.encode(contentBytes, contentType, compressionMinSize,
+                compressionDictionaryEnabled);
+    }
+
     // ==================== IMPORT OPERATIONS ====================
 
     /**
@@ -336,13 +481,15 @@ public class SqlContentRepository {
     public void importContent(ContentEntity entity) {
         handles.withHandleNoException(handle -> {
             if (!isContentExistsRaw(handle, entity.contentId)) {
+                SqlContentCodec.Encoded encoded = encodeContent(entity.contentBytes, entity.contentType);
                 handle.createUpdate(sqlStatements.importContent())
                         .bind(0, entity.contentId)
                         .bind(1, entity.canonicalHash)
                         .bind(2, entity.contentHash)
                         .bind(3, entity.contentType)
-                        .bind(4, entity.contentBytes)
-                        .bind(5, entity.serializedReferences)
+                        .bind(4, encoded.bytes())
+                        .bind(5, (int) encoded.codec())
+                        .bind(6, entity.serializedReferences)
                         .execute();
 
                 insertReferencesRaw(handle, entity.contentId,
@@ -435,6 +582,7 @@ public class SqlContentRepository {
         final String finalSerializedReferences = serializedReferences;
         final List<ArtifactReferenceDto> finalReferences = references;
 
+        SqlContentCodec.Encoded encoded = encodeContent(content.getContent().bytes(), content.getContentType());
         handles.withHandleNoException(handle -> {
             long contentId = sequenceRepository.nextContentIdRaw(handle);
 
@@ -444,8 +592,9 @@ public class SqlContentRepository {
                         .bind(1, finalCanonicalContentHash)
                         .bind(2, finalContentHash)
                         .bind(3, content.getContentType())
-                        .bind(4, content.getContent().bytes())
-                        .bind(5, finalSerializedReferences)
+                        .bind(4, encoded.bytes())
+                        .bind(5, (int) encoded.codec())
+                        .bind(6, finalSerializedReferences)
                         .execute();
             } catch (Exception e) {
                 if (sqlStatements.isPrimaryKeyViolation(e)) {
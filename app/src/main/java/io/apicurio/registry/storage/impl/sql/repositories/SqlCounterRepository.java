@@ -0,0 +1,99 @@
+package io.apicurio.registry.storage.impl.sql.repositories;
+
+import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.apicurio.registry.storage.impl.sql.RegistryContentUtils.normalizeGroupId;
+
+/**
+ * Repository handling the persistent counters (number of artifacts, number of versions) in the SQL storage
+ * layer.
+ * <p>
+ * Counters are updated in the same transaction as the operation creating or deleting the counted rows, so
+ * they are always exact and shared by every node using the same database. Each counter is split into a fixed
+ * number of stripes (rows) to reduce lock contention between concurrent writers: updates go to a random stripe
+ * and reads sum all of them.
+ */
+@ApplicationScoped
+public class SqlCounterRepository {
+
+    public static final String ARTIFACTS_COUNTER = "artifacts";
+    public static final String VERSIONS_COUNTER = "versions";
+
+    /**
+     * Must match the number of rows created for each counter by the DDL and upgrade scripts.
+     */
+    public static final int STRIPES = 8;
+
+    @Inject
+    Logger log;
+
+    @Inject
+    SqlStatements sqlStatements;
+
+    @Inject
+    HandleFactory handles;
+
+    /**
+     * Set the HandleFactory to use for database operations.
+     * This allows storage implementations to override the default injected HandleFactory.
+     */
+    public void setHandleFactory(HandleFactory handleFactory) {
+        this.handles = handleFactory;
+    }
+
+    /**
+     * Get the current value of the given counter.
+     */
+    public long getCounter(String counterName) {
+        return handles.withHandleNoException(handle -> getCounterRaw(handle, counterName));
+    }
+
+    /**
+     * Get the current value of the given counter using an existing handle.
+     */
+    public long getCounterRaw(Handle handle, String counterName) {
+        return handle.createQuery(sqlStatements.selectCounterValue()).bind(0, counterName).mapTo(Long.class)
+                .one();
+    }
+
+    /**
+     * Add the given (possibly negative) delta to a counter, using an existing handle so that the update is part
+     * of the caller's transaction.
+     */
+    public void incrementCounterRaw(Handle handle, String counterName, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        handle.createUpdate(sqlStatements.updateCounterValue()).bind(0, delta).bind(1, counterName)
+                .bind(2, stripe).execute();
+    }
+
+    /**
+     * Subtract the artifacts and versions of the given group from the counters. Must be called, in the same
+     * transaction, right before all the artifacts of the group are deleted.
+     */
+    public void decrementGroupCountersRaw(Handle handle, String groupId) {
+        long artifacts = handle.createQuery(sqlStatements.selectArtifactCountByGroupId())
+                .bind(0, normalizeGroupId(groupId)).mapTo(Long.class).one();
+        long versions = handle.createQuery(sqlStatements.selectArtifactVersionsCountByGroupId())
+                .bind(0, normalizeGroupId(groupId)).mapTo(Long.class).one();
+        incrementCounterRaw(handle, ARTIFACTS_COUNTER, -artifacts);
+        incrementCounterRaw(handle, VERSIONS_COUNTER, -versions);
+    }
+
+    /**
+     * Reset all counters to zero using an existing handle.
+     */
+    public void resetCountersRaw(Handle handle) {
+        log.debug("Resetting all counters");
+        handle.createUpdate(sqlStatements.resetAllCounters()).execute();
+    }
+}
@@ -17,6 +17,7 @@ import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
 import io.apicurio.registry.storage.impl.sql.SqlStatementVariableBinder;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.jdb.Query;
 import io.apicurio.registry.storage.impl.sql.mappers.GroupMetaDataDtoMapper;
@@ -82,6 +83,9 @@ public class SqlGroupRepository {
     @Inject
     RestConfig restConfig;
 
+    @Inject
+    SqlCounterRepository counterRepository;
+
     /**
      * Create a new group.
      */
@@ -118,12 +122,13 @@ public class SqlGroupRepository {
                 // Insert labels
                 Map<String, String> labels = group.getLabels();
                 if (labels != null && !labels.isEmpty()) {
+                    Batch batch = handle.createBatch(sqlStatements.insertGroupLabel());
                     labels.forEach((k, v) -> {
-                        handle.createUpdate(sqlStatements.insertGroupLabel())
-                                .bind(0, group.getGroupId())
+                        batch.bind(0, group.getGroupId())
                                 .bind(1, limitStr(k.toLowerCase(), MAX_LABEL_KEY_LENGTH))
-                                .bind(2, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).execute();
+                                .bind(2, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).addBatch();
                     });
+                    batch.executeBatch();
                 }
 
                 outboxEvent.fire(SqlOutboxEvent.of(GroupCreated.of(group)));
@@ -148,6 +153,7 @@ public class SqlGroupRepository {
                     .bind(0, normalizeGroupId(groupId)).execute();
 
             // Delete all artifacts in the group
+            counterRepository.decrementGroupCountersRaw(handle, groupId);
             handle.createUpdate(sqlStatements.deleteArtifactsByGroupId()).bind(0, normalizeGroupId(groupId))
                     .execute();
 
@@ -224,13 +230,14 @@ public class SqlGroupRepository {
 
                 // Insert new labels into the "group_labels" table
                 if (dto.getLabels() != null && !dto.getLabels().isEmpty()) {
+                    Batch batch = handle.createBatch(sqlStatements.insertGroupLabel());
                     dto.getLabels().forEach((k, v) -> {
-                        handle.createUpdate(sqlStatements.insertGroupLabel())
-                                .bind(0, groupId)
+                        batch.bind(0, groupId)
                                 .bind(1, limitStr(k.toLowerCase(), 256))
                                 .bind(2, limitStr(asLowerCase(v), 512))
-                                .execute();
+                                .addBatch();
                     });
+                    batch.executeBatch();
                 }
             }
 
@@ -296,7 +303,11 @@ public class SqlGroupRepository {
 
             // Build WHERE clause
             where.append(" WHERE (1 = 1)");
+            List<SearchFilter> labelFilters = SqlLabelSearch.intersectableFilters(filters);
             for (SearchFilter filter : filters) {
+                if (labelFilters.contains(filter)) {
+                    continue;
+                }
                 where.append(" AND (");
                 switch (filter.getType()) {
                     case description:
@@ -339,6 +350,12 @@ public class SqlGroupRepository {
                 }
                 where.append(")");
             }
+            if (!labelFilters.isEmpty()) {
+                where.append(" AND (");
+                SqlLabelSearch.appendIntersection(where, binders, labelFilters, "group_labels", "g",
+                        "groupId");
+                where.append(")");
+            }
 
             // Build ORDER BY
             switch (orderBy) {
@@ -424,13 +441,14 @@ public class SqlGroupRepository {
 
             // Insert labels into the "group_labels" table
             if (entity.labels != null && !entity.labels.isEmpty()) {
+                Batch batch = handle.createBatch(sqlStatements.insertGroupLabel());
                 entity.labels.forEach((k, v) -> {
-                    handle.createUpdate(sqlStatements.insertGroupLabel())
-                            .bind(0, normalizeGroupId(entity.groupId))
+                    batch.bind(0, normalizeGroupId(entity.groupId))
                             .bind(1, k.toLowerCase())
                             .bind(2, v.toLowerCase())
-                            .execute();
+                            .addBatch();
                 });
+                batch.executeBatch();
             }
 
             return null;
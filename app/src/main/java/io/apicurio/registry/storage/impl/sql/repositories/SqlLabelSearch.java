@@ -0,0 +1,121 @@
+package io.apicurio.registry.storage.impl.sql.repositories;
+
+import io.apicurio.registry.storage.dto.SearchFilter;
+import io.apicurio.registry.storage.dto.SearchFilterType;
+import io.apicurio.registry.storage.impl.sql.SqlStatementVariableBinder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the SQL condition answering several label filters of a search at once.
+ * <p>
+ * Each label filter used to be a separate correlated <code>EXISTS</code> over the label table, which the
+ * database has to evaluate for every candidate row, one filter after the other. Instead, the rows of the
+ * label table matching any of the filters are fetched using the <code>(labelKey, labelValue)</code> index,
+ * grouped by the labelled entity, and only the entities matching every filter are kept (an intersection of
+ * the posting lists of the labels).
+ * <p>
+ * This relies on the label table holding at most one row per entity and key, so the filters combined must
+ * have different keys: a row then matches at most one filter, and an entity matches all the filters exactly
+ * when it has as many matching rows as there are filters.
+ */
+final class SqlLabelSearch {
+
+    private SqlLabelSearch() {
+    }
+
+    /**
+     * Returns the label filters that can be answered by a single intersection: the positive ones, if there
+     * are at least two with different keys. Negated filters and filters sharing a key with another filter
+     * are left to the per-filter conditions.
+     */
+    static List<SearchFilter> intersectableFilters(Set<SearchFilter> filters) {
+        Map<String, List<SearchFilter>> byKey = new HashMap<>();
+        for (SearchFilter filter : filters) {
+            if (filter.getType() == SearchFilterType.labels && !filter.isNot()) {
+                byKey.computeIfAbsent(filter.getLabelFilterValue().getKey().toLowerCase(),
+                        k -> new ArrayList<>()).add(filter);
+            }
+        }
+        List<SearchFilter> intersectable = new ArrayList<>();
+        for (List<SearchFilter> keyFilters : byKey.values()) {
+            if (keyFilters.size() == 1) {
+                intersectable.add(keyFilters.get(0));
+            }
+        }
+        return intersectable.size() < 2 ? List.of() : intersectable;
+    }
+
+    /**
+     * Appends a condition matching the entities having all the labels of the given filters.
+     *
+     * @param labelFilters filters returned by {@link #intersectableFilters(Set)}
+     * @param labelsTable the label table, e.g. <code>artifact_labels</code>
+     * @param alias alias of the searched table in the query
+     * @param entityColumns columns identifying the labelled entity, in both the label table and the searched
+     *            table
+     */
+    static void appendIntersection(StringBuilder where, List<SqlStatementVariableBinder> binders,
+            List<SearchFilter> labelFilters, String labelsTable, String alias, String... entityColumns) {
+        String lColumns = columns("l", entityColumns);
+
+        StringBuilder matching = new StringBuilder();
+        matching.append("SELECT ").append(lColumns).append(" FROM ").append(labelsTable).append(" l WHERE ");
+        boolean first = true;
+        for (SearchFilter filter : labelFilters) {
+            if (!first) {
+                matching.append(" OR ");
+            }
+            first = false;
+            Pair<String, String> label = filter.getLabelFilterValue();
+            // Note: convert search to lowercase when searching for labels (case-insensitivity support).
+            String labelKey = label.getKey().toLowerCase();
+            matching.append("(l.labelKey = ?");
+            binders.add((query, idx) -> {
+                query.bind(idx, labelKey);
+            });
+            if (label.getValue() != null) {
+                String labelValue = label.getValue().toLowerCase();
+                matching.append(" AND l.labelValue = ?");
+                binders.add((query, idx) -> {
+                    query.bind(idx, labelValue);
+                });
+            }
+            matching.append(")");
+        }
+        matching.append(" GROUP BY ").append(lColumns).append(" HAVING COUNT(*) = ")
+                .append(labelFilters.size());
+
+        if (entityColumns.length == 1) {
+            where.append(alias).append(".").append(entityColumns[0]).append(" IN (").append(matching)
+                    .append(")");
+        } else {
+            // Row value IN is not supported by every database
+            where.append("EXISTS(SELECT 1 FROM (").append(matching).append(") lf WHERE ");
+            for (int i = 0; i < entityColumns.length; i++) {
+                if (i > 0) {
+                    where.append(" AND ");
+                }
+                where.append("lf.").append(entityColumns[i]).append(" = ").append(alias).append(".")
+                        .append(entityColumns[i]);
+            }
+            where.append(")");
+        }
+    }
+
+    private static String columns(String alias, String... columns) {
+        StringBuilder result = new StringBuilder();
+        for (String column : columns) {
+            if (!result.isEmpty()) {
+                result.append(", ");
+            }
+            result.append(alias).append(".").append(column);
+        }
+        return result.toString();
+    }
+}
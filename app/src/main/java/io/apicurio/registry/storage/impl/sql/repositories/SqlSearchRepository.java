@@ -20,6 +20,7 @@ import jakarta.inject.Inject;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +36,12 @@ import static io.apicurio.registry.storage.impl.sql.RegistryContentUtils.normali
 @ApplicationScoped
 public class SqlSearchRepository {
 
+    /**
+     * Escape character of LIKE patterns, one that is not an escape character in SQL string literals of any
+     * supported database.
+     */
+    private static final char LIKE_ESCAPE = '!';
+
     @Inject
     Logger log;
 
@@ -69,7 +76,11 @@ public class SqlSearchRepository {
             // Formulate the WHERE clause for both queries
             String op;
             boolean first = true;
+            List<SearchFilter> labelFilters = SqlLabelSearch.intersectableFilters(filters);
             for (SearchFilter filter : filters) {
+                if (labelFilters.contains(filter)) {
+                    continue;
+                }
                 if (first) {
                     where.append(" WHERE (");
                     first = false;
@@ -161,6 +172,16 @@ public class SqlSearchRepository {
                             query.bind(idx, filter.getStringValue());
                         });
                         break;
+                    case artifactTypes:
+                        appendArtifactTypes(where, binders, filter);
+                        break;
+                    case artifactIdPrefix:
+                        op = filter.isNot() ? "NOT LIKE" : "LIKE";
+                        where.append("a.artifactId " + op + " ? ESCAPE '" + LIKE_ESCAPE + "'");
+                        binders.add((query, idx) -> {
+                            query.bind(idx, likePrefix(filter.getStringValue()));
+                        });
+                        break;
                     case contentHash:
                         op = filter.isNot() ? "!=" : "=";
                         where.append(
@@ -236,6 +257,12 @@ public class SqlSearchRepository {
                 }
                 where.append(")");
             }
+            if (!labelFilters.isEmpty()) {
+                where.append(first ? " WHERE (" : " AND (");
+                SqlLabelSearch.appendIntersection(where, binders, labelFilters, "artifact_labels", "a",
+                        "groupId", "artifactId");
+                where.append(")");
+            }
 
             // Add order by to artifact query
             switch (orderBy) {
@@ -315,7 +342,11 @@ public class SqlSearchRepository {
 
             // Formulate the WHERE clause for both queries
             where.append(" WHERE (1 = 1)");
+            List<SearchFilter> labelFilters = SqlLabelSearch.intersectableFilters(filters);
             for (SearchFilter filter : filters) {
+                if (labelFilters.contains(filter)) {
+                    continue;
+                }
                 where.append(" AND (");
                 switch (filter.getType()) {
                     case groupId:
@@ -332,6 +363,34 @@ public class SqlSearchRepository {
                             query.bind(idx, filter.getStringValue());
                         });
                         break;
+                    case artifactTypes:
+                        appendArtifactTypes(where, binders, filter);
+                        break;
+                    case artifactIdPrefix:
+                        op = filter.isNot() ? "NOT LIKE" : "LIKE";
+                        where.append("v.artifactId " + op + " ? ESCAPE '" + LIKE_ESCAPE + "'");
+                        binders.add((query, idx) -> {
+                            query.bind(idx, likePrefix(filter.getStringValue()));
+                        });
+                        break;
+                    case latestVersion:
+                        // The latest version of the artifact among the versions in the given states
+                        List<String> states = filter.getStringListValue();
+                        where.append("v.versionOrder " + (filter.isNot() ? "!=" : "=")
+                                + " (SELECT MAX(lv.versionOrder) FROM versions lv"
+                                + " WHERE lv.groupId = v.groupId AND lv.artifactId = v.artifactId");
+                        if (!states.isEmpty()) {
+                            where.append(" AND lv.state IN (")
+                                    .append(String.join(", ", Collections.nCopies(states.size(), "?")))
+                                    .append(")");
+                            for (String state : states) {
+                                binders.add((query, idx) -> {
+                                    query.bind(idx, state);
+                                });
+                            }
+                        }
+                        where.append(")");
+                        break;
                     case artifactId:
                     case contentId:
                     case globalId:
@@ -401,6 +460,12 @@ public class SqlSearchRepository {
                 }
                 where.append(")");
             }
+            if (!labelFilters.isEmpty()) {
+                where.append(" AND (");
+                SqlLabelSearch.appendIntersection(where, binders, labelFilters, "version_labels", "v",
+                        "globalId");
+                where.append(")");
+            }
 
             // Add order by to query
             switch (orderBy) {
@@ -465,6 +530,40 @@ public class SqlSearchRepository {
         });
     }
 
+    /**
+     * Appends an artifact type IN (or NOT IN) condition for an artifactTypes filter.
+     */
+    private static void appendArtifactTypes(StringBuilder where, List<SqlStatementVariableBinder> binders,
+            SearchFilter filter) {
+        List<String> artifactTypes = filter.getStringListValue();
+        if (artifactTypes.isEmpty()) {
+            where.append(filter.isNot() ? "1 = 1" : "1 = 0");
+            return;
+        }
+        where.append("a.type ").append(filter.isNot() ? "NOT IN (" : "IN (")
+                .append(String.join(", ", Collections.nCopies(artifactTypes.size(), "?"))).append(")");
+        for (String artifactType : artifactTypes) {
+            binders.add((query, idx) -> {
+                query.bind(idx, artifactType);
+            });
+        }
+    }
+
+    /**
+     * Returns the LIKE pattern matching values starting with the given prefix, escaping the characters
+     * that have a special meaning in LIKE patterns (including '[' for SQL Server).
+     */
+    private static String likePrefix(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+        for (char c : prefix.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_' || c == '[') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
     /**
      * Limit the size of labels returned in search results.
      */
@@ -15,7 +15,9 @@ import io.apicurio.registry.storage.impl.sql.HandleFactory;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import io.apicurio.registry.storage.impl.sql.jdb.Query;
 import io.apicurio.registry.storage.impl.sql.RegistryStorageContentUtils;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactMetaDataDtoMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactVersionMetaDataDtoMapper;
@@ -37,7 +39,9 @@ import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import org.slf4j.Logger;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -96,6 +100,9 @@ public class SqlVersionRepository {
     @Inject
     SqlSequenceRepository sequenceRepository;
 
+    @Inject
+    SqlCounterRepository counterRepository;
+
     @Inject
     RegistryStorageContentUtils utils;
 
@@ -112,6 +119,27 @@ public class SqlVersionRepository {
         });
     }
 
+    /**
+     * Get the metadata of several artifact versions by globalId, using as few queries as possible. Global IDs
+     * that do not exist are absent from the result.
+     */
+    public Map<Long, ArtifactVersionMetaDataDto> getArtifactVersionMetaDataByGlobalIds(
+            Collection<Long> globalIds) throws RegistryStorageException {
+        return handles.withHandle(handle -> {
+            Map<Long, ArtifactVersionMetaDataDto> rval = new LinkedHashMap<>();
+            for (List<Long> chunk : RegistryContentUtils.inClauseChunks(globalIds)) {
+                Query query = handle.createQuery(RegistryContentUtils
+                        .expandInClause(sqlStatements.selectArtifactVersionMetaDataByGlobalIds(), chunk.size()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    query.bind(i, chunk.get(i));
+                }
+                query.map(ArtifactVersionMetaDataDtoMapper.instance).list()
+                        .forEach(dto -> rval.put(dto.getGlobalId(), dto));
+            }
+            return rval;
+        });
+    }
+
     /**
      * Get artifact version metadata by GAV.
      */
@@ -181,6 +209,8 @@ public class SqlVersionRepository {
                 throw new RegistryStorageException("Unexpected: deleted more than one version row");
             }
 
+            counterRepository.incrementCounterRaw(handle, SqlCounterRepository.VERSIONS_COUNTER, -1);
+
             contentRepository.deleteAllOrphanedContentRaw(handle);
 
             outboxEvent.fire(SqlOutboxEvent.of(ArtifactVersionDeleted.of(groupId, artifactId, version)));
@@ -238,12 +268,13 @@ public class SqlVersionRepository {
                 handle.createUpdate(sqlStatements.deleteVersionLabelsByGlobalId()).bind(0, globalId).execute();
 
                 // Insert new labels
+                Batch batch = handle.createBatch(sqlStatements.insertVersionLabel());
                 labels.forEach((k, v) -> {
-                    handle.createUpdate(sqlStatements.insertVersionLabel())
-                            .bind(0, globalId)
+                    batch.bind(0, globalId)
                             .bind(1, limitStr(k.toLowerCase(), MAX_LABEL_KEY_LENGTH))
-                            .bind(2, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).execute();
+                            .bind(2, limitStr(asLowerCase(v), MAX_LABEL_VALUE_LENGTH)).addBatch();
                 });
+                batch.executeBatch();
 
                 if (modified) {
                     String modifiedBy = securityIdentity.getPrincipal().getName();
@@ -387,7 +418,7 @@ public class SqlVersionRepository {
      */
     public long countTotalArtifactVersions() throws RegistryStorageException {
         return handles.withHandle(handle -> {
-            return handle.createQuery(sqlStatements.selectTotalArtifactVersionsCount()).mapTo(Long.class).one();
+            return counterRepository.getCounterRaw(handle, SqlCounterRepository.VERSIONS_COUNTER);
         });
     }
 
@@ -466,16 +497,18 @@ public class SqlVersionRepository {
                     .bind(12, RegistryContentUtils.serializeLabels(entity.labels))
                     .bind(13, entity.contentId)
                     .execute();
+            counterRepository.incrementCounterRaw(handle, SqlCounterRepository.VERSIONS_COUNTER, 1);
 
             // Insert labels into the "version_labels" table
             if (entity.labels != null && !entity.labels.isEmpty()) {
+                Batch batch = handle.createBatch(sqlStatements.insertVersionLabel());
                 entity.labels.forEach((k, v) -> {
-                    handle.createUpdate(sqlStatements.insertVersionLabel())
-                            .bind(0, entity.globalId)
+                    batch.bind(0, entity.globalId)
                             .bind(1, k.toLowerCase())
                             .bind(2, v == null ? null : v.toLowerCase())
-                            .execute();
+                            .addBatch();
                 });
+                batch.executeBatch();
             }
 
             return null;
@@ -585,15 +618,18 @@ public class SqlVersionRepository {
 
             gav = getGAVByGlobalIdRaw(handle, globalId);
         }
+        counterRepository.incrementCounterRaw(handle, SqlCounterRepository.VERSIONS_COUNTER, 1);
 
         // Insert labels into the "version_labels" table
         if (metaData.getLabels() != null && !metaData.getLabels().isEmpty()) {
+            Batch batch = handle.createBatch(sqlStatements.insertVersionLabel());
             metaData.getLabels().forEach((k, v) -> {
-                handle.createUpdate(sqlStatements.insertVersionLabel()).bind(0, globalId)
+                batch.bind(0, globalId)
                         .bind(1, limitStr(k.toLowerCase(), MAX_LABEL_KEY_LENGTH))
                         .bind(2, limitStr(v.toLowerCase(), MAX_LABEL_VALUE_LENGTH))
-                        .execute();
+                        .addBatch();
             });
+            batch.executeBatch();
         }
 
         // Update system generated branches
@@ -671,6 +707,17 @@ public class SqlVersionRepository {
     private String getContentHashRaw(Handle handle, String groupId, String artifactId, boolean canonical,
             TypedContent content, List<ArtifactReferenceDto> references) {
         if (canonical) {
+            // Fast path: a version of this artifact already has the exact same content (and references), so
+            // its canonical hash has already been computed with the same artifact type.
+            String contentHash = utils.getContentHash(content, references);
+            Optional<String> storedCanonicalHash = handle
+                    .createQuery(sqlStatements.selectCanonicalHashByContentHash())
+                    .bind(0, normalizeGroupId(groupId)).bind(1, artifactId).bind(2, contentHash)
+                    .map(StringMapper.instance).findFirst();
+            if (storedCanonicalHash.isPresent()) {
+                return storedCanonicalHash.get();
+            }
+
             var artifactMetaData = getArtifactMetaDataRaw(handle, groupId, artifactId);
             Function<List<ArtifactReferenceDto>, Map<String, TypedContent>> referenceResolver = (refs) -> {
                 return contentRepository.resolveReferencesRaw(handle, refs);
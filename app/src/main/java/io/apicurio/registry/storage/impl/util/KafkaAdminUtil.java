@@ -12,8 +12,15 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
 import org.apache.kafka.clients.admin.DescribeConfigsOptions;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.RecordsToDelete;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.slf4j.Logger;
@@ -121,7 +128,9 @@ public class KafkaAdminUtil {
      * We might relax this requirement if snapshotting is enabled, but the snapshots would have to be done automatically,
      * and there is never a guarantee that a snapshot has been made before the messages are deleted based on retention (e.g. Registry could be turned off).
      * <p>
-     * An alternative approach would be to delete messages after a snapshot is made, but that should be left to an admin.
+     * An alternative approach would be to delete messages after a snapshot is made, but that should be left to an admin,
+     * or to the opt-in journal compaction, which only deletes messages once every running replica has consumed them
+     * (see {@link #isConsumedByAllGroups(String, Map)}).
      * <p>
      * 2. We check that the topic does not contain v2 messages, which could happen during an incorrect migration.
      * <p>
@@ -181,6 +190,110 @@ public class KafkaAdminUtil {
         }
     }
 
+    /**
+     * Returns the earliest offset still available in each partition of the given topic. Offsets greater than
+     * zero mean that records have been deleted from the partition.
+     * <p>
+     * NOTE: The admin client is closed after use.
+     *
+     * @param topic
+     */
+    public Map<TopicPartition, Long> getEarliestOffsets(String topic) {
+        try {
+            var admin = adminClient.get().get();
+            var description = blockOnResult(toJavaFuture(admin.describeTopics(singleton(topic)).allTopicNames()))
+                    .get(topic);
+            Map<TopicPartition, OffsetSpec> partitions = description.partitions().stream()
+                    .collect(Collectors.toMap(p -> new TopicPartition(topic, p.partition()), p -> OffsetSpec.earliest()));
+            return blockOnResult(toJavaFuture(admin.listOffsets(partitions).all())).entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().offset()));
+        } finally {
+            adminClient.get().close();
+        }
+    }
+
+    /**
+     * Checks that every consumer group with the given prefix that consumes the given partitions has committed at
+     * least the given offsets, i.e. will not read any record before them. A group consumes the partitions if any of
+     * its members is assigned one of them, or if it has committed an offset for one of them. Groups without members
+     * are checked as well, since their replica may only be restarting. Groups that are rebalancing are never caught
+     * up, since their assignment, and the position their members resume from, are not known yet.
+     * <p>
+     * NOTE: The admin client is closed after use.
+     *
+     * @param groupPrefix the prefix of the consumer groups of the replicas, see
+     *        {@link KafkaSqlConfiguration#getReplicaGroupPrefix()}
+     * @param offsets the minimum committed offset, for each partition
+     * @return false if any consumer group is behind or rebalancing, or if no consumer group could be found
+     */
+    public boolean isConsumedByAllGroups(String groupPrefix, Map<TopicPartition, Long> offsets) {
+        try {
+            var admin = adminClient.get().get();
+            var groupIds = blockOnResult(toJavaFuture(admin.listConsumerGroups().all())).stream()
+                    .map(ConsumerGroupListing::groupId)
+                    .filter(groupId -> groupId.startsWith(groupPrefix))
+                    .collect(Collectors.toList());
+            if (groupIds.isEmpty()) {
+                return false;
+            }
+            var descriptions = blockOnResult(toJavaFuture(admin.describeConsumerGroups(groupIds).all()));
+            boolean found = false;
+            for (ConsumerGroupDescription description : descriptions.values()) {
+                if (description.state() == ConsumerGroupState.DEAD) {
+                    continue;
+                }
+                if (description.state() != ConsumerGroupState.STABLE
+                        && description.state() != ConsumerGroupState.EMPTY) {
+                    log.debug("Consumer group {} is {}.", description.groupId(), description.state());
+                    return false;
+                }
+                Map<TopicPartition, OffsetAndMetadata> committed = blockOnResult(toJavaFuture(
+                        admin.listConsumerGroupOffsets(description.groupId()).partitionsToOffsetAndMetadata()));
+                boolean consumesPartitions = committed.keySet().stream().anyMatch(offsets::containsKey)
+                        || description.members().stream().anyMatch(member -> member.assignment().topicPartitions()
+                                .stream().anyMatch(offsets::containsKey));
+                if (!consumesPartitions) {
+                    continue;
+                }
+                found = true;
+                for (var offset : offsets.entrySet()) {
+                    var groupOffset = committed.get(offset.getKey());
+                    if (groupOffset == null || groupOffset.offset() < offset.getValue()) {
+                        log.debug("Consumer group {} has not consumed {} up to offset {} yet.", description.groupId(),
+                                offset.getKey(), offset.getValue());
+                        return false;
+                    }
+                }
+            }
+            return found;
+        } finally {
+            adminClient.get().close();
+        }
+    }
+
+    /**
+     * Deletes all records that precede the given offsets in the corresponding topic partitions.
+     * Used to compact the journal topic once its records are contained in a snapshot, and have been consumed by all
+     * running replicas.
+     * <p>
+     * NOTE: The admin client is closed after use.
+     *
+     * @param offsets the first offset to keep, for each partition
+     */
+    public void deleteRecordsBefore(Map<TopicPartition, Long> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        var recordsToDelete = offsets.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> RecordsToDelete.beforeOffset(e.getValue())));
+        try {
+            blockOn(toJavaFuture(adminClient.get().get().deleteRecords(recordsToDelete).all()));
+            log.info("Deleted records before offsets {}.", offsets);
+        } finally {
+            adminClient.get().close();
+        }
+    }
+
     public void verifyJournalTopicContents() {
 
         var verificationConsumerResource = verificationConsumer.get();
@@ -56,7 +56,8 @@ public final class ArtifactTypeUtil {
      * is. Examples include Avro, Protobuf, OpenAPI, etc. Most of the supported artifact types are JSON
      * formatted. So in these cases we will need to look for some sort of type-specific marker in the content
      * of the artifact. The method does its best to figure out the type, but will default to Avro if all else
-     * fails.
+     * fails. The type is first detected from the structural markers of the content, which only parses it
+     * once, and the content accepters of the providers are only tried when that is not conclusive.
      * 
      * @param content
      * @param resolvedReferences
@@ -64,6 +65,11 @@ public final class ArtifactTypeUtil {
     @SuppressWarnings("deprecation")
     private static String discoverType(TypedContent content, Map<String, TypedContent> resolvedReferences,
             ArtifactTypeUtilProviderFactory artifactTypeProviderFactory) throws InvalidArtifactTypeException {
+        String detectedType = artifactTypeProviderFactory.detectArtifactType(content);
+        if (detectedType != null) {
+            return detectedType;
+        }
+
         for (ArtifactTypeUtilProvider provider : artifactTypeProviderFactory.getAllArtifactTypeProviders()) {
             ContentAccepter contentAccepter = provider.getContentAccepter();
             if (contentAccepter.acceptsContent(content, resolvedReferences)) {
@@ -0,0 +1,155 @@
+package io.apicurio.registry.auth;
+
+import io.apicurio.registry.events.ArtifactDeleted;
+import io.apicurio.registry.events.ArtifactMetadataUpdated;
+import io.apicurio.registry.events.GroupMetadataUpdated;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.decorator.TransactionalHandleFactory;
+import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.EditableGroupMetaDataDto;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the role mappings and owners shared between requests. There is no request context, so every
+ * lookup reaches either the shared cache or the loader.
+ */
+public class AuthorizationCacheTest {
+
+    private final TransactionalHandleFactory handles = new TransactionalHandleFactory();
+    private final AtomicInteger loads = new AtomicInteger();
+    private AuthorizationCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = create(60_000);
+    }
+
+    private AuthorizationCache create(long expireAfterWrite) {
+        AuthorizationCache cache = new AuthorizationCache();
+        cache.enabled = true;
+        cache.expireAfterWrite = expireAfterWrite;
+        cache.maxSize = 100;
+        handles.install(cache);
+        // Role mapping changes only need to reach the storage
+        cache.setDelegate((RegistryStorage) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { RegistryStorage.class }, (proxy, method, args) -> null));
+        cache.init();
+        return cache;
+    }
+
+    @Test
+    public void testRoleCacheHit() {
+        Assertions.assertEquals("sr-admin", role("alice"));
+        Assertions.assertEquals("sr-admin", role("alice"));
+        Assertions.assertEquals(1, loads.get());
+        // A missing role mapping is cached as well
+        Assertions.assertNull(cache.getRoleForPrincipal("bob", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertNull(cache.getRoleForPrincipal("bob", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRoleMappingChangeInvalidates() {
+        role("alice");
+        cache.updateRoleMapping("alice", "sr-readonly");
+        role("alice");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testOwnerChangeInvalidatesOnceCommitted() {
+        artifactOwner("g", "a");
+        groupOwner("g");
+        handles.begin();
+        cache.onOutboxEvent(SqlOutboxEvent
+                .of(ArtifactMetadataUpdated.of("g", "a", EditableArtifactMetaDataDto.builder().build())));
+        cache.onOutboxEvent(
+                SqlOutboxEvent.of(GroupMetadataUpdated.of("g", EditableGroupMetaDataDto.builder().build())));
+        artifactOwner("g", "a");
+        groupOwner("g");
+        Assertions.assertEquals(2, loads.get());
+
+        handles.commit();
+        artifactOwner("g", "a");
+        groupOwner("g");
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testGroupChangeKeepsRoles() {
+        role("alice");
+        artifactOwner(null, "a");
+        cache.onOutboxEvent(
+                SqlOutboxEvent.of(GroupMetadataUpdated.of(null, EditableGroupMetaDataDto.builder().build())));
+        role("alice");
+        artifactOwner(null, "a");
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testOwnerLoadedDuringInvalidationIsNotKept() {
+        // The artifact is deleted while its (now outdated) owner is being loaded
+        cache.getArtifactOwner("g", "a", () -> {
+            loads.incrementAndGet();
+            cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactDeleted.of("g", "a")));
+            return "alice";
+        });
+        artifactOwner("g", "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGlobalIdExpires() throws InterruptedException {
+        cache = create(50);
+        Assertions.assertEquals("g:a", ownerOfGlobalId(1, "a"));
+        Assertions.assertEquals("g:a", ownerOfGlobalId(1, "b"));
+
+        // e.g. the data was deleted and imported again through another node, and the global ID reused
+        Thread.sleep(100);
+        Assertions.assertEquals("g:b", ownerOfGlobalId(1, "b"));
+    }
+
+    private String role(String principalId) {
+        return cache.getRoleForPrincipal(principalId, () -> {
+            loads.incrementAndGet();
+            return "sr-admin";
+        });
+    }
+
+    private String groupOwner(String groupId) {
+        return cache.getGroupOwner(groupId, () -> {
+            loads.incrementAndGet();
+            return "alice";
+        });
+    }
+
+    private String artifactOwner(String groupId, String artifactId) {
+        return cache.getArtifactOwner(groupId, artifactId, () -> {
+            loads.incrementAndGet();
+            return "alice";
+        });
+    }
+
+    /**
+     * @return the owner of the given global ID, which is the GA of the artifact it belongs to
+     */
+    private String ownerOfGlobalId(long globalId, String artifactId) {
+        return cache.getArtifactOwner(globalId,
+                () -> ArtifactVersionMetaDataDto.builder().globalId(globalId).groupId("g").artifactId(artifactId)
+                        .build(),
+                (groupId, id) -> groupId + ":" + id);
+    }
+}
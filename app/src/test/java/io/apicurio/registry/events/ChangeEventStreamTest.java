@@ -0,0 +1,254 @@
+package io.apicurio.registry.events;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ChangeEventStreamTest {
+
+    private ChangeEventStream stream;
+
+    @BeforeEach
+    public void setUp() {
+        stream = new ChangeEventStream();
+        stream.log = LoggerFactory.getLogger(ChangeEventStream.class);
+        stream.enabled = true;
+        stream.bufferSize = 4;
+        // Batches are flushed by the tests
+        stream.batchWindow = 60_000;
+        stream.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    public void testChangesAreSentInBatches() {
+        RecordingSubscriber subscriber = subscribe(null);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.append(ArtifactVersionDeleted.of("g", "a", "2"));
+        Assertions.assertEquals(1, subscriber.events.size());
+
+        stream.flush();
+
+        Assertions.assertEquals(2, subscriber.events.size());
+        OutboundSseEvent changes = subscriber.events.get(1);
+        Assertions.assertEquals(ChangeEventStream.EVENT_CHANGES, changes.getName());
+        JSONArray batch = new JSONArray((String) changes.getData());
+        Assertions.assertEquals(2, batch.length());
+        Assertions.assertEquals("1", batch.getJSONObject(0).getString("version"));
+        Assertions.assertEquals("2", batch.getJSONObject(1).getString("version"));
+        Assertions.assertTrue(changes.getId().endsWith(":2"));
+    }
+
+    @Test
+    public void testResumeWithLastEventId() {
+        RecordingSubscriber first = subscribe(null);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.flush();
+        String lastEventId = first.events.get(1).getId();
+        first.subscription.cancel();
+
+        // Missed while disconnected
+        stream.append(ArtifactVersionDeleted.of("g", "a", "2"));
+        stream.append(ArtifactVersionDeleted.of("g", "a", "3"));
+        stream.flush();
+
+        RecordingSubscriber resumed = subscribe(lastEventId);
+        Assertions.assertEquals(2, resumed.events.size());
+        OutboundSseEvent connected = resumed.events.get(0);
+        Assertions.assertEquals(ChangeEventStream.EVENT_CONNECTED, connected.getName());
+        Assertions.assertFalse(new JSONObject((String) connected.getData()).getBoolean("reset"));
+        Assertions.assertNull(connected.getId());
+        JSONArray missed = new JSONArray((String) resumed.events.get(1).getData());
+        Assertions.assertEquals(2, missed.length());
+        Assertions.assertEquals("2", missed.getJSONObject(0).getString("version"));
+        Assertions.assertEquals("3", missed.getJSONObject(1).getString("version"));
+    }
+
+    @Test
+    public void testResumeUpToDate() {
+        RecordingSubscriber first = subscribe(null);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.flush();
+        String lastEventId = first.events.get(1).getId();
+
+        RecordingSubscriber resumed = subscribe(lastEventId);
+        Assertions.assertEquals(1, resumed.events.size());
+        Assertions.assertFalse(connectedReset(resumed));
+        Assertions.assertEquals(lastEventId, resumed.events.get(0).getId());
+    }
+
+    @Test
+    public void testResetWhenMissedEventsAreNoLongerBuffered() {
+        RecordingSubscriber first = subscribe(null);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.flush();
+        String lastEventId = first.events.get(1).getId();
+        first.subscription.cancel();
+
+        for (int i = 2; i <= 10; i++) {
+            stream.append(ArtifactVersionDeleted.of("g", "a", String.valueOf(i)));
+        }
+        stream.flush();
+
+        RecordingSubscriber resumed = subscribe(lastEventId);
+        Assertions.assertEquals(1, resumed.events.size());
+        Assertions.assertTrue(connectedReset(resumed));
+    }
+
+    @Test
+    public void testResetWhenEpochIsUnknown() {
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.flush();
+
+        // E.g. an id received from another node, or from this node before it was restarted
+        RecordingSubscriber subscriber = subscribe("another-epoch:1");
+        Assertions.assertTrue(connectedReset(subscriber));
+        Assertions.assertTrue(connectedReset(subscribe("garbage")));
+        Assertions.assertTrue(connectedReset(subscribe(null)));
+    }
+
+    @Test
+    public void testBulkChangesResetSubscribers() {
+        RecordingSubscriber subscriber = subscribe(null);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        stream.flush();
+        String beforeReset = subscriber.events.get(1).getId();
+
+        stream.append(ArtifactVersionDeleted.of("g", "a", "2"));
+        stream.reset();
+        stream.flush();
+
+        // The pending change is superseded by the reset
+        Assertions.assertEquals(3, subscriber.events.size());
+        Assertions.assertEquals(ChangeEventStream.EVENT_RESET, subscriber.events.get(2).getName());
+
+        // Resuming from before the reset is not possible
+        Assertions.assertTrue(connectedReset(subscribe(beforeReset)));
+        // Resuming from the reset is
+        Assertions.assertFalse(connectedReset(subscribe(subscriber.events.get(2).getId())));
+    }
+
+    @Test
+    public void testSlowSubscriberIsDisconnected() {
+        RecordingSubscriber slow = new RecordingSubscriber(0);
+        stream.subscribe(null).subscribe(slow);
+        RecordingSubscriber fast = subscribe(null);
+
+        for (int i = 1; i <= 10; i++) {
+            stream.append(ArtifactVersionDeleted.of("g", "a", String.valueOf(i)));
+            stream.flush();
+        }
+
+        Assertions.assertTrue(slow.completed);
+        Assertions.assertTrue(slow.events.isEmpty());
+        Assertions.assertFalse(fast.completed);
+        Assertions.assertEquals(11, fast.events.size());
+    }
+
+    @Test
+    public void testBlockedSubscriberDoesNotHoldUpWriters() throws Exception {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber blocked = new RecordingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(OutboundSseEvent event) {
+                super.onNext(event);
+                if (ChangeEventStream.EVENT_CHANGES.equals(event.getName())) {
+                    delivering.countDown();
+                    await(release);
+                }
+            }
+        };
+        stream.subscribe(null).subscribe(blocked);
+        stream.append(ArtifactVersionDeleted.of("g", "a", "1"));
+        Thread flusher = new Thread(stream::flush);
+        flusher.start();
+        try {
+            Assertions.assertTrue(delivering.await(30, TimeUnit.SECONDS));
+
+            // Neither appending nor subscribing waits for the blocked delivery
+            CompletableFuture<Void> append = CompletableFuture
+                    .runAsync(() -> stream.append(ArtifactVersionDeleted.of("g", "a", "2")));
+            append.get(30, TimeUnit.SECONDS);
+            RecordingSubscriber other = CompletableFuture.supplyAsync(() -> subscribe(null)).get(30,
+                    TimeUnit.SECONDS);
+            Assertions.assertEquals(1, other.events.size());
+        } finally {
+            release.countDown();
+            flusher.join();
+        }
+        Assertions.assertEquals(2, blocked.events.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RecordingSubscriber subscribe(String lastEventId) {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        stream.subscribe(lastEventId).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static boolean connectedReset(RecordingSubscriber subscriber) {
+        OutboundSseEvent connected = subscriber.events.get(0);
+        Assertions.assertEquals(ChangeEventStream.EVENT_CONNECTED, connected.getName());
+        return new JSONObject((String) connected.getData()).getBoolean("reset");
+    }
+
+    private static class RecordingSubscriber implements Subscriber<OutboundSseEvent> {
+
+        private final long initialDemand;
+        private final List<OutboundSseEvent> events = new CopyOnWriteArrayList<>();
+        private Subscription subscription;
+        private volatile boolean completed;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(OutboundSseEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            Assertions.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.apicurio.registry.logging.audit;
+
+import org.junit.jupiter.api.Assertions;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+public class AuditLogSinkTest {
+
+    private static final AuditLogEntry CREATE = new AuditLogEntry("alice", "createArtifact", "success",
+            "127.0.0.1", null, Map.of("artifact_id", "a"));
+    private static final AuditLogEntry DELETE = new AuditLogEntry("bob", "deleteArtifact", "failure",
+            "127.0.0.1", "10.0.0.1", Map.of());
+
+    @Test
+    public void testFileSinkAppendsEntries() throws Exception {
+        Path file = Files.createTempFile("audit", ".log");
+        try {
+            Files.writeString(file, "existing" + System.lineSeparator());
+            FileAuditLogSink sink = new FileAuditLogSink();
+            sink.path = Optional.of(file.toString());
+            Assertions.assertTrue(sink.isEnabled());
+
+            sink.write(List.of(CREATE));
+            sink.write(List.of(DELETE));
+            // Flushed once per batch
+            Assertions.assertEquals(3, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+            sink.close();
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            Assertions.assertEquals(List.of("existing", format(CREATE), format(DELETE)), lines);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFileSinkDisabledByDefault() {
+        FileAuditLogSink sink = new FileAuditLogSink();
+        sink.path = Optional.empty();
+        Assertions.assertFalse(sink.isEnabled());
+        sink.path = Optional.of(" ");
+        Assertions.assertFalse(sink.isEnabled());
+    }
+
+    @Test
+    public void testLogSinkLogsOneLinePerEntry() {
+        List<String> messages = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // Audit entries keep the logger category they have always been written to
+        org.jboss.logmanager.Logger logger = org.jboss.logmanager.Logger
+                .getLogger(AuditLogService.class.getName());
+        logger.addHandler(handler);
+        try {
+            new LogAuditLogSink().write(List.of(CREATE, DELETE));
+        } finally {
+            logger.removeHandler(handler);
+        }
+        Assertions.assertEquals(List.of(format(CREATE), format(DELETE)), messages);
+    }
+
+    @Test
+    public void testLogSinkLogsWithRequestContext() {
+        MDC.put("requestId", "r1");
+        AuditLogEntry entry;
+        try {
+            entry = new AuditLogEntry("alice", "createArtifact", "success", "127.0.0.1", null, Map.of());
+        } finally {
+            MDC.remove("requestId");
+        }
+        List<String> requestIds = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                requestIds.add(((ExtLogRecord) record).getMdc("requestId"));
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        org.jboss.logmanager.Logger logger = org.jboss.logmanager.Logger
+                .getLogger(AuditLogService.class.getName());
+        logger.addHandler(handler);
+        MDC.put("requestId", "writer");
+        try {
+            new LogAuditLogSink().write(List.of(entry, CREATE));
+            // The context of the writing thread is restored
+            Assertions.assertEquals("writer", MDC.get("requestId"));
+        } finally {
+            MDC.remove("requestId");
+            logger.removeHandler(handler);
+        }
+        Assertions.assertEquals(Arrays.asList("r1", null), requestIds);
+    }
+
+    private static String format(AuditLogEntry entry) {
+        StringBuilder m = new StringBuilder();
+        entry.format(m);
+        return m.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package io.apicurio.registry.logging.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.inject.Instance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static io.apicurio.registry.metrics.MetricsConstants.AUDIT_LOG_DROPPED;
+
+public class AuditLogWriterTest {
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private int batchSize = 256;
+    private AuditLogWriter writer;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testSynchronousWrite() {
+        writer = create(false, 10, AuditLogWriter.OverflowPolicy.BLOCK, this::record);
+        writer.submit(entry("a"));
+        Assertions.assertEquals(List.of("a"), written);
+    }
+
+    @Test
+    public void testAsynchronousWriteInBatches() throws InterruptedException {
+        batchSize = 2;
+        writer = create(true, 10, AuditLogWriter.OverflowPolicy.BLOCK, this::record);
+        for (String action : List.of("a", "b", "c", "d", "e")) {
+            writer.submit(entry(action));
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (written.size() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(List.of("a", "b", "c", "d", "e"), written);
+        Assertions.assertTrue(batchSizes.stream().allMatch(size -> size <= 2));
+    }
+
+    @Test
+    public void testQueuedEntriesWrittenOnShutdown() throws InterruptedException {
+        writer = create(true, 10, AuditLogWriter.OverflowPolicy.BLOCK, this::recordSlowly);
+        fillQueue();
+        release.countDown();
+        writer.stop();
+        Assertions.assertEquals(List.of("writing", "queued"), written);
+
+        // Written right away once stopped
+        writer.submit(entry("stopped"));
+        Assertions.assertEquals(List.of("writing", "queued", "stopped"), written);
+    }
+
+    @Test
+    public void testDropPolicy() throws InterruptedException {
+        writer = create(true, 1, AuditLogWriter.OverflowPolicy.DROP, this::recordSlowly);
+        fillQueue();
+        writer.submit(entry("dropped"));
+        Assertions.assertEquals(1.0, dropped());
+
+        release.countDown();
+        writer.stop();
+        Assertions.assertEquals(List.of("writing", "queued"), written);
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForSpace() throws InterruptedException {
+        writer = create(true, 1, AuditLogWriter.OverflowPolicy.BLOCK, this::recordSlowly);
+        fillQueue();
+        Thread submitter = new Thread(() -> writer.submit(entry("waiting")));
+        submitter.start();
+        // Still waiting well after the writer thread polled the queue again, nothing dropped
+        submitter.join(1000);
+        Assertions.assertTrue(submitter.isAlive());
+        Assertions.assertEquals(0.0, dropped());
+
+        release.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(30));
+        Assertions.assertFalse(submitter.isAlive());
+        writer.stop();
+        Assertions.assertEquals(List.of("writing", "queued", "waiting"), written);
+        Assertions.assertEquals(0.0, dropped());
+    }
+
+    @Test
+    public void testRequestContextKeptWhenWrittenAsynchronously() throws InterruptedException {
+        List<String> requestIds = Collections.synchronizedList(new ArrayList<>());
+        writer = create(true, 10, AuditLogWriter.OverflowPolicy.BLOCK, entries -> entries
+                .forEach(entry -> requestIds.add(entry.getLoggingContext().get("requestId"))));
+        MDC.put("requestId", "r1");
+        try {
+            writer.submit(entry("a"));
+        } finally {
+            MDC.remove("requestId");
+        }
+        writer.stop();
+        Assertions.assertEquals(List.of("r1"), requestIds);
+    }
+
+    @Test
+    public void testEntriesWrittenByRequestThreadsWhenWriterThreadDied() throws InterruptedException {
+        writer = create(true, 10, AuditLogWriter.OverflowPolicy.BLOCK, entries -> {
+            if (written.isEmpty()) {
+                written.add("failed");
+                throw new AssertionError("writer thread killed");
+            }
+            record(entries);
+        });
+        writer.submit(entry("a"));
+        writer.writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        Assertions.assertFalse(writer.writerThread.isAlive());
+
+        writer.submit(entry("b"));
+        Assertions.assertEquals(List.of("failed", "b"), written);
+    }
+
+    @Test
+    public void testFailingSinkDoesNotAffectOtherSinks() {
+        AuditLogSink failing = entries -> {
+            throw new IllegalStateException();
+        };
+        writer = create(false, 10, AuditLogWriter.OverflowPolicy.BLOCK, failing, this::record);
+        writer.submit(entry("a"));
+        Assertions.assertEquals(List.of("a"), written);
+    }
+
+    @Test
+    public void testDisabledSinkIgnored() {
+        AuditLogSink disabled = new AuditLogSink() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+            @Override
+            public void write(List<AuditLogEntry> entries) {
+                written.add("disabled");
+            }
+        };
+        writer = create(false, 10, AuditLogWriter.OverflowPolicy.BLOCK, disabled);
+        writer.submit(entry("a"));
+        Assertions.assertTrue(written.isEmpty());
+    }
+
+    /**
+     * Makes the writer thread wait in the sink with one entry, and queues another.
+     */
+    private void fillQueue() throws InterruptedException {
+        writer.submit(entry("writing"));
+        Assertions.assertTrue(writing.await(30, TimeUnit.SECONDS));
+        writer.submit(entry("queued"));
+    }
+
+    private void record(List<AuditLogEntry> entries) {
+        batchSizes.add(entries.size());
+        entries.forEach(entry -> written.add(entry.getAction()));
+    }
+
+    private void recordSlowly(List<AuditLogEntry> entries) throws InterruptedException {
+        writing.countDown();
+        release.await();
+        record(entries);
+    }
+
+    private double dropped() {
+        return writer.registry.get(AUDIT_LOG_DROPPED).counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuditLogWriter create(boolean async, int queueSize, AuditLogWriter.OverflowPolicy overflowPolicy,
+            AuditLogSink... sinks) {
+        AuditLogWriter writer = new AuditLogWriter();
+        writer.log = LoggerFactory.getLogger(AuditLogWriter.class);
+        writer.registry = new SimpleMeterRegistry();
+        writer.sinkBeans = (Instance<AuditLogSink>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Instance.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "iterator" -> List.of(sinks).iterator();
+                    case "forEach" -> {
+                        List.of(sinks).forEach((Consumer<AuditLogSink>) args[0]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        writer.async = async;
+        writer.queueSize = queueSize;
+        writer.batchSize = batchSize;
+        writer.overflowPolicy = overflowPolicy;
+        writer.init();
+        return writer;
+    }
+
+    private static AuditLogEntry entry(String action) {
+        return new AuditLogEntry("alice", action, "success", "127.0.0.1", null, Map.of());
+    }
+}
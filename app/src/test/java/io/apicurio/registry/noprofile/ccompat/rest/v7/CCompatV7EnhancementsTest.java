@@ -8,6 +8,7 @@ import io.apicurio.registry.ccompat.rest.v7.beans.ModeUpdateRequest;
 import io.apicurio.registry.ccompat.rest.v7.beans.RegisterSchemaRequest;
 import io.apicurio.registry.ccompat.rest.v7.beans.SchemaId;
 import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
+import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.utils.tests.TestUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
@@ -140,6 +141,39 @@ public class CCompatV7EnhancementsTest extends AbstractResourceTestBase {
         given().when().get("/ccompat/v7/schemas").then().statusCode(200);
     }
 
+    @Test
+    public void testGetSchemasBySubjectPrefixLatestOnly() throws Exception {
+        var prefix = "schemas-prefix-" + TestUtils.generateSubject() + "_";
+        var subject = prefix + "subject";
+        var schemas = new String[] { "{\"type\" : \"string\"}",
+                "{\"type\": \"record\", \"name\": \"Test\", \"fields\": [{\"name\": \"f1\", \"type\": \"string\"}]}" };
+        for (String schema : schemas) {
+            var schemaContent = new RegisterSchemaRequest();
+            schemaContent.setSchema(schema);
+            given().when().contentType(ContentTypes.COMPAT_SCHEMA_REGISTRY_STABLE_LATEST)
+                    .body(objectMapper.writeValueAsString(schemaContent))
+                    .post("/ccompat/v7/subjects/{subject}/versions", subject).then().statusCode(200);
+        }
+
+        // A subject matching the prefix, except for the escaped wildcard
+        var schemaContent = new RegisterSchemaRequest();
+        schemaContent.setSchema(schemas[0]);
+        given().when().contentType(ContentTypes.COMPAT_SCHEMA_REGISTRY_STABLE_LATEST)
+                .body(objectMapper.writeValueAsString(schemaContent))
+                .post("/ccompat/v7/subjects/{subject}/versions", prefix.replace('_', 'x') + "other").then()
+                .statusCode(200);
+
+        // An artifact of a type not managed through the ccompat API, matching the prefix
+        createArtifact(prefix + "openapi", ArtifactType.OPENAPI,
+                "{\"openapi\": \"3.0.2\", \"info\": {\"title\": \"Empty\", \"version\": \"1.0.0\"}}",
+                io.apicurio.registry.types.ContentTypes.APPLICATION_JSON);
+
+        given().when().queryParam("subjectPrefix", prefix).get("/ccompat/v7/schemas").then().statusCode(200)
+                .body("$", hasSize(2));
+        given().when().queryParam("subjectPrefix", prefix).queryParam("latestOnly", true)
+                .get("/ccompat/v7/schemas").then().statusCode(200).body("$", hasSize(1));
+    }
+
     @Test
     public void testGetSubjectsBySchemaId() throws Exception {
         // Create a schema
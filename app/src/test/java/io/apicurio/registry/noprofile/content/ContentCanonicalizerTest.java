@@ -13,6 +13,7 @@ import jakarta.inject.Inject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collections;
 
 @QuarkusTest
@@ -146,4 +147,32 @@ public class ContentCanonicalizerTest extends AbstractRegistryTestBase {
         String actual = canonicalizer.canonicalize(content, Collections.emptyMap()).getContent().content();
         Assertions.assertEquals(expected, actual);
     }
+
+    @Test
+    void testStreamedCanonicalForm() throws Exception {
+        String json = "{\"type\": \"object\", \"properties\": {\"b\": {\"type\": \"number\", \"maximum\": 1.50}, "
+                + "\"a\": {\"type\": \"string\", \"pattern\": \"\\u00e9\\\\d\"}}, \"required\": [\"b\", \"a\"]}";
+        String yaml = "openapi: 3.0.2\ninfo:\n  version: 1.0.0\n  title: Empty 3.0 API\npaths: {}\n";
+
+        // The canonical form written to a stream is the same as the canonicalized content
+        assertStreamedCanonicalForm(ArtifactType.JSON, toTypedContent(json));
+        assertStreamedCanonicalForm(ArtifactType.KCONNECT, toTypedContent(json));
+        assertStreamedCanonicalForm(ArtifactType.OPENAPI, toTypedContent(yaml, ContentTypes.APPLICATION_YAML));
+        assertStreamedCanonicalForm(ArtifactType.ASYNCAPI, toTypedContent(json));
+        assertStreamedCanonicalForm(ArtifactType.XML,
+                toTypedContent("<a>\n  <b/>\n</a>", ContentTypes.APPLICATION_XML));
+
+        // Content that cannot be canonicalized is written as is
+        assertStreamedCanonicalForm(ArtifactType.JSON, toTypedContent("{ invalid"));
+        assertStreamedCanonicalForm(ArtifactType.OPENAPI, toTypedContent("[]"));
+    }
+
+    private void assertStreamedCanonicalForm(String type, TypedContent content) throws Exception {
+        ContentCanonicalizer canonicalizer = getContentCanonicalizer(type);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        canonicalizer.canonicalize(content, Collections.emptyMap(), out);
+        Assertions.assertArrayEquals(
+                canonicalizer.canonicalize(content, Collections.emptyMap()).getContent().bytes(),
+                out.toByteArray(), type);
+    }
 }
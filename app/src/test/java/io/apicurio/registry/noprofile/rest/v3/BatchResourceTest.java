@@ -0,0 +1,163 @@
+package io.apicurio.registry.noprofile.rest.v3;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.rest.v3.beans.ArtifactReference;
+import io.apicurio.registry.rest.v3.beans.CreateArtifact;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatch;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatchItem;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactsBatchResults;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@QuarkusTest
+public class BatchResourceTest extends AbstractResourceTestBase {
+
+    private static final String GROUP = "BatchResourceTest";
+
+    @Test
+    public void testCreateArtifactsInDependencyOrder() throws Exception {
+        // The referencing artifact comes first in the batch, the referenced one is created first
+        CreateArtifact referencing = TestUtils.serverCreateArtifact("testBatch/Referencing",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        referencing.getFirstVersion().getContent().setReferences(List.of(ArtifactReference.builder()
+                .groupId(GROUP).artifactId("testBatch/Referenced").name("referenced.json").build()));
+        CreateArtifact referenced = TestUtils.serverCreateArtifact("testBatch/Referenced", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        CreateArtifact unrelated = TestUtils.serverCreateArtifact("testBatch/Unrelated", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+
+        CreateArtifactsBatch batch = CreateArtifactsBatch.builder()
+                .artifacts(List.of(CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(referencing).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(referenced).build(),
+                        CreateArtifactsBatchItem.builder().artifact(unrelated).build()))
+                .build();
+        CreateArtifactsBatchResults results = given().when().contentType(CT_JSON).body(batch)
+                .post("/registry/v3/batch/artifacts").then().statusCode(200).extract()
+                .as(CreateArtifactsBatchResults.class);
+
+        // Results are in the order of the request
+        Assertions.assertEquals(3, results.getResults().size());
+        Assertions.assertEquals("testBatch/Referencing", results.getResults().get(0).getArtifactId());
+        Assertions.assertEquals("testBatch/Referenced", results.getResults().get(1).getArtifactId());
+        Assertions.assertEquals("testBatch/Unrelated", results.getResults().get(2).getArtifactId());
+        Assertions.assertEquals("default", results.getResults().get(2).getGroupId());
+        results.getResults().forEach(result -> {
+            Assertions.assertNull(result.getError());
+            Assertions.assertNotNull(result.getVersion().getGlobalId());
+        });
+        Assertions.assertTrue(results.getResults().get(1).getVersion().getGlobalId() < results.getResults()
+                .get(0).getVersion().getGlobalId());
+
+        // The reference was completed with the version created by the batch
+        given().when().pathParam("groupId", GROUP).pathParam("artifactId", "testBatch/Referencing")
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/1/references").then()
+                .statusCode(200).body("[0].artifactId", equalTo("testBatch/Referenced"))
+                .body("[0].version", equalTo(results.getResults().get(1).getVersion().getVersion()));
+    }
+
+    @Test
+    public void testCreateArtifactsWithFailures() throws Exception {
+        createArtifact(GROUP, "testBatchFailures/Existing", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+
+        // The existing artifact cannot be created again, so the artifact referencing it is not created
+        CreateArtifact existing = TestUtils.serverCreateArtifact("testBatchFailures/Existing",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        CreateArtifact referencing = TestUtils.serverCreateArtifact("testBatchFailures/Referencing",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        referencing.getFirstVersion().getContent().setReferences(List.of(ArtifactReference.builder()
+                .groupId(GROUP).artifactId("testBatchFailures/Existing").name("existing.json").build()));
+        CreateArtifact other = TestUtils.serverCreateArtifact("testBatchFailures/Other", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+
+        CreateArtifactsBatch batch = CreateArtifactsBatch.builder()
+                .artifacts(List.of(CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(existing).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(referencing).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(other).build()))
+                .build();
+        CreateArtifactsBatchResults results = given().when().contentType(CT_JSON).body(batch)
+                .post("/registry/v3/batch/artifacts").then().statusCode(200).extract()
+                .as(CreateArtifactsBatchResults.class);
+
+        Assertions.assertEquals(409, results.getResults().get(0).getError().getStatus());
+        Assertions.assertEquals(424, results.getResults().get(1).getError().getStatus());
+        Assertions.assertNull(results.getResults().get(2).getError());
+        Assertions.assertNotNull(results.getResults().get(2).getVersion());
+
+        given().when().pathParam("groupId", GROUP).pathParam("artifactId", "testBatchFailures/Referencing")
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}").then().statusCode(404);
+    }
+
+    @Test
+    public void testCreateArtifactsCreatedAgainAfterLateFailure() throws Exception {
+        createArtifact(GROUP, "testBatchLateFailure/Existing", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+
+        // The artifacts created before the failing one (in the same transaction) are created again
+        CreateArtifact referenced = TestUtils.serverCreateArtifact("testBatchLateFailure/Referenced",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        CreateArtifact referencing = TestUtils.serverCreateArtifact("testBatchLateFailure/Referencing",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        referencing.getFirstVersion().getContent().setReferences(List.of(ArtifactReference.builder()
+                .groupId(GROUP).artifactId("testBatchLateFailure/Referenced").name("referenced.json").build()));
+        CreateArtifact existing = TestUtils.serverCreateArtifact("testBatchLateFailure/Existing",
+                ArtifactType.JSON, getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+
+        CreateArtifactsBatch batch = CreateArtifactsBatch.builder()
+                .artifacts(List.of(CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(referenced).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(referencing).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(existing).build()))
+                .build();
+        CreateArtifactsBatchResults results = given().when().contentType(CT_JSON).body(batch)
+                .post("/registry/v3/batch/artifacts").then().statusCode(200).extract()
+                .as(CreateArtifactsBatchResults.class);
+
+        Assertions.assertNull(results.getResults().get(0).getError());
+        Assertions.assertNull(results.getResults().get(1).getError());
+        Assertions.assertEquals(409, results.getResults().get(2).getError().getStatus());
+
+        // The results are the committed versions
+        for (int i = 0; i < 2; i++) {
+            given().when().pathParam("groupId", GROUP)
+                    .pathParam("artifactId", results.getResults().get(i).getArtifactId())
+                    .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/1").then()
+                    .statusCode(200)
+                    .body("globalId", equalTo(results.getResults().get(i).getVersion().getGlobalId().intValue()));
+        }
+        given().when().pathParam("groupId", GROUP).pathParam("artifactId", "testBatchLateFailure/Referencing")
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/1/references").then()
+                .statusCode(200).body("[0].artifactId", equalTo("testBatchLateFailure/Referenced"))
+                .body("[0].version", equalTo("1"));
+    }
+
+    @Test
+    public void testCreateArtifactsWithCycle() throws Exception {
+        CreateArtifact first = TestUtils.serverCreateArtifact("testBatchCycle/First", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        first.getFirstVersion().getContent().setReferences(List.of(ArtifactReference.builder().groupId(GROUP)
+                .artifactId("testBatchCycle/Second").name("second.json").build()));
+        CreateArtifact second = TestUtils.serverCreateArtifact("testBatchCycle/Second", ArtifactType.JSON,
+                getRandomValidJsonSchemaContent(), ContentTypes.APPLICATION_JSON);
+        second.getFirstVersion().getContent().setReferences(List.of(ArtifactReference.builder().groupId(GROUP)
+                .artifactId("testBatchCycle/First").name("first.json").build()));
+
+        CreateArtifactsBatch batch = CreateArtifactsBatch.builder()
+                .artifacts(List.of(CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(first).build(),
+                        CreateArtifactsBatchItem.builder().groupId(GROUP).artifact(second).build()))
+                .build();
+        given().when().contentType(CT_JSON).body(batch).post("/registry/v3/batch/artifacts").then()
+                .statusCode(400);
+
+        given().when().pathParam("groupId", GROUP).pathParam("artifactId", "testBatchCycle/First")
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}").then().statusCode(404);
+    }
+}
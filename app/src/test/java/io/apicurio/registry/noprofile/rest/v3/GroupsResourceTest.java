@@ -474,6 +474,41 @@ public class GroupsResourceTest extends AbstractResourceTestBase {
                 .then().statusCode(200).header("X-Registry-Deprecated", "true");
     }
 
+    @Test
+    public void testGetLatestContentConditionally() throws Exception {
+        String groupId = "testGetLatestContentConditionally";
+        String artifactId = "testGetLatestContentConditionally/EmptyAPI";
+        String oaiArtifactContent = resourceToString("openapi-empty.json");
+        createArtifact(groupId, artifactId, ArtifactType.OPENAPI, oaiArtifactContent,
+                ContentTypes.APPLICATION_JSON);
+
+        String etag = given().when().pathParam("groupId", groupId).pathParam("artifactId", artifactId)
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/branch=latest/content")
+                .then().statusCode(200).header("Cache-Control", "public, max-age=600")
+                .header("Last-Modified", notNullValue()).extract().header("ETag");
+        assertNotNull(etag);
+
+        // Same version, not modified
+        given().when().pathParam("groupId", groupId).pathParam("artifactId", artifactId)
+                .header("If-None-Match", etag)
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/branch=latest/content")
+                .then().statusCode(304).header("ETag", etag);
+
+        // A new version changes the tip of the branch
+        createArtifactVersion(groupId, artifactId, oaiArtifactContent.replace("Empty API", "Empty API 2"),
+                ContentTypes.APPLICATION_JSON);
+        String newEtag = given().when().pathParam("groupId", groupId).pathParam("artifactId", artifactId)
+                .header("If-None-Match", etag)
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/branch=latest/content")
+                .then().statusCode(200).extract().header("ETag");
+        assertNotEquals(etag, newEtag);
+
+        // Specific versions are not moderately cacheable
+        given().when().pathParam("groupId", groupId).pathParam("artifactId", artifactId)
+                .get("/registry/v3/groups/{groupId}/artifacts/{artifactId}/versions/1/content").then()
+                .statusCode(200).header("ETag", nullValue());
+    }
+
     @Test
     @DisabledOnOs(OS.WINDOWS)
     public void testUpdateArtifactNoAscii() throws Exception {
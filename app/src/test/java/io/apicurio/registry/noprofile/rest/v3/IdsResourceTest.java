@@ -1,6 +1,9 @@
 package io.apicurio.registry.noprofile.rest.v3;
 
 import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.rest.v3.beans.ContentBatch;
+import io.apicurio.registry.rest.v3.beans.ContentBatchItem;
+import io.apicurio.registry.rest.v3.beans.ContentBatchRequest;
 import io.apicurio.registry.rest.v3.beans.CreateArtifact;
 import io.apicurio.registry.rest.v3.beans.CreateArtifactResponse;
 import io.apicurio.registry.types.ArtifactType;
@@ -12,6 +15,9 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
@@ -199,4 +205,44 @@ public class IdsResourceTest extends AbstractResourceTestBase {
                 .get("/registry/v3/ids/contentHashes/{contentHash}").then().statusCode(404);
     }
 
+    @Test
+    public void testGetContentBatch() throws Exception {
+        String title = "Test Content Batch API";
+        String artifactContent = resourceToString("openapi-empty.json").replaceAll("Empty API", title);
+        String contentHash = DigestUtils.sha256Hex(artifactContent);
+
+        CreateArtifactResponse response1 = createArtifact(GROUP, "testGetContentBatch/Empty-1",
+                ArtifactType.OPENAPI, artifactContent, ContentTypes.APPLICATION_JSON);
+        CreateArtifactResponse response2 = createArtifact(GROUP, "testGetContentBatch/Empty-2",
+                ArtifactType.OPENAPI, artifactContent, ContentTypes.APPLICATION_JSON);
+        long globalId1 = response1.getVersion().getGlobalId();
+        long globalId2 = response2.getVersion().getGlobalId();
+        long contentId = response1.getVersion().getContentId();
+
+        ContentBatchRequest request = ContentBatchRequest.builder()
+                .globalIds(List.of(globalId1, globalId2, Long.MAX_VALUE)).contentIds(List.of(contentId))
+                .contentHashes(List.of(contentHash, "CONTENT-HASH-NOT-VALID")).build();
+        ContentBatch batch = given().when().contentType(CT_JSON).body(request)
+                .post("/registry/v3/ids/batch").then().statusCode(200).extract().as(ContentBatch.class);
+
+        // Identifiers that do not exist are left out
+        Assertions.assertEquals(4, batch.getContents().size());
+        Assertions.assertEquals(globalId1, batch.getContents().get(0).getGlobalId());
+        Assertions.assertEquals(globalId2, batch.getContents().get(1).getGlobalId());
+        Assertions.assertEquals(ArtifactType.OPENAPI, batch.getContents().get(0).getArtifactType());
+        for (ContentBatchItem item : batch.getContents()) {
+            Assertions.assertEquals(contentId, item.getContentId());
+            Assertions.assertEquals(contentHash, item.getContentHash());
+            Assertions.assertTrue(item.getContent().contains(title));
+            Assertions.assertTrue(item.getReferences().isEmpty());
+        }
+        Assertions.assertNull(batch.getContents().get(2).getGlobalId());
+
+        // Too many identifiers
+        ContentBatchRequest tooLarge = ContentBatchRequest.builder()
+                .globalIds(LongStream.range(0, 101).boxed().toList()).build();
+        given().when().contentType(CT_JSON).body(tooLarge).post("/registry/v3/ids/batch").then()
+                .statusCode(400);
+    }
+
 }
@@ -170,6 +170,57 @@ public class SearchArtifactsTest extends AbstractResourceTestBase {
                 results.getArtifacts().get(0).getLabels().getAdditionalData());
     }
 
+    @Test
+    public void testSearchArtifactsByManyLabels() throws Exception {
+        String group = TestUtils.generateGroupId();
+        String prefix = UUID.randomUUID().toString();
+        String artifactContent = resourceToString("openapi-empty.json");
+
+        for (int idx = 0; idx < 4; idx++) {
+            String artifactId = "Empty-" + idx;
+            this.createArtifact(group, artifactId, ArtifactType.OPENAPI, artifactContent,
+                    ContentTypes.APPLICATION_JSON);
+
+            Map<String, String> labels = new HashMap<>();
+            labels.put(prefix + "-team", "alpha");
+            labels.put(prefix + "-tier", idx % 2 == 0 ? "gold" : "silver");
+            labels.put(prefix + "-region", idx < 2 ? "eu" : "us");
+            labels.put(prefix + "-flag-" + idx, "on");
+
+            EditableArtifactMetaData metaData = new EditableArtifactMetaData();
+            metaData.setLabels(labels);
+            given().when().contentType(CT_JSON).pathParam("groupId", group)
+                    .pathParam("artifactId", artifactId).body(metaData)
+                    .put("/registry/v3/groups/{groupId}/artifacts/{artifactId}").then().statusCode(204);
+        }
+
+        String team = prefix + "-team";
+        String tier = prefix + "-tier";
+        String region = prefix + "-region";
+
+        given().when().queryParam("labels", team + ":alpha").queryParam("labels", tier + ":gold")
+                .queryParam("labels", region + ":eu").get("/registry/v3/search/artifacts").then()
+                .statusCode(200).body("count", equalTo(1))
+                .body("artifacts[0].artifactId", equalTo("Empty-0"));
+        given().when().queryParam("labels", team + ":alpha").queryParam("labels", tier + ":gold")
+                .get("/registry/v3/search/artifacts").then().statusCode(200).body("count", equalTo(2));
+        // Filters without a value
+        given().when().queryParam("labels", team).queryParam("labels", region + ":us")
+                .queryParam("labels", prefix + "-flag-3").get("/registry/v3/search/artifacts").then()
+                .statusCode(200).body("count", equalTo(1))
+                .body("artifacts[0].artifactId", equalTo("Empty-3"));
+        // Several filters on the same key
+        given().when().queryParam("labels", team + ":alpha").queryParam("labels", tier + ":gold")
+                .queryParam("labels", tier + ":silver").get("/registry/v3/search/artifacts").then()
+                .statusCode(200).body("count", equalTo(0));
+        given().when().queryParam("labels", tier).queryParam("labels", tier + ":silver")
+                .queryParam("labels", region + ":us").get("/registry/v3/search/artifacts").then()
+                .statusCode(200).body("count", equalTo(1));
+        // Versions are labelled separately
+        given().when().queryParam("labels", team + ":alpha").queryParam("labels", tier + ":gold")
+                .get("/registry/v3/search/versions").then().statusCode(200).body("count", equalTo(0));
+    }
+
     @Test
     public void testSearchArtifactsOrderBy() throws Exception {
         String group = UUID.randomUUID().toString();
@@ -11,6 +11,7 @@ import io.apicurio.registry.storage.RegistryStorage.RetrievalBehavior;
 import io.apicurio.registry.storage.dto.*;
 import io.apicurio.registry.storage.error.ArtifactAlreadyExistsException;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.ContentNotFoundException;
 import io.apicurio.registry.storage.error.RuleAlreadyExistsException;
 import io.apicurio.registry.storage.error.RuleNotFoundException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
@@ -25,6 +26,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -445,6 +448,41 @@ public abstract class AbstractRegistryStorageTest extends AbstractResourceTestBa
         Assertions.assertEquals("1", dto.getVersion());
     }
 
+    @Test
+    public void testGetStreamedContent() throws Exception {
+        String artifactId = "testGetStreamedContent-1";
+        String largeContent = OPENAPI_CONTENT.replace("An example API design using OpenAPI.",
+                "An example API design using OpenAPI. ".repeat(1000));
+        ContentHandle content = ContentHandle.create(largeContent);
+        ArtifactVersionMetaDataDto dto = storage().createArtifact(GROUP_ID, artifactId, ArtifactType.OPENAPI,
+                null, null, ContentWrapperDto.builder().contentType(ContentTypes.APPLICATION_JSON)
+                        .content(content).build(),
+                null, Collections.emptyList(), false, false, null).getValue();
+        ContentWrapperDto expected = storage().getContentById(dto.getContentId());
+
+        ContentWrapperDto streamed = storage().getStreamedContentById(dto.getContentId());
+        Assertions.assertEquals(ContentTypes.APPLICATION_JSON, streamed.getContentType());
+        Assertions.assertEquals(expected.getContentHash(), streamed.getContentHash());
+        Assertions.assertEquals(expected.getReferences(), streamed.getReferences());
+        // The content is read when streamed, and can be streamed more than once
+        for (int i = 0; i < 2; i++) {
+            try (InputStream stream = streamed.getContent().stream()) {
+                Assertions.assertEquals(largeContent, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(content.getSha256Hash(), streamed.getContent().getSha256Hash());
+        Assertions.assertEquals(content.getSizeBytes(), streamed.getContent().getSizeBytes());
+        Assertions.assertEquals(content, streamed.getContent());
+
+        streamed = storage().getStreamedContentByHash(expected.getContentHash());
+        Assertions.assertEquals(largeContent, streamed.getContent().content());
+
+        Assertions.assertThrows(ContentNotFoundException.class,
+                () -> storage().getStreamedContentById(Long.MAX_VALUE));
+        Assertions.assertThrows(ContentNotFoundException.class,
+                () -> storage().getStreamedContentByHash("unknown"));
+    }
+
     @Test
     public void testUpdateArtifactMetaData() throws Exception {
         String artifactId = "testUpdateArtifactMetaData-1";
@@ -1090,6 +1128,41 @@ public abstract class AbstractRegistryStorageTest extends AbstractResourceTestBa
         Assertions.assertEquals(12, countStorageEntities());
         storage().deleteAllUserData();
         Assertions.assertEquals(0, countStorageEntities());
+        Assertions.assertEquals(0, storage().countArtifacts());
+        Assertions.assertEquals(0, storage().countTotalArtifactVersions());
+    }
+
+    @Test
+    public void testCounters() throws Exception {
+        String groupId = "testCounters";
+        long artifacts = storage().countArtifacts();
+        long versions = storage().countTotalArtifactVersions();
+
+        for (int idx = 1; idx <= 2; idx++) {
+            String artifactId = "testCounters-" + idx;
+            storage().createArtifact(groupId, artifactId, ArtifactType.OPENAPI, null, null,
+                    ContentWrapperDto.builder().contentType(ContentTypes.APPLICATION_JSON)
+                            .content(ContentHandle.create(OPENAPI_CONTENT)).build(),
+                    null, Collections.emptyList(), false, false, null);
+            storage().createArtifactVersion(groupId, artifactId, null, ArtifactType.OPENAPI,
+                    ContentWrapperDto.builder().contentType(ContentTypes.APPLICATION_JSON)
+                            .content(ContentHandle.create(OPENAPI_CONTENT_V2)).build(),
+                    null, Collections.emptyList(), false, false, null);
+        }
+        Assertions.assertEquals(artifacts + 2, storage().countArtifacts());
+        Assertions.assertEquals(versions + 4, storage().countTotalArtifactVersions());
+
+        storage().deleteArtifactVersion(groupId, "testCounters-1", "1");
+        Assertions.assertEquals(artifacts + 2, storage().countArtifacts());
+        Assertions.assertEquals(versions + 3, storage().countTotalArtifactVersions());
+
+        storage().deleteArtifact(groupId, "testCounters-1");
+        Assertions.assertEquals(artifacts + 1, storage().countArtifacts());
+        Assertions.assertEquals(versions + 2, storage().countTotalArtifactVersions());
+
+        storage().deleteArtifacts(groupId);
+        Assertions.assertEquals(artifacts, storage().countArtifacts());
+        Assertions.assertEquals(versions, storage().countTotalArtifactVersions());
     }
 
     @Test
@@ -0,0 +1,64 @@
+package io.apicurio.registry.rest.cache;
+
+import io.apicurio.registry.content.ContentHandle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+public class CompressedContentCacheTest {
+
+    private static final byte[] CONTENT = "{\"type\": \"object\"} ".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private CompressedContentCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new CompressedContentCache();
+        cache.enabled = true;
+        cache.minSizeBytes = 1024;
+        cache.maxSizeBytes = 1024 * 1024;
+        cache.init();
+    }
+
+    @Test
+    public void testCacheHitDoesNotReadContent() throws Exception {
+        byte[] gzip = cache.getGzip("hash", streamed(CONTENT));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            Assertions.assertArrayEquals(CONTENT, in.readAllBytes());
+        }
+        int read = reads.get();
+
+        Assertions.assertSame(gzip, cache.getGzip("hash", streamed(CONTENT)));
+        Assertions.assertEquals(read, reads.get());
+    }
+
+    @Test
+    public void testSmallContentNotCompressed() {
+        Assertions.assertNull(cache.getGzip("hash", ContentHandle.create("{}")));
+    }
+
+    @Test
+    public void testAcceptEncoding() {
+        Assertions.assertTrue(cache.isAccepted("deflate, gzip;q=0.5"));
+        Assertions.assertTrue(cache.isAccepted("*"));
+        Assertions.assertFalse(cache.isAccepted("gzip;q=0, *"));
+        Assertions.assertFalse(cache.isAccepted(null));
+
+        cache.enabled = false;
+        Assertions.assertFalse(cache.isAccepted("gzip"));
+    }
+
+    private ContentHandle streamed(byte[] content) {
+        return ContentHandle.create(() -> {
+            reads.incrementAndGet();
+            return new ByteArrayInputStream(content);
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package io.apicurio.registry.rest.cache;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.rest.v3.beans.CreateArtifact;
+import io.apicurio.registry.rest.v3.beans.CreateArtifactResponse;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@QuarkusTest
+@TestProfile(CompressedContentTestProfile.class)
+public class CompressedContentTest extends AbstractResourceTestBase {
+
+    private static final String GROUP = "CompressedContentTest";
+
+    @Test
+    public void testGetByContentIdCompressed() throws Exception {
+        // Content large enough to be served compressed
+        String description = "A description repeated to make the content larger. ".repeat(50);
+        String artifactContent = resourceToString("openapi-empty.json").replaceAll("Empty API",
+                "Test Compressed Content API").replace("\"An example API design using OpenAPI.\"",
+                        "\"" + description + "\"");
+
+        CreateArtifact createArtifact = TestUtils.serverCreateArtifact("testGetByContentIdCompressed/Empty",
+                ArtifactType.OPENAPI, artifactContent, ContentTypes.APPLICATION_JSON);
+        long contentId = given().when().contentType(CT_JSON).pathParam("groupId", GROUP).body(createArtifact)
+                .post("/registry/v3/groups/{groupId}/artifacts").then().statusCode(200).extract()
+                .as(CreateArtifactResponse.class).getVersion().getContentId();
+
+        // Gzip-encoded for clients accepting it (and decoded by the client)
+        for (int i = 0; i < 2; i++) {
+            String content = given().when().header("Accept-Encoding", "gzip").pathParam("contentId", contentId)
+                    .get("/registry/v3/ids/contentIds/{contentId}").then().statusCode(200)
+                    .header("Content-Encoding", "gzip").header("ETag", "\"" + contentId + "-gzip\"")
+                    .header("Vary", "Accept, Accept-Encoding").extract().body().asString();
+            Assertions.assertEquals(artifactContent, content);
+        }
+
+        // Not encoded otherwise
+        given().when().header("Accept-Encoding", "identity, gzip;q=0").pathParam("contentId", contentId)
+                .get("/registry/v3/ids/contentIds/{contentId}").then().statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue()).header("ETag", "\"" + contentId + "\"")
+                .body(equalTo(artifactContent));
+    }
+
+    @Test
+    public void testGetByContentIdAndGlobalIdCompressed() throws Exception {
+        // Create versions with distinct compressible contents until one has a contentId equal to the
+        // globalId of another one (contentIds lag behind globalIds)
+        String description = "A description repeated to make the content larger. ".repeat(50);
+        Map<Long, String> contentByGlobalId = new HashMap<>();
+        long contentId = -1;
+        for (int i = 0; i < 20 && !contentByGlobalId.containsKey(contentId); i++) {
+            String artifactContent = resourceToString("openapi-empty.json").replaceAll("Empty API",
+                    "Test Compressed Ids API " + i).replace("\"An example API design using OpenAPI.\"",
+                            "\"" + description + "\"");
+            CreateArtifact createArtifact = TestUtils.serverCreateArtifact(
+                    "testGetByContentIdAndGlobalIdCompressed/Empty" + i, ArtifactType.OPENAPI, artifactContent,
+                    ContentTypes.APPLICATION_JSON);
+            CreateArtifactResponse response = given().when().contentType(CT_JSON).pathParam("groupId", GROUP)
+                    .body(createArtifact).post("/registry/v3/groups/{groupId}/artifacts").then()
+                    .statusCode(200).extract().as(CreateArtifactResponse.class);
+            contentByGlobalId.put(response.getVersion().getGlobalId(), artifactContent);
+            contentId = response.getVersion().getContentId();
+        }
+        long id = contentId;
+
+        // The same id identifies different contents, which must not share their compressed form
+        String byContentId = given().when().header("Accept-Encoding", "gzip").pathParam("contentId", id)
+                .get("/registry/v3/ids/contentIds/{contentId}").then().statusCode(200).extract().body()
+                .asString();
+        String byGlobalId = given().when().header("Accept-Encoding", "gzip").pathParam("globalId", id)
+                .get("/registry/v3/ids/globalIds/{globalId}").then().statusCode(200).extract().body()
+                .asString();
+        Assertions.assertNotEquals(byContentId, byGlobalId);
+        given().when().header("Accept-Encoding", "identity").pathParam("globalId", id)
+                .get("/registry/v3/ids/globalIds/{globalId}").then().statusCode(200)
+                .body(equalTo(byGlobalId));
+        if (contentByGlobalId.containsKey(id)) {
+            Assertions.assertEquals(contentByGlobalId.get(id), byGlobalId);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.apicurio.registry.rest.cache;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class CompressedContentTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("apicurio.http-caching.compression.enabled", "true");
+    }
+
+}
@@ -0,0 +1,185 @@
+package io.apicurio.registry.rest.cache;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.events.ArtifactVersionDeleted;
+import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
+import io.apicurio.registry.storage.decorator.TransactionalHandleFactory;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import io.apicurio.registry.types.ContentTypes;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class RenditionCacheTest {
+
+    private static final ArtifactReferenceDto REFERENCE = ArtifactReferenceDto.builder().groupId("g")
+            .artifactId("ref").version("1").name("ref.json").build();
+
+    private final TransactionalHandleFactory handles = new TransactionalHandleFactory();
+    private final AtomicInteger renders = new AtomicInteger();
+    /**
+     * Content of the referenced versions that exist, by artifact ID.
+     */
+    private final Map<String, String> versions = new HashMap<>();
+    private RenditionCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new RenditionCache();
+        cache.enabled = true;
+        cache.expireAfterWrite = 60_000;
+        cache.maxSizeBytes = 1024 * 1024;
+        handles.install(cache);
+        cache.init();
+        versions.put("ref", "{\"ref\":1}");
+    }
+
+    @Test
+    public void testCacheHit() {
+        Assertions.assertEquals("{\"ref\":1}", render());
+        Assertions.assertEquals("{\"ref\":1}", render());
+        Assertions.assertEquals(1, renders.get());
+    }
+
+    @Test
+    public void testUnresolvedReferenceNotCached() {
+        versions.remove("ref");
+        Assertions.assertEquals("", render());
+        Assertions.assertEquals("", render());
+        Assertions.assertEquals(2, renders.get());
+
+        // The referenced version has been created since
+        versions.put("ref", "{\"ref\":1}");
+        Assertions.assertEquals("{\"ref\":1}", render());
+    }
+
+    @Test
+    public void testFailingReferenceNotCached() {
+        Function<ArtifactReferenceDto, ContentWrapperDto> failing = reference -> {
+            throw new IllegalStateException();
+        };
+        for (int i = 0; i < 2; i++) {
+            cache.getRendition(1, HandleReferencesType.DEREFERENCE, "JSON", ContentTypes.APPLICATION_JSON,
+                    null, failing, referenceLoader -> {
+                        renders.incrementAndGet();
+                        try {
+                            referenceLoader.apply(REFERENCE);
+                        } catch (IllegalStateException e) {
+                            // Skipped by the renderer
+                        }
+                        return json("");
+                    });
+        }
+        Assertions.assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testDeletedReferenceInvalidatesOnceCommitted() {
+        render();
+        handles.begin();
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "ref", "1")));
+        versions.remove("ref");
+        Assertions.assertEquals("{\"ref\":1}", render());
+
+        handles.commit();
+        Assertions.assertEquals("", render());
+    }
+
+    @Test
+    public void testRenditionComputedDuringInvalidationIsNotKept() {
+        cache.getRendition(1, HandleReferencesType.DEREFERENCE, "JSON", ContentTypes.APPLICATION_JSON, null,
+                this::load, referenceLoader -> {
+                    renders.incrementAndGet();
+                    TypedContent rendition = json(referenceLoader.apply(REFERENCE).getContent().content());
+                    cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "ref", "1")));
+                    return rendition;
+                });
+        render();
+        Assertions.assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testKeyedByBaseHref() {
+        render(HandleReferencesType.REWRITE, "http://a");
+        render(HandleReferencesType.REWRITE, "http://a");
+        render(HandleReferencesType.REWRITE, "http://b");
+        Assertions.assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testTagChangesWithReferencedContent() {
+        String tag = rendition(HandleReferencesType.DEREFERENCE, null).tag();
+        Assertions.assertEquals(tag, rendition(HandleReferencesType.DEREFERENCE, null).tag());
+        Assertions.assertTrue(tag.startsWith("dereference-"));
+
+        // E.g. the draft content of the referenced version has been updated
+        versions.put("ref", "{\"ref\":2}");
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "ref", "1")));
+        String updated = rendition(HandleReferencesType.DEREFERENCE, null).tag();
+        Assertions.assertNotEquals(tag, updated);
+
+        versions.remove("ref");
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "ref", "1")));
+        String unresolved = rendition(HandleReferencesType.DEREFERENCE, null).tag();
+        Assertions.assertNotEquals(tag, unresolved);
+        Assertions.assertNotEquals(updated, unresolved);
+    }
+
+    @Test
+    public void testTagChangesWithBaseHref() {
+        String tag = rendition(HandleReferencesType.REWRITE, "http://a").tag();
+        Assertions.assertTrue(tag.startsWith("rewrite-"));
+        Assertions.assertNotEquals(tag, rendition(HandleReferencesType.REWRITE, "http://b").tag());
+    }
+
+    @Test
+    public void testTagWhenNotEnabled() {
+        cache.enabled = false;
+        String tag = rendition(HandleReferencesType.DEREFERENCE, null).tag();
+        Assertions.assertEquals(tag, rendition(HandleReferencesType.DEREFERENCE, null).tag());
+        versions.put("ref", "{\"ref\":2}");
+        Assertions.assertNotEquals(tag, rendition(HandleReferencesType.DEREFERENCE, null).tag());
+        Assertions.assertEquals(3, renders.get());
+    }
+
+    private String render() {
+        return render(HandleReferencesType.DEREFERENCE, null);
+    }
+
+    private String render(HandleReferencesType referencesType, String baseHref) {
+        return rendition(referencesType, baseHref).content().getContent().content();
+    }
+
+    /**
+     * Renders the content of the single reference, or nothing if it cannot be resolved.
+     */
+    private RenditionCache.Rendition rendition(HandleReferencesType referencesType, String baseHref) {
+        return cache.getRendition(1, referencesType, "JSON", ContentTypes.APPLICATION_JSON, baseHref,
+                this::load, referenceLoader -> {
+                    renders.incrementAndGet();
+                    ContentWrapperDto content = referenceLoader.apply(REFERENCE);
+                    return json(content == null ? "" : content.getContent().content());
+                });
+    }
+
+    private ContentWrapperDto load(ArtifactReferenceDto reference) {
+        String content = versions.get(reference.getArtifactId());
+        return content == null ? null
+            : ContentWrapperDto.builder().content(ContentHandle.create(content))
+                    .contentType(ContentTypes.APPLICATION_JSON).contentHash(DigestUtils.sha256Hex(content))
+                    .build();
+    }
+
+    private static TypedContent json(String content) {
+        return TypedContent.create(ContentHandle.create(content), ContentTypes.APPLICATION_JSON);
+    }
+}
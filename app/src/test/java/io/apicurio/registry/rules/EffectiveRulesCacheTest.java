@@ -0,0 +1,123 @@
+package io.apicurio.registry.rules;
+
+import io.apicurio.registry.events.ArtifactRuleConfigured;
+import io.apicurio.registry.events.GlobalRuleConfigured;
+import io.apicurio.registry.events.GroupRuleConfigured;
+import io.apicurio.registry.storage.decorator.TransactionalHandleFactory;
+import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEvent;
+import io.apicurio.registry.storage.impl.sql.SqlStorageEventType;
+import io.apicurio.registry.types.RuleType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EffectiveRulesCacheTest {
+
+    private static final RuleConfigurationDto CONFIG = RuleConfigurationDto.builder().configuration("FULL")
+            .build();
+
+    private final TransactionalHandleFactory handles = new TransactionalHandleFactory();
+    private final AtomicInteger loads = new AtomicInteger();
+    private EffectiveRulesCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new EffectiveRulesCache();
+        cache.enabled = Optional.of(true);
+        cache.expireAfterWrite = 60_000;
+        cache.maxSize = 100;
+        handles.install(cache);
+        cache.init();
+    }
+
+    @Test
+    public void testNotEnabledByDefaultWithoutKafkaSql() {
+        cache.enabled = Optional.empty();
+        Assertions.assertFalse(cache.isEnabled());
+        rules("g", "a");
+        rules("g", "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCacheHit() {
+        Assertions.assertEquals(Map.of(RuleType.VALIDITY, CONFIG), rules("g", "a"));
+        Assertions.assertEquals(Map.of(RuleType.VALIDITY, CONFIG), rules("g", "a"));
+        Assertions.assertEquals(1, loads.get());
+        // The default group
+        rules(null, "a");
+        rules(null, "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidatedOnceCommitted() {
+        rules("g", "a");
+        handles.begin();
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactRuleConfigured.of("g", "a", RuleType.VALIDITY, CONFIG)));
+        // Loaded before the commit, i.e. the rule change is not visible yet
+        rules("g", "a");
+        Assertions.assertEquals(1, loads.get());
+
+        handles.commit();
+        rules("g", "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidationScopes() {
+        rules("g", "a");
+        rules("g", "b");
+        rules("other", "a");
+
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactRuleConfigured.of("g", "a", RuleType.VALIDITY, CONFIG)));
+        rules("g", "a");
+        rules("g", "b");
+        Assertions.assertEquals(4, loads.get());
+
+        cache.onOutboxEvent(SqlOutboxEvent.of(GroupRuleConfigured.of("g", RuleType.VALIDITY, CONFIG)));
+        rules("g", "a");
+        rules("g", "b");
+        rules("other", "a");
+        Assertions.assertEquals(6, loads.get());
+
+        cache.onOutboxEvent(SqlOutboxEvent.of(GlobalRuleConfigured.of(RuleType.VALIDITY, CONFIG)));
+        rules("other", "a");
+        Assertions.assertEquals(7, loads.get());
+    }
+
+    @Test
+    public void testBulkChangeInvalidatesAll() {
+        rules("g", "a");
+        SqlStorageEvent event = new SqlStorageEvent();
+        event.setType(SqlStorageEventType.USER_DATA_REPLACED);
+        cache.onStorageEvent(event);
+        rules("g", "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRulesLoadedDuringInvalidationAreNotKept() {
+        // The rule changes while the (now outdated) rules are being loaded
+        cache.getEffectiveRules("g", "a", () -> {
+            loads.incrementAndGet();
+            cache.onOutboxEvent(SqlOutboxEvent.of(GroupRuleConfigured.of("g", RuleType.VALIDITY, CONFIG)));
+            return Map.of(RuleType.VALIDITY, CONFIG);
+        });
+        rules("g", "a");
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private Map<RuleType, RuleConfigurationDto> rules(String groupId, String artifactId) {
+        return cache.getEffectiveRules(groupId, artifactId, () -> {
+            loads.incrementAndGet();
+            return Map.of(RuleType.VALIDITY, CONFIG);
+        });
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for PromptRenderingService.
@@ -554,4 +555,54 @@ public class PromptRenderingServiceTest {
             renderingService.render(content, variables, "default", "invalid", "1.0");
         });
     }
+
+    // ===== Compiled Template Cache Tests =====
+
+    @Test
+    public void testCachedTemplateCompiledOnce() {
+        String yamlContent = """
+            templateId: cached
+            name: Cached Template
+            template: "{{greeting}}, {{ name }}! {{greeting}} again, {{missing}}."
+            variables:
+              name:
+                type: string
+                required: true
+            """;
+
+        AtomicInteger loads = new AtomicInteger();
+        long contentId = -System.nanoTime();
+
+        RenderPromptResponse first = renderingService.render(contentId, () -> {
+            loads.incrementAndGet();
+            return ContentHandle.create(yamlContent);
+        }, Map.of("greeting", "Hi", "name", "Alice"), "default", "cached", "1.0");
+        RenderPromptResponse second = renderingService.render(contentId, () -> {
+            loads.incrementAndGet();
+            return ContentHandle.create(yamlContent);
+        }, Map.of("greeting", "Hello"), "default", "cached", "1.0");
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals("Hi, Alice! Hi again, {{missing}}.", first.getRendered());
+        Assertions.assertTrue(first.getValidationErrors().isEmpty());
+        Assertions.assertEquals("Hello, {{ name }}! Hello again, {{missing}}.", second.getRendered());
+        Assertions.assertEquals(1, second.getValidationErrors().size());
+        Assertions.assertEquals("name", second.getValidationErrors().get(0).getVariableName());
+    }
+
+    @Test
+    public void testCachedTemplateInvalidContentNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        long contentId = -System.nanoTime();
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(RuntimeException.class, () -> {
+                renderingService.render(contentId, () -> {
+                    loads.incrementAndGet();
+                    return ContentHandle.create("templateId: no-template");
+                }, Map.of(), "default", "no-template", "1.0");
+            });
+        }
+        Assertions.assertEquals(2, loads.get());
+    }
 }
@@ -0,0 +1,101 @@
+package io.apicurio.registry.storage.decorator;
+
+import io.apicurio.registry.events.ArtifactBranchUpdated;
+import io.apicurio.registry.events.ArtifactVersionDeleted;
+import io.apicurio.registry.model.BranchId;
+import io.apicurio.registry.model.GA;
+import io.apicurio.registry.model.GAV;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BranchTipCacheTest {
+
+    private static final GA GA = new GA("g", "a");
+    private static final BranchId LATEST = new BranchId("latest");
+
+    private final TransactionalHandleFactory handles = new TransactionalHandleFactory();
+    private final AtomicInteger loads = new AtomicInteger();
+    /**
+     * Run by the storage while the tip is being loaded.
+     */
+    private Runnable onLoad = () -> {
+    };
+    private BranchTipCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new BranchTipCache();
+        cache.enabled = Optional.of(true);
+        cache.expireAfterWrite = 60_000;
+        cache.maxSize = 100;
+        handles.install(cache);
+        cache.setDelegate((RegistryStorage) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { RegistryStorage.class }, (proxy, method, args) -> {
+                    if (!"getBranchTip".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    onLoad.run();
+                    return new GAV(GA, String.valueOf(loads.incrementAndGet()));
+                }));
+        cache.init();
+    }
+
+    @Test
+    public void testCacheHit() {
+        Assertions.assertEquals("1", tip());
+        Assertions.assertEquals("1", tip());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testBranchUpdateInvalidatesOnceCommitted() {
+        tip();
+        handles.begin();
+        // e.g. a version appended to the branch through another node, applied from the journal
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactBranchUpdated.of("g", "a", "latest")));
+        Assertions.assertEquals("1", tip());
+
+        handles.commit();
+        Assertions.assertEquals("2", tip());
+    }
+
+    @Test
+    public void testOtherArtifactNotInvalidated() {
+        tip();
+        cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "other", "1")));
+        Assertions.assertEquals("1", tip());
+    }
+
+    @Test
+    public void testTipLoadedDuringInvalidationIsNotKept() {
+        // A version is deleted while the (now outdated) tip is being loaded
+        onLoad = () -> cache.onOutboxEvent(SqlOutboxEvent.of(ArtifactVersionDeleted.of("g", "a", "1")));
+        Assertions.assertEquals("1", tip());
+        onLoad = () -> {
+        };
+        Assertions.assertEquals("2", tip());
+        Assertions.assertEquals("2", tip());
+    }
+
+    @Test
+    public void testEnabledByDefaultWithKafkaSqlOnly() {
+        cache.enabled = Optional.empty();
+        cache.storageKind = "kafkasql";
+        Assertions.assertTrue(cache.isEnabled());
+        cache.storageKind = "sql";
+        Assertions.assertFalse(cache.isEnabled());
+        cache.enabled = Optional.of(true);
+        Assertions.assertTrue(cache.isEnabled());
+    }
+
+    private String tip() {
+        return cache.getBranchTip(GA, LATEST, null).getRawVersionId();
+    }
+}
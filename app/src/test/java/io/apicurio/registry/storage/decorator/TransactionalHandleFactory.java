@@ -0,0 +1,60 @@
+package io.apicurio.registry.storage.decorator;
+
+import io.apicurio.registry.storage.impl.sql.HandleFactory;
+import io.apicurio.registry.storage.impl.sql.jdb.HandleAction;
+import io.apicurio.registry.storage.impl.sql.jdb.HandleCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handle factory for the unit tests of the caches, that only emulates the transaction boundary: actions
+ * registered with {@link #afterCommit(Runnable)} while a transaction is in progress run on {@link #commit()}.
+ */
+public class TransactionalHandleFactory implements HandleFactory {
+
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private boolean inTransaction;
+
+    /**
+     * Makes the given cache use this handle factory.
+     */
+    public void install(RegistryStorageCacheDecoratorBase cache) {
+        cache.handles = this;
+    }
+
+    public void begin() {
+        inTransaction = true;
+    }
+
+    public void commit() {
+        inTransaction = false;
+        List<Runnable> actions = new ArrayList<>(afterCommit);
+        afterCommit.clear();
+        actions.forEach(Runnable::run);
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        if (inTransaction) {
+            afterCommit.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    @Override
+    public <R, X extends Exception> R withHandle(HandleCallback<R, X> callback) throws X {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R, X extends Exception> R withHandleNoException(HandleCallback<R, X> callback) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <X extends Exception> void withHandleNoException(HandleAction<X> callback) {
+        throw new UnsupportedOperationException();
+    }
+}
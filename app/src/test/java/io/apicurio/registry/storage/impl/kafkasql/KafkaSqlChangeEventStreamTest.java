@@ -0,0 +1,98 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.events.ChangeEventStream;
+import io.apicurio.registry.storage.dto.GroupMetaDataDto;
+import io.apicurio.registry.storage.impl.kafkasql.messages.CreateGroup1Message;
+import io.apicurio.registry.storage.impl.kafkasql.messages.ImportGroup1Message;
+import io.apicurio.registry.storage.impl.kafkasql.sql.KafkaSqlSink;
+import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import io.apicurio.registry.utils.tests.KafkasqlTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.json.JSONArray;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Checks that the changes applied from the journal, i.e. made through any node, are published to the change
+ * event stream of this node.
+ */
+@QuarkusTest
+@TestProfile(KafkasqlTestProfile.class)
+public class KafkaSqlChangeEventStreamTest extends AbstractResourceTestBase {
+
+    @Inject
+    ChangeEventStream changeEventStream;
+
+    @Inject
+    KafkaSqlConfiguration configuration;
+
+    @Inject
+    KafkaSqlSink kafkaSqlSink;
+
+    @Test
+    public void testChangeFromAnotherNodeIsPublished() {
+        String groupId = "ChangeEventStreamRemoteGroup";
+        List<OutboundSseEvent> events = subscribe();
+
+        // Same as the journal record of a group created through another node
+        apply(new CreateGroup1Message(GroupMetaDataDto.builder().groupId(groupId).owner("other-node")
+                .createdOn(System.currentTimeMillis()).build()));
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> events.stream()
+                .filter(event -> ChangeEventStream.EVENT_CHANGES.equals(event.getName()))
+                .map(event -> new JSONArray((String) event.getData()))
+                .anyMatch(batch -> batch.toString().contains(groupId)));
+    }
+
+    @Test
+    public void testImportFromAnotherNodeResetsSubscribers() {
+        List<OutboundSseEvent> events = subscribe();
+
+        GroupEntity entity = GroupEntity.builder().groupId("ChangeEventStreamImportedGroup")
+                .owner("other-node").createdOn(System.currentTimeMillis()).build();
+        apply(new ImportGroup1Message(entity));
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> events.stream()
+                .anyMatch(event -> ChangeEventStream.EVENT_RESET.equals(event.getName())));
+    }
+
+    private void apply(AbstractMessage message) {
+        kafkaSqlSink.processMessage(new ConsumerRecord<>(configuration.getTopic(), 0, 0, message.getKey(), message));
+    }
+
+    private List<OutboundSseEvent> subscribe() {
+        List<OutboundSseEvent> events = new CopyOnWriteArrayList<>();
+        changeEventStream.subscribe(null).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(OutboundSseEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return events;
+    }
+}
@@ -0,0 +1,90 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.apicurio.registry.rest.headers.Headers.CONSISTENCY_TOKEN;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Checks that requests carrying a consistency token are held until the journal position of the token has been
+ * consumed, and rejected when it is not reached in time.
+ */
+@QuarkusTest
+@TestProfile(KafkaSqlConsistencyTokenTestProfile.class)
+public class KafkaSqlConsistencyFilterTest extends AbstractResourceTestBase {
+
+    @Test
+    public void testReadWithTokenOfConsumedWrite() {
+        String groupId = TestUtils.generateGroupId();
+        String token = createGroup(groupId);
+
+        given().header(CONSISTENCY_TOKEN, token).when().get("/registry/v3/groups/{groupId}", groupId)
+                .then().statusCode(200).body("groupId", equalTo(groupId));
+    }
+
+    @Test
+    public void testReadWaitsUntilCaughtUp() throws Exception {
+        KafkaSqlConsistencyToken token = KafkaSqlConsistencyToken.parse(createGroup(TestUtils.generateGroupId()));
+        // The position of the next journal record, i.e. of the next write
+        KafkaSqlConsistencyToken next = KafkaSqlConsistencyToken.empty();
+        for (Map.Entry<Integer, Long> offset : token.getOffsets().entrySet()) {
+            next = next.with(offset.getKey(), offset.getValue() + 1);
+        }
+        String nextToken = next.toString();
+
+        long start = System.nanoTime();
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> given()
+                .header(CONSISTENCY_TOKEN, nextToken).when().get("/registry/v3/groups").then()
+                .extract().statusCode());
+        Thread.sleep(500);
+        Assertions.assertFalse(read.isDone());
+
+        createGroup(TestUtils.generateGroupId());
+        Assertions.assertEquals(200, read.get(30, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void testRejectedWhenNotCaughtUpInTime() {
+        long start = System.nanoTime();
+        given().header(CONSISTENCY_TOKEN, "0:" + Long.MAX_VALUE).when().get("/registry/v3/groups").then()
+                .statusCode(503).header("Retry-After", "1");
+        // Waited for the configured timeout
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(2000));
+    }
+
+    @Test
+    public void testInvalidToken() {
+        given().header(CONSISTENCY_TOKEN, "invalid").when().get("/registry/v3/groups").then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testTokenExposedToBrowsers() {
+        given().header("Origin", "http://localhost:8888").when().get("/registry/v3/groups").then()
+                .statusCode(200)
+                .header("Access-Control-Expose-Headers", containsStringIgnoringCase(CONSISTENCY_TOKEN));
+    }
+
+    /**
+     * @return the consistency token of the write
+     */
+    private String createGroup(String groupId) {
+        String token = given().contentType(ContentType.JSON).body("{\"groupId\": \"" + groupId + "\"}").when()
+                .post("/registry/v3/groups").then().statusCode(200).extract().header(CONSISTENCY_TOKEN);
+        Assertions.assertNotNull(token);
+        return token;
+    }
+}
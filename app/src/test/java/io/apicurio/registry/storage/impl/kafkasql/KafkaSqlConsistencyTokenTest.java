@@ -0,0 +1,36 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/**
+ * Unit tests for KafkaSqlConsistencyToken.
+ */
+public class KafkaSqlConsistencyTokenTest {
+
+    @Test
+    public void testParseAndFormat() {
+        KafkaSqlConsistencyToken token = KafkaSqlConsistencyToken.parse("2:7, 0:1532");
+        Assertions.assertEquals(Map.of(0, 1532L, 2, 7L), token.getOffsets());
+        Assertions.assertEquals("0:1532,2:7", token.toString());
+        Assertions.assertEquals(token.getOffsets(), KafkaSqlConsistencyToken.parse(token.toString()).getOffsets());
+    }
+
+    @Test
+    public void testWithKeepsHighestOffset() {
+        KafkaSqlConsistencyToken token = KafkaSqlConsistencyToken.empty();
+        Assertions.assertTrue(token.isEmpty());
+
+        token = token.with(0, 10).with(0, 5).with(1, 3);
+        Assertions.assertEquals(Map.of(0, 10L, 1, 3L), token.getOffsets());
+    }
+
+    @Test
+    public void testParseInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KafkaSqlConsistencyToken.parse("abc"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KafkaSqlConsistencyToken.parse("0:x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KafkaSqlConsistencyToken.parse("0:1:2"));
+    }
+}
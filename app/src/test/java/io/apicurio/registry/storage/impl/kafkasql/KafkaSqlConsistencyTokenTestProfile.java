@@ -0,0 +1,21 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.utils.tests.KafkaTestContainerManager;
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.List;
+import java.util.Map;
+
+public class KafkaSqlConsistencyTokenTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("apicurio.storage.kind", "kafkasql", "apicurio.kafkasql.consistency-token.enabled", "true",
+                "apicurio.kafkasql.consistency-token.wait-timeout", "2000");
+    }
+
+    @Override
+    public List<TestResourceEntry> testResources() {
+        return List.of(new TestResourceEntry(KafkaTestContainerManager.class));
+    }
+}
@@ -0,0 +1,191 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.rest.client.models.CreateArtifact;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impl.kafkasql.KafkaSqlFactory.KafkaAdminClient;
+import io.apicurio.registry.storage.impl.kafkasql.messages.CreateSnapshot1Message;
+import io.apicurio.registry.storage.impl.kafkasql.serde.KafkaSqlKeyDeserializer;
+import io.apicurio.registry.storage.impl.kafkasql.serde.KafkaSqlValueDeserializer;
+import io.apicurio.registry.storage.impl.kafkasql.sql.KafkaSqlSink;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static io.apicurio.registry.storage.impl.kafkasql.KafkaSqlSubmitter.BOOTSTRAP_MESSAGE_TYPE;
+import static io.apicurio.registry.utils.CollectionsUtil.toProperties;
+
+@QuarkusTest
+@TestProfile(KafkaSqlJournalCompactionTestProfile.class)
+public class KafkaSqlJournalCompactionTest extends AbstractResourceTestBase {
+
+    @Inject
+    KafkaSqlRegistryStorage kafkaSqlRegistryStorage;
+
+    @Inject
+    KafkaSqlConfiguration configuration;
+
+    @Inject
+    KafkaAdminClient adminClient;
+
+    @Inject
+    KafkaSqlSink kafkaSqlSink;
+
+    @Test
+    public void testJournalCompactedAfterSnapshot() throws Exception {
+        String groupId = "JournalCompactionTest";
+        createArtifacts(groupId, 10);
+
+        String snapshotLocation = kafkaSqlRegistryStorage.triggerSnapshotCreation();
+        Path path = Path.of(snapshotLocation);
+        Assertions.assertTrue(Files.exists(path));
+
+        try {
+            awaitCompaction();
+
+            // The registry data must still be available after the compaction.
+            Assertions.assertEquals(10, clientV3.groups().byGroupId(groupId).artifacts().get().getCount());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Restores the internal database the way a replica (re)starting after the compaction does, from the
+     * snapshot and the journal tail after its marker, and checks that no data is lost.
+     */
+    @Test
+    public void testReplicaRestartAfterCompaction() throws Exception {
+        String groupId = "JournalCompactionRestartTest";
+        createArtifacts(groupId, 5);
+
+        String snapshotLocation = kafkaSqlRegistryStorage.triggerSnapshotCreation();
+        Path path = Path.of(snapshotLocation);
+        try {
+            awaitCompaction();
+
+            // Written after the snapshot, only in the journal tail
+            createArtifacts(groupId, 3);
+
+            String snapshotId;
+            try (var snapshotsConsumer = new KafkaConsumer<>(toProperties(configuration.getConsumerProperties()),
+                    new StringDeserializer(), new StringDeserializer())) {
+                snapshotId = kafkaSqlRegistryStorage.consumeSnapshotsTopic(snapshotsConsumer);
+            }
+            Assertions.assertEquals(path.getFileName().toString(), snapshotId + ".sql");
+            replayJournalAfterMarker(snapshotId);
+
+            Assertions.assertEquals(8, clientV3.groups().byGroupId(groupId).artifacts().get().getCount());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testReplicaFailsToStartWithoutSnapshotAfterCompaction() throws Exception {
+        createArtifacts("JournalCompactionMissingSnapshotTest", 2);
+
+        String snapshotLocation = kafkaSqlRegistryStorage.triggerSnapshotCreation();
+        awaitCompaction();
+        Files.delete(Path.of(snapshotLocation));
+
+        try (var snapshotsConsumer = new KafkaConsumer<>(toProperties(configuration.getConsumerProperties()),
+                new StringDeserializer(), new StringDeserializer())) {
+            Assertions.assertThrows(RegistryStorageException.class,
+                    () -> kafkaSqlRegistryStorage.consumeSnapshotsTopic(snapshotsConsumer));
+        }
+    }
+
+    @Test
+    public void testReplicaGroupPrefix() {
+        String groupId = configuration.getConsumerProperties().get(ConsumerConfig.GROUP_ID_CONFIG);
+        String prefix = configuration.getReplicaGroupPrefix();
+        Assertions.assertTrue(groupId.startsWith(prefix));
+        Assertions.assertNotEquals(groupId, prefix);
+        Assertions.assertNotEquals(configuration.getGroupPrefix(), prefix);
+    }
+
+    private void createArtifacts(String groupId, int count) {
+        String simpleAvro = resourceToString("avro.json");
+        for (int idx = 0; idx < count; idx++) {
+            String artifactId = UUID.randomUUID().toString();
+            CreateArtifact createArtifact = TestUtils.clientCreateArtifact(artifactId, ArtifactType.AVRO,
+                    simpleAvro, ContentTypes.APPLICATION_JSON);
+            clientV3.groups().byGroupId(groupId).artifacts().post(createArtifact);
+        }
+    }
+
+    /**
+     * Waits for the journal to be compacted, which happens in the background after a snapshot is created.
+     */
+    private void awaitCompaction() throws TimeoutException {
+        TestUtils.waitFor("journal compaction", 100, 30_000, () -> {
+            try {
+                return earliestJournalOffsets().values().stream().anyMatch(offset -> offset > 0);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Map<TopicPartition, Long> earliestJournalOffsets() throws Exception {
+        try {
+            String topic = configuration.getTopic();
+            var partitions = adminClient.get().describeTopics(List.of(topic)).allTopicNames().get().get(topic)
+                    .partitions().stream().collect(Collectors.toMap(p -> new TopicPartition(topic, p.partition()),
+                            p -> OffsetSpec.earliest()));
+            return adminClient.get().listOffsets(partitions).all().get().entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().offset()));
+        } finally {
+            adminClient.close();
+        }
+    }
+
+    /**
+     * Reads the journal from its earliest remaining record, which must be the marker of the given snapshot,
+     * and applies the records that follow it.
+     */
+    private void replayJournalAfterMarker(String snapshotId) {
+        List<ConsumerRecord<KafkaSqlMessageKey, KafkaSqlMessage>> journal = new ArrayList<>();
+        try (var journalConsumer = new KafkaConsumer<>(toProperties(configuration.getConsumerProperties()),
+                new KafkaSqlKeyDeserializer(), new KafkaSqlValueDeserializer())) {
+            journalConsumer.subscribe(List.of(configuration.getTopic()));
+            ConsumerRecords<KafkaSqlMessageKey, KafkaSqlMessage> records;
+            do {
+                records = journalConsumer.poll(configuration.getPollTimeout());
+                records.forEach(journal::add);
+            } while (!records.isEmpty() || journal.isEmpty());
+        }
+
+        var first = journal.get(0).value();
+        Assertions.assertTrue(first instanceof CreateSnapshot1Message marker
+                && snapshotId.equals(marker.getSnapshotId()),
+                "Expected the journal to start with the snapshot marker, but found " + first);
+        journal.stream().skip(1)
+                .filter(record -> record.key() != null && record.value() != null)
+                .filter(record -> !BOOTSTRAP_MESSAGE_TYPE.equals(record.key().getMessageType()))
+                .filter(record -> !(record.value() instanceof CreateSnapshot1Message))
+                .forEach(kafkaSqlSink::processMessage);
+    }
+}
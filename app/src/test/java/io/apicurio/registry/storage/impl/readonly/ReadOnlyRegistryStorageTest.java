@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -82,6 +83,10 @@ public class ReadOnlyRegistryStorageTest {
                 entry("exportData1", new State(false, s -> s.exportData(null))),
                 entry("getContentByHash1", new State(false, s -> s.getContentByHash(null))),
                 entry("getContentById1", new State(false, s -> s.getContentById(0))),
+                entry("getContentByHashes1", new State(false, s -> s.getContentByHashes(List.of()))),
+                entry("getContentByIds1", new State(false, s -> s.getContentByIds(List.of()))),
+                entry("getStreamedContentByHash1", new State(false, s -> s.getStreamedContentByHash(null))),
+                entry("getStreamedContentById1", new State(false, s -> s.getStreamedContentById(0))),
                 entry("getBranchMetaData2", new State(false, s -> s.getBranchMetaData(null, null))),
                 entry("getBranches3", new State(false, s -> s.getBranches(null, 0, 0))),
                 entry("getBranchVersions4", new State(false, s -> s.getBranchVersions(null, null, 0, 0))),
@@ -95,6 +100,8 @@ public class ReadOnlyRegistryStorageTest {
                         new State(false, s -> s.getArtifactVersionContent(null, null, null))),
                 entry("getArtifactVersionComments3",
                         new State(false, s -> s.getArtifactVersionComments(null, null, null))),
+                entry("getArtifactVersionMetaDataByGlobalIds1",
+                        new State(false, s -> s.getArtifactVersionMetaDataByGlobalIds(List.of()))),
                 entry("getArtifactVersionMetaData1",
                         new State(false, s -> s.getArtifactVersionMetaData(null))),
                 entry("getArtifactVersionMetaData3",
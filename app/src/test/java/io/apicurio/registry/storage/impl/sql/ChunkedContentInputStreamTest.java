@@ -0,0 +1,68 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.storage.error.ContentNotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ChunkedContentInputStreamTest {
+
+    private final List<Integer> positions = new ArrayList<>();
+
+    @Test
+    public void testReadInChunks() throws Exception {
+        byte[] stored = "0123456789".getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = new ChunkedContentInputStream(loader(stored), 4)) {
+            Assertions.assertArrayEquals(stored, in.readAllBytes());
+        }
+        Assertions.assertEquals(List.of(1, 5, 9), positions);
+    }
+
+    @Test
+    public void testSizeMultipleOfChunkSize() throws Exception {
+        byte[] stored = "01234567".getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = new ChunkedContentInputStream(loader(stored), 4)) {
+            Assertions.assertEquals('0', in.read());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(stored, 1, stored.length), in.readAllBytes());
+            Assertions.assertEquals(-1, in.read());
+        }
+        // The end of the value is only known from an empty chunk
+        Assertions.assertEquals(List.of(1, 5, 9), positions);
+    }
+
+    @Test
+    public void testDecodesCompressedValue() throws Exception {
+        byte[] raw = "{\"type\": \"object\"} ".repeat(200).getBytes(StandardCharsets.UTF_8);
+        SqlContentCodec.Encoded stored = SqlContentCodec.encode(raw, "application/json", 0, true);
+        try (InputStream in = SqlContentCodec.decodingStream(stored.codec(),
+                new ChunkedContentInputStream(loader(stored.bytes()), 3))) {
+            Assertions.assertArrayEquals(raw, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testDeletedWhileRead() {
+        byte[] stored = "0123456789".getBytes(StandardCharsets.UTF_8);
+        ChunkedContentInputStream.ChunkLoader loader = (position, length) -> {
+            if (position > 1) {
+                throw new ContentNotFoundException(1L);
+            }
+            return Arrays.copyOf(stored, length);
+        };
+        InputStream in = new ChunkedContentInputStream(loader, 4);
+        Assertions.assertThrows(ContentNotFoundException.class, in::readAllBytes);
+    }
+
+    private ChunkedContentInputStream.ChunkLoader loader(byte[] stored) {
+        return (position, length) -> {
+            positions.add(position);
+            int from = Math.min(position - 1, stored.length);
+            return Arrays.copyOfRange(stored, from, Math.min(from + length, stored.length));
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.agroal.api.AgroalDataSource;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.impl.sql.jdb.HandleImpl;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the routing of SQL storage operations between the primary and the read replica datasources.
+ */
+public class ReadReplicaRoutingTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final AtomicInteger replicaConnections = new AtomicInteger();
+    private boolean replicaDown;
+    /**
+     * The current request, null outside of a request.
+     */
+    private ReadReplicaRequestContext request;
+
+    private ReadReplicaRouting routing;
+    private ReadReplicaRoutingInterceptor interceptor;
+    private RoutingHandleFactory handles;
+
+    @BeforeEach
+    public void setUp() {
+        routing = new ReadReplicaRouting() {
+            @Override
+            ReadReplicaRequestContext currentRequest() {
+                return request;
+            }
+        };
+        routing.jdbcUrl = Optional.of("jdbc:h2:mem:replica");
+        routing.storageType = "sql";
+        routing.lagToleranceMs = 1000;
+        interceptor = new ReadReplicaRoutingInterceptor();
+        interceptor.routing = routing;
+        handles = new RoutingHandleFactory(dataSource(PRIMARY), dataSource(REPLICA), routing,
+                LoggerFactory.getLogger(RoutingHandleFactory.class));
+        request = new ReadReplicaRequestContext();
+    }
+
+    @Test
+    public void testReadUsesReplica() throws Exception {
+        Assertions.assertEquals(REPLICA, read());
+        Assertions.assertEquals(PRIMARY, write());
+    }
+
+    @Test
+    public void testReadAfterWriteInRequestUsesPrimary() throws Exception {
+        routing.lagToleranceMs = 0;
+        write();
+        Assertions.assertEquals(PRIMARY, read());
+
+        request = new ReadReplicaRequestContext();
+        Assertions.assertEquals(REPLICA, read());
+    }
+
+    @Test
+    public void testLagWindowFollowsConsistencyToken() throws Exception {
+        write();
+        long token = request.getLastWriteTimestamp();
+
+        // Another client is not affected by the write
+        request = new ReadReplicaRequestContext();
+        Assertions.assertEquals(REPLICA, read());
+
+        // The writing client, in a later request
+        request = new ReadReplicaRequestContext();
+        request.setLastWriteTimestamp(token);
+        Assertions.assertEquals(PRIMARY, read());
+
+        // The replica has caught up
+        request = new ReadReplicaRequestContext();
+        request.setLastWriteTimestamp(System.currentTimeMillis() - 2 * routing.lagToleranceMs);
+        Assertions.assertEquals(REPLICA, read());
+    }
+
+    @Test
+    public void testConsistencyTokenOnPrimaryClock() throws Exception {
+        // The clock of the primary database is behind the local clock
+        routing.primaryClockOffset = -10_000;
+        write();
+        long token = request.getLastWriteTimestamp();
+        Assertions.assertTrue(token <= System.currentTimeMillis() - 9_000);
+
+        request = new ReadReplicaRequestContext();
+        request.setLastWriteTimestamp(token);
+        Assertions.assertEquals(PRIMARY, read());
+
+        request = new ReadReplicaRequestContext();
+        request.setLastWriteTimestamp(routing.primaryTime() - 2 * routing.lagToleranceMs);
+        Assertions.assertEquals(REPLICA, read());
+    }
+
+    @Test
+    public void testWriteOutsideRequestDoesNotAffectReads() throws Exception {
+        request = null;
+        write();
+        Assertions.assertEquals(REPLICA, read());
+    }
+
+    @Test
+    public void testReadNestedInWriteUsesPrimary() throws Exception {
+        Assertions.assertEquals(PRIMARY, invoke(method("deleteArtifact", String.class, String.class),
+                this::read));
+    }
+
+    @Test
+    public void testReadInPrimaryTransactionUsesPrimary() throws Exception {
+        request = null;
+        // e.g. a storage operation that is not intercepted, reading in its own transaction
+        Assertions.assertEquals(PRIMARY, handles.withHandle(handle -> read()));
+    }
+
+    @Test
+    public void testReplicaDownFallsBackToPrimary() throws Exception {
+        replicaDown = true;
+        Assertions.assertEquals(PRIMARY, read());
+        Assertions.assertEquals(PRIMARY, read());
+        // The replica is not tried again right away
+        Assertions.assertEquals(1, replicaConnections.get());
+    }
+
+    private String read() throws Exception {
+        return invoke(method("getArtifactMetaData", String.class, String.class), this::currentDataSource);
+    }
+
+    private String write() throws Exception {
+        return invoke(method("deleteArtifact", String.class, String.class), this::currentDataSource);
+    }
+
+    private String currentDataSource() {
+        return handles.withHandleNoException(handle -> {
+            return ((HandleImpl) handle).getConnection().toString();
+        });
+    }
+
+    private String invoke(Method method, Callable<String> operation) throws Exception {
+        InvocationContext context = (InvocationContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { InvocationContext.class }, (proxy, m, args) -> switch (m.getName()) {
+                    case "getMethod" -> method;
+                    case "proceed" -> operation.call();
+                    default -> throw new UnsupportedOperationException(m.getName());
+                });
+        return (String) interceptor.intercept(context);
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return RegistryStorage.class.getMethod(name, parameterTypes);
+    }
+
+    private AgroalDataSource dataSource(String name) {
+        return (AgroalDataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { AgroalDataSource.class }, (proxy, method, args) -> {
+                    if (!"getConnection".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (REPLICA.equals(name)) {
+                        replicaConnections.incrementAndGet();
+                        if (replicaDown) {
+                            throw new SQLException("Connection refused");
+                        }
+                    }
+                    return connection(name);
+                });
+    }
+
+    /**
+     * A connection that does nothing, named after its datasource.
+     */
+    private Connection connection(String name) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("toString".equals(method.getName())) {
+                        return name;
+                    }
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    if (method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    return null;
+                });
+    }
+}
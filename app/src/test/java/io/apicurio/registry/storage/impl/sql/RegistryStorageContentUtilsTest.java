@@ -0,0 +1,101 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.canon.ContentCanonicalizer;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
+import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the memoization of canonical content hashes.
+ */
+public class RegistryStorageContentUtilsTest {
+
+    private static final List<ArtifactReferenceDto> REFERENCES = List
+            .of(ArtifactReferenceDto.builder().groupId("g").artifactId("ref").version("1").name("ref.json").build());
+
+    private final AtomicInteger canonicalizations = new AtomicInteger();
+    private RegistryStorageContentUtils utils;
+
+    @BeforeEach
+    public void setUp() {
+        utils = create(100);
+    }
+
+    private RegistryStorageContentUtils create(long cacheMaxSize) {
+        // Canonical form: the content without whitespace, followed by the resolved references
+        ContentCanonicalizer canonicalizer = (content, resolvedReferences) -> {
+            canonicalizations.incrementAndGet();
+            StringBuilder canonical = new StringBuilder(content.getContent().content().replaceAll("\\s", ""));
+            resolvedReferences.values().forEach(reference -> canonical.append(reference.getContent().content()));
+            return TypedContent.create(ContentHandle.create(canonical.toString()), content.getContentType());
+        };
+        ArtifactTypeUtilProvider provider = (ArtifactTypeUtilProvider) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { ArtifactTypeUtilProvider.class },
+                (proxy, method, args) -> "getContentCanonicalizer".equals(method.getName()) ? canonicalizer
+                    : null);
+        RegistryStorageContentUtils utils = new RegistryStorageContentUtils();
+        utils.factory = (ArtifactTypeUtilProviderFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ArtifactTypeUtilProviderFactory.class }, (proxy, method, args) -> provider);
+        utils.log = LoggerFactory.getLogger(RegistryStorageContentUtils.class);
+        utils.canonicalHashCacheMaxSize = cacheMaxSize;
+        utils.canonicalHashCacheExpiry = 60_000;
+        utils.init();
+        return utils;
+    }
+
+    @Test
+    public void testCacheHit() {
+        String hash = utils.getCanonicalContentHash(json("{ \"a\": 1 }"), "JSON", null, null);
+        Assertions.assertEquals(hash, utils.getCanonicalContentHash(json("{ \"a\": 1 }"), "JSON", null, null));
+        Assertions.assertEquals(1, canonicalizations.get());
+    }
+
+    @Test
+    public void testCacheMiss() {
+        String hash = utils.getCanonicalContentHash(json("{ \"a\": 1 }"), "JSON", null, null);
+        // Same canonical form, different raw content
+        Assertions.assertEquals(hash, utils.getCanonicalContentHash(json("{\"a\":1}"), "JSON", null, null));
+        Assertions.assertNotEquals(hash, utils.getCanonicalContentHash(json("{ \"a\": 2 }"), "JSON", null, null));
+        Assertions.assertEquals(3, canonicalizations.get());
+    }
+
+    @Test
+    public void testReferencedContentChangeInvalidates() {
+        Map<String, TypedContent> resolved = Map.of("ref.json", json("{\"draft\":1}"));
+        String hash = utils.getCanonicalContentHash(json("{}"), "JSON", REFERENCES, references -> resolved);
+        Assertions.assertEquals(hash,
+                utils.getCanonicalContentHash(json("{}"), "JSON", REFERENCES, references -> resolved));
+        Assertions.assertEquals(1, canonicalizations.get());
+
+        // The same reference now resolves to other content, e.g. the DRAFT version was updated
+        Map<String, TypedContent> updated = Map.of("ref.json", json("{\"draft\":2}"));
+        String updatedHash = utils.getCanonicalContentHash(json("{}"), "JSON", REFERENCES,
+                references -> updated);
+        Assertions.assertNotEquals(hash, updatedHash);
+        Assertions.assertEquals(2, canonicalizations.get());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        utils = create(0);
+        utils.getCanonicalContentHash(json("{}"), "JSON", null, null);
+        utils.getCanonicalContentHash(json("{}"), "JSON", null, null);
+        Assertions.assertEquals(2, canonicalizations.get());
+    }
+
+    private static TypedContent json(String content) {
+        return TypedContent.create(ContentHandle.create(content), ContentTypes.APPLICATION_JSON);
+    }
+}
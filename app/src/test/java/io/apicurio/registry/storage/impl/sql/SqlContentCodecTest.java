@@ -0,0 +1,160 @@
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Unit tests for SqlContentCodec.
+ */
+public class SqlContentCodecTest {
+
+    private static byte[] openApiContent() {
+        StringBuilder builder = new StringBuilder("{\"openapi\": \"3.0.2\", \"info\": {\"title\": \"Test\"}, "
+                + "\"paths\": {}, \"components\": {\"schemas\": {");
+        for (int i = 0; i < 50; i++) {
+            builder.append("\"Type").append(i).append("\": {\"type\": \"object\", \"properties\": {")
+                    .append("\"name\": {\"type\": \"string\", \"description\": \"The name.\"}}}, ");
+        }
+        builder.append("\"Last\": {\"type\": \"object\"}}}}");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        byte[] raw = openApiContent();
+
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 0, false);
+        Assertions.assertEquals(SqlContentCodec.CODEC_DEFLATE, encoded.codec());
+        Assertions.assertTrue(encoded.bytes().length < raw.length);
+        Assertions.assertArrayEquals(raw, SqlContentCodec.decode(encoded.codec(), encoded.bytes()));
+    }
+
+    @Test
+    public void testRoundTripWithDictionary() {
+        byte[] raw = openApiContent();
+
+        SqlContentCodec.Encoded plain = SqlContentCodec.encode(raw, "application/json", 0, false);
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 0, true);
+        Assertions.assertEquals(SqlContentCodec.CODEC_DEFLATE_JSON_DICT, encoded.codec());
+        Assertions.assertTrue(encoded.bytes().length <= plain.bytes().length);
+        Assertions.assertArrayEquals(raw, SqlContentCodec.decode(encoded.codec(), encoded.bytes()));
+
+        byte[] xml = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"><xs:element name=\"a\" type=\"xs:string\"/></xs:schema>"
+                .repeat(20).getBytes(StandardCharsets.UTF_8);
+        SqlContentCodec.Encoded encodedXml = SqlContentCodec.encode(xml, "application/xml", 0, true);
+        Assertions.assertEquals(SqlContentCodec.CODEC_DEFLATE_XML_DICT, encodedXml.codec());
+        Assertions.assertArrayEquals(xml, SqlContentCodec.decode(encodedXml.codec(), encodedXml.bytes()));
+    }
+
+    @Test
+    public void testContentHandleIsDecodedWhenStreamed() throws Exception {
+        byte[] raw = openApiContent();
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 0, true);
+
+        ContentHandle content = SqlContentCodec.toContentHandle(encoded.codec(), encoded.bytes());
+        for (int i = 0; i < 2; i++) {
+            try (InputStream stream = content.stream()) {
+                Assertions.assertArrayEquals(raw, stream.readAllBytes());
+            }
+        }
+        Assertions.assertArrayEquals(raw, content.bytes());
+        Assertions.assertEquals(new String(raw, StandardCharsets.UTF_8), content.content());
+
+        Assertions.assertSame(raw, SqlContentCodec.toContentHandle(SqlContentCodec.CODEC_RAW, raw).bytes());
+    }
+
+    /**
+     * A stream returning at most a few bytes per read, like a value streamed from the database.
+     */
+    private static InputStream trickle(byte[] stored) {
+        return new FilterInputStream(new ByteArrayInputStream(stored)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+    }
+
+    @Test
+    public void testDecodingStream() throws Exception {
+        byte[] raw = openApiContent();
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 0, true);
+
+        try (InputStream stream = SqlContentCodec.decodingStream(encoded.codec(), trickle(encoded.bytes()))) {
+            Assertions.assertArrayEquals(raw, stream.readAllBytes());
+        }
+        try (InputStream stream = SqlContentCodec.decodingStream(SqlContentCodec.CODEC_RAW, trickle(raw))) {
+            Assertions.assertArrayEquals(raw, stream.readAllBytes());
+        }
+        byte[] truncated = Arrays.copyOf(encoded.bytes(), encoded.bytes().length / 2);
+        Assertions.assertThrows(RuntimeException.class,
+                () -> SqlContentCodec.decodingStream(encoded.codec(), trickle(truncated)).readAllBytes());
+    }
+
+    @Test
+    public void testStreamedContentHandleIsNotMaterialized() throws Exception {
+        byte[] raw = openApiContent();
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 0, true);
+        int[] opened = new int[1];
+        ContentHandle content = ContentHandle.create(() -> {
+            opened[0]++;
+            return SqlContentCodec.decodingStream(encoded.codec(), trickle(encoded.bytes()));
+        });
+        ContentHandle expected = ContentHandle.create(raw);
+
+        Assertions.assertEquals(expected.getSha256Hash(), content.getSha256Hash());
+        Assertions.assertEquals(raw.length, content.getSizeBytes());
+        Assertions.assertEquals(1, opened[0]);
+        Assertions.assertEquals(expected.hashCode(), content.hashCode());
+        Assertions.assertEquals(content, expected);
+        Assertions.assertNotEquals(content, ContentHandle.create("{}"));
+
+        Assertions.assertArrayEquals(raw, content.bytes());
+        int reads = opened[0];
+        Assertions.assertEquals(expected.getSha256Hash(), content.getSha256Hash());
+        Assertions.assertEquals(expected, content);
+        Assertions.assertEquals(reads, opened[0]);
+    }
+
+    @Test
+    public void testSmallContentIsNotEncoded() {
+        byte[] raw = "{\"type\": \"string\"}".getBytes(StandardCharsets.UTF_8);
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/json", 1024, true);
+        Assertions.assertEquals(SqlContentCodec.CODEC_RAW, encoded.codec());
+        Assertions.assertSame(raw, encoded.bytes());
+    }
+
+    @Test
+    public void testIncompressibleContentIsNotEncoded() {
+        byte[] raw = new byte[4096];
+        new Random(42).nextBytes(raw);
+        SqlContentCodec.Encoded encoded = SqlContentCodec.encode(raw, "application/x-protobuf", 0, true);
+        Assertions.assertEquals(SqlContentCodec.CODEC_RAW, encoded.codec());
+        Assertions.assertSame(raw, encoded.bytes());
+    }
+
+    @Test
+    public void testRawContentIsReadAsIs() {
+        // Even if it happens to look like compressed content
+        byte[] raw = SqlContentCodec.encode(openApiContent(), "application/json", 0, true).bytes();
+        Assertions.assertSame(raw, SqlContentCodec.decode(SqlContentCodec.CODEC_RAW, raw));
+        Assertions.assertSame(raw, SqlContentCodec.toContentHandle(SqlContentCodec.CODEC_RAW, raw).bytes());
+        Assertions.assertNull(SqlContentCodec.decode(SqlContentCodec.CODEC_RAW, null));
+    }
+
+    @Test
+    public void testUnknownCodec() {
+        byte[] stored = openApiContent();
+        Assertions.assertThrows(RuntimeException.class, () -> SqlContentCodec.toContentHandle((byte) 42, stored));
+        Assertions.assertThrows(RuntimeException.class, () -> SqlContentCodec.decode((byte) 42, stored));
+    }
+}
@@ -0,0 +1,221 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unit tests for the statement reuse, batching and instrumentation support of HandleImpl.
+ */
+public class HandleImplTest {
+
+    private HandleImpl handle;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        handle = new HandleImpl(DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID()));
+        handle.createUpdate("CREATE TABLE labels (id BIGINT NOT NULL, labelKey VARCHAR(256) NOT NULL, "
+                + "labelValue VARCHAR(512), PRIMARY KEY (id, labelKey))").executeNoUpdate();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        handle.close();
+    }
+
+    @Test
+    public void testBatchInsert() {
+        Batch batch = handle.createBatch("INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)");
+        for (int idx = 0; idx < 10; idx++) {
+            batch.bind(0, 1L).bind(1, "key-" + idx).bind(2, "value-" + idx).addBatch();
+        }
+        Assertions.assertEquals(10, batch.size());
+
+        int[] counts = batch.executeBatch();
+        Assertions.assertEquals(10, counts.length);
+        Assertions.assertEquals(0, batch.size());
+
+        List<String> keys = handle.createQuery("SELECT labelKey FROM labels WHERE id = ? ORDER BY labelKey")
+                .bind(0, 1L).mapTo(String.class).list();
+        Assertions.assertEquals(10, keys.size());
+        Assertions.assertEquals("key-0", keys.get(0));
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        Batch batch = handle.createBatch("INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)");
+        Assertions.assertEquals(0, batch.executeBatch().length);
+    }
+
+    @Test
+    public void testBatchPrimaryKeyViolation() {
+        Batch batch = handle.createBatch("INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)");
+        batch.bind(0, 1L).bind(1, "key").bind(2, "a").addBatch();
+        batch.bind(0, 1L).bind(1, "key").bind(2, "b").addBatch();
+        RuntimeSqlBatchException error = Assertions.assertThrows(RuntimeSqlBatchException.class,
+                batch::executeBatch);
+        Assertions.assertTrue(error.getMessage().contains("primary key violation"), error.getMessage());
+        Assertions.assertEquals(1, error.getFailedRow());
+    }
+
+    @Test
+    public void testMappedQueryCloseIsIdempotent() throws SQLException, IOException {
+        List<String> executed = new ArrayList<>();
+        SqlInstrumentation instrumentation = new SqlInstrumentation() {
+            @Override
+            public void statementExecuted(String sql, int parameterCount, long durationNanos, long rows,
+                    boolean success) {
+                executed.add(sql);
+            }
+        };
+        try (HandleImpl instrumented = new HandleImpl(
+                DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID()), instrumentation)) {
+            String select = "SELECT 1";
+            MappedQueryImpl<Integer> query = (MappedQueryImpl<Integer>) instrumented.createQuery(select)
+                    .mapTo(Integer.class);
+            Assertions.assertEquals(1, query.one());
+            var other = instrumented.createQuery(select).mapTo(Integer.class);
+            // Must not give back the statement now used by the other query
+            query.close();
+            Assertions.assertEquals(1, instrumented.createQuery(select).mapTo(Integer.class).one());
+            Assertions.assertEquals(1, other.one());
+        }
+        Assertions.assertEquals(List.of("SELECT 1", "SELECT 1", "SELECT 1"), executed);
+    }
+
+    @Test
+    public void testCloseWhenStatementFailsToClose() throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID());
+        Connection wrapper = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement) {
+                        return failingToClose(statement);
+                    }
+                    return result;
+                });
+        HandleImpl failing = new HandleImpl(wrapper);
+        Assertions.assertEquals(1, failing.createQuery("SELECT 1").mapTo(Integer.class).one());
+        Assertions.assertEquals(2, failing.createQuery("SELECT 2").mapTo(Integer.class).one());
+
+        IOException error = Assertions.assertThrows(IOException.class, failing::close);
+        Assertions.assertEquals(1, error.getCause().getSuppressed().length);
+        Assertions.assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void testQueryErrorNotReplacedWhenStatementFailsToRelease() throws SQLException, IOException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID());
+        Connection wrapper = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement) {
+                        return failingToRelease(statement);
+                    }
+                    return result;
+                });
+        try (HandleImpl failing = new HandleImpl(wrapper)) {
+            RuntimeSqlException error = Assertions.assertThrows(RuntimeSqlException.class,
+                    () -> failing.createQuery("SELECT * FROM missing").mapTo(Integer.class).one());
+            Assertions.assertTrue(error.getMessage().contains("MISSING"), error.getMessage());
+            // The statement is discarded rather than cached
+            Assertions.assertEquals(1, failing.createQuery("SELECT 1").mapTo(Integer.class).one());
+        }
+    }
+
+    private static PreparedStatement failingToRelease(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(HandleImplTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    if ("clearParameters".equals(method.getName())) {
+                        throw new SQLException("Connection reset");
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static PreparedStatement failingToClose(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(HandleImplTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        statement.close();
+                        throw new SQLException("Failed to close the statement");
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void testStatementReuse() {
+        String insert = "INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)";
+        handle.createUpdate(insert).bind(0, 1L).bind(1, "a").bind(2, "1").execute();
+        handle.createUpdate(insert).bind(0, 1L).bind(1, "b").bind(2, "2").execute();
+
+        String select = "SELECT labelValue FROM labels WHERE id = ? AND labelKey = ?";
+        Assertions.assertEquals("1", handle.createQuery(select).bind(0, 1L).bind(1, "a").mapTo(String.class).one());
+        Assertions.assertEquals("2", handle.createQuery(select).bind(0, 1L).bind(1, "b").mapTo(String.class).one());
+    }
+
+    @Test
+    public void testNestedQueriesWithSameSql() {
+        String insert = "INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)";
+        handle.createUpdate(insert).bind(0, 1L).bind(1, "a").bind(2, "1").execute();
+        handle.createUpdate(insert).bind(0, 2L).bind(1, "a").bind(2, "2").execute();
+
+        String select = "SELECT id FROM labels WHERE labelKey = ? ORDER BY id";
+        try (var outer = handle.createQuery(select).bind(0, "a").mapTo(Long.class).stream()) {
+            List<Long> ids = outer.map(id -> handle.createQuery(select).bind(0, "a").mapTo(Long.class).list().size()
+                    + id).toList();
+            Assertions.assertEquals(List.of(3L, 4L), ids);
+        }
+    }
+
+    @Test
+    public void testInstrumentation() throws SQLException, IOException {
+        List<String> executed = new ArrayList<>();
+        SqlInstrumentation instrumentation = new SqlInstrumentation() {
+            @Override
+            public void statementExecuted(String sql, int parameterCount, long durationNanos, long rows,
+                    boolean success) {
+                executed.add(sql.substring(0, 6) + "/" + parameterCount + "/" + rows + "/" + success);
+            }
+        };
+        try (HandleImpl instrumented = new HandleImpl(
+                DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID()), instrumentation)) {
+            instrumented.createUpdate("CREATE TABLE labels (id BIGINT NOT NULL, labelKey VARCHAR(256) NOT NULL, "
+                    + "labelValue VARCHAR(512), PRIMARY KEY (id, labelKey))").executeNoUpdate();
+            String insert = "INSERT INTO labels (id, labelKey, labelValue) VALUES (?, ?, ?)";
+            instrumented.createUpdate(insert).bind(0, 1L).bind(1, "a").bind(2, "1").execute();
+            Batch batch = instrumented.createBatch(insert);
+            batch.bind(0, 1L).bind(1, "b").bind(2, "2").addBatch();
+            batch.bind(0, 1L).bind(1, "c").bind(2, "3").addBatch();
+            batch.executeBatch();
+            instrumented.createQuery("SELECT labelKey FROM labels WHERE id = ?").bind(0, 1L)
+                    .mapTo(String.class).list();
+            Assertions.assertThrows(RuntimeSqlException.class,
+                    () -> instrumented.createUpdate(insert).bind(0, 1L).bind(1, "a").bind(2, "1").execute());
+        }
+        Assertions.assertEquals(
+                List.of("CREATE/0/0/true", "INSERT/3/1/true", "INSERT/3/2/true", "SELECT/1/3/true", "INSERT/3/0/false"), executed);
+    }
+}
@@ -11,7 +11,9 @@ public class MssqlTestProfile implements QuarkusTestProfile {
 
     @Override
     public Map<String, String> getConfigOverrides() {
-        return Map.of("apicurio.storage.sql.kind", "mssql");
+        // Content larger than a few KB is streamed in chunks, so that the content tests cover it
+        return Map.of("apicurio.storage.sql.kind", "mssql", "apicurio.storage.sql.content-streaming.chunk-size",
+                "4096");
     }
 
     @Override
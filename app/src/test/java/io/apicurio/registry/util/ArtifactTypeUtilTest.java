@@ -1,9 +1,12 @@
 package io.apicurio.registry.util;
 
 import io.apicurio.registry.AbstractRegistryTestBase;
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.storage.error.InvalidArtifactTypeException;
 import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import io.apicurio.registry.types.provider.DefaultArtifactTypeUtilProviderImpl;
 import org.apache.avro.Schema;
@@ -11,6 +14,8 @@ import org.apache.avro.Schema.Type;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ArtifactTypeUtilTest extends AbstractRegistryTestBase {
@@ -161,4 +166,45 @@ class ArtifactTypeUtilTest extends AbstractRegistryTestBase {
         Assertions.assertEquals(ArtifactType.WSDL, type);
     }
 
+    /**
+     * Test method for
+     * {@link io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory#detectArtifactType(TypedContent)}.
+     */
+    @Test
+    void testDetectType() {
+        for (String resource : new String[] { "json-schema.json", "avro.json", "avro-simple.avsc",
+                "protobuf.proto", "openapi.json", "swagger.json", "asyncapi.json", "example.graphql",
+                "example.txt", "xml.xml", "xml-schema.xsd", "wsdl.wsdl", "wsdl-2.0.wsdl" }) {
+            TypedContent content = resourceToTypedContentHandle(resource);
+            String detectedType = artifactTypeUtilProviderFactory.detectArtifactType(content);
+            if (detectedType != null) {
+                Assertions.assertEquals(acceptingType(content), detectedType, resource);
+            }
+        }
+
+        Assertions.assertEquals(ArtifactType.XSD, artifactTypeUtilProviderFactory
+                .detectArtifactType(resourceToTypedContentHandle("xml-schema.xsd")));
+        Assertions.assertEquals(ArtifactType.OPENAPI, artifactTypeUtilProviderFactory.detectArtifactType(
+                TypedContent.create(ContentHandle.create("openapi: 3.0.2\ninfo:\n  title: Test\n"),
+                        ContentTypes.APPLICATION_YAML)));
+
+        // Not conclusive, the content accepters are used
+        Assertions.assertNull(artifactTypeUtilProviderFactory
+                .detectArtifactType(resourceToTypedContentHandle("avro.json")));
+        Assertions.assertNull(artifactTypeUtilProviderFactory.detectArtifactType(TypedContent.create(
+                ContentHandle.create("<?xml version=\"1.0\"?>\n<!DOCTYPE note [<!ENTITY e \"e\">]>\n<note>&e;</note>"),
+                ContentTypes.APPLICATION_XML)));
+        Assertions.assertNull(artifactTypeUtilProviderFactory.detectArtifactType(
+                TypedContent.create(ContentHandle.create("<note>"), ContentTypes.APPLICATION_XML)));
+    }
+
+    private static String acceptingType(TypedContent content) {
+        for (ArtifactTypeUtilProvider provider : artifactTypeUtilProviderFactory.getAllArtifactTypeProviders()) {
+            if (provider.getContentAccepter().acceptsContent(content, Collections.emptyMap())) {
+                return provider.getArtifactType();
+            }
+        }
+        return null;
+    }
+
 }
@@ -20,6 +20,7 @@ public interface Headers {
     String CONTENT_TYPE = "Content-Type";
     String PRESERVE_GLOBAL_ID = "X-Registry-Preserve-GlobalId";
     String PRESERVE_CONTENT_ID = "X-Registry-Preserve-ContentId";
+    String CONSISTENCY_TOKEN = "X-Registry-Consistency-Token";
 
     default void checkIfDeprecated(Supplier<ArtifactState> stateSupplier, String groupId, String artifactId,
             Number version, Response.ResponseBuilder builder) {
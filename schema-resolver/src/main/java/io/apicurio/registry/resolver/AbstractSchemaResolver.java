@@ -1,5 +1,6 @@
 package io.apicurio.registry.resolver;
 
+import io.apicurio.registry.resolver.cache.ChangeEventSubscription;
 import io.apicurio.registry.resolver.cache.ContentWithReferences;
 import io.apicurio.registry.resolver.cache.ERCache;
 import io.apicurio.registry.resolver.client.RegistryArtifactReference;
@@ -39,6 +40,8 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
 
     protected boolean resolveDereferenced;
 
+    protected ChangeEventSubscription changeEventSubscription;
+
     @Override
     public void configure(Map<String, ?> configs, SchemaParser<S, T> schemaParser) {
         this.schemaParser = schemaParser;
@@ -89,6 +92,35 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         }
 
         this.resolveDereferenced = config.resolveDereferenced();
+
+        if (config.getChangeEvents() && changeEventSubscription == null) {
+            startChangeEventSubscription();
+        }
+    }
+
+    /**
+     * Subscribes to the change event stream of the registry, invalidating cached lookups of changed
+     * artifacts.
+     */
+    protected void startChangeEventSubscription() {
+        String authorization = null;
+        String username = config.getAuthUsername();
+        if (username != null) {
+            authorization = ChangeEventSubscription.basicAuthorization(username, config.getAuthPassword());
+        }
+        changeEventSubscription = new ChangeEventSubscription(config.getRegistryUrl(), authorization,
+                config.getChangeEventsReconnectDelay(), new ChangeEventSubscription.Listener() {
+                    @Override
+                    public void onArtifactChanged(String groupId, String artifactId) {
+                        schemaCache.invalidateArtifact(groupId, artifactId);
+                    }
+
+                    @Override
+                    public void onReset() {
+                        schemaCache.clear();
+                    }
+                });
+        changeEventSubscription.start();
     }
 
     @Override
@@ -235,6 +267,10 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
      */
     @Override
     public void close() throws IOException {
+        if (changeEventSubscription != null) {
+            changeEventSubscription.close();
+            changeEventSubscription = null;
+        }
     }
 
     protected SchemaLookupResult<S> loadFromVersionCoordinates(RegistryVersionCoordinates version, ParsedSchema<S> parsedSchema) {
@@ -0,0 +1,238 @@
+package io.apicurio.registry.resolver.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Subscribes to the change event stream of a registry (Server-Sent Events at <code>/events</code> of the
+ * registry v3 API) and notifies a {@link Listener} of the artifacts that changed, so that cached lookups can be
+ * invalidated as soon as something changes.
+ * <p>
+ * The subscription reconnects automatically, resuming from the last batch of events it received. When the
+ * registry cannot guarantee that no event was missed (e.g. after a restart of the registry), or when data was
+ * imported or deleted in bulk, the listener is told to reset.
+ * <p>
+ * A registry only sends the changes applied by its own storage: with a SQL database shared by several
+ * registry nodes, the changes made through the other nodes are not received, so the cache expiration must
+ * still be relied upon.
+ */
+public class ChangeEventSubscription implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventSubscription.class);
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Receives the changes of the registry.
+     */
+    public interface Listener {
+
+        /**
+         * @param groupId the group ID, {@code null} for the default group
+         * @param artifactId the artifact ID, or {@code null} if the whole group changed (e.g. was deleted)
+         */
+        void onArtifactChanged(String groupId, String artifactId);
+
+        /**
+         * Some changes may have been missed, everything cached must be dropped.
+         */
+        void onReset();
+    }
+
+    private final URI uri;
+    private final String authorization;
+    private final Duration reconnectDelay;
+    private final Listener listener;
+    private final HttpClient httpClient;
+
+    private volatile boolean closed;
+    private volatile Thread thread;
+    private volatile Stream<String> body;
+    private String lastEventId;
+
+    // Event being parsed
+    private String eventName;
+    private String eventId;
+    private final StringBuilder eventData = new StringBuilder();
+
+    /**
+     * @param registryUrl the URL of the registry v3 API
+     * @param authorization value of the Authorization header, or {@code null}
+     * @param reconnectDelay initial delay before reconnecting, doubled after each failed attempt
+     * @param listener receives the changes
+     */
+    public ChangeEventSubscription(String registryUrl, String authorization, Duration reconnectDelay,
+            Listener listener) {
+        this.uri = URI.create(registryUrl.replaceAll("/+$", "") + "/events");
+        this.authorization = authorization;
+        this.reconnectDelay = reconnectDelay;
+        this.listener = listener;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    }
+
+    /**
+     * @return the value of a basic Authorization header for the given credentials
+     */
+    public static String basicAuthorization(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Starts the subscription in a background (daemon) thread.
+     */
+    public void start() {
+        Thread t = new Thread(this::run);
+        t.setDaemon(true);
+        t.setName("apicurio-registry-change-events");
+        thread = t;
+        t.start();
+    }
+
+    private void run() {
+        Duration delay = reconnectDelay;
+        while (!closed) {
+            try {
+                if (connect()) {
+                    delay = reconnectDelay;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.debug("Change event stream {} disconnected", uri, e);
+            }
+            if (closed) {
+                return;
+            }
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            delay = delay.multipliedBy(2).compareTo(MAX_RECONNECT_DELAY) > 0 ? MAX_RECONNECT_DELAY
+                : delay.multipliedBy(2);
+        }
+    }
+
+    /**
+     * @return true if the connection was established
+     */
+    private boolean connect() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Accept", "text/event-stream").GET();
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(),
+                HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            log.warn("Could not subscribe to the change event stream {}: HTTP {}", uri, response.statusCode());
+            return false;
+        }
+        log.debug("Subscribed to the change event stream {}", uri);
+        try (Stream<String> lines = response.body()) {
+            body = lines;
+            Iterator<String> iterator = lines.iterator();
+            while (!closed && iterator.hasNext()) {
+                processLine(iterator.next());
+            }
+        } finally {
+            body = null;
+        }
+        return true;
+    }
+
+    /**
+     * Processes one line of the event stream.
+     */
+    void processLine(String line) {
+        if (line.isEmpty()) {
+            dispatch();
+        } else if (!line.startsWith(":")) {
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            switch (field) {
+                case "event" -> eventName = value;
+                case "id" -> eventId = value;
+                case "data" -> {
+                    if (!eventData.isEmpty()) {
+                        eventData.append('\n');
+                    }
+                    eventData.append(value);
+                }
+                default -> {
+                    // Ignore unknown fields
+                }
+            }
+        }
+    }
+
+    private void dispatch() {
+        String name = eventName;
+        String data = eventData.toString();
+        eventName = null;
+        eventData.setLength(0);
+        try {
+            if ("connected".equals(name)) {
+                if (mapper.readTree(data).path("reset").asBoolean(true)) {
+                    listener.onReset();
+                }
+            } else if ("reset".equals(name)) {
+                listener.onReset();
+            } else if ("changes".equals(name)) {
+                for (JsonNode change : mapper.readTree(data)) {
+                    String groupId = change.path("groupId").asText(null);
+                    String artifactId = change.path("artifactId").asText(null);
+                    if (artifactId != null || "GROUP_DELETED".equals(change.path("type").asText())) {
+                        listener.onArtifactChanged(groupId, artifactId);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Do not risk serving stale data
+            log.warn("Could not process a change event, resetting", e);
+            listener.onReset();
+        }
+        // The id is only remembered once the event has been processed
+        if (eventId != null) {
+            lastEventId = eventId;
+            eventId = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Stream<String> b = body;
+        if (b != null) {
+            b.close();
+        }
+        Thread t = thread;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+}
@@ -278,6 +278,23 @@ public class ERCache<V> {
         Optional.ofNullable(contentHashExtractor.apply(newValue.value)).ifPresent(k -> contentHashIndex.put(k, newValue));
     }
 
+    /**
+     * Removes the entries looked up by artifact coordinates (including lookups of the latest version) for the
+     * given artifact, or for all the artifacts of the group if the artifact ID is {@code null}. Entries looked
+     * up by IDs or content are kept, since they are immutable.
+     *
+     * @param groupId the group ID, {@code null} or "default" for the default group
+     * @param artifactId the artifact ID, or {@code null} for all the artifacts of the group
+     */
+    public void invalidateArtifact(String groupId, String artifactId) {
+        gavIndex.keySet().removeIf(key -> sameGroup(groupId, key.getGroupId())
+                && (artifactId == null || artifactId.equals(key.getArtifactId())));
+    }
+
+    private static boolean sameGroup(String groupId1, String groupId2) {
+        return Objects.equals(groupId1 == null ? "default" : groupId1, groupId2 == null ? "default" : groupId2);
+    }
+
     public void clear() {
         globalIdIndex.clear();
         contentIndex.clear();
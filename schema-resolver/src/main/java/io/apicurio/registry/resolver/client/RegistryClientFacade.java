@@ -2,7 +2,9 @@ package io.apicurio.registry.resolver.client;
 
 import io.apicurio.registry.resolver.strategy.ArtifactReference;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -36,6 +38,14 @@ public interface RegistryClientFacade {
     List<RegistryArtifactReference> getReferencesByGAV(String groupId, String artifactId, String version);
     List<RegistryArtifactReference> getReferencesByContentHash(String contentHash);
 
+    /*
+     * Methods to get the content and references of several Schemas at once, in as few requests as possible.
+     * Identifiers that were not found are absent from the returned maps.
+     */
+
+    Map<Long, RegistrySchemaContent> getSchemasByGlobalIds(Collection<Long> globalIds, boolean dereferenced);
+    Map<Long, RegistrySchemaContent> getSchemasByContentIds(Collection<Long> contentIds);
+
     /**
      * Get a list of versions (for a specific artifact) that refer to a schema with the given content.
      */
@@ -3,6 +3,8 @@ package io.apicurio.registry.resolver.client;
 import io.apicurio.registry.resolver.ArtifactTypeToContentType;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.ArtifactReference;
+import io.apicurio.registry.rest.client.models.ContentBatch;
+import io.apicurio.registry.rest.client.models.ContentBatchRequest;
 import io.apicurio.registry.rest.client.models.CreateArtifact;
 import io.apicurio.registry.rest.client.models.CreateArtifactResponse;
 import io.apicurio.registry.rest.client.models.CreateVersion;
@@ -18,7 +20,12 @@ import io.apicurio.registry.utils.IoUtil;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.apicurio.registry.rest.client.models.VersionState.DISABLED;
@@ -29,6 +36,8 @@ import static io.apicurio.registry.rest.client.models.VersionState.DISABLED;
  */
 public class RegistryClientFacadeImpl implements RegistryClientFacade {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final RegistryClient client;
 
     public RegistryClientFacadeImpl(RegistryClient client) {
@@ -100,6 +109,50 @@ public class RegistryClientFacadeImpl implements RegistryClientFacade {
         return references.stream().map(RegistryArtifactReference::fromClientArtifactReference).toList();
     }
 
+    @Override
+    public Map<Long, RegistrySchemaContent> getSchemasByGlobalIds(Collection<Long> globalIds,
+            boolean dereferenced) {
+        Map<Long, RegistrySchemaContent> rval = new LinkedHashMap<>();
+        for (List<Long> chunk : chunks(globalIds)) {
+            ContentBatchRequest request = new ContentBatchRequest();
+            request.setGlobalIds(chunk);
+            ContentBatch batch = client.ids().batch().post(request, config -> {
+                assert config.queryParameters != null;
+                if (dereferenced) {
+                    config.queryParameters.references = HandleReferencesType.DEREFERENCE;
+                }
+            });
+            batch.getContents().forEach(item -> rval.put(item.getGlobalId(),
+                    RegistrySchemaContent.fromClientContentBatchItem(item)));
+        }
+        return rval;
+    }
+
+    @Override
+    public Map<Long, RegistrySchemaContent> getSchemasByContentIds(Collection<Long> contentIds) {
+        Map<Long, RegistrySchemaContent> rval = new LinkedHashMap<>();
+        for (List<Long> chunk : chunks(contentIds)) {
+            ContentBatchRequest request = new ContentBatchRequest();
+            request.setContentIds(chunk);
+            ContentBatch batch = client.ids().batch().post(request);
+            batch.getContents().forEach(item -> rval.put(item.getContentId(),
+                    RegistrySchemaContent.fromClientContentBatchItem(item)));
+        }
+        return rval;
+    }
+
+    /**
+     * Splits the identifiers into chunks no larger than the (default) maximum batch size of the server.
+     */
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> list = List.copyOf(new LinkedHashSet<>(ids));
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += MAX_BATCH_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + MAX_BATCH_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
     @Override
     public List<RegistryVersionCoordinates> searchVersionsByContent(String schemaString, String artifactType,
             io.apicurio.registry.resolver.strategy.ArtifactReference reference, boolean canonical) {
@@ -1,5 +1,6 @@
 package io.apicurio.registry.resolver.client;
 
+import com.microsoft.kiota.ApiException;
 import io.apicurio.registry.resolver.strategy.ArtifactReference;
 import io.apicurio.registry.rest.client.models.IfArtifactExists;
 import io.apicurio.registry.rest.client.v2.RegistryClient;
@@ -10,7 +11,11 @@ import io.apicurio.registry.rest.client.v2.models.VersionMetaData;
 import io.apicurio.registry.utils.IoUtil;
 
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.apicurio.registry.rest.client.v2.models.ArtifactState.DISABLED;
@@ -94,6 +99,47 @@ public class RegistryClientFacadeImpl_v2 implements RegistryClientFacade {
         return references.stream().map(RegistryArtifactReference::fromClientArtifactReference).toList();
     }
 
+    /**
+     * The v2 API has no batch endpoint, so the schemas are fetched one at a time.
+     */
+    @Override
+    public Map<Long, RegistrySchemaContent> getSchemasByGlobalIds(Collection<Long> globalIds,
+            boolean dereferenced) {
+        Map<Long, RegistrySchemaContent> rval = new LinkedHashMap<>();
+        for (Long globalId : new LinkedHashSet<>(globalIds)) {
+            try {
+                rval.put(globalId, RegistrySchemaContent.builder().globalId(globalId)
+                        .content(getSchemaByGlobalId(globalId, dereferenced))
+                        .references(getReferencesByGlobalId(globalId)).build());
+            } catch (ApiException e) {
+                if (e.getResponseStatusCode() != 404) {
+                    throw e;
+                }
+            }
+        }
+        return rval;
+    }
+
+    /**
+     * The v2 API has no batch endpoint, so the schemas are fetched one at a time.
+     */
+    @Override
+    public Map<Long, RegistrySchemaContent> getSchemasByContentIds(Collection<Long> contentIds) {
+        Map<Long, RegistrySchemaContent> rval = new LinkedHashMap<>();
+        for (Long contentId : new LinkedHashSet<>(contentIds)) {
+            try {
+                rval.put(contentId, RegistrySchemaContent.builder().contentId(contentId)
+                        .content(getSchemaByContentId(contentId))
+                        .references(getReferencesByContentId(contentId)).build());
+            } catch (ApiException e) {
+                if (e.getResponseStatusCode() != 404) {
+                    throw e;
+                }
+            }
+        }
+        return rval;
+    }
+
     @Override
     public List<RegistryVersionCoordinates> searchVersionsByContent(String schemaString, String artifactType,
                                                                     ArtifactReference reference, boolean canonical) {
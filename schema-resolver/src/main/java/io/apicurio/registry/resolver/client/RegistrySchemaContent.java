@@ -0,0 +1,38 @@
+package io.apicurio.registry.resolver.client;
+
+import io.apicurio.registry.rest.client.models.ContentBatchItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * The content of a schema along with its references, as returned when getting several schemas at once.
+ */
+@AllArgsConstructor(access = PRIVATE)
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RegistrySchemaContent {
+
+    private Long globalId;
+    private Long contentId;
+    private String content;
+    private List<RegistryArtifactReference> references;
+
+    public static RegistrySchemaContent fromClientContentBatchItem(ContentBatchItem item) {
+        return RegistrySchemaContent.builder()
+                .globalId(item.getGlobalId())
+                .contentId(item.getContentId())
+                .content(item.getContent())
+                .references(item.getReferences() == null ? List.of() : item.getReferences().stream()
+                        .map(RegistryArtifactReference::fromClientArtifactReference).toList())
+                .build();
+    }
+}
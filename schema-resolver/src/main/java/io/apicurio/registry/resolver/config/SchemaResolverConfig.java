@@ -191,6 +191,25 @@ public class SchemaResolverConfig extends AbstractConfig {
     public static final String CHECK_PERIOD_MS = "apicurio.registry.check-period-ms";
     public static final long CHECK_PERIOD_MS_DEFAULT = 30000;
 
+    /**
+     * If {@code true}, subscribes to the change event stream of the Registry (v3 API only) and invalidates
+     * cached artifact lookups, in particular lookups of the latest version, as soon as the artifact changes.
+     * {@link #CHECK_PERIOD_MS} remains the bound on staleness: a Registry using a SQL database shared by
+     * several nodes only sends the changes made through the node the client is connected to, and changes made
+     * while the stream is disconnected are only caught up with when it reconnects. A longer period is only
+     * safe with a single Registry node or with the kafkasql storage, where every node sends every change.
+     * Only basic authentication (or no authentication) is supported for the subscription.
+     */
+    public static final String CHANGE_EVENTS_ENABLED = "apicurio.registry.change-events.enabled";
+    public static final boolean CHANGE_EVENTS_ENABLED_DEFAULT = false;
+
+    /**
+     * Initial delay, in milliseconds, before reconnecting to the change event stream after a disconnection.
+     * The delay doubles after each failed attempt, up to 30 seconds.
+     */
+    public static final String CHANGE_EVENTS_RECONNECT_DELAY_MS = "apicurio.registry.change-events.reconnect-delay-ms";
+    public static final long CHANGE_EVENTS_RECONNECT_DELAY_MS_DEFAULT = 1000;
+
     /**
      * If a schema can not be retrieved from the Registry, serdes may retry a number of times. This
      * configuration option controls the number of retries before failing. Valid values are non-negative
@@ -410,6 +429,14 @@ public class SchemaResolverConfig extends AbstractConfig {
         return getDurationNonNegativeMillis(CHECK_PERIOD_MS);
     }
 
+    public boolean getChangeEvents() {
+        return getBoolean(CHANGE_EVENTS_ENABLED);
+    }
+
+    public Duration getChangeEventsReconnectDelay() {
+        return getDurationNonNegativeMillis(CHANGE_EVENTS_RECONNECT_DELAY_MS);
+    }
+
     public long getRetryCount() {
         return getLongNonNegative(RETRY_COUNT);
     }
@@ -539,6 +566,8 @@ public class SchemaResolverConfig extends AbstractConfig {
             entry(BACKGROUND_REFRESH_TIMEOUT_MS, BACKGROUND_REFRESH_TIMEOUT_MS_DEFAULT),
             entry(FIND_LATEST_ARTIFACT, FIND_LATEST_ARTIFACT_DEFAULT),
             entry(CHECK_PERIOD_MS, CHECK_PERIOD_MS_DEFAULT), entry(RETRY_COUNT, RETRY_COUNT_DEFAULT),
+            entry(CHANGE_EVENTS_ENABLED, CHANGE_EVENTS_ENABLED_DEFAULT),
+            entry(CHANGE_EVENTS_RECONNECT_DELAY_MS, CHANGE_EVENTS_RECONNECT_DELAY_MS_DEFAULT),
             entry(RETRY_BACKOFF_MS, RETRY_BACKOFF_MS_DEFAULT),
             entry(DEREFERENCE_SCHEMA, DEREFERENCE_DEFAULT),
             entry(TLS_TRUSTSTORE_TYPE, TLS_TRUSTSTORE_TYPE_DEFAULT),
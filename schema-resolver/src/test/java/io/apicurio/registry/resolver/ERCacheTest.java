@@ -188,6 +188,35 @@ public class ERCacheTest {
         assertEquals(2, loadCount.get());
     }
 
+    @Test
+    void testInvalidateArtifact() {
+        ERCache<String> cache = newCache("some key");
+        cache.configureLifetime(Duration.ofMinutes(10));
+        cache.configureCacheLatest(true);
+
+        ArtifactCoordinates latestKey = new ArtifactCoordinates.ArtifactCoordinatesBuilder()
+                .artifactId("someArtifactId").groupId("someGroupId").build();
+        final AtomicInteger loadCount = new AtomicInteger(0);
+        Function<ArtifactCoordinates, String> countingLoader = (key) -> {
+            loadCount.incrementAndGet();
+            return "some value";
+        };
+
+        cache.getByArtifactCoordinates(latestKey, countingLoader);
+        cache.invalidateArtifact("someGroupId", "otherArtifactId");
+        cache.invalidateArtifact("otherGroupId", null);
+        cache.getByArtifactCoordinates(latestKey, countingLoader);
+        assertEquals(1, loadCount.get());
+
+        cache.invalidateArtifact("someGroupId", "someArtifactId");
+        cache.getByArtifactCoordinates(latestKey, countingLoader);
+        assertEquals(2, loadCount.get());
+
+        cache.invalidateArtifact("someGroupId", null);
+        cache.getByArtifactCoordinates(latestKey, countingLoader);
+        assertEquals(3, loadCount.get());
+    }
+
     @Test
     void testBackgroundRefreshReturnsStaleValueImmediately() throws InterruptedException {
         String contentHashKey = "background refresh key";
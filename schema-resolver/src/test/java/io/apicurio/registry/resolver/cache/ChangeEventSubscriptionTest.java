@@ -0,0 +1,47 @@
+package io.apicurio.registry.resolver.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChangeEventSubscriptionTest {
+
+    @Test
+    void testProcessEvents() {
+        List<String> received = new ArrayList<>();
+        ChangeEventSubscription subscription = new ChangeEventSubscription("http://localhost:8080/apis/registry/v3/",
+                null, Duration.ofSeconds(1), new ChangeEventSubscription.Listener() {
+                    @Override
+                    public void onArtifactChanged(String groupId, String artifactId) {
+                        received.add(groupId + "/" + artifactId);
+                    }
+
+                    @Override
+                    public void onReset() {
+                        received.add("reset");
+                    }
+                });
+
+        lines(subscription, "event: connected", "id: epoch:0", "data: {\"epoch\":\"epoch\",\"reset\":true}", "");
+        lines(subscription, ": heartbeat", "");
+        lines(subscription, "event: connected", "data: {\"epoch\":\"epoch\",\"reset\":false}", "");
+        lines(subscription, "event: changes", "id: epoch:3",
+                "data: [{\"sequence\":1,\"type\":\"ARTIFACT_VERSION_CREATED\",\"groupId\":\"g\",\"artifactId\":\"a\",",
+                "data: \"version\":\"2\"},{\"sequence\":2,\"type\":\"GLOBAL_RULE_CONFIGURED\",\"ruleType\":\"VALIDITY\"},",
+                "data: {\"sequence\":3,\"type\":\"GROUP_DELETED\",\"groupId\":\"h\"}]", "");
+        lines(subscription, "event: reset", "id: epoch:4", "data: {\"sequence\":4}", "");
+        lines(subscription, "event: changes", "data: not json", "");
+
+        assertEquals(List.of("reset", "g/a", "h/null", "reset", "reset"), received);
+    }
+
+    private static void lines(ChangeEventSubscription subscription, String... lines) {
+        for (String line : lines) {
+            subscription.processLine(line);
+        }
+    }
+}
@@ -12,15 +12,8 @@ public class AsyncApiContentAccepter implements ContentAccepter {
     @Override
     public boolean acceptsContent(TypedContent content, Map<String, TypedContent> resolvedReferences) {
         try {
-            String contentType = content.getContentType();
-            JsonNode tree = null;
-            // If the content is YAML, then convert it to JSON first (the data-models library only accepts
-            // JSON).
-            if (contentType.toLowerCase().contains("yml") || contentType.toLowerCase().contains("yaml")) {
-                tree = ContentTypeUtil.parseYaml(content.getContent());
-            } else {
-                tree = ContentTypeUtil.parseJson(content.getContent());
-            }
+            // The tree is shared with the other artifact types and the next stages
+            JsonNode tree = ContentTypeUtil.parsedJsonOrYaml(content);
             if (tree.has("asyncapi")) {
                 return true;
             }
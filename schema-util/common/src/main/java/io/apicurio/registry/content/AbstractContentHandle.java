@@ -3,19 +3,50 @@ package io.apicurio.registry.content;
 import org.apache.commons.codec.digest.DigestUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class AbstractContentHandle implements ContentHandle {
 
     protected byte[] bytes;
     protected String content;
 
+    private volatile Map<ContentParser<?>, Object> parsed;
+
     @Override
     public InputStream stream() {
         return new ByteArrayInputStream(bytes());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T parsed(ContentParser<T> parser) throws IOException {
+        Map<ContentParser<?>, Object> values = parsed;
+        if (values == null) {
+            synchronized (this) {
+                if (parsed == null) {
+                    parsed = new ConcurrentHashMap<>();
+                }
+                values = parsed;
+            }
+        }
+        Object value = values.get(parser);
+        if (value == null) {
+            // Failures are not kept, parsing is attempted again by the next caller
+            value = parser.parse(this);
+            if (value != null) {
+                Object previous = values.putIfAbsent(parser, value);
+                if (previous != null) {
+                    value = previous;
+                }
+            }
+        }
+        return (T) value;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -1,6 +1,8 @@
 package io.apicurio.registry.content;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.Supplier;
 
 public interface ContentHandle {
 
@@ -8,6 +10,13 @@ public interface ContentHandle {
         return new StreamContentHandle(stream);
     }
 
+    /**
+     * Creates content read from the given source each time it is streamed, until its bytes are requested.
+     */
+    static ContentHandle create(Supplier<InputStream> source) {
+        return new StreamSupplierContentHandle(source);
+    }
+
     static ContentHandle create(byte[] bytes) {
         return new BytesContentHandle(bytes);
     }
@@ -26,6 +35,14 @@ public interface ContentHandle {
 
     String getSha256Hash();
 
+    /**
+     * Returns the content parsed by the given parser. The content is parsed once per parser, and the result is
+     * shared by all callers, which must therefore not modify it. Artifact type utilities use it to avoid
+     * parsing the same content in every stage (accepter, validator, canonicalizer, extractor, reference
+     * finder...).
+     */
+    <T> T parsed(ContentParser<T> parser) throws IOException;
+
     /**
      * Uses the {@link ContentHandle#bytes()} method to compare the content.
      */
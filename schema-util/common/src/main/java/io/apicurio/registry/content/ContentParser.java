@@ -0,0 +1,18 @@
+package io.apicurio.registry.content;
+
+import java.io.IOException;
+
+/**
+ * Parses content into a representation that is shared by the stages processing the same content (accepter,
+ * validator, canonicalizer, extractor, reference finder...), see {@link ContentHandle#parsed(ContentParser)}.
+ * <p>
+ * Parsers are used as keys of the parsed representations, so they should be constants.
+ */
+@FunctionalInterface
+public interface ContentParser<T> {
+
+    /**
+     * Parses the given content. A null result is not kept.
+     */
+    T parse(ContentHandle content) throws IOException;
+}
@@ -0,0 +1,142 @@
+package io.apicurio.registry.content;
+
+import io.apicurio.registry.utils.IoUtil;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Content that can be streamed several times without being held in memory, e.g. content read from storage
+ * as it is written to a response. The bytes (and the string) are only materialized when first requested:
+ * the size, hash and hash code of the content are computed by streaming it, once, and equality compares
+ * hashes.
+ */
+class StreamSupplierContentHandle extends AbstractContentHandle {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Supplier<InputStream> source;
+
+    private int sizeBytes = -1;
+    private String sha256Hash;
+    private Integer hashCode;
+
+    StreamSupplierContentHandle(Supplier<InputStream> source) {
+        this.source = source;
+    }
+
+    @Override
+    public InputStream stream() {
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        return source.get();
+    }
+
+    @Override
+    public byte[] bytes() {
+        if (bytes == null) {
+            bytes = IoUtil.toBytes(source.get());
+        }
+        return bytes;
+    }
+
+    @Override
+    public String content() {
+        if (content == null) {
+            content = new String(bytes(), StandardCharsets.UTF_8);
+        }
+        return content;
+    }
+
+    @Override
+    public int getSizeBytes() {
+        if (bytes != null) {
+            return bytes.length;
+        }
+        if (sizeBytes < 0) {
+            digest();
+        }
+        return sizeBytes;
+    }
+
+    @Override
+    public String getSha256Hash() {
+        if (sha256Hash == null) {
+            if (bytes != null) {
+                sha256Hash = super.getSha256Hash();
+            } else {
+                digest();
+            }
+        }
+        return sha256Hash;
+    }
+
+    /**
+     * Computes the size and the hash of the content in a single pass.
+     */
+    private void digest() {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        long size = 0;
+        try (InputStream in = stream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, count);
+                size += count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sha256Hash = Hex.encodeHexString(digest.digest());
+        sizeBytes = Math.toIntExact(size);
+    }
+
+    /**
+     * Same value as {@link java.util.Arrays#hashCode(byte[])} of the bytes.
+     */
+    @Override
+    public int hashCode() {
+        if (bytes != null) {
+            return super.hashCode();
+        }
+        if (hashCode == null) {
+            int result = 1;
+            try (InputStream in = stream()) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    for (int i = 0; i < count; i++) {
+                        result = 31 * result + buffer[i];
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            hashCode = result;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Compares the SHA-256 hashes of the contents, so that the content is streamed at most once to compare it.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ContentHandle other))
+            return false;
+        if (bytes != null && !(other instanceof StreamSupplierContentHandle)) {
+            return super.equals(o);
+        }
+        return getSizeBytes() == other.getSizeBytes() && getSha256Hash().equals(other.getSha256Hash());
+    }
+}
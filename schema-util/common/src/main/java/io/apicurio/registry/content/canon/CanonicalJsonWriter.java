@@ -0,0 +1,77 @@
+package io.apicurio.registry.content.canon;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes a JSON tree in its canonical form: without any formatting, and with the properties of all objects
+ * sorted by name. The tree is written in a single pass, straight to the target output stream (e.g. a digest
+ * stream when only the hash of the canonical form is needed).
+ * <p>
+ * The output is the same as serializing the tree converted to maps with
+ * {@link com.fasterxml.jackson.databind.SerializationFeature#ORDER_MAP_ENTRIES_BY_KEYS}, which is what the
+ * canonical content hashes were computed from.
+ */
+public final class CanonicalJsonWriter {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private CanonicalJsonWriter() {
+    }
+
+    /**
+     * Writes the canonical form of the given tree to the given output stream, UTF-8 encoded. The output
+     * stream is not closed.
+     */
+    public static void write(JsonNode root, OutputStream out) throws IOException {
+        // Encoding through a writer replaces unpaired surrogates the same way as String.getBytes does
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        try (JsonGenerator generator = mapper.createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(root, generator);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Returns the canonical form of the given tree, UTF-8 encoded.
+     */
+    public static byte[] toBytes(JsonNode root) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(root, out);
+        return out.toByteArray();
+    }
+
+    private static void write(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>(node.size());
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            generator.writeStartObject();
+            for (String name : names) {
+                generator.writeFieldName(name);
+                write(node.get(name), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (JsonNode element : node) {
+                write(element, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeTree(node);
+        }
+    }
+}
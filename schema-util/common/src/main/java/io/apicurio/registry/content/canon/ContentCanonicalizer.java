@@ -2,6 +2,8 @@ package io.apicurio.registry.content.canon;
 
 import io.apicurio.registry.content.TypedContent;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -17,4 +19,16 @@ public interface ContentCanonicalizer {
      */
     public TypedContent canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences);
 
+    /**
+     * Called to write the canonical form of the given content to the given output stream, e.g. to compute its
+     * hash. Implementations can override this to write the canonical form without materializing it.
+     * 
+     * @param content
+     * @param out the output stream, which is not closed
+     */
+    default void canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences,
+            OutputStream out) throws IOException {
+        out.write(canonicalize(content, resolvedReferences).getContent().bytes());
+    }
+
 }
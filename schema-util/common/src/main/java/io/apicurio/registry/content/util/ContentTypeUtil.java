@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.types.ContentTypes;
 import org.xml.sax.InputSource;
@@ -28,6 +29,16 @@ public final class ContentTypeUtil {
     private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
     private static final ObjectMapper jsonMapper = new ObjectMapper();
 
+    /**
+     * Parses content as a JSON tree, see {@link ContentHandle#parsed(ContentParser)}.
+     */
+    public static final ContentParser<JsonNode> JSON_TREE = ContentTypeUtil::parseJson;
+
+    /**
+     * Parses content as a YAML tree, see {@link ContentHandle#parsed(ContentParser)}.
+     */
+    public static final ContentParser<JsonNode> YAML_TREE = ContentTypeUtil::parseYaml;
+
     /**
      * Returns true if the Content-Type of the inbound request is "application/json".
      *
@@ -111,7 +122,7 @@ public final class ContentTypeUtil {
      */
     public static boolean isParsableJson(ContentHandle content) {
         try {
-            JsonNode root = jsonMapper.readTree(content.stream());
+            JsonNode root = content.parsed(JSON_TREE);
             return root != null && !root.isNull() && !root.isMissingNode();
         } catch (Throwable t) {
             return false;
@@ -154,8 +165,7 @@ public final class ContentTypeUtil {
 
     public static JsonNode parseJsonOrYaml(TypedContent content) throws IOException {
         JsonNode node = null;
-        String contentType = content.getContentType();
-        if (contentType.toLowerCase().contains("yaml") || contentType.toLowerCase().contains("yml")) {
+        if (isYaml(content)) {
             node = ContentTypeUtil.parseYaml(content.getContent());
         } else {
             node = ContentTypeUtil.parseJson(content.getContent());
@@ -168,6 +178,26 @@ public final class ContentTypeUtil {
         return node;
     }
 
+    /**
+     * Same as {@link #parseJsonOrYaml(TypedContent)}, but the content is only parsed once and the returned tree
+     * is shared (see {@link ContentHandle#parsed(ContentParser)}): it must not be modified.
+     */
+    public static JsonNode parsedJsonOrYaml(TypedContent content) throws IOException {
+        JsonNode node = content.getContent().parsed(isYaml(content) ? YAML_TREE : JSON_TREE);
+        if (!node.isObject()) {
+            throw new IOException("Input is not a valid document.");
+        }
+        return node;
+    }
+
+    /**
+     * Returns true if the content type of the given content is YAML.
+     */
+    public static boolean isYaml(TypedContent content) {
+        String contentType = content.getContentType().toLowerCase();
+        return contentType.contains("yaml") || contentType.contains("yml");
+    }
+
     // FIXME this doesn't work for GraphQL
     public static String determineContentType(ContentHandle content) {
         if (isParsableJson(content)) {
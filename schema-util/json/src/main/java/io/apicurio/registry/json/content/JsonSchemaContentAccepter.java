@@ -16,7 +16,7 @@ public class JsonSchemaContentAccepter implements ContentAccepter {
                     && !ContentTypeUtil.isParsableJson(content.getContent())) {
                 return false;
             }
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = content.getContent().parsed(ContentTypeUtil.JSON_TREE);
             if (tree.has("$schema") && tree.get("$schema").asText().contains("json-schema.org")
                     || tree.has("properties")) {
                 return true;
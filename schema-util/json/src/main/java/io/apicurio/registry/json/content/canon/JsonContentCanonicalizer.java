@@ -2,13 +2,15 @@ package io.apicurio.registry.json.content.canon;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.canon.CanonicalJsonWriter;
 import io.apicurio.registry.content.canon.ContentCanonicalizer;
 import io.apicurio.registry.types.ContentTypes;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -17,8 +19,7 @@ import java.util.Map;
  */
 public class JsonContentCanonicalizer implements ContentCanonicalizer {
 
-    private final ObjectMapper mapper = new ObjectMapper()
-            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private final ObjectMapper mapper = new ObjectMapper();
 
     /**
      * @see ContentCanonicalizer#canonicalize(TypedContent, Map)
@@ -28,13 +29,32 @@ public class JsonContentCanonicalizer implements ContentCanonicalizer {
         try {
             JsonNode root = readAsJsonNode(content);
             processJsonNode(root);
-            String converted = mapper.writeValueAsString(mapper.treeToValue(root, Object.class));
-            return TypedContent.create(ContentHandle.create(converted), ContentTypes.APPLICATION_JSON);
+            return TypedContent.create(ContentHandle.create(CanonicalJsonWriter.toBytes(root)),
+                    ContentTypes.APPLICATION_JSON);
         } catch (Throwable t) {
             return content;
         }
     }
 
+    /**
+     * @see ContentCanonicalizer#canonicalize(TypedContent, Map, OutputStream)
+     */
+    @Override
+    public void canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences,
+            OutputStream out) throws IOException {
+        JsonNode root;
+        try {
+            root = readAsJsonNode(content);
+            processJsonNode(root);
+        } catch (Throwable t) {
+            try (InputStream in = content.getContent().stream()) {
+                in.transferTo(out);
+            }
+            return;
+        }
+        CanonicalJsonWriter.write(root, out);
+    }
+
     /**
      * Perform any additional processing on the JSON node. The base JSON canonicalizer does nothing extra.
      * 
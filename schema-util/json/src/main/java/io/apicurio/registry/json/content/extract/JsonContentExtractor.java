@@ -1,10 +1,10 @@
 package io.apicurio.registry.json.content.extract;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.extract.ContentExtractor;
 import io.apicurio.registry.content.extract.ExtractedMetaData;
+import io.apicurio.registry.content.util.ContentTypeUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,12 +17,10 @@ public class JsonContentExtractor implements ContentExtractor {
 
     Logger log = LoggerFactory.getLogger(getClass());
 
-    private ObjectMapper mapper = new ObjectMapper();
-
     @Override
     public ExtractedMetaData extract(ContentHandle content) {
         try {
-            JsonNode jsonSchema = mapper.readTree(content.bytes());
+            JsonNode jsonSchema = content.parsed(ContentTypeUtil.JSON_TREE);
             JsonNode title = jsonSchema.get("title");
             JsonNode desc = jsonSchema.get("description");
 
@@ -1,12 +1,12 @@
 package io.apicurio.registry.json.content.refs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.refs.ExternalReference;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
 import io.apicurio.registry.content.refs.ReferenceFinderException;
 import io.apicurio.registry.content.refs.ReferenceFinder;
+import io.apicurio.registry.content.util.ContentTypeUtil;
 
 import java.util.HashSet;
 import java.util.Iterator;
@@ -19,15 +19,13 @@ import java.util.stream.Collectors;
  */
 public class JsonSchemaReferenceFinder implements ReferenceFinder {
 
-    private static final ObjectMapper mapper = new ObjectMapper();
-
     /**
      * @see io.apicurio.registry.content.refs.ReferenceFinder#findExternalReferences(TypedContent)
      */
     @Override
     public Set<ExternalReference> findExternalReferences(TypedContent content) {
         try {
-            JsonNode tree = mapper.readTree(content.getContent().content());
+            JsonNode tree = content.getContent().parsed(ContentTypeUtil.JSON_TREE);
             Set<String> externalTypes = new HashSet<>();
             findExternalTypesIn(tree, externalTypes);
 
@@ -1,7 +1,6 @@
 package io.apicurio.registry.json.rules.validity;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.util.ContentTypeUtil;
 import io.apicurio.registry.json.rules.compatibility.jsonschema.JsonUtil;
@@ -27,8 +26,6 @@ import java.util.stream.Collectors;
  */
 public class JsonSchemaContentValidator implements ContentValidator {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Constructor.
      */
@@ -43,7 +40,7 @@ public class JsonSchemaContentValidator implements ContentValidator {
             Map<String, TypedContent> resolvedReferences) throws RuleViolationException {
         if (level == ValidityLevel.SYNTAX_ONLY) {
             try {
-                objectMapper.readTree(content.getContent().bytes());
+                content.getContent().parsed(ContentTypeUtil.JSON_TREE);
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for JSON Schema artifact.",
                         RuleType.VALIDITY, level.name(), e);
@@ -99,7 +96,7 @@ public class JsonSchemaContentValidator implements ContentValidator {
      */
     private Set<String> getAll$refs(TypedContent content) {
         try {
-            JsonNode tree = ContentTypeUtil.parseJsonOrYaml(content);
+            JsonNode tree = ContentTypeUtil.parsedJsonOrYaml(content);
             Set<String> refs = new HashSet<>();
             findRefs(tree, refs);
             return refs;
@@ -0,0 +1,44 @@
+package io.apicurio.registry.openapi.content;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.Document;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
+
+import java.io.IOException;
+
+/**
+ * Reads OpenAPI and AsyncAPI content into an Apicurio Data Models {@link Document} once per content, so that
+ * the validator, extractor and reference finder share the same document (and the JSON or YAML tree it is read
+ * from, which is also used by the accepter and the canonicalizer). The shared document must not be modified.
+ */
+public final class DataModelsDocumentParser {
+
+    private static final ContentParser<Document> FROM_JSON = content -> Library
+            .readDocument((ObjectNode) content.parsed(ContentTypeUtil.JSON_TREE));
+
+    private static final ContentParser<Document> FROM_YAML = content -> Library
+            .readDocument((ObjectNode) content.parsed(ContentTypeUtil.YAML_TREE));
+
+    private DataModelsDocumentParser() {
+    }
+
+    /**
+     * Returns the document read from the given JSON or YAML content.
+     */
+    public static Document parsedDocument(TypedContent content) throws IOException {
+        // Fails if the content is not an object
+        ContentTypeUtil.parsedJsonOrYaml(content);
+        return content.getContent().parsed(ContentTypeUtil.isYaml(content) ? FROM_YAML : FROM_JSON);
+    }
+
+    /**
+     * Returns the document read from the given JSON content.
+     */
+    public static Document parsedDocument(ContentHandle content) throws IOException {
+        return content.parsed(FROM_JSON);
+    }
+}
@@ -1,14 +1,16 @@
 package io.apicurio.registry.openapi.content.canon;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.canon.CanonicalJsonWriter;
 import io.apicurio.registry.content.canon.ContentCanonicalizer;
 import io.apicurio.registry.content.util.ContentTypeUtil;
 import io.apicurio.registry.types.ContentTypes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -17,21 +19,36 @@ import java.util.Map;
  */
 public class OpenApiContentCanonicalizer implements ContentCanonicalizer {
 
-    private final ObjectMapper mapper = new ObjectMapper()
-            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
-
     /**
      * @see ContentCanonicalizer#canonicalize(TypedContent, Map)
      */
     @Override
     public TypedContent canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences) {
         try {
-            JsonNode root = ContentTypeUtil.parseJsonOrYaml(content);
-            String converted = mapper.writeValueAsString(mapper.treeToValue(root, Object.class));
-            return TypedContent.create(ContentHandle.create(converted), ContentTypes.APPLICATION_JSON);
+            JsonNode root = ContentTypeUtil.parsedJsonOrYaml(content);
+            return TypedContent.create(ContentHandle.create(CanonicalJsonWriter.toBytes(root)),
+                    ContentTypes.APPLICATION_JSON);
         } catch (Throwable t) {
             return content;
         }
     }
 
+    /**
+     * @see ContentCanonicalizer#canonicalize(TypedContent, Map, OutputStream)
+     */
+    @Override
+    public void canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences,
+            OutputStream out) throws IOException {
+        JsonNode root;
+        try {
+            root = ContentTypeUtil.parsedJsonOrYaml(content);
+        } catch (Throwable t) {
+            try (InputStream in = content.getContent().stream()) {
+                in.transferTo(out);
+            }
+            return;
+        }
+        CanonicalJsonWriter.write(root, out);
+    }
+
 }
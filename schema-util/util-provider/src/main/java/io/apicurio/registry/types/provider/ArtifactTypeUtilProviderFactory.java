@@ -1,5 +1,7 @@
 package io.apicurio.registry.types.provider;
 
+import io.apicurio.registry.content.TypedContent;
+
 import java.util.List;
 
 public interface ArtifactTypeUtilProviderFactory {
@@ -10,4 +12,13 @@ public interface ArtifactTypeUtilProviderFactory {
 
     List<ArtifactTypeUtilProvider> getAllArtifactTypeProviders();
 
+    /**
+     * Detects the artifact type of the given content without trying the content accepters of all the
+     * providers. Returns null when the type cannot be detected this way, in which case the content accepters
+     * of {@link #getAllArtifactTypeProviders()} must be tried in order.
+     */
+    default String detectArtifactType(TypedContent content) {
+        return null;
+    }
+
 }
@@ -1,5 +1,7 @@
 package io.apicurio.registry.types.provider;
 
+import io.apicurio.registry.content.TypedContent;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,12 @@ public class DefaultArtifactTypeUtilProviderImpl implements ArtifactTypeUtilProv
 
     protected List<ArtifactTypeUtilProvider> providers = new ArrayList<>();
 
+    /**
+     * True if the standard providers come first in {@link #providers}, so that the artifact type of content
+     * they accept can be detected from its structural markers.
+     */
+    private boolean standardProvidersFirst;
+
     public DefaultArtifactTypeUtilProviderImpl() {
     }
 
@@ -30,6 +38,7 @@ public class DefaultArtifactTypeUtilProviderImpl implements ArtifactTypeUtilProv
     }
 
     protected void loadStandardProviders() {
+        standardProvidersFirst = providers.isEmpty();
         providers.addAll(standardProviders);
     }
 
@@ -50,4 +59,9 @@ public class DefaultArtifactTypeUtilProviderImpl implements ArtifactTypeUtilProv
         return providers;
     }
 
+    @Override
+    public String detectArtifactType(TypedContent content) {
+        return standardProvidersFirst ? StandardArtifactTypeDetector.detect(content) : null;
+    }
+
 }
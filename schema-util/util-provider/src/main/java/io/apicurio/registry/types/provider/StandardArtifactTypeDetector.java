@@ -0,0 +1,146 @@
+package io.apicurio.registry.types.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
+import io.apicurio.registry.types.ArtifactType;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Detects the type of content from its structural markers, parsing it at most once, so that the content
+ * accepters of the standard artifact types do not have to be tried one after the other. The detected type is
+ * always the one the first accepting standard provider (in the order of
+ * {@link DefaultArtifactTypeUtilProviderImpl#standardProviders}) would return: when that cannot be decided
+ * from the markers alone, e.g. for Avro or Protobuf, which are only recognized by a full parse, no type is
+ * detected and the accepters must be used.
+ */
+final class StandardArtifactTypeDetector {
+
+    private static final String XSD_NAMESPACE = "http://www.w3.org/2001/XMLSchema";
+    private static final String WSDL_NAMESPACE = "http://schemas.xmlsoap.org/wsdl/";
+    private static final String WSDL_2_NAMESPACE = "http://www.w3.org/ns/wsdl/";
+
+    private static final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    private StandardArtifactTypeDetector() {
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the standard artifact type of the given content, or null if it cannot be determined without
+     * trying the content accepters.
+     */
+    static String detect(TypedContent content) {
+        String contentType = content.getContentType();
+        if (contentType == null) {
+            return null;
+        }
+        contentType = contentType.toLowerCase();
+        if (contentType.contains("proto") || contentType.contains("graph")) {
+            return null;
+        }
+        boolean json = contentType.contains("json");
+        boolean yaml = contentType.contains("yaml") || contentType.contains("yml");
+        if (contentType.contains("xml") && !json && !yaml) {
+            return detectXml(content.getContent());
+        }
+        if (yaml) {
+            return detectYaml(content);
+        }
+        if (json) {
+            return detectJson(content.getContent());
+        }
+        return null;
+    }
+
+    /**
+     * Only the OpenAPI and AsyncAPI accepters parse YAML, the following ones parse the content as JSON.
+     */
+    private static String detectYaml(TypedContent content) {
+        JsonNode tree;
+        try {
+            tree = ContentTypeUtil.parsedJsonOrYaml(content);
+        } catch (Exception e) {
+            return null;
+        }
+        return detectApi(tree);
+    }
+
+    private static String detectJson(ContentHandle content) {
+        JsonNode tree;
+        try {
+            tree = content.parsed(ContentTypeUtil.JSON_TREE);
+        } catch (Exception e) {
+            return null;
+        }
+        if (tree == null || !tree.isObject()) {
+            // E.g. an Avro primitive type or union
+            return null;
+        }
+        String type = detectApi(tree);
+        if (type == null && (tree.has("$schema") && tree.get("$schema").asText().contains("json-schema.org")
+                || tree.has("properties"))) {
+            type = ArtifactType.JSON;
+        }
+        return type;
+    }
+
+    private static String detectApi(JsonNode tree) {
+        if (tree.has("openapi") || tree.has("swagger")) {
+            return ArtifactType.OPENAPI;
+        }
+        if (tree.has("asyncapi")) {
+            return ArtifactType.ASYNCAPI;
+        }
+        return null;
+    }
+
+    /**
+     * Reads the whole document in a single streaming pass, checking that it is well-formed and looking up the
+     * namespace of its root element. Documents with a DTD are left to the accepters.
+     */
+    private static String detectXml(ContentHandle content) {
+        String namespace = null;
+        try (InputStream in = content.stream()) {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+            try {
+                boolean root = true;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.DTD) {
+                        return null;
+                    }
+                    if (event == XMLStreamConstants.START_ELEMENT && root) {
+                        namespace = reader.getNamespaceURI();
+                        root = false;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException | RuntimeException e) {
+            return null;
+        }
+        if (XSD_NAMESPACE.equals(namespace)) {
+            return ArtifactType.XSD;
+        }
+        if (WSDL_NAMESPACE.equals(namespace) || WSDL_2_NAMESPACE.equals(namespace)) {
+            return ArtifactType.WSDL;
+        }
+        return ArtifactType.XML;
+    }
+}
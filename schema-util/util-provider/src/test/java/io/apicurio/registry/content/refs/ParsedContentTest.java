@@ -0,0 +1,49 @@
+package io.apicurio.registry.content.refs;
+
+import io.apicurio.datamodels.models.Document;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
+import io.apicurio.registry.openapi.content.DataModelsDocumentParser;
+import io.apicurio.registry.openapi.content.OpenApiContentAccepter;
+import io.apicurio.registry.openapi.content.canon.OpenApiContentCanonicalizer;
+import io.apicurio.registry.openapi.content.refs.OpenApiReferenceFinder;
+import io.apicurio.registry.openapi.rules.validity.OpenApiContentValidator;
+import io.apicurio.registry.rules.validity.ArtifactUtilProviderTestBase;
+import io.apicurio.registry.rules.validity.ValidityLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class ParsedContentTest extends ArtifactUtilProviderTestBase {
+
+    @Test
+    public void testContentIsParsedOnce() throws Exception {
+        TypedContent content = resourceToTypedContentHandle("openapi-with-refs.json");
+        String canonical = new OpenApiContentCanonicalizer()
+                .canonicalize(resourceToTypedContentHandle("openapi-with-refs.json"), Collections.emptyMap())
+                .getContent().content();
+
+        // All the stages share the same tree and document
+        Assertions.assertTrue(new OpenApiContentAccepter().acceptsContent(content, Collections.emptyMap()));
+        new OpenApiContentValidator().validate(ValidityLevel.SYNTAX_ONLY, content, Collections.emptyMap());
+        Assertions.assertEquals(2, new OpenApiReferenceFinder().findExternalReferences(content).size());
+        Assertions.assertSame(ContentTypeUtil.parsedJsonOrYaml(content),
+                content.getContent().parsed(ContentTypeUtil.JSON_TREE));
+        Document document = DataModelsDocumentParser.parsedDocument(content);
+        Assertions.assertSame(document, DataModelsDocumentParser.parsedDocument(content.getContent()));
+
+        // The shared tree was not modified by the previous stages
+        Assertions.assertEquals(canonical, new OpenApiContentCanonicalizer()
+                .canonicalize(content, Collections.emptyMap()).getContent().content());
+    }
+
+    @Test
+    public void testParseFailureIsNotKept() {
+        ContentHandle content = ContentHandle.create("{ invalid");
+        Assertions.assertFalse(ContentTypeUtil.isParsableJson(content));
+        Assertions.assertThrows(Exception.class, () -> content.parsed(ContentTypeUtil.JSON_TREE));
+        Assertions.assertThrows(Exception.class, () -> content.parsed(ContentTypeUtil.JSON_TREE));
+    }
+}
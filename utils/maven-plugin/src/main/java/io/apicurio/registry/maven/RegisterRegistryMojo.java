@@ -61,6 +61,15 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
     @Parameter(property = "dryRun", defaultValue = "false")
     boolean dryRun;
 
+    /**
+     * The artifacts are registered in batches of (at most) this many artifacts, with a single request per
+     * batch. Artifacts using auto-refs or registered as drafts are still registered one by one. Must not be
+     * greater than the max size of a batch of the registry (500 by default). Set this to 0 to register all
+     * the artifacts one by one, e.g. with a registry that does not support batches.
+     */
+    @Parameter(property = "batchSize", defaultValue = "100")
+    int batchSize;
+
     private RegisterArtifact.AvroAutoRefsNamingStrategy avroAutoRefsNamingStrategy;
 
     DefaultArtifactTypeUtilProviderImpl utilProviderFactory = new DefaultArtifactTypeUtilProviderImpl(true);
@@ -125,10 +134,17 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         if (validate()) {
             Vertx vertx = createVertx();
             RegistryClient registryClient = createClient(vertx);
+            List<RegisterArtifact> batchArtifacts = new ArrayList<>();
+            List<CreateArtifact> batchCreateArtifacts = new ArrayList<>();
 
             for (RegisterArtifact artifact : artifacts) {
                 String groupId = artifact.getGroupId();
                 String artifactId = artifact.getArtifactId();
+                // Artifacts are registered in the configured order: register the pending batch first, it may
+                // contain artifacts referenced by this artifact or by its references
+                if (!isBatched(artifact) || hasReferences(artifact)) {
+                    errorCount += registerBatch(registryClient, batchArtifacts, batchCreateArtifacts);
+                }
                 try {
                     if (artifact.getAutoRefs() != null && artifact.getAutoRefs()) {
                         // If we have references, then we'll need to create the local resource index and then
@@ -146,7 +162,21 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
                         if (hasReferences(artifact)) {
                             references = processArtifactReferences(registryClient, artifact.getReferences());
                         }
-                        registerArtifact(registryClient, artifact, references);
+                        if (isBatched(artifact)) {
+                            if (!batchArtifacts.isEmpty() && !isSameBatch(batchArtifacts.get(0), artifact)) {
+                                errorCount += registerBatch(registryClient, batchArtifacts,
+                                        batchCreateArtifacts);
+                            }
+                            batchArtifacts.add(artifact);
+                            batchCreateArtifacts.add(toCreateArtifact(artifact,
+                                    new FileInputStream(artifact.getFile()), references));
+                            if (batchArtifacts.size() >= batchSize) {
+                                errorCount += registerBatch(registryClient, batchArtifacts,
+                                        batchCreateArtifacts);
+                            }
+                        } else {
+                            registerArtifact(registryClient, artifact, references);
+                        }
                     }
                 } catch (Exception e) {
                     errorCount++;
@@ -155,6 +185,7 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
                 }
 
             }
+            errorCount += registerBatch(registryClient, batchArtifacts, batchCreateArtifacts);
 
             if (errorCount > 0) {
                 throw new MojoExecutionException("Errors while registering artifacts ...");
@@ -273,8 +304,57 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
         String version = artifact.getVersion();
-        String type = artifact.getArtifactType();
         Boolean canonicalize = artifact.getCanonicalize();
+        CreateArtifact createArtifact = toCreateArtifact(artifact, artifactContent, references);
+        VersionContent content = createArtifact.getFirstVersion().getContent();
+
+        try {
+            var vmd = registryClient.groups().byGroupId(groupId).artifacts().post(createArtifact, config -> {
+                if (artifact.getIfExists() != null) {
+                    config.queryParameters.ifExists = IfArtifactExists
+                            .forValue(artifact.getIfExists().value());
+                    if (dryRun) {
+                        config.queryParameters.dryRun = true;
+                    }
+                }
+                config.queryParameters.canonical = canonicalize;
+            });
+
+            getLog().info(String.format("Successfully registered artifact [%s] / [%s].  GlobalId is [%d]",
+                    groupId, artifactId, vmd.getVersion().getGlobalId()));
+
+
+            return vmd.getVersion();
+        } catch (RuleViolationProblemDetails | ProblemDetails e) {
+
+            // If this is a draft, and we got a 409, then we should try to update the artifact content instead.
+            if (Boolean.TRUE.equals(artifact.getIsDraft()) && e.getResponseStatusCode() == 409) {
+                try {
+                    registryClient.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+                            .versions().byVersionExpression(version).content()
+                            .put(content, config -> {
+
+                    });
+                    getLog().info(String.format("Successfully updated artifact [%s] / [%s].",
+                            groupId, artifactId));
+                    // Return version metadata
+                    return registryClient.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId).versions().byVersionExpression(version).get();
+                } catch (RuleViolationProblemDetails | ProblemDetails pd) {
+                    logAndThrow(pd);
+                    return null;
+                }
+            } else {
+                logAndThrow(e);
+                return null;
+            }
+        }
+    }
+
+    private CreateArtifact toCreateArtifact(RegisterArtifact artifact, InputStream artifactContent,
+                                            List<ArtifactReference> references) {
+        String artifactId = artifact.getArtifactId();
+        String version = artifact.getVersion();
+        String type = artifact.getArtifactType();
         Boolean isDraft = artifact.getIsDraft();
         String ct = artifact.getContentType() == null ? ContentTypes.APPLICATION_JSON
                 : artifact.getContentType();
@@ -313,46 +393,79 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         }).collect(Collectors.toList()));
         createVersion.setContent(content);
 
+        return createArtifact;
+    }
+
+    /**
+     * Artifacts registered in batches: when batches are enabled, all the artifacts except those using
+     * auto-refs (registered with their references, depth first) and drafts (updated when they already exist).
+     */
+    private boolean isBatched(RegisterArtifact artifact) {
+        return batchSize > 0 && artifact.getFile() != null && !Boolean.TRUE.equals(artifact.getAutoRefs())
+                && !Boolean.TRUE.equals(artifact.getIsDraft());
+    }
+
+    /**
+     * The options of a batch request apply to all its artifacts.
+     */
+    private static boolean isSameBatch(RegisterArtifact artifact, RegisterArtifact other) {
+        return Objects.equals(artifact.getIfExists(), other.getIfExists())
+                && Objects.equals(artifact.getCanonicalize(), other.getCanonicalize());
+    }
+
+    /**
+     * Registers the given artifacts with a single request and clears the given lists.
+     *
+     * @return the number of artifacts that could not be registered
+     */
+    private int registerBatch(RegistryClient registryClient, List<RegisterArtifact> batchArtifacts,
+                              List<CreateArtifact> batchCreateArtifacts) {
+        if (batchArtifacts.isEmpty()) {
+            return 0;
+        }
+        RegisterArtifact first = batchArtifacts.get(0);
+        CreateArtifactsBatch batch = new CreateArtifactsBatch();
+        List<CreateArtifactsBatchItem> items = new ArrayList<>();
+        for (int i = 0; i < batchArtifacts.size(); i++) {
+            CreateArtifactsBatchItem item = new CreateArtifactsBatchItem();
+            item.setGroupId(batchArtifacts.get(i).getGroupId());
+            item.setArtifact(batchCreateArtifacts.get(i));
+            items.add(item);
+        }
+        batch.setArtifacts(items);
+
+        int errorCount = 0;
         try {
-            var vmd = registryClient.groups().byGroupId(groupId).artifacts().post(createArtifact, config -> {
-                if (artifact.getIfExists() != null) {
-                    config.queryParameters.ifExists = IfArtifactExists
-                            .forValue(artifact.getIfExists().value());
+            var results = registryClient.batch().artifacts().post(batch, config -> {
+                // Same as when registering a single artifact
+                if (first.getIfExists() != null) {
+                    config.queryParameters.ifExists = IfArtifactExists.forValue(first.getIfExists().value());
                     if (dryRun) {
                         config.queryParameters.dryRun = true;
                     }
                 }
-                config.queryParameters.canonical = canonicalize;
+                config.queryParameters.canonical = first.getCanonicalize();
             });
 
-            getLog().info(String.format("Successfully registered artifact [%s] / [%s].  GlobalId is [%d]",
-                    groupId, artifactId, vmd.getVersion().getGlobalId()));
-
-
-            return vmd.getVersion();
-        } catch (RuleViolationProblemDetails | ProblemDetails e) {
-
-            // If this is a draft, and we got a 409, then we should try to update the artifact content instead.
-            if (Boolean.TRUE.equals(artifact.getIsDraft()) && e.getResponseStatusCode() == 409) {
-                try {
-                    registryClient.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
-                            .versions().byVersionExpression(version).content()
-                            .put(content, config -> {
-
-                    });
-                    getLog().info(String.format("Successfully updated artifact [%s] / [%s].",
-                            groupId, artifactId));
-                    // Return version metadata
-                    return registryClient.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId).versions().byVersionExpression(version).get();
-                } catch (RuleViolationProblemDetails | ProblemDetails pd) {
-                    logAndThrow(pd);
-                    return null;
+            for (CreateArtifactsBatchResult result : results.getResults()) {
+                if (result.getError() != null) {
+                    errorCount++;
+                    getLog().error(String.format("Error registering artifact [%s] / [%s]: %s", result.getGroupId(),
+                            result.getArtifactId(), result.getError().getTitle()));
+                } else {
+                    getLog().info(String.format("Successfully registered artifact [%s] / [%s].  GlobalId is [%d]",
+                            result.getGroupId(), result.getArtifactId(), result.getVersion().getGlobalId()));
                 }
-            } else {
-                logAndThrow(e);
-                return null;
             }
+        } catch (Exception e) {
+            errorCount += batchArtifacts.size();
+            getLog().error(String.format("Exception while registering a batch of %d artifacts",
+                    batchArtifacts.size()), e);
         }
+
+        batchArtifacts.clear();
+        batchCreateArtifacts.clear();
+        return errorCount;
     }
 
     private static boolean hasReferences(RegisterArtifact artifact) {